@@ -1,3 +1,5 @@
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
 import org.gradle.api.tasks.Exec
 
 plugins {
@@ -20,6 +22,14 @@ configurations {
     }
 }
 
+// JMHベンチマーク用ソースセット（src/jmh/java）
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+        runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+    }
+}
+
 repositories {
     mavenCentral()
 }
@@ -39,9 +49,15 @@ dependencies {
     
     // Spring Boot Security
     implementation("org.springframework.boot:spring-boot-starter-security")
+    // Argon2PasswordEncoder
+    implementation("org.bouncycastle:bcprov-jdk18on:1.78.1")
     
     // Spring Boot WebSocket
     implementation("org.springframework.boot:spring-boot-starter-websocket")
+
+    // Spring Boot Actuator / Prometheus
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     
     // Lombok
     compileOnly("org.projectlombok:lombok")
@@ -50,6 +66,8 @@ dependencies {
     // Jackson for JSON
     implementation("com.fasterxml.jackson.core:jackson-databind")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    // CBOR (Unityクライアント向けのバイナリ形式)
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
     
     // Spring Boot DevTools
     developmentOnly("org.springframework.boot:spring-boot-devtools")
@@ -60,6 +78,11 @@ dependencies {
     
     // Swagger/OpenAPI Documentation
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
+
+    // JMH Benchmarks
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+    "jmhRuntimeOnly"("com.h2database:h2")
 }
 
 tasks.withType<Test> {
@@ -70,6 +93,100 @@ tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
 }
 
+// JMHベンチマーク実行タスク（例: ./gradlew jmh -Pjmh.includes=SimulatorAnalyticsBenchmark）
+val jmhResults = layout.buildDirectory.file("jmh/results.json")
+val jmhBaseline = file("src/jmh/baseline.json")
+
+tasks.register<JavaExec>("jmh") {
+    description = "Run JMH benchmarks"
+    group = "benchmark"
+    dependsOn("jmhClasses")
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    outputs.file(jmhResults)
+    outputs.upToDateWhen { false }
+    args((project.findProperty("jmh.includes") as String? ?: ".*").split(","))
+    args("-rf", "json", "-rff", jmhResults.get().asFile.absolutePath)
+    doFirst { jmhResults.get().asFile.parentFile.mkdirs() }
+}
+
+// JMH結果のキー（ベンチマーク名 + パラメータ）
+fun jmhKey(result: Map<*, *>): String {
+    val params = (result["params"] as Map<*, *>?)?.entries?.joinToString(",") { "${it.key}=${it.value}" }
+    return if (params.isNullOrEmpty()) result["benchmark"].toString() else "${result["benchmark"]}[$params]"
+}
+
+// 直近の実行結果をベースラインとして記録する
+tasks.register("jmhBaseline") {
+    description = "Record the latest JMH results as the performance baseline"
+    group = "benchmark"
+    dependsOn("jmh")
+    doLast {
+        @Suppress("UNCHECKED_CAST")
+        val results = JsonSlurper().parse(jmhResults.get().asFile) as List<Map<*, *>>
+        val benchmarks = sortedMapOf<String, Map<String, Any?>>()
+        results.forEach { result ->
+            val metric = result["primaryMetric"] as Map<*, *>
+            benchmarks[jmhKey(result)] = mapOf(
+                "mode" to result["mode"],
+                "score" to metric["score"],
+                "unit" to metric["scoreUnit"]
+            )
+        }
+        jmhBaseline.writeText(JsonOutput.prettyPrint(JsonOutput.toJson(mapOf(
+            "jdk" to (results.firstOrNull()?.get("jdkVersion") ?: ""),
+            "benchmarks" to benchmarks
+        ))) + "\n")
+        println("Recorded ${benchmarks.size} benchmarks to ${jmhBaseline}")
+    }
+}
+
+// ベースラインと比較し、許容範囲（既定10%）を超えて遅くなったベンチマークがあれば失敗させる
+// ベースラインに記録のないベンチマークも失敗とする（追加直後は -Pjmh.allowMissingBaseline=true で許可し、
+// 基準マシンで jmhBaseline を実行してベースラインをコミットする）
+// 例: ./gradlew jmhCheck -Pjmh.includes=JsonUtilBenchmark -Pjmh.threshold=0.15
+tasks.register("jmhCheck") {
+    description = "Fail when JMH results regress beyond the threshold against the baseline"
+    group = "verification"
+    dependsOn("jmh")
+    doLast {
+        val threshold = (project.findProperty("jmh.threshold") as String? ?: "0.10").toDouble()
+        val allowMissing = (project.findProperty("jmh.allowMissingBaseline") as String?).toBoolean()
+        @Suppress("UNCHECKED_CAST")
+        val results = JsonSlurper().parse(jmhResults.get().asFile) as List<Map<*, *>>
+        val baseline = (JsonSlurper().parse(jmhBaseline) as Map<*, *>)["benchmarks"] as Map<*, *>
+        val regressions = mutableListOf<String>()
+        val missing = mutableListOf<String>()
+        results.forEach { result ->
+            val key = jmhKey(result)
+            val expected = baseline[key] as Map<*, *>?
+            val score = ((result["primaryMetric"] as Map<*, *>)["score"] as Number).toDouble()
+            if (expected == null) {
+                missing.add(key)
+                println("NO BASELINE  $key: $score")
+                return@forEach
+            }
+            val base = (expected["score"] as Number).toDouble()
+            // スループット系は値が大きいほど良く、時間系は小さいほど良い
+            val change = if (result["mode"] == "thrpt") (base - score) / base else (score - base) / base
+            val line = "%s: %.3f -> %.3f (%+.1f%%)".format(key, base, score, change * 100)
+            if (change > threshold) {
+                regressions.add(line)
+                println("REGRESSION   $line")
+            } else {
+                println("OK           $line")
+            }
+        }
+        if (regressions.isNotEmpty()) {
+            throw GradleException("${regressions.size} benchmark(s) regressed more than ${threshold * 100}%")
+        }
+        if (missing.isNotEmpty() && !allowMissing) {
+            throw GradleException("${missing.size} benchmark(s) have no baseline in ${jmhBaseline.name}; " +
+                "run jmhBaseline and commit it, or pass -Pjmh.allowMissingBaseline=true")
+        }
+    }
+}
+
 springBoot {
     mainClass.set("com.jobassistance.JobAssistanceApplication")
 }
@@ -0,0 +1,4 @@
+#!/bin/sh
+# ローカル検証用: Dockerネットワーク内からのストリーミングレプリケーション接続を許可する
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,17 @@
+#!/bin/sh
+# ローカル検証用の読み取りレプリカ
+# 初回起動時にプライマリ（db）からベースバックアップを取得し、スタンバイとして起動する
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    mkdir -p "$PGDATA"
+    chown postgres:postgres "$PGDATA"
+    chmod 0700 "$PGDATA"
+    until su-exec postgres pg_basebackup -h db -U "$PGUSER" -D "$PGDATA" -R -X stream; do
+        echo "Waiting for the primary to accept replication connections..."
+        rm -rf "${PGDATA:?}"/*
+        sleep 2
+    done
+fi
+
+exec su-exec postgres postgres -c hot_standby=on -c hot_standby_feedback=on
@@ -0,0 +1,108 @@
+package com.jobassistance.benchmark;
+
+import com.jobassistance.entity.OperationLog;
+import com.jobassistance.entity.Worker;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * ベンチマーク用の合成データ（乱数の種を固定し、実行ごとに同じデータを生成する）
+ */
+final class BenchmarkData {
+
+    private static final String[] NATIONALITIES = { "ベトナム", "インドネシア", "フィリピン", "ミャンマー", "ネパール" };
+    private static final String[] OPERATION_TYPES = { "BOOM_UP", "BOOM_DOWN", "ARM_IN", "ARM_OUT", "BUCKET_CURL", "SWING" };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 就労者のリストを生成する
+     *
+     * @param count 件数
+     * @return 就労者のリスト
+     */
+    static List<Worker> workers(int count) {
+        SplittableRandom random = new SplittableRandom(7);
+        List<Worker> workers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Worker worker = new Worker();
+            worker.setId((long) i + 1);
+            worker.setName("Worker " + i);
+            worker.setNameKana("ワーカー " + i);
+            worker.setEmail("worker" + i + "@example.com");
+            worker.setPhone("090-0000-" + String.format("%04d", i % 10000));
+            worker.setAddress("東京都千代田区" + i);
+            worker.setBirthDate(LocalDate.of(1990, 1, 1).plusDays(random.nextInt(5000)));
+            worker.setNationality(NATIONALITIES[random.nextInt(NATIONALITIES.length)]);
+            worker.setNativeLanguage("vi");
+            worker.setVisaStatus("特定技能1号");
+            worker.setVisaExpiryDate(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(1000)));
+            worker.setJapaneseLevel("N" + (1 + random.nextInt(5)));
+            worker.setSkills("建設機械,溶接");
+            worker.setExperienceYears(random.nextInt(10));
+            worker.setCreatedAt(LocalDateTime.of(2024, 4, 1, 9, 0));
+            worker.setUpdatedAt(LocalDateTime.of(2024, 4, 1, 9, 0));
+            workers.add(worker);
+        }
+        return workers;
+    }
+
+    /**
+     * 操作ログのリストを生成する
+     *
+     * @param count 件数
+     * @return 操作ログのリスト
+     */
+    static List<OperationLog> operationLogs(int count) {
+        SplittableRandom random = new SplittableRandom(11);
+        LocalDateTime start = LocalDateTime.of(2024, 4, 1, 9, 0);
+        List<OperationLog> logs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OperationLog log = new OperationLog();
+            log.setTimestamp(start.plusNanos(i * 16_000_000L));
+            log.setOperationType(OPERATION_TYPES[random.nextInt(OPERATION_TYPES.length)]);
+            log.setOperationValue(random.nextDouble());
+            log.setPositionX(random.nextDouble() * 100);
+            log.setPositionY(random.nextDouble() * 10);
+            log.setPositionZ(random.nextDouble() * 100);
+            log.setVelocity(random.nextDouble() * 5);
+            log.setErrorEvent(random.nextInt(100) == 0);
+            log.setAchievementEvent(random.nextInt(200) == 0);
+            log.setEventType("telemetry");
+            logs.add(log);
+        }
+        return logs;
+    }
+
+    /**
+     * Unityから送信されるリプレイデータ相当のJSON用マップを生成する
+     *
+     * @param frames フレーム数
+     * @return リプレイデータ
+     */
+    static Map<String, Object> replayPayload(int frames) {
+        SplittableRandom random = new SplittableRandom(13);
+        List<Map<String, Object>> frameList = new ArrayList<>(frames);
+        for (int i = 0; i < frames; i++) {
+            Map<String, Object> frame = new LinkedHashMap<>();
+            frame.put("t", i * 16);
+            frame.put("x", random.nextDouble() * 100);
+            frame.put("y", random.nextDouble() * 10);
+            frame.put("z", random.nextDouble() * 100);
+            frame.put("op", OPERATION_TYPES[random.nextInt(OPERATION_TYPES.length)]);
+            frameList.add(frame);
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("sessionId", "01900000-0000-7000-8000-000000000000");
+        payload.put("recordedAt", LocalDateTime.of(2024, 4, 1, 9, 0));
+        payload.put("frames", frameList);
+        return payload;
+    }
+}
@@ -0,0 +1,122 @@
+package com.jobassistance.benchmark;
+
+import com.jobassistance.JobAssistanceApplication;
+import com.jobassistance.controller.IntegratedDashboardController;
+import com.jobassistance.entity.*;
+import com.jobassistance.repository.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 統合ダッシュボード集計のベンチマーク
+ * H2（PostgreSQL互換モード）でアプリケーションコンテキストを起動し、コントローラーを直接呼び出す
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx1g" })
+public class DashboardAggregationBenchmark {
+
+    /** 就労者1人あたりの各記録の件数 */
+    @Param({ "20", "200" })
+    private int recordsPerSection;
+
+    private ConfigurableApplicationContext context;
+    private IntegratedDashboardController controller;
+    private Long workerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JobAssistanceApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:dashboard;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                        + "DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=TIMESTAMP,VALUE,MONTH,YEAR;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--app.rollup.rebuild-cron=-",
+                "--logging.level.root=WARN",
+                "--logging.level.com.jobassistance=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        controller = context.getBean(IntegratedDashboardController.class);
+        workerId = seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> integratedDashboard() {
+        return controller.getIntegratedDashboard(workerId);
+    }
+
+    private Long seed() {
+        Worker worker = new Worker();
+        worker.setName("Benchmark Worker");
+        worker.setEmail("benchmark@example.com");
+        worker.setNationality("ベトナム");
+        worker = context.getBean(WorkerRepository.class).save(worker);
+
+        LocalDate day = LocalDate.of(2024, 4, 1);
+        for (int i = 0; i < recordsPerSection; i++) {
+            LocalDate date = day.plusDays(i);
+
+            WorkerProgress progress = new WorkerProgress();
+            progress.setWorker(worker);
+            progress.setProgressDate(date);
+            progress.setProgressType("研修");
+            context.getBean(WorkerProgressRepository.class).save(progress);
+
+            JapaneseProficiency proficiency = new JapaneseProficiency();
+            proficiency.setWorker(worker);
+            proficiency.setTestDate(date);
+            proficiency.setTestType("JLPT");
+            context.getBean(JapaneseProficiencyRepository.class).save(proficiency);
+
+            SkillTraining skillTraining = new SkillTraining();
+            skillTraining.setWorker(worker);
+            skillTraining.setSkillCategory("建設機械");
+            skillTraining.setSkillName("油圧ショベル");
+            skillTraining.setTrainingStartDate(date);
+            context.getBean(SkillTrainingRepository.class).save(skillTraining);
+
+            ConstructionSimulatorTraining simulatorTraining = new ConstructionSimulatorTraining();
+            simulatorTraining.setWorker(worker);
+            simulatorTraining.setTrainingDate(date);
+            simulatorTraining.setEquipmentType("油圧ショベル");
+            context.getBean(ConstructionSimulatorTrainingRepository.class).save(simulatorTraining);
+
+            IntegratedGrowth growth = new IntegratedGrowth();
+            growth.setWorker(worker);
+            growth.setRecordDate(date);
+            growth.setOverallScore(70.0 + i % 30);
+            context.getBean(IntegratedGrowthRepository.class).save(growth);
+
+            Milestone milestone = new Milestone();
+            milestone.setWorker(worker);
+            milestone.setTitle("マイルストーン " + i);
+            milestone.setTargetDate(date);
+            context.getBean(MilestoneRepository.class).save(milestone);
+
+            CareerGoal careerGoal = new CareerGoal();
+            careerGoal.setWorker(worker);
+            careerGoal.setTitle("キャリア目標 " + i);
+            careerGoal.setTargetDate(date);
+            context.getBean(CareerGoalRepository.class).save(careerGoal);
+        }
+        return worker.getId();
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobassistance.benchmark;
+
+import com.jobassistance.util.DateUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtil.parseDateTime のベンチマーク
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilBenchmark {
+
+    private String[] inputs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inputs = new String[1024];
+        LocalDateTime base = LocalDateTime.of(2024, 4, 1, 9, 0);
+        for (int i = 0; i < inputs.length; i++) {
+            LocalDateTime value = base.plusSeconds(i * 937L);
+            // 秒未満あり・なしの両方の形式を混在させる
+            inputs[i] = i % 2 == 0 ? value.toString() : value.plusNanos(123_000_000L).toString();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public void parseDateTime(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(DateUtil.parseDateTime(input));
+        }
+    }
+}
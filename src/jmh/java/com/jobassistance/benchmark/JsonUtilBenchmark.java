@@ -0,0 +1,56 @@
+package com.jobassistance.benchmark;
+
+import com.jobassistance.entity.Worker;
+import com.jobassistance.util.JsonUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtil.toJson / fromJson のベンチマーク
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilBenchmark {
+
+    @Param({ "60", "3600" })
+    private int frames;
+
+    private Map<String, Object> payload;
+    private String payloadJson;
+    private Worker worker;
+    private String workerJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        payload = BenchmarkData.replayPayload(frames);
+        payloadJson = JsonUtil.toJson(payload);
+        worker = BenchmarkData.workers(1).get(0);
+        workerJson = JsonUtil.toJson(worker);
+    }
+
+    @Benchmark
+    public String toJsonReplayPayload() {
+        return JsonUtil.toJson(payload);
+    }
+
+    @Benchmark
+    public Map<?, ?> fromJsonReplayPayload() {
+        return JsonUtil.fromJson(payloadJson, Map.class);
+    }
+
+    @Benchmark
+    public String toJsonWorker() {
+        return JsonUtil.toJson(worker);
+    }
+
+    @Benchmark
+    public Worker fromJsonWorker() {
+        return JsonUtil.fromJson(workerJson, Worker.class);
+    }
+}
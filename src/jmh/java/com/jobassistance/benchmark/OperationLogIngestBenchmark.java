@@ -0,0 +1,92 @@
+package com.jobassistance.benchmark;
+
+import com.jobassistance.entity.OperationLog;
+import com.jobassistance.repository.OperationLogBatchWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 操作ログ一括登録のベンチマーク（H2のPostgreSQL互換モードを代替DBとして使用）
+ * バッチ登録と1件ずつのINSERTを比較する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationLogIngestBenchmark {
+
+    private static final String URL =
+            "jdbc:h2:mem:ingest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=TIMESTAMP;DB_CLOSE_DELAY=-1";
+
+    @Param({ "500", "5000" })
+    private int logs;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private OperationLogBatchWriter batchWriter;
+    private List<OperationLog> operationLogs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(URL, "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS training_sessions (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS operation_logs ("
+                + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "training_session_id BIGINT NOT NULL REFERENCES training_sessions (id), "
+                + "timestamp TIMESTAMP NOT NULL, operation_type VARCHAR(100) NOT NULL, "
+                + "operation_value DOUBLE PRECISION, equipment_state TEXT, "
+                + "position_x DOUBLE PRECISION, position_y DOUBLE PRECISION, position_z DOUBLE PRECISION, "
+                + "velocity DOUBLE PRECISION, error_event BOOLEAN, error_description TEXT, "
+                + "achievement_event BOOLEAN, achievement_description TEXT, event_type VARCHAR(50), "
+                + "created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.update("MERGE INTO training_sessions (id) KEY (id) VALUES (1)");
+        batchWriter = new OperationLogBatchWriter(jdbcTemplate);
+        operationLogs = BenchmarkData.operationLogs(logs);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE operation_logs");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE operation_logs");
+        jdbcTemplate.execute("DROP TABLE training_sessions");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public Integer batchWriter() {
+        return transactionTemplate.execute(status -> batchWriter.write(1L, operationLogs));
+    }
+
+    @Benchmark
+    public Integer rowByRowInsert() {
+        return transactionTemplate.execute(status -> {
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+            for (OperationLog log : operationLogs) {
+                jdbcTemplate.update("INSERT INTO operation_logs (training_session_id, timestamp, operation_type, "
+                                + "operation_value, position_x, position_y, position_z, velocity, error_event, "
+                                + "achievement_event, event_type, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        1L, Timestamp.valueOf(log.getTimestamp()), log.getOperationType(), log.getOperationValue(),
+                        log.getPositionX(), log.getPositionY(), log.getPositionZ(), log.getVelocity(),
+                        log.getErrorEvent(), log.getAchievementEvent(), log.getEventType(), createdAt);
+            }
+            return operationLogs.size();
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.jobassistance.benchmark;
+
+import com.jobassistance.dto.SimulatorCohortStats;
+import com.jobassistance.service.SimulatorAnalyticsEngine;
+import com.jobassistance.service.SimulatorColumns;
+import com.jobassistance.service.SimulatorDimension;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * シミュレーター訓練分析エンジンのベンチマーク（100万件の合成データ）
+ *
+ * 実行方法: ./gradlew jmh -Pjmh.includes=SimulatorAnalyticsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class SimulatorAnalyticsBenchmark {
+
+    private static final String[] NATIONALITIES = { "ベトナム", "インドネシア", "フィリピン", "ミャンマー", "ネパール",
+            "カンボジア", "タイ", "中国", "モンゴル", "スリランカ" };
+    private static final String[] EQUIPMENT_TYPES = { "油圧ショベル", "ブルドーザー", "クレーン", "ホイールローダー",
+            "フォークリフト", "ダンプトラック", "ローラー", "高所作業車" };
+    private static final String[] DIFFICULTY_LEVELS = { "初級", "中級", "上級" };
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private SimulatorColumns columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate firstDay = LocalDate.of(2022, 1, 1);
+        SimulatorColumns.Builder builder = new SimulatorColumns.Builder(rows);
+        for (int i = 0; i < rows; i++) {
+            Double safety = random.nextInt(50) == 0 ? null : 40 + random.nextDouble() * 60;
+            Integer errors = random.nextInt(10);
+            Double procedure = 50 + random.nextDouble() * 50;
+            Double achievement = random.nextInt(20) == 0 ? null : 30 + random.nextDouble() * 70;
+            boolean passed = (safety == null || safety >= 80) && errors <= 3 && procedure >= 80
+                    && (achievement == null || achievement >= 70);
+            builder.add(NATIONALITIES[random.nextInt(NATIONALITIES.length)],
+                    EQUIPMENT_TYPES[random.nextInt(EQUIPMENT_TYPES.length)],
+                    DIFFICULTY_LEVELS[random.nextInt(DIFFICULTY_LEVELS.length)],
+                    firstDay.plusDays(random.nextInt(365 * 3)),
+                    safety, errors, procedure, achievement,
+                    passed ? SimulatorColumns.PASS : SimulatorColumns.FAIL);
+        }
+        columns = builder.build();
+    }
+
+    @Benchmark
+    public List<SimulatorCohortStats> byNationality() {
+        return SimulatorAnalyticsEngine.analyze(columns, List.of(SimulatorDimension.NATIONALITY),
+                Collections.emptyMap(), null, null);
+    }
+
+    @Benchmark
+    public List<SimulatorCohortStats> byNationalityEquipmentDifficultyMonth() {
+        return SimulatorAnalyticsEngine.analyze(columns,
+                List.of(SimulatorDimension.NATIONALITY, SimulatorDimension.EQUIPMENT_TYPE,
+                        SimulatorDimension.DIFFICULTY_LEVEL, SimulatorDimension.MONTH),
+                Collections.emptyMap(), null, null);
+    }
+
+    @Benchmark
+    public List<SimulatorCohortStats> filteredByEquipmentPerMonth() {
+        return SimulatorAnalyticsEngine.analyze(columns, List.of(SimulatorDimension.MONTH),
+                Map.of(SimulatorDimension.EQUIPMENT_TYPE, "油圧ショベル"),
+                YearMonth.of(2023, 1), YearMonth.of(2023, 12));
+    }
+}
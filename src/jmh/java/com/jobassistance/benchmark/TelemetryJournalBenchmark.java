@@ -0,0 +1,89 @@
+package com.jobassistance.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jobassistance.dto.OperationLogEvent;
+import com.jobassistance.dto.TelemetryJournalRecord;
+import com.jobassistance.entity.OperationLog;
+import com.jobassistance.util.MappedSegmentLog;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * テレメトリージャーナルへの追記コストのベンチマーク
+ * 操作ログの一括登録1回分（CBORへの変換 + メモリマップトファイルへの追記）の所要時間を測定する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TelemetryJournalBenchmark {
+
+    @Param({ "50", "500" })
+    private int logs;
+
+    @Param({ "false", "true" })
+    private boolean forceOnAppend;
+
+    private ObjectMapper cborMapper;
+    private TelemetryJournalRecord record;
+    private Path directory;
+    private MappedSegmentLog journal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().modules(new JavaTimeModule()).build();
+        List<OperationLogEvent> events = new ArrayList<>(logs);
+        for (OperationLog log : BenchmarkData.operationLogs(logs)) {
+            OperationLogEvent event = new OperationLogEvent();
+            event.setTimestamp(log.getTimestamp());
+            event.setOperationType(log.getOperationType());
+            event.setOperationValue(log.getOperationValue());
+            event.setPositionX(log.getPositionX());
+            event.setPositionY(log.getPositionY());
+            event.setPositionZ(log.getPositionZ());
+            event.setVelocity(log.getVelocity());
+            event.setErrorEvent(Boolean.TRUE.equals(log.getErrorEvent()));
+            event.setAchievementEvent(Boolean.TRUE.equals(log.getAchievementEvent()));
+            event.setEventType(log.getEventType());
+            events.add(event);
+        }
+        record = new TelemetryJournalRecord();
+        record.setType(TelemetryJournalRecord.TYPE_OPERATION_LOGS);
+        record.setTenantId("default");
+        record.setSessionId("00000000-0000-0000-0000-000000000001");
+        record.setReceivedAt(LocalDateTime.now());
+        record.setEvents(events);
+    }
+
+    @Setup(Level.Iteration)
+    public void openJournal() throws IOException {
+        directory = Files.createTempDirectory("telemetry-journal");
+        journal = new MappedSegmentLog(directory, 64 * 1024 * 1024, 64L * 1024 * 1024 * 1024, forceOnAppend);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteJournal() throws IOException {
+        journal.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public long append() throws IOException {
+        long position = journal.append(cborMapper.writeValueAsBytes(record));
+        // 反映済みとして古いセグメントを削除し、ディスク使用量を抑える
+        journal.truncateBefore(position);
+        return position;
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobassistance.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jobassistance.dto.OperationLogEvent;
+import com.jobassistance.entity.OperationLog;
+import com.jobassistance.util.DateUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unityの操作ログ一括登録リクエストの受信コストのベンチマーク
+ * 従来のJSON → Map → キャストでの変換と、型付きスキーマ（JSON / CBOR）への直接変換を比較する
+ * ペイロードサイズはセットアップ時に出力する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnityWireFormatBenchmark {
+
+    private static final TypeReference<List<Map<String, Object>>> MAP_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<OperationLogEvent>> EVENT_LIST = new TypeReference<>() {
+    };
+
+    @Param({ "500", "5000" })
+    private int logs;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private byte[] jsonPayload;
+    private byte[] cborPayload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        jsonMapper = Jackson2ObjectMapperBuilder.json().modules(new JavaTimeModule()).build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().modules(new JavaTimeModule()).build();
+        List<Map<String, Object>> payload = new ArrayList<>(logs);
+        for (OperationLog log : BenchmarkData.operationLogs(logs)) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("timestamp", DateUtil.formatDateTime(log.getTimestamp()));
+            event.put("operationType", log.getOperationType());
+            event.put("operationValue", log.getOperationValue());
+            event.put("positionX", log.getPositionX());
+            event.put("positionY", log.getPositionY());
+            event.put("positionZ", log.getPositionZ());
+            event.put("velocity", log.getVelocity());
+            event.put("errorEvent", log.getErrorEvent());
+            event.put("achievementEvent", log.getAchievementEvent());
+            event.put("eventType", log.getEventType());
+            payload.add(event);
+        }
+        jsonPayload = jsonMapper.writeValueAsBytes(payload);
+        cborPayload = cborMapper.writeValueAsBytes(payload);
+        System.out.printf("%n[payload] logs=%d json=%d bytes cbor=%d bytes (%.0f%%)%n", logs, jsonPayload.length,
+                cborPayload.length, cborPayload.length * 100.0 / jsonPayload.length);
+    }
+
+    /**
+     * 従来の受信処理（JSON → List&lt;Map&gt; → キャストでOperationLogに変換）
+     */
+    @Benchmark
+    public List<OperationLog> jsonUntypedMaps() throws IOException {
+        List<Map<String, Object>> data = jsonMapper.readValue(jsonPayload, MAP_LIST);
+        List<OperationLog> result = new ArrayList<>(data.size());
+        for (Map<String, Object> event : data) {
+            OperationLog log = new OperationLog();
+            log.setTimestamp(DateUtil.parseDateTime((String) event.get("timestamp")));
+            log.setOperationType((String) event.get("operationType"));
+            log.setOperationValue(getDouble(event, "operationValue"));
+            log.setPositionX(getDouble(event, "positionX"));
+            log.setPositionY(getDouble(event, "positionY"));
+            log.setPositionZ(getDouble(event, "positionZ"));
+            log.setVelocity(getDouble(event, "velocity"));
+            log.setErrorEvent(Boolean.TRUE.equals(event.get("errorEvent")));
+            log.setAchievementEvent(Boolean.TRUE.equals(event.get("achievementEvent")));
+            log.setEventType((String) event.get("eventType"));
+            result.add(log);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<OperationLog> jsonTyped() throws IOException {
+        return toOperationLogs(jsonMapper.readValue(jsonPayload, EVENT_LIST));
+    }
+
+    @Benchmark
+    public List<OperationLog> cborTyped() throws IOException {
+        return toOperationLogs(cborMapper.readValue(cborPayload, EVENT_LIST));
+    }
+
+    private static List<OperationLog> toOperationLogs(List<OperationLogEvent> events) {
+        LocalDateTime receivedAt = LocalDateTime.now();
+        List<OperationLog> result = new ArrayList<>(events.size());
+        for (OperationLogEvent event : events) {
+            OperationLog log = new OperationLog();
+            log.setTimestamp(event.getTimestamp() != null ? event.getTimestamp() : receivedAt);
+            log.setOperationType(event.getOperationType());
+            log.setOperationValue(event.getOperationValue());
+            log.setPositionX(event.getPositionX());
+            log.setPositionY(event.getPositionY());
+            log.setPositionZ(event.getPositionZ());
+            log.setVelocity(event.getVelocity());
+            log.setErrorEvent(event.isErrorEvent());
+            log.setAchievementEvent(event.isAchievementEvent());
+            log.setEventType(event.getEventType());
+            result.add(log);
+        }
+        return result;
+    }
+
+    private static Double getDouble(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobassistance.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jobassistance.entity.Worker;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 就労者一覧APIのレスポンス（success/dataのMap）シリアライズのベンチマーク
+ * ObjectMapperはJacksonConfigと同じ構成で作成する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkerListSerializationBenchmark {
+
+    @Param({ "50", "1000" })
+    private int workers;
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().modules(new JavaTimeModule()).build();
+        List<Worker> workerList = BenchmarkData.workers(workers);
+        response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", workerList);
+    }
+
+    @Benchmark
+    public byte[] serializeWorkerList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
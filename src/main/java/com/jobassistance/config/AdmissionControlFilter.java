@@ -0,0 +1,165 @@
+package com.jobassistance.config;
+
+import com.jobassistance.util.GradientConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * リクエスト区分ごとに同時実行数を制限する受付制御フィルター
+ *
+ * リクエストをパスでライブテレメトリー・通常操作・レポート・一括処理に分類し、区分ごとの上限を超えた要求は
+ * 処理せずに429（Retry-After付き）を返す。上限は区分ごとの応答時間の勾配で自動調整し、
+ * ライブテレメトリー以外の区分は、ライブテレメトリーの応答時間が伸びた時点で上限を縮める。
+ * 認証より前に判定し、過負荷時に拒否する要求にはトークンの検証も行わない
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Map<RequestClass, Admission> admissions = new EnumMap<>(RequestClass.class);
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.admission.enabled:true}")
+    private boolean enabled;
+
+    /** 上限を更新する間隔（ミリ秒） */
+    @Value("${app.admission.window-ms:100}")
+    private long windowMs;
+
+    /** 受付制御の対象外とするパス（ヘルスチェックなど） */
+    @Value("${app.admission.exempt-paths:/api/health,/api/health/**}")
+    private String[] exemptPaths;
+
+    @PostConstruct
+    void init() {
+        GradientConcurrencyLimiter telemetry = null;
+        for (RequestClass requestClass : RequestClass.values()) {
+            String prefix = "app.admission." + requestClass.getKey() + ".";
+            GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(
+                    environment.getProperty(prefix + "initial-limit", Integer.class, requestClass.getInitialLimit()),
+                    environment.getProperty(prefix + "min-limit", Integer.class, requestClass.getMinLimit()),
+                    environment.getProperty(prefix + "max-limit", Integer.class, requestClass.getMaxLimit()),
+                    windowMs, telemetry);
+            if (requestClass == RequestClass.LIVE_TELEMETRY) {
+                telemetry = limiter;
+            }
+            List<String> paths = List.of(
+                    environment.getProperty(prefix + "paths", String[].class, requestClass.getDefaultPaths()));
+            int retryAfterSeconds = environment.getProperty(prefix + "retry-after-seconds", Integer.class,
+                    requestClass.getRetryAfterSeconds());
+            Counter rejected = Counter.builder("admission.rejected")
+                    .description("受付制御で拒否したリクエスト数")
+                    .tag("class", requestClass.getKey())
+                    .register(meterRegistry);
+            Gauge.builder("admission.limit", limiter, GradientConcurrencyLimiter::getEffectiveLimit)
+                    .description("受付制御の同時実行数の上限")
+                    .tag("class", requestClass.getKey())
+                    .register(meterRegistry);
+            Gauge.builder("admission.in-flight", limiter, GradientConcurrencyLimiter::getInFlight)
+                    .description("受付制御の対象で実行中のリクエスト数")
+                    .tag("class", requestClass.getKey())
+                    .register(meterRegistry);
+            admissions.put(requestClass, new Admission(paths, limiter, retryAfterSeconds, rejected));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || "OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String path = getPath(request);
+        if (!path.startsWith("/api/")) {
+            return true;
+        }
+        for (String exemptPath : exemptPaths) {
+            if (pathMatcher.match(exemptPath, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestClass requestClass = classify(getPath(request));
+        Admission admission = admissions.get(requestClass);
+        if (!admission.limiter().tryAcquire()) {
+            admission.rejected().increment();
+            log.debug("Shed {} request {} {} (limit {})", requestClass.getKey(), request.getMethod(),
+                    request.getRequestURI(), admission.limiter().getEffectiveLimit());
+            // 一斉に再試行されないよう、基準秒数に乱数を加える
+            int retryAfter = admission.retryAfterSeconds()
+                    + ThreadLocalRandom.current().nextInt(admission.retryAfterSeconds() + 1);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"success\":false,\"error\":\"Server is busy. Please retry later\"}");
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admission.limiter().release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * パスからリクエスト区分を決定する
+     *
+     * @param path コンテキストパスを除いたパス
+     * @return リクエスト区分
+     */
+    RequestClass classify(String path) {
+        for (Map.Entry<RequestClass, Admission> entry : admissions.entrySet()) {
+            for (String pattern : entry.getValue().paths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return RequestClass.INTERACTIVE;
+    }
+
+    private static String getPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private record Admission(List<String> paths, GradientConcurrencyLimiter limiter, int retryAfterSeconds,
+            Counter rejected) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.jobassistance.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 非同期処理設定クラス
+ * バックグラウンドジョブ用のスレッドプールを定義する
+ * データベースにアクセスするジョブには投入元のテナントを引き継ぐ
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * 一括インポートジョブ用のExecutorを定義する
+     * 同時に実行するインポートジョブ数を制限し、コネクションプールを占有しないようにする
+     *
+     * @param poolSize 同時実行ジョブ数
+     * @param queueCapacity 待機ジョブ数の上限
+     * @return 一括インポート用Executor
+     */
+    @Bean(name = "bulkImportExecutor")
+    public ThreadPoolTaskExecutor bulkImportExecutor(
+            @Value("${app.import.pool-size:2}") int poolSize,
+            @Value("${app.import.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bulk-import-");
+        executor.setTaskDecorator(new TenantTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 証拠ポートフォリオ出力ジョブ用のExecutorを定義する
+     *
+     * @param poolSize 同時実行ジョブ数
+     * @param queueCapacity 待機ジョブ数の上限
+     * @return 証拠出力ジョブ用Executor
+     */
+    @Bean(name = "evidenceExportExecutor")
+    public ThreadPoolTaskExecutor evidenceExportExecutor(
+            @Value("${app.export.pool-size:2}") int poolSize,
+            @Value("${app.export.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("evidence-export-");
+        executor.setTaskDecorator(new TenantTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 証拠ポートフォリオの各セクションを並列取得するExecutorを定義する
+     * ジョブ用Executorと分けることで、ジョブがセクション取得の完了を待ってもデッドロックしない
+     *
+     * @param poolSize 同時に取得するセクション数（コネクションプールより小さくすること）
+     * @return セクション取得用Executor
+     */
+    @Bean(name = "exportSectionExecutor")
+    public ThreadPoolTaskExecutor exportSectionExecutor(
+            @Value("${app.export.section-pool-size:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("export-section-");
+        executor.setTaskDecorator(new TenantTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 就労者プロフィールの各セクションを並列取得するExecutorを定義する
+     * セクションごとに仮想スレッドを起動するため、コネクションの取得待ちでスレッドを占有しない
+     * 同時に取得するセクション数（コネクション数）はWorkerProfileServiceで制限する
+     *
+     * @return セクション取得用Executor
+     */
+    @Bean(name = "profileSectionExecutor")
+    public SimpleAsyncTaskExecutor profileSectionExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("profile-section-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new TenantTaskDecorator());
+        return executor;
+    }
+
+    /**
+     * 訓練セッション終了後のKPIスコア算出用のExecutorを定義する
+     *
+     * @param poolSize 同時に算出するセッション数
+     * @param queueCapacity 待機セッション数の上限
+     * @return スコア算出用Executor
+     */
+    @Bean(name = "sessionScoringExecutor")
+    public ThreadPoolTaskExecutor sessionScoringExecutor(
+            @Value("${app.unity.scoring.pool-size:2}") int poolSize,
+            @Value("${app.unity.scoring.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("session-scoring-");
+        executor.setTaskDecorator(new TenantTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * パスワード照合用のExecutorを定義する
+     * 照合はCPU負荷が高いため、同時に実行する数をCPUコア数以下に制限する
+     *
+     * @param poolSize 同時に照合する数
+     * @param queueCapacity 待機する照合の上限
+     * @return パスワード照合用Executor
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.security.password.pool-size:4}") int poolSize,
+            @Value("${app.security.password.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,485 @@
+package com.jobassistance.config;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 一括実行APIの各操作を、既存のコントローラーに同じスレッドでディスパッチする
+ * 認証情報とテナントは外側のリクエストのものを引き継ぎ、セキュリティフィルターは再実行しない。
+ * インターセプター（就労者単位のアクセス制御など）と例外ハンドラーは通常のリクエストと同様に適用する。
+ * 応答は外側のレスポンスに書き込まず、メモリ上に保持して返す
+ */
+@Component
+public class BatchDispatcher {
+
+    @Autowired
+    private DispatcherServlet dispatcherServlet;
+
+    /**
+     * 操作を実行する
+     *
+     * @param outer 外側（一括実行API）のリクエスト
+     * @param outerResponse 外側のレスポンス（書き込みは行わない）
+     * @param method HTTPメソッド
+     * @param path コンテキストパスを除いたパス（クエリ文字列を含めてよい）
+     * @param body リクエスト本文（JSON、null可）
+     * @return 応答
+     * @throws ServletException コントローラーで処理されなかった例外
+     * @throws IOException 入出力エラー
+     */
+    public Response dispatch(HttpServletRequest outer, HttpServletResponse outerResponse, String method, String path,
+            byte[] body) throws ServletException, IOException {
+        SubRequest request = new SubRequest(outer, method, path, body != null ? body : new byte[0]);
+        BufferedResponse response = new BufferedResponse(outerResponse);
+        dispatcherServlet.service(request, response);
+        return new Response(response.getStatus(), response.getContentType(), response.getContent(),
+                response.errorMessage);
+    }
+
+    /**
+     * 操作の応答
+     *
+     * @param status ステータスコード
+     * @param contentType Content-Type（本文がない場合はnull）
+     * @param body 応答本文
+     * @param errorMessage sendErrorで設定されたメッセージ（null可）
+     */
+    public record Response(int status, String contentType, byte[] body, String errorMessage) {
+    }
+
+    /**
+     * 操作のメソッド・パス・本文を持つリクエスト
+     * リクエスト属性は外側と共有せず、外側のディスパッチで設定されたハンドラー情報などを引き継がない
+     */
+    private static class SubRequest extends HttpServletRequestWrapper {
+
+        private final String method;
+        private final String rawPath;
+        private final String queryString;
+        private final Map<String, String[]> parameters = new LinkedHashMap<>();
+        private final HttpHeaders headers = new HttpHeaders();
+        private final byte[] body;
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        SubRequest(HttpServletRequest outer, String method, String path, byte[] body) {
+            super(outer);
+            this.method = method;
+            UriComponents uri = UriComponentsBuilder.fromUriString(path).build();
+            this.rawPath = uri.getPath();
+            this.queryString = uri.getQuery();
+            MultiValueMap<String, String> query = uri.getQueryParams();
+            query.forEach((name, values) -> parameters.put(decode(name), values.stream()
+                    .map(value -> value != null ? decode(value) : "")
+                    .toArray(String[]::new)));
+            this.body = body;
+            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+            if (body.length > 0) {
+                headers.setContentType(MediaType.APPLICATION_JSON);
+                headers.setContentLength(body.length);
+            }
+        }
+
+        private static String decode(String value) {
+            return UriUtils.decode(value, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String getMethod() {
+            return method;
+        }
+
+        @Override
+        public String getRequestURI() {
+            return getContextPath() + rawPath;
+        }
+
+        @Override
+        public StringBuffer getRequestURL() {
+            return new StringBuffer(getScheme()).append("://").append(getServerName()).append(':')
+                    .append(getServerPort()).append(getRequestURI());
+        }
+
+        @Override
+        public String getServletPath() {
+            return decode(rawPath);
+        }
+
+        @Override
+        public String getPathInfo() {
+            return null;
+        }
+
+        @Override
+        public String getQueryString() {
+            return queryString;
+        }
+
+        @Override
+        public String getParameter(String name) {
+            String[] values = parameters.get(name);
+            return values != null && values.length > 0 ? values[0] : null;
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            return Collections.unmodifiableMap(parameters);
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(parameters.keySet());
+        }
+
+        @Override
+        public String[] getParameterValues(String name) {
+            return parameters.get(name);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return headers.getFirst(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return Collections.enumeration(headers.getOrEmpty(name));
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(headers.keySet());
+        }
+
+        @Override
+        public int getIntHeader(String name) {
+            String value = headers.getFirst(name);
+            return value != null ? Integer.parseInt(value) : -1;
+        }
+
+        @Override
+        public long getDateHeader(String name) {
+            return headers.containsKey(name) ? headers.getFirstDate(name) : -1;
+        }
+
+        @Override
+        public String getContentType() {
+            return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return StandardCharsets.UTF_8.name();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return Collections.enumeration(attributes.keySet());
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            if (value == null) {
+                attributes.remove(name);
+            } else {
+                attributes.put(name, value);
+            }
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributes.remove(name);
+        }
+    }
+
+    /**
+     * 応答をメモリ上に保持するレスポンス
+     * コミットされることはなく、ヘッダー・ステータスも外側のレスポンスには反映しない
+     */
+    private static class BufferedResponse extends HttpServletResponseWrapper {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final HttpHeaders headers = new HttpHeaders();
+        private int status = SC_OK;
+        private String errorMessage;
+        private PrintWriter writer;
+
+        BufferedResponse(HttpServletResponse delegate) {
+            super(delegate);
+        }
+
+        byte[] getContent() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return content.toByteArray();
+        }
+
+        @Override
+        public void setStatus(int sc) {
+            status = sc;
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public void sendError(int sc) {
+            sendError(sc, null);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) {
+            status = sc;
+            errorMessage = msg;
+            content.reset();
+        }
+
+        @Override
+        public void sendRedirect(String location) {
+            status = SC_FOUND;
+            headers.set(HttpHeaders.LOCATION, location);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            headers.set(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            headers.add(name, value);
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            headers.set(name, String.valueOf(value));
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            headers.add(name, String.valueOf(value));
+        }
+
+        @Override
+        public void setDateHeader(String name, long date) {
+            headers.setDate(name, date);
+        }
+
+        @Override
+        public void addDateHeader(String name, long date) {
+            headers.add(name,
+                    DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC)));
+        }
+
+        @Override
+        public boolean containsHeader(String name) {
+            return headers.containsKey(name);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return headers.getFirst(name);
+        }
+
+        @Override
+        public Collection<String> getHeaders(String name) {
+            return headers.getOrEmpty(name);
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return headers.keySet();
+        }
+
+        @Override
+        public void setContentType(String type) {
+            headers.set(HttpHeaders.CONTENT_TYPE, type);
+        }
+
+        @Override
+        public String getContentType() {
+            return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        }
+
+        @Override
+        public void setCharacterEncoding(String charset) {
+            // 本文はUTF-8で解釈する
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return StandardCharsets.UTF_8.name();
+        }
+
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+        }
+
+        @Override
+        public void setLocale(Locale locale) {
+        }
+
+        @Override
+        public void addCookie(Cookie cookie) {
+        }
+
+        @Override
+        public void setBufferSize(int size) {
+        }
+
+        @Override
+        public void flushBuffer() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            resetBuffer();
+            headers.clear();
+            status = SC_OK;
+            errorMessage = null;
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (writer != null) {
+                writer.flush();
+            }
+            content.reset();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                    content.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    content.write(b, off, len);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(content, StandardCharsets.UTF_8));
+            }
+            return writer;
+        }
+    }
+}
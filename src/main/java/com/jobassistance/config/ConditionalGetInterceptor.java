@@ -0,0 +1,214 @@
+package com.jobassistance.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * エンティティの参照APIに条件付きGET（ETag / Last-Modified）を適用するインターセプター
+ *
+ * 対象の行数と更新日時の最大値を集計するSQL（worker_id, updated_at のインデックスを使用）だけで弱いETagを作成し、
+ * If-None-Match（単一リソースはIf-Modified-Sinceも）が一致すればエンティティを読み込まずに304を返す。
+ * 作成したETagは短時間メモリに保持し、同じインスタンスを経由した更新系リクエストで破棄する。
+ * 他のインスタンスやUnity連携・一括取込など対象外のAPIによる更新は、保持期間が過ぎるまで反映されない
+ */
+@Slf4j
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    /** ETagの作成に使用するSQL（パスのパターンごと） */
+    private static final Map<String, Resource> RESOURCES = new HashMap<>();
+
+    static {
+        // 就労者ごとの一覧と、その中の1件
+        String[][] workerResources = {
+                { "career-goals", "career_goals", null },
+                { "career-paths", "career_paths", null },
+                { "simulator-training", "construction_simulator_trainings", null },
+                { "integrated-growth", "integrated_growths", null },
+                { "milestones", "milestones", null },
+                { "specific-skill-transition", "specific_skill_transitions", null },
+                { "calendar", "calendar_events", null },
+                { "documents", "documents", "id" },
+                { "evaluations", "evaluations", "id" },
+                { "japanese-learning", "japanese_learning_records", "id" },
+                { "japanese-proficiency", "japanese_proficiencies", "id" },
+                { "pre-departure-support", "pre_departure_supports", "id" },
+                { "skill-training", "skill_trainings", "id" },
+                { "training-menu-assignments", "training_menu_assignments", "id" },
+                { "progress", "worker_progress", "progressId" },
+        };
+        for (String[] resource : workerResources) {
+            String path = "/api/workers/{workerId}/" + resource[0];
+            String sql = "SELECT COUNT(*), MAX(c.updated_at) FROM " + resource[1] + " c "
+                    + "JOIN workers w ON w.id = c.worker_id AND w.deleted_at IS NULL "
+                    + "WHERE c.worker_id = ? AND c.tenant_id = ?";
+            RESOURCES.put(path, new Resource(resource[1], "workerId", null, sql, true, false));
+            if (resource[2] != null) {
+                RESOURCES.put(path + "/{" + resource[2] + "}",
+                        new Resource(resource[1], "workerId", resource[2], sql + " AND c.id = ?", true, true));
+            }
+        }
+        RESOURCES.put("/api/workers/{id}", new Resource("workers", "id", null,
+                "SELECT COUNT(*), MAX(updated_at) FROM workers WHERE id = ? AND tenant_id = ? AND deleted_at IS NULL",
+                true, true));
+        RESOURCES.put("/api/training-menus/{id}", new Resource("training_menus", "id", null,
+                "SELECT COUNT(*), MAX(updated_at) FROM training_menus WHERE id = ?", false, true));
+        RESOURCES.put("/api/trainings/{id}", new Resource("trainings", "id", null,
+                "SELECT COUNT(*), MAX(updated_at) FROM trainings WHERE id = ?", false, true));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** ETagをメモリに保持する期間（ミリ秒。0の場合は毎回集計する） */
+    @Value("${app.conditional-get.etag-cache-ttl-ms:3000}")
+    private long cacheTtlMs;
+
+    @Value("${app.conditional-get.etag-cache-max-entries:10000}")
+    private int cacheMaxEntries;
+
+    private final Map<CacheKey, Tag> tags = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method) || request.getQueryString() != null) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Resource resource = pattern != null ? RESOURCES.get(pattern.toString()) : null;
+        Map<String, String> variables = getVariables(request);
+        if (resource == null || variables == null) {
+            return true;
+        }
+        Long scopeId = parseId(variables.get(resource.scopeVariable()));
+        Long itemId = resource.idVariable() != null ? parseId(variables.get(resource.idVariable())) : null;
+        if (scopeId == null || resource.idVariable() != null && itemId == null) {
+            return true;
+        }
+        CacheKey key = new CacheKey(TenantContext.resolve(), resource.table(), scopeId, itemId);
+
+        Tag tag = getTag(key, resource);
+        if (tag == null) {
+            // 対象が存在しない・空の一覧の場合はコントローラーの応答に任せる
+            return true;
+        }
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        boolean notModified = resource.single()
+                ? webRequest.checkNotModified(tag.etag(), tag.lastModified())
+                : webRequest.checkNotModified(tag.etag());
+        return !notModified;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return;
+        }
+        Map<String, String> variables = getVariables(request);
+        if (variables == null) {
+            return;
+        }
+        // 就労者の更新・削除は子リソースの一覧にも影響するため、同じ就労者（ID）のETagをまとめて破棄する
+        Long scopeId = parseId(variables.containsKey("workerId") ? variables.get("workerId") : variables.get("id"));
+        if (scopeId != null) {
+            String tenantId = TenantContext.resolve();
+            tags.keySet().removeIf(k -> k.tenantId().equals(tenantId) && k.scopeId().equals(scopeId));
+        }
+    }
+
+    private Tag getTag(CacheKey key, Resource resource) {
+        long now = System.currentTimeMillis();
+        Tag cached = tags.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached;
+        }
+        Tag tag;
+        try {
+            tag = jdbcTemplate.query(resource.sql(), rs -> {
+                rs.next();
+                long count = rs.getLong(1);
+                Timestamp maxUpdatedAt = rs.getTimestamp(2);
+                if (count == 0) {
+                    return null;
+                }
+                long micros = maxUpdatedAt != null
+                        ? maxUpdatedAt.getTime() / 1000 * 1_000_000 + maxUpdatedAt.getNanos() / 1000
+                        : 0;
+                return new Tag("W/\"" + count + "-" + Long.toString(micros, 36) + "\"",
+                        maxUpdatedAt != null ? maxUpdatedAt.getTime() : -1, now + cacheTtlMs);
+            }, arguments(key, resource));
+        } catch (DataAccessException e) {
+            log.warn("Failed to compute ETag for {}: {}", resource.table(), e.getMessage());
+            return null;
+        }
+        if (tag != null && cacheTtlMs > 0) {
+            if (tags.size() >= cacheMaxEntries) {
+                tags.clear();
+            }
+            tags.put(key, tag);
+        }
+        return tag;
+    }
+
+    private static Object[] arguments(CacheKey key, Resource resource) {
+        if (!resource.tenantScoped()) {
+            return new Object[] { key.scopeId() };
+        }
+        return key.itemId() != null
+                ? new Object[] { key.scopeId(), key.tenantId(), key.itemId() }
+                : new Object[] { key.scopeId(), key.tenantId() };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> getVariables(HttpServletRequest request) {
+        return (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    }
+
+    private static Long parseId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * ETagを作成する対象
+     *
+     * @param table テーブル名
+     * @param scopeVariable 就労者ID（就労者に属さないリソースはリソースID）のパス変数名
+     * @param idVariable 就労者に属するリソースのIDのパス変数名（一覧・就労者自体の場合はnull）
+     * @param sql 行数と更新日時の最大値を集計するSQL
+     * @param tenantScoped tenant_id列で絞り込む場合true
+     * @param single 単一リソースの場合true（Last-Modifiedも使用する）
+     */
+    private record Resource(String table, String scopeVariable, String idVariable, String sql,
+            boolean tenantScoped, boolean single) {
+    }
+
+    private record CacheKey(String tenantId, String table, Long scopeId, Long itemId) {
+    }
+
+    private record Tag(String etag, long lastModified, long expiresAt) {
+    }
+}
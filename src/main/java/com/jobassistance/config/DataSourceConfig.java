@@ -0,0 +1,89 @@
+package com.jobassistance.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * データソース設定クラス
+ *
+ * プライマリのコネクションプール（spring.datasource.*）に、次の順でDataSourceを重ねる
+ * - 読み取りレプリカが設定されている場合: サービス層の読み取り専用トランザクションをレプリカに振り分ける
+ * - テナントごとのコネクション数の制限と、スキーマ分離方式でのスキーマの切り替え
+ * - レプリカが設定されている場合: 振り分け先を最初のSQL実行時に決定するための遅延取得
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * プライマリのコネクションプールを定義する
+     *
+     * @param properties spring.datasource.* の設定
+     * @return プライマリのコネクションプール
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * アプリケーションが使用するDataSourceを定義する
+     *
+     * @param primaryDataSource プライマリのコネクションプール
+     * @param replicaRouter 読み取りレプリカのルーター
+     * @param replicaTransactionPrefix レプリカに振り分けるトランザクション名の接頭辞
+     * @param strategy テナント分離方式
+     * @param defaultSchema 既定のテナントのスキーマ
+     * @param schemaPrefix テナントのスキーマ名の接頭辞
+     * @param maxConnectionsPerTenant テナントあたりのコネクション数の上限（0以下の場合はプールの最大数とし、実質的に制限しない）
+     * @param connectionQuotas テナントごとの上限（テナントID:上限 をカンマ区切りで指定）
+     * @param acquireTimeoutMs 枠が空くまでの最大待機時間（ミリ秒）
+     * @return DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaRouter replicaRouter,
+            @Value("${app.datasource.replica.transaction-prefix:com.jobassistance.service.}") String replicaTransactionPrefix,
+            @Value("${app.tenancy.strategy:discriminator}") String strategy,
+            @Value("${app.tenancy.default-schema:public}") String defaultSchema,
+            @Value("${app.tenancy.schema-prefix:tenant_}") String schemaPrefix,
+            @Value("${app.tenancy.max-connections-per-tenant:0}") int maxConnectionsPerTenant,
+            @Value("${app.tenancy.connection-quotas:}") String connectionQuotas,
+            @Value("${app.tenancy.acquire-timeout-ms:10000}") long acquireTimeoutMs) {
+        if (maxConnectionsPerTenant <= 0) {
+            maxConnectionsPerTenant = primaryDataSource.getMaximumPoolSize();
+        }
+        DataSource target = primaryDataSource;
+        if (replicaRouter.hasReplicas()) {
+            target = new ReadWriteRoutingDataSource(primaryDataSource, replicaRouter, replicaTransactionPrefix);
+        }
+        DataSource tenantDataSource = new TenantRoutingDataSource(target, TenancyConfig.isSchemaStrategy(strategy),
+                defaultSchema, schemaPrefix, maxConnectionsPerTenant, parseQuotas(connectionQuotas), acquireTimeoutMs);
+        return replicaRouter.hasReplicas() ? new LazyConnectionDataSourceProxy(tenantDataSource) : tenantDataSource;
+    }
+
+    private static Map<String, Integer> parseQuotas(String value) {
+        Map<String, Integer> quotas = new HashMap<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("app.tenancy.connection-quotas must be formatted as <tenant>:<max>");
+            }
+            quotas.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+        }
+        return quotas;
+    }
+}
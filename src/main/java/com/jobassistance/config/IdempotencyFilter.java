@@ -0,0 +1,224 @@
+package com.jobassistance.config;
+
+import com.jobassistance.service.AccessTokenClaims;
+import com.jobassistance.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * Idempotency-Keyヘッダー付きの書き込み要求を重複排除するフィルター
+ * 同じテナント・同じキーの要求が再送された場合は、コントローラーを呼び出さずに最初の応答をそのまま返す
+ * 5xx・401・403・409・429の応答は保存しないため、クライアントは同じキーで再送できる
+ * テナントごとにキーを区別し、認可で拒否された要求を保存しないため、AuthorizationFilterの後に配置する
+ * 同じキーで別の要求（メソッド・URI・本文・認証ユーザーのいずれかが異なる）が送られた場合は422を返し、
+ * 他のユーザーの応答を返さない
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /** 保存した応答を返した場合に付与するヘッダー */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+
+    private final List<String> pathPatterns;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyService idempotencyService, List<String> pathPatterns) {
+        this.idempotencyService = idempotencyService;
+        this.pathPatterns = pathPatterns;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pathPatterns.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Invalid Idempotency-Key");
+            return;
+        }
+        // 本文のダイジェストを計算するために読み込み、コントローラーには読み込んだ本文を渡す
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, request.getInputStream().readAllBytes());
+        request = cachedRequest;
+        int requestHash = requestHash(cachedRequest);
+        IdempotencyService.Reservation reservation =
+                idempotencyService.reserve(TenantContext.resolve(), key, requestHash);
+        switch (reservation.state()) {
+            case REPLAY -> {
+                IdempotencyService.StoredResponse stored = reservation.response();
+                response.setStatus(stored.status());
+                if (stored.contentType() != null) {
+                    response.setContentType(stored.contentType());
+                }
+                response.setHeader(REPLAYED_HEADER, "true");
+                if (stored.body() != null) {
+                    response.setContentLength(stored.body().length);
+                    response.getOutputStream().write(stored.body());
+                }
+                return;
+            }
+            case IN_PROGRESS -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is in progress");
+                return;
+            }
+            case MISMATCH -> {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Idempotency-Key was already used for a different request");
+                return;
+            }
+            default -> {
+                // NEW: 処理を続行する
+            }
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            completed = true;
+        } finally {
+            int status = wrapper.getStatus();
+            if (completed && isReplayable(status)) {
+                idempotencyService.complete(reservation, status, wrapper.getContentType(),
+                        wrapper.getContentAsByteArray());
+            } else {
+                idempotencyService.release(reservation);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 要求のハッシュを計算する
+     * メソッド・URI（クエリ文字列を含む）・認証ユーザー・本文のSHA-256の先頭4バイトを使用する
+     */
+    private static int requestHash(CachedBodyRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        String queryString = request.getQueryString();
+        String subject = currentSubject();
+        digest.update((request.getMethod() + " " + request.getRequestURI()
+                + (queryString != null ? "?" + queryString : "") + "\n"
+                + (subject != null ? subject : "") + "\n").getBytes(StandardCharsets.UTF_8));
+        digest.update(request.body);
+        return ByteBuffer.wrap(digest.digest()).getInt();
+    }
+
+    /**
+     * @return 認証ユーザーのID（未認証の場合はnull）
+     */
+    private static String currentSubject() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AccessTokenClaims claims) {
+            return String.valueOf(claims.getUserId());
+        }
+        return null;
+    }
+
+    private static boolean isReplayable(int status) {
+        return status < 500
+                && status != HttpStatus.UNAUTHORIZED.value()
+                && status != HttpStatus.FORBIDDEN.value()
+                && status != HttpStatus.CONFLICT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"success\":false,\"error\":\"" + message + "\"}");
+    }
+
+    /**
+     * 読み込み済みの本文を返すリクエスト
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), charset));
+        }
+    }
+}
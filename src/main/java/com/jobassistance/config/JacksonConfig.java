@@ -1,10 +1,12 @@
 package com.jobassistance.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 /**
@@ -27,4 +29,20 @@ public class JacksonConfig {
                 .modules(new JavaTimeModule())
                 .build();
     }
+
+    /**
+     * CBOR（application/cbor）のメッセージコンバーターを設定する
+     * Unityクライアント向けのバイナリ形式で、JSONと同じスキーマ・日時の表現で送受信する
+     * リクエストのContent-TypeとAcceptヘッダーで選択されるため、JSONクライアントには影響しない
+     *
+     * @param builder Jackson2ObjectMapperBuilder
+     * @return CBORのメッセージコンバーター
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder
+                .factory(new CBORFactory())
+                .modules(new JavaTimeModule())
+                .build());
+    }
 }
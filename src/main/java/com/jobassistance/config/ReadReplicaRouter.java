@@ -0,0 +1,195 @@
+package com.jobassistance.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 読み取りレプリカのコネクションプールを管理する
+ *
+ * レプリカごとにプライマリとは別のHikariプールを持ち、プールサイズもプライマリとは別に設定する。
+ * 定期的に各レプリカの適用遅延を計測し、遅延が上限を超えた・接続できないレプリカは振り分け対象から外す。
+ * 利用できるレプリカがない場合、呼び出し元はプライマリを使用する
+ */
+@Slf4j
+@Component
+public class ReadReplicaRouter {
+
+    /** WALをすべて適用済みであれば0、それ以外は最後に適用したトランザクションからの経過秒数 */
+    private static final String LAG_SQL =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** レプリカのJDBC URL（カンマ区切り。空の場合はすべてプライマリで処理する） */
+    @Value("${app.datasource.replica.urls:}")
+    private String urls;
+
+    @Value("${app.datasource.replica.username:${spring.datasource.username:postgres}}")
+    private String username;
+
+    @Value("${app.datasource.replica.password:${spring.datasource.password:postgres}}")
+    private String password;
+
+    @Value("${app.datasource.replica.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    @Value("${app.datasource.replica.minimum-idle:2}")
+    private int minimumIdle;
+
+    @Value("${app.datasource.replica.connection-timeout-ms:3000}")
+    private long connectionTimeoutMs;
+
+    @Value("${app.datasource.replica.max-lag-seconds:5}")
+    private double maxLagSeconds;
+
+    @Value("${app.datasource.replica.lag-check-timeout-seconds:2}")
+    private int lagCheckTimeoutSeconds;
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    @PostConstruct
+    void init() {
+        int index = 1;
+        for (String url : urls.split(",")) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + index++);
+            config.setJdbcUrl(url.trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(maximumPoolSize);
+            config.setMinimumIdle(minimumIdle);
+            config.setConnectionTimeout(connectionTimeoutMs);
+            config.setReadOnly(true);
+            // 起動時にレプリカが停止していてもアプリケーションは起動し、プライマリで処理を続ける
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new Replica(config.getPoolName(), new HikariDataSource(config)));
+        }
+        if (!replicas.isEmpty()) {
+            log.info("Configured {} read replica(s); max lag {} s", replicas.size(), maxLagSeconds);
+            checkLag();
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    /**
+     * レプリカが設定されているかどうかを返す
+     *
+     * @return 1つ以上設定されている場合true
+     */
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * 利用可能なレプリカのコネクションを順番に取得する
+     * 取得に失敗したレプリカは次回の遅延計測まで振り分け対象から外す
+     *
+     * @return コネクション（利用できるレプリカがない場合はnull）
+     */
+    public Connection getConnection() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextIndex.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.available = false;
+                log.warn("Read replica {} is unavailable; excluding it until the next lag check: {}",
+                        replica.name, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 各レプリカの適用遅延を計測し、振り分け対象を更新する
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(lagCheckTimeoutSeconds);
+                try (ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                    rs.next();
+                    replica.lagSeconds = rs.getDouble(1);
+                }
+                boolean available = replica.lagSeconds <= maxLagSeconds;
+                if (available != replica.available) {
+                    log.warn("Read replica {} is now {} (lag {} s)", replica.name,
+                            available ? "in service" : "out of service", replica.lagSeconds);
+                }
+                replica.available = available;
+            } catch (SQLException e) {
+                if (replica.available) {
+                    log.warn("Read replica {} failed the lag check: {}", replica.name, e.getMessage());
+                }
+                replica.available = false;
+                replica.lagSeconds = -1;
+            }
+        }
+    }
+
+    /**
+     * 各レプリカの状態を取得する
+     *
+     * @return レプリカ名ごとの振り分け可否と適用遅延（秒、計測できない場合は-1）
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("available", replica.available);
+            entry.put("lagSeconds", replica.lagSeconds);
+            status.put(replica.name, entry);
+        }
+        return status;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean available;
+        private volatile double lagSeconds = -1;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
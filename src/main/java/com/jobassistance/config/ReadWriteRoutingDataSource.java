@@ -0,0 +1,76 @@
+package com.jobassistance.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * サービス層の読み取り専用トランザクションを読み取りレプリカに振り分けるDataSource
+ *
+ * 対象はサービスクラスで宣言した @Transactional(readOnly = true) のメソッドと、名前にサービスクラスを指定した
+ * 読み取り専用のTransactionTemplateのみとする。Spring Dataのリポジトリが既定で付与する読み取り専用トランザクションは
+ * 直前の書き込みを読めるようプライマリで処理する
+ * トランザクションの開始時点では読み取り専用の指定がまだ登録されていないため、
+ * LazyConnectionDataSourceProxyの内側に置き、最初のSQL実行時に振り分け先を決定する
+ * Open Session in Viewが有効な場合、最初のトランザクションで選んだコネクションをリクエストの終わりまで使い続けるため、
+ * レプリカを使用するサービスメソッドは参照のみのエンドポイントから呼び出すこと
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReadReplicaRouter replicaRouter;
+    private final String transactionPrefix;
+
+    /**
+     * @param primary プライマリのDataSource
+     * @param replicaRouter 読み取りレプリカのルーター
+     * @param transactionPrefix レプリカに振り分けるトランザクション名の接頭辞（サービスクラスのパッケージ名）
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, ReadReplicaRouter replicaRouter, String transactionPrefix) {
+        this.primary = primary;
+        this.replicaRouter = replicaRouter;
+        this.transactionPrefix = transactionPrefix;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (isReplicaTransaction()) {
+            Connection connection = replicaRouter.getConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    private boolean isReplicaTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return name != null && name.startsWith(transactionPrefix);
+    }
+}
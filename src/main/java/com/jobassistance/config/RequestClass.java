@@ -0,0 +1,76 @@
+package com.jobassistance.config;
+
+/**
+ * 受付制御のリクエスト区分
+ * 定義順に既定のパスと照合し、最初に一致した区分とする（いずれにも一致しない場合はINTERACTIVE）
+ */
+public enum RequestClass {
+
+    /** Unityシミュレーターからの操作ログ・セッション操作（最優先で保護する） */
+    LIVE_TELEMETRY("live-telemetry", 64, 16, 200, 1,
+            "/api/unity/**"),
+
+    /**
+     * 一括インポート・証拠エクスポート・訓練メニューの一括割り当て・一括実行
+     * （一括実行の各操作は受付制御を通らないため、一括実行全体をこの区分で制限する）
+     */
+    BULK("bulk", 2, 1, 4, 30,
+            "/api/import/**", "/api/evidence-exports/**", "/api/workers/*/evidence-report/export",
+            "/api/training-menus/*/assignments", "/api/batch"),
+
+    /** 管理者向け集計・レポート・分析 */
+    REPORTING("reporting", 4, 1, 16, 5,
+            "/api/admin/**", "/api/reports/**", "/api/workers/*/reports/**", "/api/simulator-analytics/**",
+            "/api/growth-trends/**", "/api/workers/*/dashboard/**", "/api/workers/*/evidence-report/**",
+            "/api/replay/**"),
+
+    /** 画面からの通常の操作 */
+    INTERACTIVE("interactive", 32, 4, 200, 2,
+            "/api/**");
+
+    private final String key;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int retryAfterSeconds;
+    private final String[] defaultPaths;
+
+    RequestClass(String key, int initialLimit, int minLimit, int maxLimit, int retryAfterSeconds,
+            String... defaultPaths) {
+        this.key = key;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.defaultPaths = defaultPaths;
+    }
+
+    /**
+     * 設定項目名・メトリクスのタグに使用するキーを取得する
+     *
+     * @return キー（live-telemetry など）
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public String[] getDefaultPaths() {
+        return defaultPaths;
+    }
+}
@@ -0,0 +1,98 @@
+package com.jobassistance.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * リクエストごとのSQL文発行数・実行時間を記録するフィルター
+ * URIテンプレート単位で集計し、コネクションを多く消費しているエンドポイントを特定できるようにする
+ * 予算（SQL文の数・SQL実行時間・処理時間）を超えたリクエストは、時間のかかったSQLの正規形とともにログに出力する
+ */
+@Slf4j
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    /** URIテンプレートが解決されなかった場合のタグ値 */
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.sql.budget.max-statements:50}")
+    private int maxStatements;
+
+    @Value("${app.sql.budget.max-sql-time-ms:500}")
+    private long maxSqlTimeMs;
+
+    @Value("${app.sql.budget.max-request-time-ms:2000}")
+    private long maxRequestTimeMs;
+
+    @Value("${app.sql.budget.log-fingerprints:5}")
+    private int logFingerprints;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats stats = RequestSqlStats.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+            record(request.getMethod(), uri, stats);
+            checkBudget(request, uri, response.getStatus(), stats);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private void record(String method, String uri, RequestSqlStats stats) {
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("1リクエストあたりのSQL文発行数")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("http.server.requests.sql.time")
+                .description("1リクエストあたりのSQL実行時間")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getSqlNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 予算を超えたリクエストをログに出力する
+     * 予算内のリクエストでは比較のみ行い、SQL文の正規化は行わない
+     */
+    private void checkBudget(HttpServletRequest request, String uri, int status, RequestSqlStats stats) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(stats.getElapsedNanos());
+        long sqlTimeMs = TimeUnit.NANOSECONDS.toMillis(stats.getSqlNanos());
+        if (stats.getStatements() <= maxStatements && sqlTimeMs <= maxSqlTimeMs && elapsedMs <= maxRequestTimeMs) {
+            return;
+        }
+        log.warn("Request over budget: {} {} ({}) status={} elapsed={}ms statements={} sqlTime={}ms top={}",
+                request.getMethod(), request.getRequestURI(), uri, status, elapsedMs,
+                stats.getStatements(), sqlTimeMs, stats.topFingerprints(logFingerprints));
+    }
+}
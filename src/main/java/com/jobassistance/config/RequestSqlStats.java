@@ -0,0 +1,140 @@
+package com.jobassistance.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 1リクエスト内で発行されたSQL文の件数・実行時間の集計
+ * 計測はリクエストを処理するスレッドに紐づけ、計測中でないスレッドでは何もしない
+ * SQL文ごとの集計は文字列をキーに件数と時間を加算するだけにとどめ、正規化はログ出力時のみ行う
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private final long startedAt = System.nanoTime();
+
+    private final Map<String, long[]> bySql = new HashMap<>();
+
+    private long[] executing;
+
+    private long executeStartedAt;
+
+    private int statements;
+
+    private long sqlNanos;
+
+    private RequestSqlStats() {
+    }
+
+    /**
+     * 現在のスレッドで計測を開始する
+     *
+     * @return 計測オブジェクト
+     */
+    public static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 現在のスレッドの計測を終了する
+     *
+     * @return 計測結果（計測中でなかった場合はnull）
+     */
+    public static RequestSqlStats end() {
+        RequestSqlStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * 現在のスレッドの計測オブジェクトを取得する
+     *
+     * @return 計測オブジェクト（計測中でない場合はnull）
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    void onStatement(String sql) {
+        statements++;
+        executing = bySql.computeIfAbsent(sql, key -> new long[2]);
+        executing[0]++;
+    }
+
+    void onExecuteStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    void onExecuteEnd() {
+        long elapsed = System.nanoTime() - executeStartedAt;
+        sqlNanos += elapsed;
+        if (executing != null) {
+            executing[1] += elapsed;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getSqlNanos() {
+        return sqlNanos;
+    }
+
+    public double getSqlMillis() {
+        return sqlNanos / 1_000_000.0;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * 実行時間の長いSQL文を正規化した形式で取得する
+     * リテラルとIN句のパラメーター数を畳み込み、同じ形のSQLを1つにまとめる
+     *
+     * @param limit 取得件数
+     * @return 「件数 x 合計時間: SQL」形式の文字列
+     */
+    public List<String> topFingerprints(int limit) {
+        Map<String, long[]> merged = new HashMap<>();
+        for (Map.Entry<String, long[]> entry : bySql.entrySet()) {
+            long[] total = merged.computeIfAbsent(fingerprint(entry.getKey()), key -> new long[2]);
+            total[0] += entry.getValue()[0];
+            total[1] += entry.getValue()[1];
+        }
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]));
+
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            result.add(String.format("%dx %.1fms: %s",
+                    entry.getValue()[0], entry.getValue()[1] / 1_000_000.0, entry.getKey()));
+        }
+        return result;
+    }
+
+    /**
+     * SQL文を正規化する
+     *
+     * @param sql SQL文
+     * @return 正規化したSQL文
+     */
+    static String fingerprint(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+    }
+}
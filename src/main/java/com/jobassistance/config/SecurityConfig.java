@@ -1,35 +1,104 @@
 package com.jobassistance.config;
 
+import com.jobassistance.service.AccessTokenService;
+import com.jobassistance.service.IdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.util.List;
 
 /**
  * セキュリティ設定クラス
- * 一時的に認証を無効化
+ * アクセストークン（Bearer）による認証を行う
+ * 認証は既定で必須とし、app.security.enforce-auth=false（開発用のdevプロファイル）の場合のみ
+ * トークンを検証したうえでリクエストを許可する。ユーザー管理・一括取り込み・証拠エクスポート・集計の再構築などの
+ * 管理用のパスは、enforce-authの設定によらず常にロールを確認する
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /** 認証なしでアクセスできるパス */
+    private static final String[] PUBLIC_PATHS = {
+            "/api/auth/login", "/api/auth/refresh", "/api/auth/logout", "/api/auth/csrf-token",
+            "/api/health", "/api/health/**", "/actuator/health/**", "/actuator/prometheus",
+            "/api-docs/**", "/swagger-ui/**", "/swagger-ui.html"
+    };
+
+    /** 管理者のみが実行できる一括処理・保守用・ユーザー管理のパス */
+    private static final String[] ADMINISTRATOR_PATHS = {
+            "/api/import/**", "/api/users", "/api/users/**"
+    };
+
+    /** 管理者・監査者のみが実行できる証拠エクスポートのパス */
+    private static final String[] EVIDENCE_EXPORT_PATHS = {
+            "/api/evidence-exports", "/api/evidence-exports/**", "/api/workers/*/evidence-report/export"
+    };
+
+    /** 管理者のみが実行できる集計の再構築のパス（POSTのみ） */
+    private static final String[] ADMINISTRATOR_POST_PATHS = {
+            "/api/growth-trends/rebuild", "/api/simulator-analytics/refresh"
+    };
+
     /**
      * セキュリティフィルターチェーンを設定する
-     * CSRF保護を無効化し、すべてのリクエストを許可する
-     * 
+     * CSRF保護とセッションを無効化し、アクセストークン検証フィルター・テナント設定フィルター・冪等キーフィルターを追加する
+     *
      * @param http HttpSecurityオブジェクト
+     * @param accessTokenService アクセストークンサービス
+     * @param idempotencyService 冪等キーサービス
+     * @param enforceAuth 認証を必須にするかどうか
+     * @param tenantHeaderEnabled 管理者がX-Tenant-Idヘッダーでテナントを指定できるかどうか
+     * @param idempotencyPaths Idempotency-Keyヘッダーで重複排除するパスのパターン
      * @return 設定されたSecurityFilterChain
      * @throws Exception 設定エラー
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AccessTokenService accessTokenService,
+                                                   IdempotencyService idempotencyService,
+                                                   @Value("${app.security.enforce-auth:true}") boolean enforceAuth,
+                                                   @Value("${app.tenancy.header-enabled:false}") boolean tenantHeaderEnabled,
+                                                   @Value("${app.idempotency.paths:}") String[] idempotencyPaths)
+            throws Exception {
         http
             .csrf(csrf -> csrf.disable())
-            .authorizeHttpRequests(auth -> auth
-                .anyRequest().permitAll()
-            );
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(new TokenAuthenticationFilter(accessTokenService),
+                    UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(new TenantContextFilter(tenantHeaderEnabled), TokenAuthenticationFilter.class)
+            // 認可で拒否された要求の応答を保存しないよう、冪等キーの処理は認可の後に行う
+            .addFilterAfter(new IdempotencyFilter(idempotencyService, List.of(idempotencyPaths)),
+                    AuthorizationFilter.class)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint((request, response, e) -> {
+                    response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                    response.getWriter().write("{\"success\":false,\"error\":\"Authentication required\"}");
+                }));
+        http.authorizeHttpRequests(auth -> {
+            auth
+                .requestMatchers(PUBLIC_PATHS).permitAll()
+                .requestMatchers(ADMINISTRATOR_PATHS).hasRole("ADMINISTRATOR")
+                .requestMatchers(HttpMethod.POST, ADMINISTRATOR_POST_PATHS).hasRole("ADMINISTRATOR")
+                .requestMatchers(EVIDENCE_EXPORT_PATHS).hasAnyRole("ADMINISTRATOR", "AUDITOR");
+            if (enforceAuth) {
+                auth
+                    .requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMINISTRATOR")
+                    .anyRequest().authenticated();
+            } else {
+                auth.anyRequest().permitAll();
+            }
+        });
         return http.build();
     }
 }
-
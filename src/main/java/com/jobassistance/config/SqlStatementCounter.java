@@ -0,0 +1,134 @@
+package com.jobassistance.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * JDBCのStatementをラップし、実行されたSQL文の件数・実行時間をリクエスト単位で数える
+ * TenantRoutingDataSourceのコネクションのプロキシから呼び出すため、HibernateとJdbcTemplateのどちらの経路のSQLも数える
+ * 計測中でないスレッドで作成されたStatementはラップせず、そのまま返す
+ */
+final class SqlStatementCounter {
+
+    /** SQL文を実行するStatementのメソッド（バッチは1回の実行として数える） */
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    /** ResultSetを返すStatementのメソッド */
+    private static final Set<String> RESULT_SET_METHODS = Set.of("executeQuery", "getResultSet", "getGeneratedKeys");
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Connectionのメソッドの戻り値がStatementであれば、計測用のプロキシでラップする
+     *
+     * @param connection 呼び出し元に渡しているコネクション（Statement#getConnectionで返す）
+     * @param args 呼び出し時の引数
+     * @param result 戻り値
+     * @return 計測用のプロキシ、またはそのままの戻り値
+     */
+    static Object wrapIfStatement(Connection connection, Object[] args, Object result) {
+        if (!(result instanceof Statement statement) || RequestSqlStats.current() == null) {
+            return result;
+        }
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        // prepareStatement・prepareCallは第1引数のSQL文、createStatementは実行時の引数のSQL文を記録する
+        String preparedSql = args != null && args.length > 0 && args[0] instanceof String sql ? sql : null;
+        return proxy(type, statement, new StatementHandler(statement, connection, preparedSql));
+    }
+
+    /**
+     * Statementの呼び出しを中継し、SQL文の実行を計測する
+     */
+    private static final class StatementHandler implements Handler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final String preparedSql;
+        private String batchSql;
+
+        private StatementHandler(Statement target, Connection connection, String preparedSql) {
+            this.target = target;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            String argumentSql = args != null && args.length > 0 && args[0] instanceof String sql ? sql : null;
+            if (name.equals("addBatch") && argumentSql != null && batchSql == null) {
+                batchSql = argumentSql;
+            }
+            Object value;
+            if (EXECUTE_METHODS.contains(name)) {
+                value = execute(target, method, args,
+                        argumentSql != null ? argumentSql : preparedSql != null ? preparedSql : batchSql);
+            } else {
+                value = invoke(target, method, args);
+            }
+            if (name.equals("executeBatch") || name.equals("executeLargeBatch") || name.equals("clearBatch")) {
+                batchSql = null;
+            }
+            if (value instanceof ResultSet resultSet && RESULT_SET_METHODS.contains(name)) {
+                // ResultSet#getStatementでもプロキシを返し、Hibernateのリソース管理と対応を合わせる
+                return proxy(ResultSet.class, resultSet, (resultSetProxy, resultSetMethod, resultSetArgs) ->
+                        resultSetMethod.getName().equals("getStatement")
+                                ? proxy : invoke(resultSet, resultSetMethod, resultSetArgs));
+            }
+            return value;
+        }
+    }
+
+    private static Object execute(Statement statement, Method method, Object[] args, String sql) throws Throwable {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null) {
+            return invoke(statement, method, args);
+        }
+        stats.onStatement(sql != null ? sql : "(unknown)");
+        stats.onExecuteStart();
+        try {
+            return invoke(statement, method, args);
+        } finally {
+            stats.onExecuteEnd();
+        }
+    }
+
+    /**
+     * 同一性で比較するプロキシを作成する（HibernateはStatement・ResultSetをHashMapのキーとして管理するため）
+     */
+    private static Object proxy(Class<?> type, Object target, Handler handler) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "SqlCounting[" + target + "]";
+                    default -> handler.handle(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+}
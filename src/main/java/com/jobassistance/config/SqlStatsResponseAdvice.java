@@ -0,0 +1,44 @@
+package com.jobassistance.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * レスポンスヘッダーにリクエスト内のSQL文発行数・実行時間を付与する
+ * 本文の書き込み前に付与するため、シリアライズ中の遅延読み込みによるSQLは含まれない（ログとメトリクスには含まれる）
+ */
+@ControllerAdvice
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_STATEMENTS = "X-Sql-Statements";
+    public static final String HEADER_SQL_TIME = "X-Sql-Time-Ms";
+
+    @Value("${app.sql.response-headers.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            String sqlTime = String.format("%.1f", stats.getSqlMillis());
+            response.getHeaders().set(HEADER_STATEMENTS, String.valueOf(stats.getStatements()));
+            response.getHeaders().set(HEADER_SQL_TIME, sqlTime);
+            response.getHeaders().add("Server-Timing",
+                    "db;dur=" + sqlTime + ";desc=\"" + stats.getStatements() + " statements\"");
+        }
+        return body;
+    }
+}
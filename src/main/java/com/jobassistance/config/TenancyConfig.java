@@ -0,0 +1,59 @@
+package com.jobassistance.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+
+/**
+ * マルチテナント設定クラス
+ *
+ * app.tenancy.strategy で方式を切り替える
+ * - discriminator: 全テナントで同じテーブルを共有し、就労者とその子エンティティのtenant_id列で分離する（既定）
+ * - schema: テナントごとのスキーマに切り替える（スキーマとテーブルは事前に作成しておくこと）。tenant_id列も併せて設定される
+ * いずれの方式でもコネクションプールは共有し、テナントごとの同時使用数に上限を設ける（DataSourceConfig）
+ */
+@Configuration
+public class TenancyConfig {
+
+    public static final String STRATEGY_DISCRIMINATOR = "discriminator";
+    public static final String STRATEGY_SCHEMA = "schema";
+
+    /**
+     * Hibernateにテナントのリゾルバーを登録する
+     * スキーマ分離方式の場合は、テナントのスキーマのコネクションを提供するプロバイダーも登録する
+     *
+     * @param dataSource テナントごとのコネクション数を制限するDataSource
+     * @param strategy テナント分離方式
+     * @return Hibernateプロパティのカスタマイザー
+     */
+    @Bean
+    public HibernatePropertiesCustomizer tenancyHibernateCustomizer(DataSource dataSource,
+            @Value("${app.tenancy.strategy:discriminator}") String strategy) {
+        return properties -> {
+            properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new TenantIdentifierResolver());
+            if (isSchemaStrategy(strategy)) {
+                properties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+                        new SchemaPerTenantConnectionProvider(dataSource));
+            }
+        };
+    }
+
+    /**
+     * テナント分離方式がスキーマ分離かどうかを判定する
+     *
+     * @param strategy テナント分離方式
+     * @return スキーマ分離方式の場合true
+     */
+    static boolean isSchemaStrategy(String strategy) {
+        String normalized = strategy.trim().toLowerCase(Locale.ROOT);
+        if (!STRATEGY_SCHEMA.equals(normalized) && !STRATEGY_DISCRIMINATOR.equals(normalized)) {
+            throw new IllegalStateException("Unknown app.tenancy.strategy: " + strategy);
+        }
+        return STRATEGY_SCHEMA.equals(normalized);
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobassistance.config;
+
+import java.util.regex.Pattern;
+
+/**
+ * 現在のスレッドで処理中のテナント（派遣機関）を保持する
+ * リクエストではTenantContextFilterが設定し、バックグラウンドジョブにはTenantTaskDecoratorが引き継ぐ
+ * 設定されていないスレッド（定期実行処理など）はシステム処理として扱う
+ */
+public final class TenantContext {
+
+    /** テナントを指定しないリクエスト・既存データのテナントID */
+    public static final String DEFAULT_TENANT = "default";
+
+    /** スキーマ名にも使用するため、英小文字・数字・ハイフン・アンダースコアのみ許可する */
+    private static final Pattern TENANT_ID_PATTERN = Pattern.compile("[a-z0-9][a-z0-9_-]{0,49}");
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * 現在のスレッドのテナントを設定する
+     *
+     * @param tenantId テナントID
+     */
+    public static void set(String tenantId) {
+        if (!isValid(tenantId)) {
+            throw new IllegalArgumentException("Invalid tenant id: " + tenantId);
+        }
+        CURRENT.set(tenantId);
+    }
+
+    /**
+     * 現在のスレッドのテナントを取得する
+     *
+     * @return テナントID（設定されていない場合はnull）
+     */
+    public static String get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 現在のスレッドのテナントを取得する（設定されていない場合は既定のテナント）
+     *
+     * @return テナントID
+     */
+    public static String resolve() {
+        String tenantId = CURRENT.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+
+    /**
+     * 現在のスレッドのテナントを解除する
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * テナントIDの形式が正しいかを判定する
+     *
+     * @param tenantId テナントID
+     * @return 正しい形式であればtrue
+     */
+    public static boolean isValid(String tenantId) {
+        return tenantId != null && TENANT_ID_PATTERN.matcher(tenantId).matches();
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobassistance.config;
+
+import com.jobassistance.service.AccessTokenClaims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * リクエストのテナントを決定し、処理中のスレッドに設定するフィルター
+ * アクセストークンがある場合はトークンのテナントを使用する。X-Tenant-Idヘッダーは、ヘッダーの利用が許可されていて
+ * かつ管理者のトークンの場合に限り、テナントを切り替えて運用作業を行うために使用する
+ * トークンがない場合はヘッダーを無視し、既定のテナントを使用する
+ */
+public class TenantContextFilter extends OncePerRequestFilter {
+
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
+    private final boolean headerEnabled;
+
+    public TenantContextFilter(boolean headerEnabled) {
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String tenantId = resolveTenant(request);
+        if (!TenantContext.isValid(tenantId)) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"success\":false,\"error\":\"Invalid tenant id\"}");
+            return;
+        }
+        TenantContext.set(tenantId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private String resolveTenant(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!(authentication != null && authentication.getPrincipal() instanceof AccessTokenClaims claims)) {
+            // 未認証のリクエストにはヘッダーでテナントを選ばせない
+            return TenantContext.DEFAULT_TENANT;
+        }
+        String header = request.getHeader(TENANT_HEADER);
+        if (headerEnabled && header != null && !header.isBlank()
+                && AccessTokenClaims.ROLE_ADMINISTRATOR.equals(claims.getRole())) {
+            return header.trim();
+        }
+        return claims.getTenantId();
+    }
+}
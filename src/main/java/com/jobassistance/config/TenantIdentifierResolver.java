@@ -0,0 +1,23 @@
+package com.jobassistance.config;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Hibernateに現在のテナントを通知するリゾルバー
+ * 就労者とその子エンティティの@TenantId列は、ここで返すテナントIDで保存・絞り込みされる
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return TenantContext.resolve();
+    }
+
+    /**
+     * 同じスレッドでテナントが切り替わった場合に、以前のテナントのセッションを使い続けないようにする
+     */
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+package com.jobassistance.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * テナントごとにコネクションの同時使用数を制限するDataSource
+ *
+ * 1つのコネクションプールを共有したまま、テナント単位のセマフォで同時に貸し出すコネクション数の上限を設ける。
+ * あるテナントの一括インポートがコネクションを使い切っても、他のテナントの訓練セッションは残りの枠で処理できる。
+ * スキーマ分離方式では、貸し出すコネクションの既定スキーマをテナントのスキーマに切り替える
+ * （プールへの返却時にHikariが元のスキーマに戻す）
+ * テナントが設定されていないスレッド（定期実行処理など）はシステム用の枠を使用する
+ */
+@Slf4j
+public class TenantRoutingDataSource extends DelegatingDataSource {
+
+    /** テナントが設定されていないスレッドの枠のキー */
+    static final String SYSTEM_QUOTA_KEY = "(system)";
+
+    private final boolean schemaPerTenant;
+    private final String defaultSchema;
+    private final String schemaPrefix;
+    private final int defaultQuota;
+    private final Map<String, Integer> quotaOverrides;
+    private final long acquireTimeoutMs;
+
+    private final ConcurrentHashMap<String, Semaphore> quotas = new ConcurrentHashMap<>();
+
+    /**
+     * @param target 共有のコネクションプール
+     * @param schemaPerTenant スキーマ分離方式の場合true
+     * @param defaultSchema 既定のテナント・システム処理で使用するスキーマ
+     * @param schemaPrefix テナントのスキーマ名の接頭辞
+     * @param defaultQuota テナントあたりのコネクション数の上限
+     * @param quotaOverrides テナントごとの上限
+     * @param acquireTimeoutMs 枠が空くまでの最大待機時間（ミリ秒）
+     */
+    public TenantRoutingDataSource(DataSource target, boolean schemaPerTenant, String defaultSchema,
+            String schemaPrefix, int defaultQuota, Map<String, Integer> quotaOverrides, long acquireTimeoutMs) {
+        super(target);
+        this.schemaPerTenant = schemaPerTenant;
+        this.defaultSchema = defaultSchema;
+        this.schemaPrefix = schemaPrefix;
+        this.defaultQuota = defaultQuota;
+        this.quotaOverrides = quotaOverrides;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(TenantContext.get());
+    }
+
+    /**
+     * 指定したテナントの枠でコネクションを取得する
+     *
+     * @param tenantId テナントID（nullの場合はシステム用の枠）
+     * @return コネクション（closeで枠を返却する）
+     * @throws SQLException 枠が空かない、またはプールからコネクションを取得できない場合
+     */
+    public Connection getConnection(String tenantId) throws SQLException {
+        String quotaKey = tenantId != null ? tenantId : SYSTEM_QUOTA_KEY;
+        Semaphore permits = quotas.computeIfAbsent(quotaKey,
+                key -> new Semaphore(quotaOverrides.getOrDefault(key, defaultQuota)));
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Tenant {} reached its connection quota", quotaKey);
+                throw new SQLTransientConnectionException(
+                        "Connection quota for tenant " + quotaKey + " is exhausted");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+
+        try {
+            Connection connection = obtainTargetDataSource().getConnection();
+            if (schemaPerTenant) {
+                connection.setSchema(schemaFor(tenantId));
+            }
+            return releasing(connection, permits);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * テナントが現在使用しているコネクション数を取得する
+     *
+     * @return テナントIDごとの使用数
+     */
+    public Map<String, Integer> getActiveConnections() {
+        Map<String, Integer> active = new ConcurrentHashMap<>();
+        quotas.forEach((key, permits) ->
+                active.put(key, quotaOverrides.getOrDefault(key, defaultQuota) - permits.availablePermits()));
+        return active;
+    }
+
+    /**
+     * テナントのスキーマ名を取得する
+     *
+     * @param tenantId テナントID
+     * @return スキーマ名
+     */
+    String schemaFor(String tenantId) {
+        if (tenantId == null || TenantContext.DEFAULT_TENANT.equals(tenantId)) {
+            return defaultSchema;
+        }
+        return schemaPrefix + tenantId.replace('-', '_').toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * closeで枠を1回だけ返却するコネクションのプロキシを作成する
+     * 作成したStatementはリクエスト単位のSQL文の計数・計時の対象とする（SqlStatementCounter）
+     */
+    private static Connection releasing(Connection target, Semaphore permits) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            try {
+                                target.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permits.release();
+                                }
+                            }
+                            return null;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "TenantQuotaConnection[" + target + "]";
+                        default:
+                            try {
+                                return SqlStatementCounter.wrapIfStatement((Connection) proxy, args,
+                                        method.invoke(target, args));
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+}
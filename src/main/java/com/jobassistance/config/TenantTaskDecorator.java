@@ -0,0 +1,32 @@
+package com.jobassistance.config;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 投入元スレッドのテナントをExecutorのスレッドに引き継ぐTaskDecorator
+ * 一括インポートや証拠出力のジョブが、投入したテナントのデータとコネクション枠で実行されるようにする
+ */
+public class TenantTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String tenantId = TenantContext.get();
+        return () -> {
+            String previous = TenantContext.get();
+            try {
+                if (tenantId != null) {
+                    TenantContext.set(tenantId);
+                } else {
+                    TenantContext.clear();
+                }
+                runnable.run();
+            } finally {
+                if (previous != null) {
+                    TenantContext.set(previous);
+                } else {
+                    TenantContext.clear();
+                }
+            }
+        };
+    }
+}
@@ -1,7 +1,9 @@
 package com.jobassistance.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -10,6 +12,14 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    /** 就労者単位のアクセス制御 */
+    @Autowired
+    private WorkerAccessInterceptor workerAccessInterceptor;
+
+    /** 条件付きGET（ETag） */
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
     /**
      * CORS設定を追加する
      * すべてのオリジンからのAPIアクセスを許可する
@@ -22,7 +32,23 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*") // 完全公開モード: すべてのオリジンを許可（allowCredentialsと併用可能）
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "Last-Modified", "Retry-After", IdempotencyFilter.REPLAYED_HEADER)
                 .allowCredentials(true)
                 .maxAge(86400); // 24時間
     }
+
+    /**
+     * インターセプターを追加する
+     * 就労者IDを含むAPIに就労者単位のアクセス制御を適用する
+     * 条件付きGETはアクセス制御の後に判定し、アクセスできない就労者のETagを返さないようにする
+     *
+     * @param registry インターセプターレジストリ
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(workerAccessInterceptor)
+                .addPathPatterns("/api/workers/**", "/api/growth-trends/workers/**");
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/workers/**", "/api/training-menus/**", "/api/trainings/**");
+    }
 }
@@ -0,0 +1,57 @@
+package com.jobassistance.config;
+
+import com.jobassistance.service.AccessTokenClaims;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 就労者単位のアクセス範囲を判定するクラス
+ * 研修生（trainee）は自分に紐づく就労者のデータのみ、管理者・監査者はすべての就労者のデータにアクセスできる
+ * 判定はアクセストークンの内容のみで行い、データベースにはアクセスしない
+ */
+@Component
+public class WorkerAccessGuard {
+
+    /**
+     * 現在のユーザーのアクセス範囲が1人の就労者に制限されているかどうかを返す
+     * 未認証の場合（認証必須化前の移行期間）は制限しない
+     *
+     * @return 制限されている場合true
+     */
+    public boolean isRestricted() {
+        AccessTokenClaims claims = currentClaims();
+        return claims != null && AccessTokenClaims.ROLE_TRAINEE.equals(claims.getRole());
+    }
+
+    /**
+     * アクセス範囲が制限されている場合の就労者IDを取得する
+     *
+     * @return 就労者ID（制限されていない場合、または就労者が紐づいていない場合はnull）
+     */
+    public Long getRestrictedWorkerId() {
+        return isRestricted() ? currentClaims().getWorkerId() : null;
+    }
+
+    /**
+     * 指定された就労者のデータにアクセスできるかどうかを判定する
+     *
+     * @param workerId 就労者ID
+     * @return アクセスできる場合true
+     */
+    public boolean canAccess(Long workerId) {
+        if (!isRestricted()) {
+            return true;
+        }
+        Long ownWorkerId = currentClaims().getWorkerId();
+        return ownWorkerId != null && ownWorkerId.equals(workerId);
+    }
+
+    private static AccessTokenClaims currentClaims() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AccessTokenClaims claims) {
+            return claims;
+        }
+        return null;
+    }
+}
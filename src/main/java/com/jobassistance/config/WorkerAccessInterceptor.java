@@ -0,0 +1,63 @@
+package com.jobassistance.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * パスに就労者IDを含むAPIで、アクセス範囲外の就労者へのアクセスを拒否するインターセプター
+ * パス変数 workerId（/api/workers/{id} の場合は id）をアクセストークンの就労者IDと比較する
+ */
+@Component
+public class WorkerAccessInterceptor implements HandlerInterceptor {
+
+    private static final String WORKER_PATH_PREFIX = "/api/workers/{id}";
+
+    @Autowired
+    private WorkerAccessGuard workerAccessGuard;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (!workerAccessGuard.isRestricted()) {
+            return true;
+        }
+        Long workerId = resolveWorkerId(request);
+        if (workerId == null || workerAccessGuard.canAccess(workerId)) {
+            return true;
+        }
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"success\":false,\"error\":\"Access to this worker is not allowed\"}");
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long resolveWorkerId(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null) {
+            return null;
+        }
+        String value = variables.get("workerId");
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (value == null && pattern != null && pattern.toString().startsWith(WORKER_PATH_PREFIX)) {
+            value = variables.get("id");
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
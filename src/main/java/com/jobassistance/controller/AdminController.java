@@ -1,9 +1,6 @@
 package com.jobassistance.controller;
 
-import com.jobassistance.entity.Worker;
-import com.jobassistance.repository.WorkerRepository;
-import com.jobassistance.repository.TrainingSessionRepository;
-import com.jobassistance.repository.TrainingMenuRepository;
+import com.jobassistance.service.ReportingQueryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,17 +16,9 @@ import java.util.Map;
 @RequestMapping("/api/admin")
 public class AdminController {
 
-    /** 就労者リポジトリ */
+    /** レポート・ダッシュボード用の参照サービス */
     @Autowired
-    private WorkerRepository workerRepository;
-
-    /** 訓練セッションリポジトリ */
-    @Autowired
-    private TrainingSessionRepository trainingSessionRepository;
-
-    /** 訓練メニューリポジトリ */
-    @Autowired
-    private TrainingMenuRepository trainingMenuRepository;
+    private ReportingQueryService reportingQueryService;
 
     /**
      * 管理者用サマリー情報を取得する
@@ -40,16 +29,7 @@ public class AdminController {
     @GetMapping("/summary")
     public ResponseEntity<Map<String, Object>> getAdminSummary() {
         try {
-            long totalWorkers = workerRepository.count();
-            long totalTrainingSessions = trainingSessionRepository.count();
-            long totalTrainingMenus = trainingMenuRepository.count();
-            long activeTrainingMenus = trainingMenuRepository.findByIsActiveTrue().size();
-
-            Map<String, Object> summary = new HashMap<>();
-            summary.put("totalWorkers", totalWorkers);
-            summary.put("totalTrainingSessions", totalTrainingSessions);
-            summary.put("totalTrainingMenus", totalTrainingMenus);
-            summary.put("activeTrainingMenus", activeTrainingMenus);
+            Map<String, Object> summary = reportingQueryService.getAdminSummary();
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
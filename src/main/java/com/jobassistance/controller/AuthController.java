@@ -1,15 +1,20 @@
 package com.jobassistance.controller;
 
 import com.jobassistance.entity.User;
-import com.jobassistance.repository.UserRepository;
+import com.jobassistance.service.AccessTokenClaims;
+import com.jobassistance.service.AccessTokenService;
+import com.jobassistance.service.AuthenticationResult;
+import com.jobassistance.service.AuthenticationService;
+import com.jobassistance.service.RefreshTokenService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -21,21 +26,29 @@ import java.util.Optional;
 @RequestMapping("/api/auth")
 public class AuthController {
 
-    /** ユーザーリポジトリ */
+    /** ログイン認証サービス */
     @Autowired
-    private UserRepository userRepository;
+    private AuthenticationService authenticationService;
 
-    /** パスワードエンコーダー */
-    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    /** アクセストークンサービス */
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    /** リフレッシュトークンサービス */
+    @Autowired
+    private RefreshTokenService refreshTokenService;
 
     /**
      * ユーザーログインを処理する
+     * 試行回数の上限を超えた場合は429、パスワード照合が混雑している場合は503を返す
      *
-     * @param credentials ログイン認証情報（ユーザー名とパスワード）
+     * @param credentials ログイン認証情報（ユーザー名・パスワード、MFA有効時はmfaCode）
+     * @param request HTTPリクエスト（接続元IPアドレスの取得に使用）
      * @return ログイン結果を含むレスポンス
      */
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> credentials) {
+    public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> credentials,
+                                                     HttpServletRequest request) {
         try {
             String username = credentials.get("username");
             String password = credentials.get("password");
@@ -47,33 +60,53 @@ public class AuthController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
 
-            Optional<User> userOpt = userRepository.findByUsername(username);
-            if (!userOpt.isPresent()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("error", "Invalid username or password");
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-            }
-
-            User user = userOpt.get();
-            // パスワード検証（簡易版 - 本番環境では適切な実装が必要）
-            if (!user.getIsActive()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("error", "User account is inactive");
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            AuthenticationResult result = authenticationService.authenticate(username, password,
+                    credentials.get("mfaCode"), request.getRemoteAddr());
+            switch (result.getOutcome()) {
+                case RATE_LIMITED:
+                    return retryLater(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts", result);
+                case BUSY:
+                    return retryLater(HttpStatus.SERVICE_UNAVAILABLE, "Login is temporarily busy", result);
+                case INACTIVE: {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", false);
+                    response.put("error", "User account is inactive");
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+                }
+                case MFA_REQUIRED: {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", false);
+                    response.put("mfaRequired", true);
+                    response.put("error", "MFA code is required");
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+                }
+                case INVALID_MFA_CODE: {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", false);
+                    response.put("mfaRequired", true);
+                    response.put("error", "Invalid MFA code");
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+                }
+                case INVALID_CREDENTIALS: {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", false);
+                    response.put("error", "Invalid username or password");
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+                }
+                default:
+                    break;
             }
 
             // ログイン成功
-            user.setLastLogin(LocalDateTime.now());
-            userRepository.save(user);
-
+            User user = result.getUser();
             Map<String, Object> userData = new HashMap<>();
             userData.put("id", user.getId());
             userData.put("username", user.getUsername());
             userData.put("email", user.getEmail());
             userData.put("role", user.getRole());
+            userData.put("tenantId", user.getTenantId());
             userData.put("mfaEnabled", user.getMfaEnabled());
+            putTokens(userData, user, refreshTokenService.issue(user));
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -88,18 +121,75 @@ public class AuthController {
         }
     }
 
+    /**
+     * リフレッシュトークンを使用してアクセストークンを再発行する
+     * 使用したリフレッシュトークンは無効になり、新しいリフレッシュトークンを返す
+     *
+     * @param body リフレッシュトークン（refreshToken）
+     * @return 新しいトークンを含むレスポンス
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Object>> refresh(@RequestBody Map<String, String> body) {
+        try {
+            String refreshToken = body.get("refreshToken");
+            if (refreshToken == null || refreshToken.isBlank()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "refreshToken is required");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+
+            Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(refreshToken);
+            if (rotation.isEmpty()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Invalid or expired refresh token");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            }
+
+            Map<String, Object> tokens = new HashMap<>();
+            putTokens(tokens, rotation.get().user(), rotation.get().refreshToken());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", tokens);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 現在のユーザー情報を取得する
+     * アクセストークンの内容のみを返し、データベースにはアクセスしない
      *
      * @return 現在のユーザー情報を含むレスポンス
      */
     @GetMapping("/current")
     public ResponseEntity<Map<String, Object>> getCurrentUser() {
         try {
-            // 簡易版 - 本番環境では適切な認証実装が必要
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !(authentication.getPrincipal() instanceof AccessTokenClaims)) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Authentication required");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            }
+
+            AccessTokenClaims claims = (AccessTokenClaims) authentication.getPrincipal();
+            Map<String, Object> userData = new HashMap<>();
+            userData.put("id", claims.getUserId());
+            userData.put("username", claims.getUsername());
+            userData.put("role", claims.getRole());
+            userData.put("workerId", claims.getWorkerId());
+            userData.put("tenantId", claims.getTenantId());
+
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "Current user endpoint - authentication required");
+            response.put("data", userData);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
@@ -111,12 +201,18 @@ public class AuthController {
 
     /**
      * ユーザーログアウトを処理する
+     * リフレッシュトークンが指定された場合は、同じログインで発行されたリフレッシュトークンをすべて無効化する
+     * 発行済みのアクセストークンは有効期限まで有効なため、有効期間は短く設定すること
      *
+     * @param body リフレッシュトークン（refreshToken、任意）
      * @return ログアウト結果を含むレスポンス
      */
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, Object>> logout() {
+    public ResponseEntity<Map<String, Object>> logout(@RequestBody(required = false) Map<String, String> body) {
         try {
+            if (body != null && body.get("refreshToken") != null) {
+                refreshTokenService.revoke(body.get("refreshToken"));
+            }
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Logout successful");
@@ -128,4 +224,21 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    private void putTokens(Map<String, Object> data, User user, String refreshToken) {
+        data.put("accessToken", accessTokenService.issue(user));
+        data.put("refreshToken", refreshToken);
+        data.put("tokenType", "Bearer");
+        data.put("expiresIn", accessTokenService.getAccessTtlSeconds());
+    }
+
+    private ResponseEntity<Map<String, Object>> retryLater(HttpStatus status, String error,
+                                                           AuthenticationResult result) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("error", error);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(result.getRetryAfterSeconds()))
+                .body(response);
+    }
 }
@@ -0,0 +1,78 @@
+package com.jobassistance.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobassistance.dto.BatchRequest;
+import com.jobassistance.service.BatchRequestService;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 一括実行コントローラー
+ * 管理画面などで多数の小さな更新（割り当てのステータス変更など）を1回のリクエストでまとめて実行する
+ */
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    /** 一括実行サービス */
+    @Autowired
+    private BatchRequestService batchRequestService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 操作を指定順に実行する
+     * 結果はNDJSON（1行1結果）で完了した順に返し、最後の行に集計（atomic=true の場合は確定したかどうか）を返す
+     *
+     * @param batchRequest 一括実行リクエスト
+     * @param request HTTPリクエスト
+     * @param response HTTPレスポンス
+     * @return 入力エラーの場合のみレスポンス（結果を返した場合はnull）
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> execute(@RequestBody BatchRequest batchRequest,
+            HttpServletRequest request, HttpServletResponse response) {
+        try {
+            batchRequestService.validate(batchRequest);
+
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            ServletOutputStream out = response.getOutputStream();
+            batchRequestService.execute(request, response, batchRequest, line -> {
+                out.write(objectMapper.writeValueAsBytes(line));
+                out.write('\n');
+                // 操作が完了するたびに送信する
+                out.flush();
+            });
+            return null;
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (IOException e) {
+            // クライアントが切断した場合は返す先がない
+            return null;
+        } catch (Exception e) {
+            if (response.isCommitted()) {
+                return null;
+            }
+            response.reset();
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+}
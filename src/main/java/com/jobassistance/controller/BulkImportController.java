@@ -0,0 +1,142 @@
+package com.jobassistance.controller;
+
+import com.jobassistance.service.BulkImportJob;
+import com.jobassistance.service.BulkImportService;
+import com.jobassistance.service.BulkImportType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 一括インポートコントローラー
+ * 就労者・日本語能力・技能訓練をCSVファイルから一括登録する
+ */
+@RestController
+@RequestMapping("/api/import")
+public class BulkImportController {
+
+    /** 一括インポートサービス */
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    /**
+     * CSVファイルの一括インポートを開始する
+     * 処理はバックグラウンドで実行され、ジョブIDで進捗を確認できる
+     *
+     * @param type インポート種別（workers, japanese-proficiencies, skill-trainings）
+     * @param file CSVファイル（1行目はヘッダー）
+     * @return 登録されたジョブ情報を含むレスポンス
+     */
+    @PostMapping("/{type}")
+    public ResponseEntity<Map<String, Object>> startImport(@PathVariable String type,
+            @RequestParam("file") MultipartFile file) {
+        try {
+            Optional<BulkImportType> importType = BulkImportType.fromPathName(type);
+            if (!importType.isPresent()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Unsupported import type: " + type);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+
+            if (file.isEmpty()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "File is empty");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+
+            BulkImportJob job = bulkImportService.submit(importType.get(), file);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", toJobData(job));
+            response.put("message", "Import job accepted");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalStateException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * インポートジョブの進捗を取得する
+     *
+     * @param jobId ジョブID
+     * @return ジョブの進捗を含むレスポンス
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable String jobId) {
+        Optional<BulkImportJob> job = bulkImportService.getJob(jobId);
+        Map<String, Object> response = new HashMap<>();
+        if (job.isPresent()) {
+            response.put("success", true);
+            response.put("data", toJobData(job.get()));
+            return ResponseEntity.ok(response);
+        } else {
+            response.put("success", false);
+            response.put("error", "Import job not found");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+
+    /**
+     * インポートジョブの行エラーレポートを取得する
+     *
+     * @param jobId ジョブID
+     * @return 行エラー一覧を含むレスポンス
+     */
+    @GetMapping("/jobs/{jobId}/errors")
+    public ResponseEntity<Map<String, Object>> getJobErrors(@PathVariable String jobId) {
+        Optional<BulkImportJob> job = bulkImportService.getJob(jobId);
+        Map<String, Object> response = new HashMap<>();
+        if (job.isPresent()) {
+            response.put("success", true);
+            response.put("data", Map.of(
+                    "jobId", jobId,
+                    "errors", job.get().getErrors(),
+                    "droppedErrors", job.get().getDroppedErrors()));
+            return ResponseEntity.ok(response);
+        } else {
+            response.put("success", false);
+            response.put("error", "Import job not found");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+
+    /**
+     * ジョブの進捗をレスポンス用のMapに変換する
+     *
+     * @param job ジョブ
+     * @return 進捗情報
+     */
+    private Map<String, Object> toJobData(BulkImportJob job) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("jobId", job.getJobId());
+        data.put("type", job.getType().getPathName());
+        data.put("fileName", job.getFileName());
+        data.put("status", job.getStatus().name());
+        data.put("progressPercentage", job.getProgressPercentage());
+        data.put("processedRows", job.getProcessedRows());
+        data.put("importedRows", job.getImportedRows());
+        data.put("skippedRows", job.getSkippedRows());
+        data.put("failedRows", job.getFailedRows());
+        data.put("createdAt", job.getCreatedAt());
+        data.put("startedAt", job.getStartedAt());
+        data.put("finishedAt", job.getFinishedAt());
+        data.put("failureMessage", job.getFailureMessage());
+        return data;
+    }
+}
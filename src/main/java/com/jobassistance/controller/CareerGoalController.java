@@ -1,11 +1,15 @@
 package com.jobassistance.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jobassistance.entity.CareerGoal;
 import com.jobassistance.entity.Worker;
 import com.jobassistance.repository.CareerGoalRepository;
 import com.jobassistance.repository.WorkerRepository;
+import com.jobassistance.service.EntityPatchService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,6 +33,10 @@ public class CareerGoalController {
     @Autowired
     private WorkerRepository workerRepository;
 
+    /** 部分更新サービス */
+    @Autowired
+    private EntityPatchService entityPatchService;
+
     /**
      * 就労者のキャリア目標一覧を取得する
      * 
@@ -123,8 +131,8 @@ public class CareerGoalController {
     public ResponseEntity<Map<String, Object>> updateCareerGoal(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody Map<String, Object> goalData) {
         try {
-            Optional<CareerGoal> goal = goalRepository.findById(id);
-            if (!goal.isPresent() || !goal.get().getWorker().getId().equals(workerId)) {
+            Optional<CareerGoal> goal = goalRepository.findByIdAndWorkerId(id, workerId);
+            if (!goal.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Career goal not found");
@@ -161,6 +169,49 @@ public class CareerGoalController {
         }
     }
 
+    /**
+     * キャリア目標を部分更新する（JSON Merge Patch）
+     * 値が変わった列のみを更新する。"version" を指定した場合、現在のバージョンと異なれば409を返す
+     *
+     * @param workerId 就労者ID
+     * @param id キャリア目標ID
+     * @param patch JSON Merge Patch
+     * @return 更新されたキャリア目標を含むレスポンス
+     */
+    @PatchMapping(value = "/{id}", consumes = { EntityPatchService.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<Map<String, Object>> patchCareerGoal(@PathVariable Long workerId, @PathVariable Long id,
+            @RequestBody JsonNode patch) {
+        try {
+            Optional<CareerGoal> updated = entityPatchService.patch(
+                    () -> goalRepository.findByIdAndWorkerId(id, workerId), patch, true);
+            Map<String, Object> response = new HashMap<>();
+            if (updated.isPresent()) {
+                response.put("success", true);
+                response.put("data", updated.get());
+                return ResponseEntity.ok(response);
+            } else {
+                response.put("success", false);
+                response.put("error", "Career goal not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (OptimisticLockingFailureException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Career goal was modified by another request; reload and retry");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * キャリア目標を削除する
      * 
@@ -171,8 +222,8 @@ public class CareerGoalController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteCareerGoal(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<CareerGoal> goal = goalRepository.findById(id);
-            if (!goal.isPresent() || !goal.get().getWorker().getId().equals(workerId)) {
+            Optional<CareerGoal> goal = goalRepository.findByIdAndWorkerId(id, workerId);
+            if (!goal.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Career goal not found");
@@ -130,8 +130,8 @@ public class CareerPathController {
     public ResponseEntity<Map<String, Object>> updateCareerPath(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody Map<String, Object> careerPathData) {
         try {
-            Optional<CareerPath> careerPath = careerPathRepository.findById(id);
-            if (!careerPath.isPresent() || !careerPath.get().getWorker().getId().equals(workerId)) {
+            Optional<CareerPath> careerPath = careerPathRepository.findByIdAndWorkerId(id, workerId);
+            if (!careerPath.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Career path not found");
@@ -181,8 +181,8 @@ public class CareerPathController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteCareerPath(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<CareerPath> careerPath = careerPathRepository.findById(id);
-            if (!careerPath.isPresent() || !careerPath.get().getWorker().getId().equals(workerId)) {
+            Optional<CareerPath> careerPath = careerPathRepository.findByIdAndWorkerId(id, workerId);
+            if (!careerPath.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Career path not found");
@@ -133,8 +133,8 @@ public class ConstructionSimulatorTrainingController {
     @PutMapping("/{id}")
     public ResponseEntity<Map<String, Object>> updateTraining(@PathVariable Long workerId, @PathVariable Long id, @RequestBody Map<String, Object> trainingData) {
         try {
-            Optional<ConstructionSimulatorTraining> training = trainingRepository.findById(id);
-            if (!training.isPresent() || !training.get().getWorker().getId().equals(workerId)) {
+            Optional<ConstructionSimulatorTraining> training = trainingRepository.findByIdAndWorkerId(id, workerId);
+            if (!training.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Training not found");
@@ -175,8 +175,8 @@ public class ConstructionSimulatorTrainingController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteTraining(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<ConstructionSimulatorTraining> training = trainingRepository.findById(id);
-            if (!training.isPresent() || !training.get().getWorker().getId().equals(workerId)) {
+            Optional<ConstructionSimulatorTraining> training = trainingRepository.findByIdAndWorkerId(id, workerId);
+            if (!training.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Training not found");
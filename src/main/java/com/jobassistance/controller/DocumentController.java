@@ -100,9 +100,9 @@ public class DocumentController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getDocument(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<Document> document = documentRepository.findById(id);
+            Optional<Document> document = documentRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (document.isPresent() && document.get().getWorker().getId().equals(workerId)) {
+            if (document.isPresent()) {
                 response.put("success", true);
                 response.put("data", document.get());
                 return ResponseEntity.ok(response);
@@ -131,9 +131,9 @@ public class DocumentController {
     public ResponseEntity<Map<String, Object>> updateDocument(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody Document document) {
         try {
-            Optional<Document> existingDocument = documentRepository.findById(id);
+            Optional<Document> existingDocument = documentRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (existingDocument.isPresent() && existingDocument.get().getWorker().getId().equals(workerId)) {
+            if (existingDocument.isPresent()) {
                 document.setId(id);
                 document.setWorker(existingDocument.get().getWorker());
                 Document updatedDocument = documentRepository.save(document);
@@ -163,9 +163,9 @@ public class DocumentController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteDocument(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<Document> document = documentRepository.findById(id);
+            Optional<Document> document = documentRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (document.isPresent() && document.get().getWorker().getId().equals(workerId)) {
+            if (document.isPresent()) {
                 documentRepository.deleteById(id);
                 response.put("success", true);
                 response.put("message", "Document deleted successfully");
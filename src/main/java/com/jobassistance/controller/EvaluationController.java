@@ -87,9 +87,9 @@ public class EvaluationController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getEvaluation(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<Evaluation> evaluation = evaluationRepository.findById(id);
+            Optional<Evaluation> evaluation = evaluationRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (evaluation.isPresent() && evaluation.get().getWorker().getId().equals(workerId)) {
+            if (evaluation.isPresent()) {
                 response.put("success", true);
                 response.put("data", evaluation.get());
                 return ResponseEntity.ok(response);
@@ -113,9 +113,9 @@ public class EvaluationController {
     public ResponseEntity<Map<String, Object>> updateEvaluation(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody Evaluation evaluation) {
         try {
-            Optional<Evaluation> existingEvaluation = evaluationRepository.findById(id);
+            Optional<Evaluation> existingEvaluation = evaluationRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (existingEvaluation.isPresent() && existingEvaluation.get().getWorker().getId().equals(workerId)) {
+            if (existingEvaluation.isPresent()) {
                 evaluation.setId(id);
                 evaluation.setWorker(existingEvaluation.get().getWorker());
                 Evaluation updatedEvaluation = evaluationRepository.save(evaluation);
@@ -141,9 +141,9 @@ public class EvaluationController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteEvaluation(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<Evaluation> evaluation = evaluationRepository.findById(id);
+            Optional<Evaluation> evaluation = evaluationRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (evaluation.isPresent() && evaluation.get().getWorker().getId().equals(workerId)) {
+            if (evaluation.isPresent()) {
                 evaluationRepository.deleteById(id);
                 response.put("success", true);
                 response.put("message", "Evaluation deleted successfully");
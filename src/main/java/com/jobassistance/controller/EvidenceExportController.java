@@ -0,0 +1,188 @@
+package com.jobassistance.controller;
+
+import com.jobassistance.service.EvidenceExportJob;
+import com.jobassistance.service.EvidenceExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 証拠ポートフォリオ出力コントローラー
+ * 特定技能移行の監査用に、就労者単位またはコホート単位でZIPパッケージを作成する
+ */
+@RestController
+@RequestMapping("/api")
+public class EvidenceExportController {
+
+    /** 証拠ポートフォリオ出力サービス */
+    @Autowired
+    private EvidenceExportService evidenceExportService;
+
+    /**
+     * 複数の就労者（コホート）の証拠ポートフォリオ出力を開始する
+     *
+     * @param request リクエストデータ（workerIds: 就労者IDのリスト）
+     * @return 登録されたジョブ情報を含むレスポンス
+     */
+    @PostMapping("/evidence-exports")
+    public ResponseEntity<Map<String, Object>> startCohortExport(@RequestBody Map<String, List<Long>> request) {
+        return startExport(request.get("workerIds"));
+    }
+
+    /**
+     * 就労者1人分の証拠ポートフォリオ出力を開始する
+     *
+     * @param workerId 就労者ID
+     * @return 登録されたジョブ情報を含むレスポンス
+     */
+    @PostMapping("/workers/{workerId}/evidence-report/export")
+    public ResponseEntity<Map<String, Object>> startWorkerExport(@PathVariable Long workerId) {
+        return startExport(List.of(workerId));
+    }
+
+    /**
+     * 出力ジョブの進捗を取得する
+     *
+     * @param jobId ジョブID
+     * @return ジョブの進捗を含むレスポンス
+     */
+    @GetMapping("/evidence-exports/{jobId}")
+    public ResponseEntity<Map<String, Object>> getExport(@PathVariable String jobId) {
+        Optional<EvidenceExportJob> job = evidenceExportService.getJob(jobId);
+        Map<String, Object> response = new HashMap<>();
+        if (job.isPresent()) {
+            response.put("success", true);
+            response.put("data", toJobData(job.get()));
+            return ResponseEntity.ok(response);
+        } else {
+            response.put("success", false);
+            response.put("error", "Export job not found");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+
+    /**
+     * 出力ジョブを中止する
+     *
+     * @param jobId ジョブID
+     * @return 中止結果を含むレスポンス
+     */
+    @DeleteMapping("/evidence-exports/{jobId}")
+    public ResponseEntity<Map<String, Object>> cancelExport(@PathVariable String jobId) {
+        Optional<EvidenceExportJob> job = evidenceExportService.getJob(jobId);
+        Map<String, Object> response = new HashMap<>();
+        if (!job.isPresent()) {
+            response.put("success", false);
+            response.put("error", "Export job not found");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+        if (!job.get().cancel()) {
+            response.put("success", false);
+            response.put("error", "Export job has already finished");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        response.put("success", true);
+        response.put("message", "Export cancellation requested");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 完了した出力ジョブのZIPをダウンロードする
+     *
+     * @param jobId ジョブID
+     * @return ZIPファイル
+     */
+    @GetMapping("/evidence-exports/{jobId}/download")
+    public ResponseEntity<?> downloadExport(@PathVariable String jobId) {
+        Optional<EvidenceExportJob> job = evidenceExportService.getJob(jobId);
+        if (!job.isPresent()) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Export job not found");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+        if (job.get().getStatus() != EvidenceExportJob.Status.COMPLETED) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Export is not ready: " + job.get().getStatus().name());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+
+        FileSystemResource artifact = new FileSystemResource(job.get().getArtifactPath());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("evidence-portfolio-" + jobId + ".zip")
+                        .build()
+                        .toString())
+                .body(artifact);
+    }
+
+    /**
+     * 出力ジョブを登録し、受付レスポンスを作成する
+     *
+     * @param workerIds 出力対象の就労者ID
+     * @return 受付レスポンス
+     */
+    private ResponseEntity<Map<String, Object>> startExport(List<Long> workerIds) {
+        try {
+            EvidenceExportJob job = evidenceExportService.submit(workerIds);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", toJobData(job));
+            response.put("message", "Export job accepted");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (IllegalStateException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * ジョブの進捗をレスポンス用のMapに変換する
+     *
+     * @param job ジョブ
+     * @return 進捗情報
+     */
+    private Map<String, Object> toJobData(EvidenceExportJob job) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("jobId", job.getJobId());
+        data.put("workerIds", job.getWorkerIds());
+        data.put("status", job.getStatus().name());
+        data.put("progressPercentage", job.getProgressPercentage());
+        data.put("exportedWorkers", job.getExportedWorkers());
+        data.put("evidenceFiles", job.getEvidenceFiles());
+        data.put("missingEvidenceFiles", job.getMissingEvidenceFiles());
+        data.put("bytesWritten", job.getBytesWritten());
+        data.put("createdAt", job.getCreatedAt());
+        data.put("startedAt", job.getStartedAt());
+        data.put("finishedAt", job.getFinishedAt());
+        data.put("failureMessage", job.getFailureMessage());
+        if (job.getStatus() == EvidenceExportJob.Status.COMPLETED) {
+            data.put("downloadUrl", "/api/evidence-exports/" + job.getJobId() + "/download");
+        }
+        return data;
+    }
+}
@@ -1,19 +1,12 @@
 package com.jobassistance.controller;
 
-import com.jobassistance.entity.Worker;
-import com.jobassistance.entity.DigitalEvidence;
-import com.jobassistance.repository.WorkerRepository;
-import com.jobassistance.repository.DigitalEvidenceRepository;
-import com.jobassistance.repository.JapaneseProficiencyRepository;
-import com.jobassistance.repository.SkillTrainingRepository;
-import com.jobassistance.repository.ConstructionSimulatorTrainingRepository;
+import com.jobassistance.service.ReportingQueryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -24,25 +17,9 @@ import java.util.Optional;
 @RequestMapping("/api/workers/{workerId}/evidence-report")
 public class EvidenceReportController {
 
-    /** 就労者リポジトリ */
+    /** レポート・ダッシュボード用の参照サービス */
     @Autowired
-    private WorkerRepository workerRepository;
-
-    /** デジタル証拠リポジトリ */
-    @Autowired
-    private DigitalEvidenceRepository evidenceRepository;
-
-    /** 日本語能力リポジトリ */
-    @Autowired
-    private JapaneseProficiencyRepository japaneseProficiencyRepository;
-
-    /** 技能訓練リポジトリ */
-    @Autowired
-    private SkillTrainingRepository skillTrainingRepository;
-
-    /** 建設シミュレーター訓練リポジトリ */
-    @Autowired
-    private ConstructionSimulatorTrainingRepository simulatorTrainingRepository;
+    private ReportingQueryService reportingQueryService;
 
     /**
      * 就労者の証拠レポートを取得する
@@ -53,40 +30,17 @@ public class EvidenceReportController {
     @GetMapping
     public ResponseEntity<Map<String, Object>> getEvidenceReport(@PathVariable Long workerId) {
         try {
-            Optional<Worker> worker = workerRepository.findById(workerId);
-            if (!worker.isPresent()) {
+            Optional<Map<String, Object>> report = reportingQueryService.getEvidenceReport(workerId);
+            if (report.isEmpty()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Worker not found");
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
             }
 
-            // 証拠レポートデータを構築
-            Map<String, Object> report = new HashMap<>();
-
-            // 基本情報
-            report.put("workerId", workerId);
-            report.put("workerName", worker.get().getName());
-
-            // デジタル証拠
-            List<DigitalEvidence> evidences = evidenceRepository.findByWorkerId(workerId);
-            report.put("digitalEvidences", evidences);
-
-            // 日本語能力証明
-            long japaneseProficiencyCount = japaneseProficiencyRepository.findByWorkerId(workerId).size();
-            report.put("japaneseProficiencyCount", japaneseProficiencyCount);
-
-            // 技能訓練証明
-            long skillTrainingCount = skillTrainingRepository.findByWorkerId(workerId).size();
-            report.put("skillTrainingCount", skillTrainingCount);
-
-            // シミュレーター訓練証明
-            long simulatorTrainingCount = simulatorTrainingRepository.findByWorkerId(workerId).size();
-            report.put("simulatorTrainingCount", simulatorTrainingCount);
-
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", report);
+            response.put("data", report.get());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
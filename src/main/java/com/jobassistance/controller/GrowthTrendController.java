@@ -0,0 +1,181 @@
+package com.jobassistance.controller;
+
+import com.jobassistance.dto.GrowthTrend;
+import com.jobassistance.service.GrowthRollupService;
+import com.jobassistance.service.RollupGranularity;
+import com.jobassistance.service.RollupMetric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 成長トレンドコントローラー
+ * 統合成長記録・KPIスコアの事前集計値から就労者別・コホート別のトレンドを返す
+ */
+@RestController
+@RequestMapping("/api/growth-trends")
+public class GrowthTrendController {
+
+    /** 成長指標の時系列集計サービス */
+    @Autowired
+    private GrowthRollupService growthRollupService;
+
+    /**
+     * 就労者のトレンドを取得する
+     *
+     * @param workerId 就労者ID
+     * @param metric 指標キー（例: growth.overall, kpi.safety）
+     * @param granularity 粒度（daily, weekly, monthly）
+     * @param from 開始日（省略時は粒度に応じた既定期間）
+     * @param to 終了日（省略時は本日）
+     * @return トレンドを含むレスポンス
+     */
+    @GetMapping("/workers/{workerId}")
+    public ResponseEntity<Map<String, Object>> getWorkerTrend(@PathVariable Long workerId,
+            @RequestParam(defaultValue = "growth.overall") String metric,
+            @RequestParam(defaultValue = "weekly") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return trend(GrowthRollupService.Scope.WORKER, String.valueOf(workerId), metric, granularity, from, to);
+    }
+
+    /**
+     * コホートのトレンドを取得する
+     *
+     * @param nationality 国籍（省略時は全就労者）
+     * @param metric 指標キー
+     * @param granularity 粒度
+     * @param from 開始日
+     * @param to 終了日
+     * @return トレンドを含むレスポンス
+     */
+    @GetMapping("/cohorts")
+    public ResponseEntity<Map<String, Object>> getCohortTrend(
+            @RequestParam(required = false) String nationality,
+            @RequestParam(defaultValue = "growth.overall") String metric,
+            @RequestParam(defaultValue = "weekly") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (nationality == null || nationality.isBlank()) {
+            return trend(GrowthRollupService.Scope.ALL, GrowthRollupService.ALL_SCOPE_KEY, metric, granularity,
+                    from, to);
+        }
+        return trend(GrowthRollupService.Scope.NATIONALITY, nationality, metric, granularity, from, to);
+    }
+
+    /**
+     * すべての国籍コホートのトレンドを取得する
+     *
+     * @param metric 指標キー
+     * @param granularity 粒度
+     * @param from 開始日
+     * @param to 終了日
+     * @return 国籍ごとのトレンドを含むレスポンス
+     */
+    @GetMapping("/cohorts/nationalities")
+    public ResponseEntity<Map<String, Object>> getNationalityTrends(
+            @RequestParam(defaultValue = "growth.overall") String metric,
+            @RequestParam(defaultValue = "weekly") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Optional<RollupMetric> rollupMetric = RollupMetric.fromKey(metric);
+        Optional<RollupGranularity> rollupGranularity = RollupGranularity.fromPathName(granularity);
+        if (!rollupMetric.isPresent() || !rollupGranularity.isPresent()) {
+            return invalidParameters(metric, granularity);
+        }
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            Map<String, GrowthTrend> trends = growthRollupService.getNationalityTrends(rollupMetric.get(),
+                    rollupGranularity.get(), from != null ? from : defaultFrom(rollupGranularity.get(), end), end);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", trends);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 集計テーブルを元データから再構築する（初回導入時のバックフィル用、管理者のみ）
+     * 再構築が実行中（夜間の定期実行を含む）の場合は409を返す
+     *
+     * @return 再構築結果を含むレスポンス
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        try {
+            Optional<Integer> rows = growthRollupService.rebuildAll();
+            if (rows.isEmpty()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Growth rollups are already being rebuilt");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+            }
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", Map.of("rollupRows", rows.get()));
+            response.put("message", "Growth rollups rebuilt successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> trend(GrowthRollupService.Scope scope, String scopeKey,
+            String metric, String granularity, LocalDate from, LocalDate to) {
+        Optional<RollupMetric> rollupMetric = RollupMetric.fromKey(metric);
+        Optional<RollupGranularity> rollupGranularity = RollupGranularity.fromPathName(granularity);
+        if (!rollupMetric.isPresent() || !rollupGranularity.isPresent()) {
+            return invalidParameters(metric, granularity);
+        }
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            GrowthTrend trend = growthRollupService.getTrend(scope, scopeKey, rollupMetric.get(),
+                    rollupGranularity.get(), from != null ? from : defaultFrom(rollupGranularity.get(), end), end);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", trend);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 粒度に応じた既定の表示期間の開始日を取得する（日次90日、週次52週、月次24か月）
+     */
+    private LocalDate defaultFrom(RollupGranularity granularity, LocalDate to) {
+        switch (granularity) {
+            case DAILY:
+                return to.minusDays(90);
+            case WEEKLY:
+                return to.minusWeeks(52);
+            default:
+                return to.minusMonths(24);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> invalidParameters(String metric, String granularity) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("error", "Unknown metric or granularity: " + metric + ", " + granularity);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+}
@@ -1,5 +1,8 @@
 package com.jobassistance.controller;
 
+import com.jobassistance.service.HealthProbeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -16,6 +19,9 @@ import java.util.Map;
 @RequestMapping("/api")
 public class HealthController {
 
+    @Autowired
+    private HealthProbeService healthProbeService;
+
     /**
      * ヘルスチェックを実行する
      * システムの稼働状態を確認する
@@ -31,5 +37,28 @@ public class HealthController {
         response.put("version", "1.0.0");
         return ResponseEntity.ok(response);
     }
-}
 
+    /**
+     * 生存確認を実行する
+     * 依存先の状態に関わらず、プロセスが応答できれば200を返す
+     *
+     * @return 生存確認の結果
+     */
+    @GetMapping("/health/live")
+    public ResponseEntity<Map<String, Object>> liveness() {
+        return ResponseEntity.ok(healthProbeService.checkLiveness());
+    }
+
+    /**
+     * 受付可否を確認する
+     * DB障害や過負荷でリクエストを受け付けられない場合は503を返す
+     *
+     * @return 受付可否の判定結果
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<Map<String, Object>> readiness() {
+        Map<String, Object> result = healthProbeService.checkReadiness();
+        return ResponseEntity.status(HealthProbeService.isUp(result) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(result);
+    }
+}
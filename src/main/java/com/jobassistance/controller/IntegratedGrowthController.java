@@ -4,6 +4,7 @@ import com.jobassistance.entity.IntegratedGrowth;
 import com.jobassistance.entity.Worker;
 import com.jobassistance.repository.IntegratedGrowthRepository;
 import com.jobassistance.repository.WorkerRepository;
+import com.jobassistance.service.GrowthRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +30,10 @@ public class IntegratedGrowthController {
     @Autowired
     private WorkerRepository workerRepository;
 
+    /** 成長指標の時系列集計サービス */
+    @Autowired
+    private GrowthRollupService growthRollupService;
+
     /**
      * 就労者の統合成長記録一覧を取得する
      *
@@ -105,6 +110,7 @@ public class IntegratedGrowthController {
             growth.setNotes((String) growthData.get("notes"));
 
             IntegratedGrowth savedGrowth = growthRepository.save(growth);
+            growthRollupService.recordGrowth(savedGrowth);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", savedGrowth);
@@ -129,8 +135,8 @@ public class IntegratedGrowthController {
     public ResponseEntity<Map<String, Object>> updateGrowth(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody Map<String, Object> growthData) {
         try {
-            Optional<IntegratedGrowth> growth = growthRepository.findById(id);
-            if (!growth.isPresent() || !growth.get().getWorker().getId().equals(workerId)) {
+            Optional<IntegratedGrowth> growth = growthRepository.findByIdAndWorkerId(id, workerId);
+            if (!growth.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Growth record not found");
@@ -165,8 +171,8 @@ public class IntegratedGrowthController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteGrowth(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<IntegratedGrowth> growth = growthRepository.findById(id);
-            if (!growth.isPresent() || !growth.get().getWorker().getId().equals(workerId)) {
+            Optional<IntegratedGrowth> growth = growthRepository.findByIdAndWorkerId(id, workerId);
+            if (!growth.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Growth record not found");
@@ -174,6 +180,7 @@ public class IntegratedGrowthController {
             }
 
             growthRepository.deleteById(id);
+            growthRollupService.rebuildWorker(workerId);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "Growth record deleted successfully");
@@ -86,9 +86,9 @@ public class JapaneseLearningRecordController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getLearningRecord(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<JapaneseLearningRecord> record = learningRecordRepository.findById(id);
+            Optional<JapaneseLearningRecord> record = learningRecordRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (record.isPresent() && record.get().getWorker().getId().equals(workerId)) {
+            if (record.isPresent()) {
                 response.put("success", true);
                 response.put("data", record.get());
                 return ResponseEntity.ok(response);
@@ -111,9 +111,9 @@ public class JapaneseLearningRecordController {
     @PutMapping("/{id}")
     public ResponseEntity<Map<String, Object>> updateLearningRecord(@PathVariable Long workerId, @PathVariable Long id, @RequestBody JapaneseLearningRecord record) {
         try {
-            Optional<JapaneseLearningRecord> existingRecord = learningRecordRepository.findById(id);
+            Optional<JapaneseLearningRecord> existingRecord = learningRecordRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (existingRecord.isPresent() && existingRecord.get().getWorker().getId().equals(workerId)) {
+            if (existingRecord.isPresent()) {
                 record.setId(id);
                 record.setWorker(existingRecord.get().getWorker());
                 JapaneseLearningRecord updatedRecord = learningRecordRepository.save(record);
@@ -139,9 +139,9 @@ public class JapaneseLearningRecordController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteLearningRecord(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<JapaneseLearningRecord> record = learningRecordRepository.findById(id);
+            Optional<JapaneseLearningRecord> record = learningRecordRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (record.isPresent() && record.get().getWorker().getId().equals(workerId)) {
+            if (record.isPresent()) {
                 learningRecordRepository.deleteById(id);
                 response.put("success", true);
                 response.put("message", "Japanese learning record deleted successfully");
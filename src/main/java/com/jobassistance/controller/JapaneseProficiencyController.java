@@ -87,9 +87,9 @@ public class JapaneseProficiencyController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getProficiency(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<JapaneseProficiency> proficiency = proficiencyRepository.findById(id);
+            Optional<JapaneseProficiency> proficiency = proficiencyRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (proficiency.isPresent() && proficiency.get().getWorker().getId().equals(workerId)) {
+            if (proficiency.isPresent()) {
                 response.put("success", true);
                 response.put("data", proficiency.get());
                 return ResponseEntity.ok(response);
@@ -113,9 +113,9 @@ public class JapaneseProficiencyController {
     public ResponseEntity<Map<String, Object>> updateProficiency(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody JapaneseProficiency proficiency) {
         try {
-            Optional<JapaneseProficiency> existingProficiency = proficiencyRepository.findById(id);
+            Optional<JapaneseProficiency> existingProficiency = proficiencyRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (existingProficiency.isPresent() && existingProficiency.get().getWorker().getId().equals(workerId)) {
+            if (existingProficiency.isPresent()) {
                 proficiency.setId(id);
                 proficiency.setWorker(existingProficiency.get().getWorker());
                 JapaneseProficiency updatedProficiency = proficiencyRepository.save(proficiency);
@@ -141,9 +141,9 @@ public class JapaneseProficiencyController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteProficiency(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<JapaneseProficiency> proficiency = proficiencyRepository.findById(id);
+            Optional<JapaneseProficiency> proficiency = proficiencyRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (proficiency.isPresent() && proficiency.get().getWorker().getId().equals(workerId)) {
+            if (proficiency.isPresent()) {
                 proficiencyRepository.deleteById(id);
                 response.put("success", true);
                 response.put("message", "Japanese proficiency deleted successfully");
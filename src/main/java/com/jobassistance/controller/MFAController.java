@@ -2,18 +2,23 @@ package com.jobassistance.controller;
 
 import com.jobassistance.entity.User;
 import com.jobassistance.repository.UserRepository;
+import com.jobassistance.service.AccessTokenClaims;
+import com.jobassistance.service.MfaService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * 多要素認証（MFA）管理コントローラー
+ * 操作対象はアクセストークンのユーザー本人のみとし、リクエスト本文のユーザー名は使用しない
  */
 @RestController
 @RequestMapping("/api/auth/mfa")
@@ -23,24 +28,27 @@ public class MFAController {
     @Autowired
     private UserRepository userRepository;
 
+    /** MFAサービス */
+    @Autowired
+    private MfaService mfaService;
+
     /**
      * MFAセットアップ（シークレット生成）を実行する
      *
-     * @param request リクエストデータ（ユーザー名を含む）
      * @return MFAセットアップ結果を含むレスポンス
      */
     @PostMapping("/setup")
-    public ResponseEntity<Map<String, Object>> setupMFA(@RequestBody Map<String, String> request) {
+    public ResponseEntity<Map<String, Object>> setupMFA() {
         try {
-            String username = request.get("username");
-            if (username == null) {
+            AccessTokenClaims claims = currentClaims();
+            if (claims == null) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
-                response.put("error", "Username is required");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+                response.put("error", "Authentication required");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
             }
 
-            Optional<User> userOpt = userRepository.findByUsername(username);
+            Optional<User> userOpt = userRepository.findById(claims.getUserId());
             if (!userOpt.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
@@ -49,13 +57,18 @@ public class MFAController {
             }
 
             User user = userOpt.get();
-            // MFAシークレット生成（簡易版 - 本番環境では適切な実装が必要）
-            String mfaSecret = UUID.randomUUID().toString().replace("-", "").substring(0, 32);
+            if (Boolean.TRUE.equals(user.getMfaEnabled())) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "MFA is already enabled");
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+            }
+            String mfaSecret = mfaService.generateSecret();
             user.setMfaSecret(mfaSecret);
+            userRepository.save(user);
 
-            // QRコード用のURL生成（簡易版）
-            String qrCodeUrl = "otpauth://totp/JobAssistance:" + username + "?secret=" + mfaSecret
-                    + "&issuer=JobAssistance";
+            // QRコード用のURL生成
+            String qrCodeUrl = mfaService.buildOtpAuthUri(user.getUsername(), mfaSecret);
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -74,23 +87,29 @@ public class MFAController {
     /**
      * MFAを有効化する
      *
-     * @param request リクエストデータ（ユーザー名とMFAコードを含む）
+     * @param request リクエストデータ（MFAコードを含む）
      * @return MFA有効化結果を含むレスポンス
      */
     @PostMapping("/enable")
     public ResponseEntity<Map<String, Object>> enableMFA(@RequestBody Map<String, String> request) {
         try {
-            String username = request.get("username");
-            String mfaCode = request.get("mfaCode");
+            AccessTokenClaims claims = currentClaims();
+            if (claims == null) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Authentication required");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            }
 
-            if (username == null || mfaCode == null) {
+            String mfaCode = request.get("mfaCode");
+            if (mfaCode == null) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
-                response.put("error", "Username and MFA code are required");
+                response.put("error", "MFA code is required");
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
 
-            Optional<User> userOpt = userRepository.findByUsername(username);
+            Optional<User> userOpt = userRepository.findById(claims.getUserId());
             if (!userOpt.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
@@ -99,22 +118,27 @@ public class MFAController {
             }
 
             User user = userOpt.get();
-            // MFAコード検証（簡易版 - 本番環境では適切な実装が必要）
-            // ここでは簡易的にシークレットが設定されている場合に有効化
-            if (user.getMfaSecret() != null) {
-                user.setMfaEnabled(true);
-                userRepository.save(user);
-
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", true);
-                response.put("message", "MFA enabled successfully");
-                return ResponseEntity.ok(response);
-            } else {
+            if (user.getMfaSecret() == null) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "MFA secret not set. Please setup MFA first.");
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
+
+            // 認証アプリに登録したシークレットで生成されたコードであることを確認してから有効化する
+            if (!mfaService.verifyTotp(user.getId(), user.getMfaSecret(), mfaCode.trim())) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Invalid MFA code");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+            user.setMfaEnabled(true);
+            userRepository.save(user);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "MFA enabled successfully");
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
@@ -125,22 +149,23 @@ public class MFAController {
 
     /**
      * MFAを無効化する
+     * 認証アプリの現在のコードを確認してから無効化する
      *
-     * @param request リクエストデータ（ユーザー名を含む）
+     * @param request リクエストデータ（MFAコードを含む）
      * @return MFA無効化結果を含むレスポンス
      */
     @PostMapping("/disable")
     public ResponseEntity<Map<String, Object>> disableMFA(@RequestBody Map<String, String> request) {
         try {
-            String username = request.get("username");
-            if (username == null) {
+            AccessTokenClaims claims = currentClaims();
+            if (claims == null) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
-                response.put("error", "Username is required");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+                response.put("error", "Authentication required");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
             }
 
-            Optional<User> userOpt = userRepository.findByUsername(username);
+            Optional<User> userOpt = userRepository.findById(claims.getUserId());
             if (!userOpt.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
@@ -149,6 +174,18 @@ public class MFAController {
             }
 
             User user = userOpt.get();
+            if (!Boolean.TRUE.equals(user.getMfaEnabled())) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "MFA is not enabled");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+            if (!verifyCurrentCode(user, request)) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Invalid MFA code");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
             user.setMfaEnabled(false);
             user.setMfaSecret(null);
             user.setBackupCodes(null);
@@ -168,22 +205,23 @@ public class MFAController {
 
     /**
      * MFAバックアップコードを生成する
+     * 認証アプリの現在のコードを確認してから生成し、以前のバックアップコードは無効になる
      *
-     * @param request リクエストデータ（ユーザー名を含む）
+     * @param request リクエストデータ（MFAコードを含む）
      * @return 生成されたバックアップコードを含むレスポンス
      */
     @PostMapping("/backup-codes")
     public ResponseEntity<Map<String, Object>> generateBackupCodes(@RequestBody Map<String, String> request) {
         try {
-            String username = request.get("username");
-            if (username == null) {
+            AccessTokenClaims claims = currentClaims();
+            if (claims == null) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
-                response.put("error", "Username is required");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+                response.put("error", "Authentication required");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
             }
 
-            Optional<User> userOpt = userRepository.findByUsername(username);
+            Optional<User> userOpt = userRepository.findById(claims.getUserId());
             if (!userOpt.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
@@ -192,20 +230,21 @@ public class MFAController {
             }
 
             User user = userOpt.get();
-            if (!user.getMfaEnabled()) {
+            if (!Boolean.TRUE.equals(user.getMfaEnabled())) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "MFA is not enabled");
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
-
-            // バックアップコード生成（簡易版 - 本番環境では適切な実装が必要）
-            String[] backupCodes = new String[10];
-            for (int i = 0; i < 10; i++) {
-                backupCodes[i] = UUID.randomUUID().toString().replace("-", "").substring(0, 8).toUpperCase();
+            if (!verifyCurrentCode(user, request)) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Invalid MFA code");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
-            String backupCodesJson = String.join(",", backupCodes);
-            user.setBackupCodes(backupCodesJson);
+
+            // バックアップコードはハッシュのみを保存し、平文はこのレスポンスでのみ返す
+            List<String> backupCodes = mfaService.generateBackupCodes(user);
             userRepository.save(user);
 
             Map<String, Object> response = new HashMap<>();
@@ -220,4 +259,21 @@ public class MFAController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    /**
+     * リクエストのMFAコードが認証アプリの現在のコードと一致するかどうかを判定する
+     * バックアップコードは受け付けない
+     */
+    private boolean verifyCurrentCode(User user, Map<String, String> request) {
+        String mfaCode = request.get("mfaCode");
+        return mfaCode != null && mfaService.verifyTotp(user.getId(), user.getMfaSecret(), mfaCode.trim());
+    }
+
+    private static AccessTokenClaims currentClaims() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AccessTokenClaims claims) {
+            return claims;
+        }
+        return null;
+    }
 }
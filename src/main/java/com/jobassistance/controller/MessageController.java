@@ -100,9 +100,9 @@ public class MessageController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getMessage(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<Message> message = messageRepository.findById(id);
+            Optional<Message> message = messageRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (message.isPresent() && message.get().getWorker().getId().equals(workerId)) {
+            if (message.isPresent()) {
                 response.put("success", true);
                 response.put("data", message.get());
                 return ResponseEntity.ok(response);
@@ -131,9 +131,9 @@ public class MessageController {
     public ResponseEntity<Map<String, Object>> updateMessage(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody Message message) {
         try {
-            Optional<Message> existingMessage = messageRepository.findById(id);
+            Optional<Message> existingMessage = messageRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (existingMessage.isPresent() && existingMessage.get().getWorker().getId().equals(workerId)) {
+            if (existingMessage.isPresent()) {
                 message.setId(id);
                 message.setWorker(existingMessage.get().getWorker());
                 Message updatedMessage = messageRepository.save(message);
@@ -163,9 +163,9 @@ public class MessageController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteMessage(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<Message> message = messageRepository.findById(id);
+            Optional<Message> message = messageRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (message.isPresent() && message.get().getWorker().getId().equals(workerId)) {
+            if (message.isPresent()) {
                 messageRepository.deleteById(id);
                 response.put("success", true);
                 response.put("message", "Message deleted successfully");
@@ -118,8 +118,8 @@ public class MilestoneController {
     public ResponseEntity<Map<String, Object>> updateMilestone(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody Map<String, Object> milestoneData) {
         try {
-            Optional<Milestone> milestone = milestoneRepository.findById(id);
-            if (!milestone.isPresent() || !milestone.get().getWorker().getId().equals(workerId)) {
+            Optional<Milestone> milestone = milestoneRepository.findByIdAndWorkerId(id, workerId);
+            if (!milestone.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Milestone not found");
@@ -169,8 +169,8 @@ public class MilestoneController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteMilestone(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<Milestone> milestone = milestoneRepository.findById(id);
-            if (!milestone.isPresent() || !milestone.get().getWorker().getId().equals(workerId)) {
+            Optional<Milestone> milestone = milestoneRepository.findByIdAndWorkerId(id, workerId);
+            if (!milestone.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Milestone not found");
@@ -101,9 +101,9 @@ public class PreDepartureSupportController {
     public ResponseEntity<Map<String, Object>> getPreDepartureSupport(@PathVariable Long workerId,
             @PathVariable Long id) {
         try {
-            Optional<PreDepartureSupport> support = preDepartureSupportRepository.findById(id);
+            Optional<PreDepartureSupport> support = preDepartureSupportRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (support.isPresent() && support.get().getWorker().getId().equals(workerId)) {
+            if (support.isPresent()) {
                 response.put("success", true);
                 response.put("data", support.get());
                 return ResponseEntity.ok(response);
@@ -132,9 +132,9 @@ public class PreDepartureSupportController {
     public ResponseEntity<Map<String, Object>> updatePreDepartureSupport(@PathVariable Long workerId,
             @PathVariable Long id, @RequestBody PreDepartureSupport support) {
         try {
-            Optional<PreDepartureSupport> existingSupport = preDepartureSupportRepository.findById(id);
+            Optional<PreDepartureSupport> existingSupport = preDepartureSupportRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (existingSupport.isPresent() && existingSupport.get().getWorker().getId().equals(workerId)) {
+            if (existingSupport.isPresent()) {
                 support.setId(id);
                 support.setWorker(existingSupport.get().getWorker());
                 PreDepartureSupport updatedSupport = preDepartureSupportRepository.save(support);
@@ -165,9 +165,9 @@ public class PreDepartureSupportController {
     public ResponseEntity<Map<String, Object>> deletePreDepartureSupport(@PathVariable Long workerId,
             @PathVariable Long id) {
         try {
-            Optional<PreDepartureSupport> support = preDepartureSupportRepository.findById(id);
+            Optional<PreDepartureSupport> support = preDepartureSupportRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (support.isPresent() && support.get().getWorker().getId().equals(workerId)) {
+            if (support.isPresent()) {
                 preDepartureSupportRepository.deleteById(id);
                 response.put("success", true);
                 response.put("message", "Pre-departure support deleted successfully");
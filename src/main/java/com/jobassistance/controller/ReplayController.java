@@ -1,5 +1,7 @@
 package com.jobassistance.controller;
 
+import com.jobassistance.config.WorkerAccessGuard;
+import com.jobassistance.dto.ReplaySessionData;
 import com.jobassistance.entity.TrainingSession;
 import com.jobassistance.repository.TrainingSessionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +15,7 @@ import java.util.Optional;
 
 /**
  * リプレイセッションコントローラー
+ * Accept: application/cbor を指定すると、リプレイデータをCBORで返す
  */
 @RestController
 @RequestMapping("/api/replay")
@@ -22,6 +25,10 @@ public class ReplayController {
     @Autowired
     private TrainingSessionRepository trainingSessionRepository;
 
+    /** 就労者単位のアクセス範囲判定 */
+    @Autowired
+    private WorkerAccessGuard workerAccessGuard;
+
     /**
      * リプレイセッションデータを取得する
      *
@@ -31,7 +38,16 @@ public class ReplayController {
     @GetMapping("/{sessionId}")
     public ResponseEntity<Map<String, Object>> getReplaySession(@PathVariable String sessionId) {
         try {
-            Optional<TrainingSession> sessionOpt = trainingSessionRepository.findBySessionId(sessionId);
+            // 研修生は自分に紐づく就労者のセッションのみ参照できる（他の就労者のセッションは存在しないものとして扱う）
+            Optional<TrainingSession> sessionOpt;
+            if (workerAccessGuard.isRestricted()) {
+                Long ownWorkerId = workerAccessGuard.getRestrictedWorkerId();
+                sessionOpt = ownWorkerId != null
+                        ? trainingSessionRepository.findBySessionIdAndWorkerId(sessionId, ownWorkerId)
+                        : Optional.empty();
+            } else {
+                sessionOpt = trainingSessionRepository.findBySessionId(sessionId);
+            }
             if (!sessionOpt.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
@@ -42,12 +58,9 @@ public class ReplayController {
             TrainingSession session = sessionOpt.get();
 
             // リプレイデータを構築
-            Map<String, Object> replayData = new HashMap<>();
-            replayData.put("sessionId", session.getSessionId());
-            replayData.put("workerId", session.getWorker().getId());
-            replayData.put("sessionStartTime", session.getSessionStartTime());
-            replayData.put("sessionEndTime", session.getSessionEndTime());
-            replayData.put("durationSeconds", session.getDurationSeconds());
+            ReplaySessionData replayData = new ReplaySessionData(session.getSessionId(),
+                    session.getWorker().getId(), session.getSessionStartTime(), session.getSessionEndTime(),
+                    session.getDurationSeconds());
             // 実際のリプレイデータはここに追加（操作ログ、KPIスコアなど）
 
             Map<String, Object> response = new HashMap<>();
@@ -3,6 +3,7 @@ package com.jobassistance.controller;
 import com.jobassistance.entity.Report;
 import com.jobassistance.repository.ReportRepository;
 import com.jobassistance.repository.WorkerRepository;
+import com.jobassistance.service.ReportingQueryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +29,10 @@ public class ReportController {
     @Autowired
     private WorkerRepository workerRepository;
 
+    /** レポート・ダッシュボード用の参照サービス */
+    @Autowired
+    private ReportingQueryService reportingQueryService;
+
     /**
      * 全体レポート一覧を取得する
      *
@@ -36,7 +41,7 @@ public class ReportController {
     @GetMapping("/reports")
     public ResponseEntity<Map<String, Object>> getAllReports() {
         try {
-            List<Report> reports = reportRepository.findByWorkerIdIsNull();
+            List<Report> reports = reportingQueryService.getGeneralReports();
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", reports);
@@ -81,17 +86,17 @@ public class ReportController {
     @GetMapping("/workers/{workerId}/reports")
     public ResponseEntity<Map<String, Object>> getWorkerReports(@PathVariable Long workerId) {
         try {
-            if (!workerRepository.existsById(workerId)) {
+            Optional<List<Report>> reports = reportingQueryService.getWorkerReports(workerId);
+            if (reports.isEmpty()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Worker not found");
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
             }
 
-            List<Report> reports = reportRepository.findByWorkerId(workerId);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", reports);
+            response.put("data", reports.get());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
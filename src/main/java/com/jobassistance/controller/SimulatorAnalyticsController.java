@@ -0,0 +1,134 @@
+package com.jobassistance.controller;
+
+import com.jobassistance.dto.SimulatorCohortStats;
+import com.jobassistance.service.SimulatorAnalyticsService;
+import com.jobassistance.service.SimulatorColumns;
+import com.jobassistance.service.SimulatorDimension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * シミュレーター訓練分析コントローラー
+ * 国籍・機材種別・難易度・月ごとに訓練結果を比較する
+ */
+@RestController
+@RequestMapping("/api/simulator-analytics")
+public class SimulatorAnalyticsController {
+
+    /** シミュレーター訓練結果の分析サービス */
+    @Autowired
+    private SimulatorAnalyticsService analyticsService;
+
+    /**
+     * コホート別の集計結果を取得する
+     *
+     * @param groupBy 集計軸（nationality, equipmentType, difficultyLevel, month のカンマ区切り）
+     * @param nationality 国籍で絞り込む（任意）
+     * @param equipmentType 機材種別で絞り込む（任意）
+     * @param difficultyLevel 難易度で絞り込む（任意）
+     * @param from 開始年月 yyyy-MM（任意）
+     * @param to 終了年月 yyyy-MM（任意）
+     * @return 集計結果を含むレスポンス
+     */
+    @GetMapping("/cohorts")
+    public ResponseEntity<Map<String, Object>> getCohorts(
+            @RequestParam(defaultValue = "nationality") List<String> groupBy,
+            @RequestParam(required = false) String nationality,
+            @RequestParam(required = false) String equipmentType,
+            @RequestParam(required = false) String difficultyLevel,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        try {
+            List<SimulatorDimension> dimensions = new ArrayList<>();
+            for (String name : groupBy) {
+                Optional<SimulatorDimension> dimension = SimulatorDimension.fromPathName(name.trim());
+                if (!dimension.isPresent()) {
+                    return badRequest("Unknown groupBy dimension: " + name);
+                }
+                if (!dimensions.contains(dimension.get())) {
+                    dimensions.add(dimension.get());
+                }
+            }
+
+            Map<SimulatorDimension, String> filters = new EnumMap<>(SimulatorDimension.class);
+            if (nationality != null) {
+                filters.put(SimulatorDimension.NATIONALITY, nationality);
+            }
+            if (equipmentType != null) {
+                filters.put(SimulatorDimension.EQUIPMENT_TYPE, equipmentType);
+            }
+            if (difficultyLevel != null) {
+                filters.put(SimulatorDimension.DIFFICULTY_LEVEL, difficultyLevel);
+            }
+
+            YearMonth fromMonth = from != null ? YearMonth.parse(from) : null;
+            YearMonth toMonth = to != null ? YearMonth.parse(to) : null;
+
+            SimulatorColumns snapshot = analyticsService.getSnapshot();
+            List<SimulatorCohortStats> groups = analyticsService.analyze(snapshot, dimensions, filters, fromMonth, toMonth);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("groupBy", groupBy);
+            data.put("groups", groups);
+            data.put("totalRecords", snapshot.size());
+            data.put("snapshotLoadedAt", snapshot.getLoadedAt());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", data);
+            return ResponseEntity.ok(response);
+        } catch (DateTimeParseException e) {
+            return badRequest("Invalid month (expected yyyy-MM): " + e.getParsedString());
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 分析用スナップショットを直ちに読み直す
+     *
+     * @return 読み直し結果を含むレスポンス
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Object>> refresh() {
+        try {
+            SimulatorColumns snapshot = analyticsService.refresh();
+            Map<String, Object> data = new HashMap<>();
+            data.put("totalRecords", snapshot.size());
+            data.put("snapshotLoadedAt", snapshot.getLoadedAt());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", data);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> badRequest(String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("error", message);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+}
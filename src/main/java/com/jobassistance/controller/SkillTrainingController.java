@@ -87,9 +87,9 @@ public class SkillTrainingController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getSkillTraining(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<SkillTraining> training = skillTrainingRepository.findById(id);
+            Optional<SkillTraining> training = skillTrainingRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (training.isPresent() && training.get().getWorker().getId().equals(workerId)) {
+            if (training.isPresent()) {
                 response.put("success", true);
                 response.put("data", training.get());
                 return ResponseEntity.ok(response);
@@ -113,9 +113,9 @@ public class SkillTrainingController {
     public ResponseEntity<Map<String, Object>> updateSkillTraining(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody SkillTraining training) {
         try {
-            Optional<SkillTraining> existingTraining = skillTrainingRepository.findById(id);
+            Optional<SkillTraining> existingTraining = skillTrainingRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (existingTraining.isPresent() && existingTraining.get().getWorker().getId().equals(workerId)) {
+            if (existingTraining.isPresent()) {
                 training.setId(id);
                 training.setWorker(existingTraining.get().getWorker());
                 SkillTraining updatedTraining = skillTrainingRepository.save(training);
@@ -141,9 +141,9 @@ public class SkillTrainingController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteSkillTraining(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<SkillTraining> training = skillTrainingRepository.findById(id);
+            Optional<SkillTraining> training = skillTrainingRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (training.isPresent() && training.get().getWorker().getId().equals(workerId)) {
+            if (training.isPresent()) {
                 skillTrainingRepository.deleteById(id);
                 response.put("success", true);
                 response.put("message", "Skill training deleted successfully");
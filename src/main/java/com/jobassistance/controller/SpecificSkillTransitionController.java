@@ -117,8 +117,8 @@ public class SpecificSkillTransitionController {
     @PutMapping("/{id}")
     public ResponseEntity<Map<String, Object>> updateTransition(@PathVariable Long workerId, @PathVariable Long id, @RequestBody Map<String, Object> transitionData) {
         try {
-            Optional<SpecificSkillTransition> transition = transitionRepository.findById(id);
-            if (!transition.isPresent() || !transition.get().getWorker().getId().equals(workerId)) {
+            Optional<SpecificSkillTransition> transition = transitionRepository.findByIdAndWorkerId(id, workerId);
+            if (!transition.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Transition not found");
@@ -156,8 +156,8 @@ public class SpecificSkillTransitionController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteTransition(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<SpecificSkillTransition> transition = transitionRepository.findById(id);
-            if (!transition.isPresent() || !transition.get().getWorker().getId().equals(workerId)) {
+            Optional<SpecificSkillTransition> transition = transitionRepository.findByIdAndWorkerId(id, workerId);
+            if (!transition.isPresent()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("error", "Transition not found");
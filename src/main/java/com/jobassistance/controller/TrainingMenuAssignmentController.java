@@ -5,6 +5,7 @@ import com.jobassistance.repository.TrainingMenuAssignmentRepository;
 import com.jobassistance.repository.WorkerRepository;
 import com.jobassistance.repository.TrainingMenuRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -64,6 +65,7 @@ public class TrainingMenuAssignmentController {
 
     /**
      * 新しい訓練メニュー割り当てを登録する
+     * 同じ訓練メニューが既に割り当てられている場合は409を返す
      *
      * @param workerId 就労者ID
      * @param assignment 訓練メニュー割り当て情報
@@ -99,6 +101,11 @@ public class TrainingMenuAssignmentController {
             response.put("success", true);
             response.put("data", savedAssignment);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (DataIntegrityViolationException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Training menu is already assigned to this worker");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
@@ -117,9 +124,9 @@ public class TrainingMenuAssignmentController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getAssignment(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<TrainingMenuAssignment> assignment = assignmentRepository.findById(id);
+            Optional<TrainingMenuAssignment> assignment = assignmentRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (assignment.isPresent() && assignment.get().getWorker().getId().equals(workerId)) {
+            if (assignment.isPresent()) {
                 response.put("success", true);
                 response.put("data", assignment.get());
                 return ResponseEntity.ok(response);
@@ -148,9 +155,9 @@ public class TrainingMenuAssignmentController {
     public ResponseEntity<Map<String, Object>> updateAssignment(@PathVariable Long workerId, @PathVariable Long id,
             @RequestBody TrainingMenuAssignment assignment) {
         try {
-            Optional<TrainingMenuAssignment> existingAssignment = assignmentRepository.findById(id);
+            Optional<TrainingMenuAssignment> existingAssignment = assignmentRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (existingAssignment.isPresent() && existingAssignment.get().getWorker().getId().equals(workerId)) {
+            if (existingAssignment.isPresent()) {
                 assignment.setId(id);
                 assignment.setWorker(existingAssignment.get().getWorker());
                 if (assignment.getTrainingMenu() != null && assignment.getTrainingMenu().getId() != null) {
@@ -189,9 +196,9 @@ public class TrainingMenuAssignmentController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteAssignment(@PathVariable Long workerId, @PathVariable Long id) {
         try {
-            Optional<TrainingMenuAssignment> assignment = assignmentRepository.findById(id);
+            Optional<TrainingMenuAssignment> assignment = assignmentRepository.findByIdAndWorkerId(id, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (assignment.isPresent() && assignment.get().getWorker().getId().equals(workerId)) {
+            if (assignment.isPresent()) {
                 assignmentRepository.deleteById(id);
                 response.put("success", true);
                 response.put("message", "Training menu assignment deleted successfully");
@@ -1,11 +1,18 @@
 package com.jobassistance.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jobassistance.config.WorkerAccessGuard;
+import com.jobassistance.dto.BulkAssignmentRequest;
 import com.jobassistance.entity.TrainingMenu;
 import com.jobassistance.repository.TrainingMenuRepository;
+import com.jobassistance.service.EntityPatchService;
+import com.jobassistance.service.TrainingMenuAssignmentService;
 import com.jobassistance.service.TrainingMenuService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,6 +36,14 @@ public class TrainingMenuController {
     @Autowired
     private TrainingMenuService trainingMenuService;
 
+    /** 訓練メニュー割り当てサービス */
+    @Autowired
+    private TrainingMenuAssignmentService assignmentService;
+
+    /** 就労者単位のアクセス範囲 */
+    @Autowired
+    private WorkerAccessGuard workerAccessGuard;
+
     /**
      * 訓練メニュー一覧を取得する
      *
@@ -102,28 +117,53 @@ public class TrainingMenuController {
 
     /**
      * 訓練メニュー情報を更新する
+     * 送信された項目のみを更新する（ID・作成日時などの変更できない項目と関連するコレクションは無視する）
      *
      * @param id 訓練メニューID
      * @param menu 更新する訓練メニュー情報
      * @return 更新された訓練メニューを含むレスポンス
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updateTrainingMenu(@PathVariable Long id,
-            @Valid @RequestBody TrainingMenu menu) {
+    public ResponseEntity<Map<String, Object>> updateTrainingMenu(@PathVariable Long id, @RequestBody JsonNode menu) {
+        return update(id, menu, false);
+    }
+
+    /**
+     * 訓練メニュー情報を部分更新する（JSON Merge Patch）
+     * 値が変わった列のみを更新する。"version" を指定した場合、現在のバージョンと異なれば409を返す
+     *
+     * @param id 訓練メニューID
+     * @param patch JSON Merge Patch
+     * @return 更新された訓練メニューを含むレスポンス
+     */
+    @PatchMapping(value = "/{id}", consumes = { EntityPatchService.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<Map<String, Object>> patchTrainingMenu(@PathVariable Long id, @RequestBody JsonNode patch) {
+        return update(id, patch, true);
+    }
+
+    private ResponseEntity<Map<String, Object>> update(Long id, JsonNode patch, boolean strict) {
         try {
-            Optional<TrainingMenu> existingMenu = trainingMenuRepository.findById(id);
+            Optional<TrainingMenu> updated = trainingMenuService.updateTrainingMenu(id, patch, strict);
             Map<String, Object> response = new HashMap<>();
-            if (existingMenu.isPresent()) {
-                menu.setId(id);
-                TrainingMenu updatedMenu = trainingMenuRepository.save(menu);
+            if (updated.isPresent()) {
                 response.put("success", true);
-                response.put("data", updatedMenu);
+                response.put("data", updated.get());
                 return ResponseEntity.ok(response);
             } else {
                 response.put("success", false);
                 response.put("error", "Training menu not found");
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
             }
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (OptimisticLockingFailureException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Training menu was modified by another request; reload and retry");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
@@ -160,4 +200,47 @@ public class TrainingMenuController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    /**
+     * 訓練メニューを条件に一致する就労者に一括で割り当てる
+     * 既に同じ訓練メニューが割り当てられている就労者は読み飛ばし、件数を集計して返す
+     *
+     * @param id 訓練メニューID
+     * @param request 就労者の条件（就労者ID・国籍・現在のステータス）と割り当て内容
+     * @return 割り当て結果の集計を含むレスポンス
+     */
+    @PostMapping("/{id}/assignments")
+    public ResponseEntity<Map<String, Object>> assignToWorkers(@PathVariable Long id,
+            @RequestBody BulkAssignmentRequest request) {
+        try {
+            if (workerAccessGuard.isRestricted()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Bulk assignment is not allowed");
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+            }
+
+            Optional<Map<String, Object>> summary = assignmentService.assignToWorkers(id, request);
+            Map<String, Object> response = new HashMap<>();
+            if (summary.isPresent()) {
+                response.put("success", true);
+                response.put("data", summary.get());
+                return ResponseEntity.ok(response);
+            } else {
+                response.put("success", false);
+                response.put("error", "Training menu not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
 }
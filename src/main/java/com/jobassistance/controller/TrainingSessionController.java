@@ -1,10 +1,16 @@
 package com.jobassistance.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jobassistance.config.WorkerAccessGuard;
 import com.jobassistance.entity.TrainingSession;
 import com.jobassistance.repository.TrainingSessionRepository;
 import com.jobassistance.repository.WorkerRepository;
+import com.jobassistance.service.EntityPatchService;
+import com.jobassistance.service.TrainingSessionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,6 +34,14 @@ public class TrainingSessionController {
     @Autowired
     private WorkerRepository workerRepository;
 
+    /** 訓練セッションサービス */
+    @Autowired
+    private TrainingSessionService trainingSessionService;
+
+    /** 就労者単位のアクセス範囲判定 */
+    @Autowired
+    private WorkerAccessGuard workerAccessGuard;
+
     /**
      * 訓練セッション一覧を取得する
      *
@@ -36,7 +50,13 @@ public class TrainingSessionController {
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllTrainingSessions() {
         try {
-            List<TrainingSession> sessions = trainingSessionRepository.findAll();
+            List<TrainingSession> sessions;
+            if (workerAccessGuard.isRestricted()) {
+                Long ownWorkerId = workerAccessGuard.getRestrictedWorkerId();
+                sessions = ownWorkerId != null ? trainingSessionRepository.findByWorkerId(ownWorkerId) : List.of();
+            } else {
+                sessions = trainingSessionRepository.findAll();
+            }
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", sessions);
@@ -58,6 +78,15 @@ public class TrainingSessionController {
     @PostMapping
     public ResponseEntity<Map<String, Object>> createTrainingSession(@RequestBody TrainingSession session) {
         try {
+            // 研修生は自分に紐づく就労者のセッションのみ登録できる
+            Long workerId = session.getWorker() != null ? session.getWorker().getId() : null;
+            if (workerAccessGuard.isRestricted() && !workerAccessGuard.canAccess(workerId)) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Access to this worker is not allowed");
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+            }
+
             // worker_idが指定されている場合、存在確認
             if (session.getWorker() != null && session.getWorker().getId() != null) {
                 if (!workerRepository.existsById(session.getWorker().getId())) {
@@ -90,7 +119,7 @@ public class TrainingSessionController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getTrainingSession(@PathVariable Long id) {
         try {
-            Optional<TrainingSession> session = trainingSessionRepository.findById(id);
+            Optional<TrainingSession> session = findAccessible(id);
             Map<String, Object> response = new HashMap<>();
             if (session.isPresent()) {
                 response.put("success", true);
@@ -111,27 +140,61 @@ public class TrainingSessionController {
 
     /**
      * 訓練セッション情報を更新する
+     * 送信された項目のみを更新する（ID・作成日時などの変更できない項目と関連するコレクションは無視する）
      *
      * @param id 訓練セッションID
      * @param session 更新する訓練セッション情報
      * @return 更新された訓練セッションを含むレスポンス
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updateTrainingSession(@PathVariable Long id, @RequestBody TrainingSession session) {
+    public ResponseEntity<Map<String, Object>> updateTrainingSession(@PathVariable Long id, @RequestBody JsonNode session) {
+        return update(id, session, false);
+    }
+
+    /**
+     * 訓練セッション情報を部分更新する（JSON Merge Patch）
+     * 値が変わった列のみを更新する。"version" を指定した場合、現在のバージョンと異なれば409を返す
+     *
+     * @param id 訓練セッションID
+     * @param patch JSON Merge Patch
+     * @return 更新された訓練セッションを含むレスポンス
+     */
+    @PatchMapping(value = "/{id}", consumes = { EntityPatchService.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<Map<String, Object>> patchTrainingSession(@PathVariable Long id, @RequestBody JsonNode patch) {
+        return update(id, patch, true);
+    }
+
+    private ResponseEntity<Map<String, Object>> update(Long id, JsonNode patch, boolean strict) {
         try {
-            Optional<TrainingSession> existingSession = trainingSessionRepository.findById(id);
+            Optional<TrainingSession> updated;
+            if (workerAccessGuard.isRestricted()) {
+                Long ownWorkerId = workerAccessGuard.getRestrictedWorkerId();
+                updated = ownWorkerId != null
+                        ? trainingSessionService.updateTrainingSession(id, ownWorkerId, patch, strict)
+                        : Optional.empty();
+            } else {
+                updated = trainingSessionService.updateTrainingSession(id, null, patch, strict);
+            }
             Map<String, Object> response = new HashMap<>();
-            if (existingSession.isPresent()) {
-                session.setId(id);
-                TrainingSession updatedSession = trainingSessionRepository.save(session);
+            if (updated.isPresent()) {
                 response.put("success", true);
-                response.put("data", updatedSession);
+                response.put("data", updated.get());
                 return ResponseEntity.ok(response);
             } else {
                 response.put("success", false);
                 response.put("error", "Training session not found");
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
             }
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (OptimisticLockingFailureException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Training session was modified by another request; reload and retry");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
@@ -149,7 +212,7 @@ public class TrainingSessionController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteTrainingSession(@PathVariable Long id) {
         try {
-            Optional<TrainingSession> session = trainingSessionRepository.findById(id);
+            Optional<TrainingSession> session = findAccessible(id);
             Map<String, Object> response = new HashMap<>();
             if (session.isPresent()) {
                 trainingSessionRepository.deleteById(id);
@@ -168,5 +231,19 @@ public class TrainingSessionController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
-}
 
+    /**
+     * アクセスできる訓練セッションをIDで取得する
+     * 研修生の場合は自分に紐づく就労者のセッションのみを対象とし、他の就労者のセッションは存在しないものとして扱う
+     *
+     * @param id 訓練セッションID
+     * @return 該当する訓練セッション
+     */
+    private Optional<TrainingSession> findAccessible(Long id) {
+        if (!workerAccessGuard.isRestricted()) {
+            return trainingSessionRepository.findById(id);
+        }
+        Long ownWorkerId = workerAccessGuard.getRestrictedWorkerId();
+        return ownWorkerId != null ? trainingSessionRepository.findByIdAndWorkerId(id, ownWorkerId) : Optional.empty();
+    }
+}
@@ -1,40 +1,46 @@
 package com.jobassistance.controller;
 
+import com.jobassistance.config.WorkerAccessGuard;
+import com.jobassistance.dto.OperationLogEvent;
+import com.jobassistance.dto.UnityCommandRequest;
+import com.jobassistance.dto.UnitySessionEndRequest;
+import com.jobassistance.dto.UnitySessionStartRequest;
 import com.jobassistance.entity.TrainingSession;
-import com.jobassistance.entity.TrainingMenu;
-import com.jobassistance.entity.Worker;
-import com.jobassistance.repository.TrainingSessionRepository;
-import com.jobassistance.repository.TrainingMenuRepository;
-import com.jobassistance.repository.WorkerRepository;
+import com.jobassistance.service.SessionLifecycleService;
+import com.jobassistance.service.TelemetryJournalService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * Unity統合コントローラー
+ * リクエスト・レスポンスはJSONに加えてCBOR（application/cbor）でも送受信できる。
+ * Content-Type / Accept にapplication/cborを指定すると、同じスキーマをバイナリ形式で扱う
  */
 @RestController
 @RequestMapping("/api/unity")
 public class UnityController {
 
-    /** 訓練セッションリポジトリ */
+    /** 訓練セッションライフサイクルサービス */
     @Autowired
-    private TrainingSessionRepository trainingSessionRepository;
+    private SessionLifecycleService sessionLifecycleService;
 
-    /** 就労者リポジトリ */
+    /** テレメトリージャーナルサービス */
     @Autowired
-    private WorkerRepository workerRepository;
+    private TelemetryJournalService telemetryJournalService;
 
-    /** 訓練メニューリポジトリ */
+    /** 就労者単位のアクセス範囲判定 */
     @Autowired
-    private TrainingMenuRepository trainingMenuRepository;
+    private WorkerAccessGuard workerAccessGuard;
 
     /**
      * Unity訓練セッションを作成する
@@ -43,41 +49,140 @@ public class UnityController {
      * @return 作成されたセッション情報を含むレスポンス
      */
     @PostMapping("/training-session")
-    public ResponseEntity<Map<String, Object>> createTrainingSession(@RequestBody Map<String, Object> sessionData) {
+    public ResponseEntity<Map<String, Object>> createTrainingSession(@RequestBody UnitySessionStartRequest sessionData) {
+        return startSession(sessionData, HttpStatus.OK);
+    }
+
+    /**
+     * 訓練セッションを開始する
+     *
+     * @param sessionData セッションデータ（workerId, menuId）
+     * @return 開始したセッション情報を含むレスポンス
+     */
+    @PostMapping("/sessions")
+    public ResponseEntity<Map<String, Object>> startTrainingSession(@RequestBody UnitySessionStartRequest sessionData) {
+        return startSession(sessionData, HttpStatus.CREATED);
+    }
+
+    /**
+     * 訓練セッションのハートビートを記録する
+     *
+     * @param sessionId セッションID
+     * @return 記録結果を含むレスポンス
+     */
+    @PostMapping("/sessions/{sessionId}/heartbeat")
+    public ResponseEntity<Map<String, Object>> heartbeat(@PathVariable String sessionId) {
         try {
-            Long workerId = ((Number) sessionData.get("workerId")).longValue();
-            Optional<Worker> worker = workerRepository.findById(workerId);
-            if (!worker.isPresent()) {
+            LocalDateTime heartbeatAt = sessionLifecycleService.heartbeat(sessionId);
+            if (heartbeatAt == null) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
-                response.put("error", "Worker not found");
+                response.put("error", "Active training session not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", Map.of(
+                "sessionId", sessionId,
+                "lastHeartbeatAt", heartbeatAt
+            ));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 訓練セッションを終了する
+     * KPIスコアはバックグラウンドで算出されるため、応答は受付（202）となる
+     * テレメトリージャーナルが有効な場合は、ジャーナルへの追記で受け付け、セッションの存在は確認しない
+     *
+     * @param sessionId セッションID
+     * @param metrics Unityで計測した指標（任意）
+     * @return 終了結果を含むレスポンス
+     */
+    @PostMapping("/sessions/{sessionId}/end")
+    public ResponseEntity<Map<String, Object>> endTrainingSession(@PathVariable String sessionId,
+            @RequestBody(required = false) UnitySessionEndRequest metrics) {
+        try {
+            if (telemetryJournalService.isEnabled()) {
+                // ジャーナルに追記した時点で受け付け、先行する操作ログの反映後に終了する
+                telemetryJournalService.appendSessionEnd(sessionId, metrics);
+            } else if (!sessionLifecycleService.end(sessionId, metrics)) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Active training session not found");
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
             }
 
-            // 訓練セッションを作成
-            TrainingSession session = new TrainingSession();
-            session.setWorker(worker.get());
-            session.setSessionId(UUID.randomUUID().toString());
-            session.setSessionStartTime(LocalDateTime.now());
-            // trainingMenuIdが指定されている場合、TrainingMenuを設定
-            if (sessionData.containsKey("menuId") && sessionData.get("menuId") != null) {
-                Long menuId = ((Number) sessionData.get("menuId")).longValue();
-                if (menuId > 0) {
-                    Optional<TrainingMenu> trainingMenu = trainingMenuRepository.findById(menuId);
-                    trainingMenu.ifPresent(session::setTrainingMenu);
-                }
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", Map.of(
+                "sessionId", sessionId,
+                "status", SessionLifecycleService.STATUS_COMPLETED
+            ));
+            response.put("message", "Training session ended; scoring in progress");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalStateException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 訓練セッションの操作ログを一括登録する
+     * テレメトリージャーナルが有効な場合は、ジャーナルへの追記で受け付け（202）、データベースにはバックグラウンドで反映する
+     *
+     * @param sessionId セッションID
+     * @param logData 操作ログデータのリスト
+     * @return 登録件数を含むレスポンス
+     */
+    @PostMapping("/sessions/{sessionId}/operation-logs")
+    public ResponseEntity<Map<String, Object>> recordOperationLogs(@PathVariable String sessionId,
+            @RequestBody List<OperationLogEvent> logData) {
+        try {
+            if (telemetryJournalService.isEnabled()) {
+                telemetryJournalService.appendOperationLogs(sessionId, logData);
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("data", Map.of(
+                    "sessionId", sessionId,
+                    "recorded", logData.size()
+                ));
+                response.put("message", "Operation logs accepted");
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
             }
-            session.setStatus("開始");
 
-            TrainingSession savedSession = trainingSessionRepository.save(session);
+            Optional<Integer> recorded = sessionLifecycleService.recordOperationLogs(sessionId, logData);
+            if (!recorded.isPresent()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Training session not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", Map.of(
-                "sessionId", savedSession.getSessionId(),
-                "sessionIdLong", savedSession.getId()
+                "sessionId", sessionId,
+                "recorded", recorded.get()
             ));
-            return ResponseEntity.ok(response);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (IllegalStateException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
@@ -93,10 +198,10 @@ public class UnityController {
      * @return コマンド処理結果を含むレスポンス
      */
     @PostMapping("/command")
-    public ResponseEntity<Map<String, Object>> handleCommand(@RequestBody Map<String, Object> commandData) {
+    public ResponseEntity<Map<String, Object>> handleCommand(@RequestBody UnityCommandRequest commandData) {
         try {
-            String command = (String) commandData.get("command");
-            String sessionId = (String) commandData.get("sessionId");
+            String command = commandData.getCommand();
+            String sessionId = commandData.getSessionId();
 
             if (command == null || sessionId == null) {
                 Map<String, Object> response = new HashMap<>();
@@ -121,5 +226,74 @@ public class UnityController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
-}
 
+    /**
+     * 訓練セッションを開始し、レスポンスを作成する
+     *
+     * @param sessionData セッションデータ（workerId, menuId）
+     * @param successStatus 成功時のHTTPステータス
+     * @return 開始したセッション情報を含むレスポンス
+     */
+    private ResponseEntity<Map<String, Object>> startSession(UnitySessionStartRequest sessionData,
+            HttpStatus successStatus) {
+        try {
+            if (sessionData.getWorkerId() == null) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "workerId is required");
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+            // 研修生はアクセストークンに紐づく就労者のセッションのみ開始できる
+            if (!workerAccessGuard.canAccess(sessionData.getWorkerId())) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Access to this worker is not allowed");
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+            }
+            Optional<TrainingSession> started = sessionLifecycleService.start(sessionData.getWorkerId(),
+                    sessionData.getMenuId());
+            if (started.isEmpty()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Worker not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+            TrainingSession savedSession = started.get();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", Map.of(
+                "sessionId", savedSession.getSessionId(),
+                "sessionIdLong", savedSession.getId(),
+                "sessionStartTime", savedSession.getSessionStartTime()
+            ));
+            return ResponseEntity.status(successStatus).body(response);
+        } catch (DataIntegrityViolationException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Worker or training menu not found");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (IllegalStateException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(sessionLifecycleService.getRetryAfterSeconds()))
+                    .body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> serviceUnavailable(IllegalStateException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(sessionLifecycleService.getRetryAfterSeconds()))
+                .body(response);
+    }
+}
@@ -1,41 +1,50 @@
 package com.jobassistance.controller;
 
+import com.jobassistance.config.TenantContext;
 import com.jobassistance.entity.User;
 import com.jobassistance.repository.UserRepository;
+import com.jobassistance.service.AccessTokenClaims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * ユーザー管理コントローラー
+ * ロール・有効状態・パスワードを変更できるため、管理者のみが利用できる（SecurityConfigで制限する）
  */
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
+    /** 指定できるロール */
+    private static final Set<String> ROLES = Set.of(AccessTokenClaims.ROLE_TRAINEE,
+            AccessTokenClaims.ROLE_ADMINISTRATOR, AccessTokenClaims.ROLE_AUDITOR);
+
     /** ユーザーリポジトリ */
     @Autowired
     private UserRepository userRepository;
 
     /** パスワードエンコーダー */
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private PasswordEncoder passwordEncoder;
 
     /**
-     * ユーザー一覧を取得する
+     * 現在のテナントのユーザー一覧を取得する
      *
      * @return ユーザー一覧を含むレスポンス
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllUsers() {
         try {
-            List<User> users = userRepository.findAll();
+            List<User> users = userRepository.findByTenantId(TenantContext.resolve());
             // パスワードハッシュを除外
             users.forEach(user -> user.setPasswordHash(null));
             
@@ -63,7 +72,7 @@ public class UserController {
             String username = userData.get("username");
             String password = userData.get("password");
             String email = userData.get("email");
-            String role = userData.getOrDefault("role", "trainee");
+            String role = userData.getOrDefault("role", AccessTokenClaims.ROLE_TRAINEE);
 
             if (username == null || password == null || email == null) {
                 Map<String, Object> response = new HashMap<>();
@@ -71,6 +80,12 @@ public class UserController {
                 response.put("error", "Username, password, and email are required");
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
+            if (!ROLES.contains(role)) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "role must be one of " + ROLES);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
 
             if (userRepository.existsByUsername(username)) {
                 Map<String, Object> response = new HashMap<>();
@@ -91,6 +106,7 @@ public class UserController {
             user.setPasswordHash(passwordEncoder.encode(password));
             user.setEmail(email);
             user.setRole(role);
+            user.setTenantId(TenantContext.resolve());
             user.setIsActive(true);
 
             User savedUser = userRepository.save(user);
@@ -117,7 +133,7 @@ public class UserController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getUser(@PathVariable Long id) {
         try {
-            Optional<User> user = userRepository.findById(id);
+            Optional<User> user = userRepository.findByIdAndTenantId(id, TenantContext.resolve());
             Map<String, Object> response = new HashMap<>();
             if (user.isPresent()) {
                 user.get().setPasswordHash(null); // パスワードハッシュを除外
@@ -147,7 +163,7 @@ public class UserController {
     @PutMapping("/{id}")
     public ResponseEntity<Map<String, Object>> updateUser(@PathVariable Long id, @RequestBody Map<String, String> userData) {
         try {
-            Optional<User> existingUser = userRepository.findById(id);
+            Optional<User> existingUser = userRepository.findByIdAndTenantId(id, TenantContext.resolve());
             Map<String, Object> response = new HashMap<>();
             if (!existingUser.isPresent()) {
                 response.put("success", false);
@@ -155,6 +171,12 @@ public class UserController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
             }
 
+            if (userData.containsKey("role") && !ROLES.contains(userData.get("role"))) {
+                response.put("success", false);
+                response.put("error", "role must be one of " + ROLES);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+
             User user = existingUser.get();
             if (userData.containsKey("email")) {
                 user.setEmail(userData.get("email"));
@@ -192,7 +214,7 @@ public class UserController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteUser(@PathVariable Long id) {
         try {
-            Optional<User> user = userRepository.findById(id);
+            Optional<User> user = userRepository.findByIdAndTenantId(id, TenantContext.resolve());
             Map<String, Object> response = new HashMap<>();
             if (user.isPresent()) {
                 userRepository.deleteById(id);
@@ -1,11 +1,16 @@
 package com.jobassistance.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jobassistance.config.WorkerAccessGuard;
 import com.jobassistance.entity.Worker;
 import com.jobassistance.repository.WorkerRepository;
+import com.jobassistance.service.EntityPatchService;
 import com.jobassistance.service.WorkerService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,15 +34,28 @@ public class WorkerController {
     @Autowired
     private WorkerService workerService;
 
+    /** 就労者単位のアクセス制御 */
+    @Autowired
+    private WorkerAccessGuard workerAccessGuard;
+
     /**
      * すべての就労者一覧を取得する
+     * 研修生は自分に紐づく就労者のみを取得する
      * 
      * @return 就労者一覧を含むレスポンス
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllWorkers() {
         try {
-            List<Worker> workers = workerRepository.findAll();
+            List<Worker> workers;
+            if (workerAccessGuard.isRestricted()) {
+                Long ownWorkerId = workerAccessGuard.getRestrictedWorkerId();
+                workers = ownWorkerId != null
+                        ? workerRepository.findById(ownWorkerId).map(List::of).orElse(List.of())
+                        : List.of();
+            } else {
+                workers = workerRepository.findAll();
+            }
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", workers);
@@ -102,27 +120,53 @@ public class WorkerController {
 
     /**
      * 就労者情報を更新する
-     * 
+     * 送信された項目のみを更新する（ID・作成日時などの変更できない項目と関連するコレクションは無視する）
+     *
      * @param id 就労者ID
      * @param worker 更新する就労者情報
      * @return 更新された就労者を含むレスポンス
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updateWorker(@PathVariable Long id, @Valid @RequestBody Worker worker) {
+    public ResponseEntity<Map<String, Object>> updateWorker(@PathVariable Long id, @RequestBody JsonNode worker) {
+        return update(id, worker, false);
+    }
+
+    /**
+     * 就労者情報を部分更新する（JSON Merge Patch）
+     * 値が変わった列のみを更新する。"version" を指定した場合、現在のバージョンと異なれば409を返す
+     *
+     * @param id 就労者ID
+     * @param patch JSON Merge Patch
+     * @return 更新された就労者を含むレスポンス
+     */
+    @PatchMapping(value = "/{id}", consumes = { EntityPatchService.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<Map<String, Object>> patchWorker(@PathVariable Long id, @RequestBody JsonNode patch) {
+        return update(id, patch, true);
+    }
+
+    private ResponseEntity<Map<String, Object>> update(Long id, JsonNode patch, boolean strict) {
         try {
-            Optional<Worker> existingWorker = workerRepository.findById(id);
+            Optional<Worker> updated = workerService.updateWorker(id, patch, strict);
             Map<String, Object> response = new HashMap<>();
-            if (existingWorker.isPresent()) {
-                worker.setId(id);
-                Worker updatedWorker = workerRepository.save(worker);
+            if (updated.isPresent()) {
                 response.put("success", true);
-                response.put("data", updatedWorker);
+                response.put("data", updated.get());
                 return ResponseEntity.ok(response);
             } else {
                 response.put("success", false);
                 response.put("error", "Worker not found");
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
             }
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (OptimisticLockingFailureException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", "Worker was modified by another request; reload and retry");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
@@ -133,6 +177,7 @@ public class WorkerController {
 
     /**
      * 就労者を削除する
+     * 論理削除のみを行い、関連データはバックグラウンドで削除するため、記録の多い就労者でもすぐに応答する
      * 
      * @param id 就労者ID
      * @return 削除結果を含むレスポンス
@@ -140,10 +185,8 @@ public class WorkerController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteWorker(@PathVariable Long id) {
         try {
-            Optional<Worker> worker = workerRepository.findById(id);
             Map<String, Object> response = new HashMap<>();
-            if (worker.isPresent()) {
-                workerRepository.deleteById(id);
+            if (workerService.deleteWorker(id)) {
                 response.put("success", true);
                 response.put("message", "Worker deleted successfully");
                 return ResponseEntity.ok(response);
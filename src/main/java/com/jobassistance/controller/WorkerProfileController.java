@@ -0,0 +1,67 @@
+package com.jobassistance.controller;
+
+import com.jobassistance.service.WorkerProfileService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 就労者プロフィール一括取得コントローラー
+ * 画面が複数のセクションを個別のAPIで順に取得する代わりに、1回の要求で並列に取得する
+ */
+@RestController
+@RequestMapping("/api/workers/{workerId}/profile")
+public class WorkerProfileController {
+
+    /** 就労者プロフィールサービス */
+    @Autowired
+    private WorkerProfileService workerProfileService;
+
+    /**
+     * 就労者プロフィールを取得する
+     * 時間内に取得できなかったセクションはerrorsに理由を設定し、partialをtrueとして返す
+     *
+     * @param workerId 就労者ID
+     * @param sections 取得するセクション名（カンマ区切り、省略時はすべて）
+     * @return セクションごとのデータを含むレスポンス
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getProfile(@PathVariable Long workerId,
+            @RequestParam(required = false) List<String> sections) {
+        try {
+            Optional<Map<String, Object>> profile = workerProfileService.getProfile(workerId, sections);
+            if (profile.isEmpty()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("error", "Worker not found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", profile.get());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (IllegalStateException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+}
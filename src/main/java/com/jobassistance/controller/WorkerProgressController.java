@@ -100,9 +100,9 @@ public class WorkerProgressController {
     @GetMapping("/{progressId}")
     public ResponseEntity<Map<String, Object>> getProgress(@PathVariable Long workerId, @PathVariable Long progressId) {
         try {
-            Optional<WorkerProgress> progress = progressRepository.findById(progressId);
+            Optional<WorkerProgress> progress = progressRepository.findByIdAndWorkerId(progressId, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (progress.isPresent() && progress.get().getWorker().getId().equals(workerId)) {
+            if (progress.isPresent()) {
                 response.put("success", true);
                 response.put("data", progress.get());
                 return ResponseEntity.ok(response);
@@ -131,9 +131,9 @@ public class WorkerProgressController {
     public ResponseEntity<Map<String, Object>> updateProgress(@PathVariable Long workerId,
             @PathVariable Long progressId, @RequestBody WorkerProgress progress) {
         try {
-            Optional<WorkerProgress> existingProgress = progressRepository.findById(progressId);
+            Optional<WorkerProgress> existingProgress = progressRepository.findByIdAndWorkerId(progressId, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (existingProgress.isPresent() && existingProgress.get().getWorker().getId().equals(workerId)) {
+            if (existingProgress.isPresent()) {
                 progress.setId(progressId);
                 progress.setWorker(existingProgress.get().getWorker());
                 WorkerProgress updatedProgress = progressRepository.save(progress);
@@ -164,9 +164,9 @@ public class WorkerProgressController {
     public ResponseEntity<Map<String, Object>> deleteProgress(@PathVariable Long workerId,
             @PathVariable Long progressId) {
         try {
-            Optional<WorkerProgress> progress = progressRepository.findById(progressId);
+            Optional<WorkerProgress> progress = progressRepository.findByIdAndWorkerId(progressId, workerId);
             Map<String, Object> response = new HashMap<>();
-            if (progress.isPresent() && progress.get().getWorker().getId().equals(workerId)) {
+            if (progress.isPresent()) {
                 progressRepository.deleteById(progressId);
                 response.put("success", true);
                 response.put("message", "Progress deleted successfully");
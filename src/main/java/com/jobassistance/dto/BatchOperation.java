@@ -0,0 +1,27 @@
+package com.jobassistance.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 一括実行リクエストの1操作（既存APIへのリクエスト1件に相当する）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperation {
+
+    /** クライアントが結果の照合に使う任意のID（結果にそのまま返す） */
+    private String id;
+
+    /** HTTPメソッド（GET / POST / PUT / PATCH / DELETE） */
+    private String method;
+
+    /** コンテキストパスを除いたパス（クエリ文字列を含めてよい） */
+    private String path;
+
+    /** リクエスト本文（JSON） */
+    private JsonNode body;
+}
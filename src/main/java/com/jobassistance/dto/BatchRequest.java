@@ -0,0 +1,24 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一括実行リクエスト
+ * atomic=true の場合はすべての操作を1つのトランザクションで実行し、いずれかが失敗した時点で全体をロールバックする。
+ * atomic=false の場合は操作ごとに独立して実行し、失敗した操作があっても後続の操作を続ける
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest {
+
+    private boolean atomic;
+
+    /** 実行する操作（指定順に実行する） */
+    private List<BatchOperation> operations = new ArrayList<>();
+}
@@ -0,0 +1,31 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 訓練メニューの一括割り当てリクエスト
+ * 就労者ID・国籍・現在のステータスのうち指定した条件をすべて満たす就労者（論理削除済みを除く）に割り当てる
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignmentRequest {
+
+    private List<Long> workerIds;
+
+    private String nationality;
+
+    private String currentStatus;
+
+    /** 割り当て日（省略時は当日） */
+    private LocalDate assignedDate;
+
+    private LocalDate deadline;
+
+    private String notes;
+}
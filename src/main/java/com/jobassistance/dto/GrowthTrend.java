@@ -0,0 +1,36 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 成長指標の時系列トレンド
+ * グラフ描画用に区間ごとの値を列単位の配列で保持する（各配列の同じ添字が同じ区間を表す）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GrowthTrend {
+
+    private String scopeType;
+
+    private String scopeKey;
+
+    private String metric;
+
+    private String granularity;
+
+    /** 区間の開始日（ISO-8601形式） */
+    private String[] bucketStarts;
+
+    private long[] counts;
+
+    private double[] min;
+
+    private double[] max;
+
+    private double[] avg;
+
+    private double[] last;
+}
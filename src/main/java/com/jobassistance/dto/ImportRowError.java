@@ -0,0 +1,20 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 一括インポートの行エラーDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+    /** 行番号（ヘッダー行を1行目とする） */
+    private long rowNumber;
+    /** エラー対象の列名（行全体のエラーの場合はnull） */
+    private String field;
+    /** エラーメッセージ */
+    private String message;
+}
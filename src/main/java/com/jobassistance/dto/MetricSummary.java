@@ -0,0 +1,30 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 指標の要約統計（パーセンタイルは線形補間で算出）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricSummary {
+
+    private long count;
+
+    private double avg;
+
+    private double min;
+
+    private double p25;
+
+    private double p50;
+
+    private double p75;
+
+    private double p90;
+
+    private double max;
+}
@@ -0,0 +1,42 @@
+package com.jobassistance.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Unityから送信される操作ログ（テレメトリー）1件（JSON / CBOR）
+ */
+@Data
+@NoArgsConstructor
+public class OperationLogEvent {
+
+    /** 発生日時（ISO形式。省略時は受信日時） */
+    private LocalDateTime timestamp;
+
+    /** 操作種別（必須） */
+    private String operationType;
+
+    private Double operationValue;
+
+    private String equipmentState;
+
+    private Double positionX;
+
+    private Double positionY;
+
+    private Double positionZ;
+
+    private Double velocity;
+
+    private boolean errorEvent;
+
+    private String errorDescription;
+
+    private boolean achievementEvent;
+
+    private String achievementDescription;
+
+    private String eventType;
+}
@@ -0,0 +1,26 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * リプレイセッションデータ（JSON / CBOR）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplaySessionData {
+
+    private String sessionId;
+
+    private Long workerId;
+
+    private LocalDateTime sessionStartTime;
+
+    private LocalDateTime sessionEndTime;
+
+    private Integer durationSeconds;
+}
@@ -0,0 +1,30 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * シミュレーター訓練結果のコホート別集計
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulatorCohortStats {
+
+    /** 集計軸ごとの値（例: nationality=ベトナム, month=2024-04） */
+    private Map<String, String> group;
+
+    private long count;
+
+    /** 合否判定できた記録数 */
+    private long passEvaluated;
+
+    /** 合格率（0-100、判定できた記録がない場合はnull） */
+    private Double passRate;
+
+    /** 指標ごとの要約統計（値のない指標は含まない） */
+    private Map<String, MetricSummary> metrics;
+}
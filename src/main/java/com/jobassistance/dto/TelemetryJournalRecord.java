@@ -0,0 +1,37 @@
+package com.jobassistance.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * テレメトリージャーナルに追記する記録（CBOR）
+ * 操作ログの一括登録、または訓練セッションの終了のいずれか1件を表す
+ */
+@Data
+@NoArgsConstructor
+public class TelemetryJournalRecord {
+
+    /** 操作ログの一括登録 */
+    public static final String TYPE_OPERATION_LOGS = "OPERATION_LOGS";
+
+    /** 訓練セッションの終了 */
+    public static final String TYPE_SESSION_END = "SESSION_END";
+
+    private String type;
+
+    private String tenantId;
+
+    private String sessionId;
+
+    /** 受信日時（発生日時が省略された操作ログに使用する） */
+    private LocalDateTime receivedAt;
+
+    /** 操作ログ（OPERATION_LOGSの場合） */
+    private List<OperationLogEvent> events;
+
+    /** Unityで計測した指標（SESSION_ENDの場合。null可） */
+    private UnitySessionEndRequest metrics;
+}
@@ -0,0 +1,18 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unityコマンドリクエスト（JSON / CBOR）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnityCommandRequest {
+
+    private String command;
+
+    private String sessionId;
+}
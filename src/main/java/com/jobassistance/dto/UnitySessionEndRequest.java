@@ -0,0 +1,29 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unity訓練セッション終了リクエスト（JSON / CBOR）
+ * Unityで計測した指標を送信する。送信されなかった指標はサーバー側で補完する
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnitySessionEndRequest {
+
+    private Double safetyScore;
+
+    private Integer errorCount;
+
+    private Double procedureComplianceRate;
+
+    private Double achievementRate;
+
+    private Double accuracyScore;
+
+    private Double efficiencyScore;
+
+    private String notes;
+}
@@ -0,0 +1,20 @@
+package com.jobassistance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unity訓練セッション開始リクエスト（JSON / CBOR）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnitySessionStartRequest {
+
+    /** 就労者ID（必須） */
+    private Long workerId;
+
+    /** 訓練メニューID */
+    private Long menuId;
+}
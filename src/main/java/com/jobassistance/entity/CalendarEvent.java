@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,7 +18,9 @@ import java.util.List;
  * カレンダーイベントエンティティ
  */
 @Entity
-@Table(name = "calendar_events")
+@Table(name = "calendar_events", indexes = {
+        @Index(name = "idx_calendar_events_worker_updated", columnList = "worker_id, updatedAt")
+})
 @Data
 @EqualsAndHashCode(exclude = "worker")
 @ToString(exclude = "worker")
@@ -27,6 +31,12 @@ public class CalendarEvent {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** テナント（派遣機関）ID */
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "worker_id")
     private Worker worker;
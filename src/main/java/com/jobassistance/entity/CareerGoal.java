@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.TenantId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,17 +18,26 @@ import java.time.LocalDateTime;
  * キャリア目標エンティティ
  */
 @Entity
-@Table(name = "career_goals")
+@Table(name = "career_goals", indexes = {
+        @Index(name = "idx_career_goals_worker_updated", columnList = "worker_id, updatedAt")
+})
 @Data
 @EqualsAndHashCode(exclude = "worker")
 @ToString(exclude = "worker")
 @EntityListeners(AuditingEntityListener.class)
-public class CareerGoal {
+@DynamicUpdate
+public class CareerGoal implements VersionedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** テナント（派遣機関）ID */
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "worker_id", nullable = false)
     private Worker worker;
@@ -60,6 +72,12 @@ public class CareerGoal {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    /** 楽観的ロック用のバージョン */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,7 +17,9 @@ import java.time.LocalDateTime;
  * 建設シミュレーター訓練エンティティ
  */
 @Entity
-@Table(name = "construction_simulator_trainings")
+@Table(name = "construction_simulator_trainings", indexes = {
+        @Index(name = "idx_construction_simulator_trainings_worker_updated", columnList = "worker_id, updatedAt")
+})
 @Data
 @EqualsAndHashCode(exclude = "worker")
 @ToString(exclude = "worker")
@@ -26,6 +30,12 @@ public class ConstructionSimulatorTraining {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** テナント（派遣機関）ID */
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "worker_id", nullable = false)
     private Worker worker;
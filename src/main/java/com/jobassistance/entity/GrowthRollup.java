@@ -0,0 +1,60 @@
+package com.jobassistance.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 成長指標の時系列集計エンティティ
+ * 統合成長記録・KPIスコアを日次・週次・月次の単位で就労者別・コホート別に事前集計する
+ * コホート（国籍・全体）はテナントごとに集計する
+ */
+@Entity
+@Table(name = "growth_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_growth_rollups_tenant_bucket",
+                columnNames = { "tenant_id", "scope_type", "scope_key", "metric", "granularity", "bucket_start" }))
+@Data
+public class GrowthRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false, length = 50)
+    private String tenantId;
+
+    @Column(name = "scope_type", nullable = false, length = 20)
+    private String scopeType; // WORKER, NATIONALITY, ALL
+
+    @Column(name = "scope_key", nullable = false, length = 100)
+    private String scopeKey; // 就労者ID、国籍、または「*」
+
+    @Column(nullable = false, length = 50)
+    private String metric; // growth.overall, kpi.safety など
+
+    @Column(nullable = false, length = 10)
+    private String granularity; // DAILY, WEEKLY, MONTHLY
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(nullable = false)
+    private Long sampleCount;
+
+    @Column(nullable = false)
+    private Double sumValue;
+
+    @Column(nullable = false)
+    private Double minValue;
+
+    @Column(nullable = false)
+    private Double maxValue;
+
+    @Column(nullable = false)
+    private Double lastValue; // 集計区間内で最も新しい値
+
+    @Column(nullable = false)
+    private LocalDateTime lastAt;
+}
@@ -0,0 +1,41 @@
+package com.jobassistance.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 冪等キーエンティティ
+ * クライアントが指定したIdempotency-Keyごとに、最初の要求への応答を保持する
+ * キー自体は保存せず、テナントIDとキーのSHA-256ハッシュ（Base64URL）を主キーとする
+ * 読み書きはIdempotencyServiceがJDBCで行い、このエンティティはテーブル定義にのみ使用する
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Data
+@ToString(exclude = "responseBody")
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "key_hash", length = 43)
+    private String keyHash;
+
+    @Column(name = "request_hash", nullable = false)
+    private Integer requestHash; // メソッドとパスのハッシュ
+
+    @Column(name = "status_code", nullable = false)
+    private Short statusCode;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "response_body")
+    private byte[] responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,28 @@
+package com.jobassistance.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * テレメトリージャーナルの反映済み位置エンティティ
+ * ジャーナル（アプリケーションインスタンスのローカルディスク）ごとに、データベースへ反映した位置を保持する
+ * 操作ログの登録と同じトランザクションで更新するため、再起動後の再反映で操作ログが重複しない
+ * 読み書きはTelemetryJournalServiceがJDBCで行い、このエンティティはテーブル定義にのみ使用する
+ */
+@Entity
+@Table(name = "telemetry_journal_checkpoints")
+@Data
+public class TelemetryJournalCheckpoint {
+
+    @Id
+    @Column(name = "journal_id", length = 36)
+    private String journalId;
+
+    @Column(nullable = false)
+    private Long position;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
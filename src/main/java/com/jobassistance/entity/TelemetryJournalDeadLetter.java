@@ -0,0 +1,52 @@
+package com.jobassistance.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * データベースに反映できなかったテレメトリージャーナルの記録エンティティ
+ * 同じ記録の反映が規定回数失敗した場合に記録をこのテーブルへ移し、ジャーナルの反映を先へ進める
+ * 読み書きはTelemetryJournalServiceがJDBCで行い、このエンティティはテーブル定義にのみ使用する
+ */
+@Entity
+@Table(name = "telemetry_journal_dead_letters", indexes = {
+        @Index(name = "idx_telemetry_journal_dead_letters_created", columnList = "created_at")
+})
+@Data
+public class TelemetryJournalDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "journal_id", nullable = false, length = 36)
+    private String journalId;
+
+    /** 記録の直後の位置（ジャーナル内で記録を一意に識別する） */
+    @Column(nullable = false)
+    private Long position;
+
+    @Column(name = "record_type", length = 20)
+    private String recordType;
+
+    @Column(name = "tenant_id", length = 50)
+    private String tenantId;
+
+    @Column(name = "session_id", length = 100)
+    private String sessionId;
+
+    /** ジャーナルの記録（CBOR）をそのまま保持する */
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
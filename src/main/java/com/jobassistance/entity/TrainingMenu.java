@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,7 +23,8 @@ import java.util.List;
 @EqualsAndHashCode(exclude = {"trainingSessions", "menuAssignments"})
 @ToString(exclude = {"trainingSessions", "menuAssignments"})
 @EntityListeners(AuditingEntityListener.class)
-public class TrainingMenu {
+@DynamicUpdate
+public class TrainingMenu implements VersionedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -66,6 +69,12 @@ public class TrainingMenu {
     @Column(length = 100)
     private String createdBy;
 
+    /** 楽観的ロック用のバージョン */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,9 +15,13 @@ import java.time.LocalDateTime;
 
 /**
  * 訓練メニュー割り当てエンティティ
+ * 同じ就労者に同じ訓練メニューを重複して割り当てない（一括割り当てはこの一意制約で既存の割り当てを読み飛ばす）
  */
 @Entity
-@Table(name = "training_menu_assignments")
+@Table(name = "training_menu_assignments", indexes = {
+        @Index(name = "idx_training_menu_assignments_worker_updated", columnList = "worker_id, updatedAt")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_training_menu_assignments_worker_menu",
+        columnNames = { "tenant_id", "worker_id", "training_menu_id" }))
 @Data
 @EqualsAndHashCode(exclude = { "worker", "trainingMenu" })
 @ToString(exclude = { "worker", "trainingMenu" })
@@ -26,6 +32,12 @@ public class TrainingMenuAssignment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** テナント（派遣機関）ID */
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "worker_id", nullable = false)
     private Worker worker;
@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.TenantId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -20,12 +23,19 @@ import java.util.List;
 @EqualsAndHashCode(exclude = { "worker", "trainingMenu", "kpiScores", "operationLogs" })
 @ToString(exclude = { "worker", "trainingMenu", "kpiScores", "operationLogs" })
 @EntityListeners(AuditingEntityListener.class)
-public class TrainingSession {
+@DynamicUpdate
+public class TrainingSession implements VersionedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** テナント（派遣機関）ID */
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @Column(unique = true, nullable = false, length = 100)
     private String sessionId;
 
@@ -40,8 +50,11 @@ public class TrainingSession {
     @Column(nullable = false)
     private LocalDateTime sessionStartTime;
 
-    @Column(nullable = false)
-    private LocalDateTime sessionEndTime;
+    @Column
+    private LocalDateTime sessionEndTime; // 終了前はnull
+
+    @Column
+    private LocalDateTime lastHeartbeatAt; // Unityからの最終ハートビート日時
 
     @Column
     private Integer durationSeconds;
@@ -55,6 +68,12 @@ public class TrainingSession {
     @Column(length = 50)
     private String status = "完了";
 
+    /** 楽観的ロック用のバージョン */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
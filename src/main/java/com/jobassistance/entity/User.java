@@ -1,9 +1,11 @@
 package com.jobassistance.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,7 +19,7 @@ import java.time.LocalDateTime;
 @Table(name = "users")
 @Data
 @EqualsAndHashCode(exclude = "worker")
-@ToString(exclude = {"passwordHash", "worker"})
+@ToString(exclude = {"passwordHash", "mfaSecret", "backupCodes", "worker"})
 @EntityListeners(AuditingEntityListener.class)
 public class User {
 
@@ -28,6 +30,8 @@ public class User {
     @Column(unique = true, nullable = false, length = 100)
     private String username;
 
+    /** 認証情報のため、APIの応答には含めない */
+    @JsonIgnore
     @Column(nullable = false, length = 256)
     private String passwordHash;
 
@@ -37,6 +41,11 @@ public class User {
     @Column(nullable = false, length = 50)
     private String role = "trainee"; // trainee, administrator, auditor
 
+    /** 所属テナント（派遣機関）ID（ユーザーはテナント共通のテーブルで管理し、ログイン時にトークンへ含める） */
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 50)
+    private String tenantId = "default";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "worker_id")
     private Worker worker;
@@ -51,9 +60,13 @@ public class User {
     @Column
     private Boolean mfaEnabled = false;
 
+    /** TOTPのシークレット（漏れるとコードを生成できるため、APIの応答には含めない） */
+    @JsonIgnore
     @Column(length = 32)
     private String mfaSecret;
 
+    /** ハッシュ化したバックアップコード（APIの応答には含めない） */
+    @JsonIgnore
     @Column(columnDefinition = "TEXT")
     private String backupCodes;
 
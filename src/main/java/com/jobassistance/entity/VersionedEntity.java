@@ -0,0 +1,18 @@
+package com.jobassistance.entity;
+
+/**
+ * 楽観的ロック（@Version）で同時更新を検出するエンティティ
+ * 部分更新（JSON Merge Patch）の対象となる
+ */
+public interface VersionedEntity {
+
+    /**
+     * @return ID
+     */
+    Long getId();
+
+    /**
+     * @return 楽観的ロック用のバージョン
+     */
+    Long getVersion();
+}
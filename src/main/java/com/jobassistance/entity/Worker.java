@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.TenantId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,7 +21,11 @@ import java.util.List;
  * 外国人就労者エンティティ
  */
 @Entity
-@Table(name = "workers")
+@Table(name = "workers", indexes = {
+        @Index(name = "idx_workers_tenant_id", columnList = "tenant_id"),
+        @Index(name = "idx_workers_deleted_at", columnList = "deleted_at")
+})
+@SQLRestriction(Worker.ACTIVE_CONDITION)
 @Data
 @EqualsAndHashCode(exclude = { "progressRecords", "documents", "notifications", "trainingEnrollments",
         "evaluations", "messages", "calendarEvents", "reports", "japaneseProficiencies",
@@ -26,12 +34,22 @@ import java.util.List;
         "evaluations", "messages", "calendarEvents", "reports", "japaneseProficiencies",
         "skillTrainings", "japaneseLearningRecords", "preDepartureSupports" })
 @EntityListeners(AuditingEntityListener.class)
-public class Worker {
+@DynamicUpdate
+public class Worker implements VersionedEntity {
+
+    /** 論理削除された就労者を照会から除外する条件（JPQL・IDによる取得・関連の読み込みのすべてに適用される） */
+    public static final String ACTIVE_CONDITION = "deleted_at IS NULL";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** テナント（派遣機関）ID（保存時にHibernateが現在のテナントを設定し、照会時の条件にも自動で追加する） */
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @Column(nullable = false, length = 100)
     private String name;
 
@@ -83,6 +101,16 @@ public class Worker {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    /** 楽観的ロック用のバージョン（更新のたびに加算され、更新時に読み込んだ値と異なれば競合として扱う） */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /** 論理削除日時（設定された就労者と関連データはWorkerPurgeServiceがバックグラウンドで物理削除する） */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -2,6 +2,7 @@ package com.jobassistance.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -61,6 +62,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * HttpMessageNotReadableExceptionをハンドリングする
+     * リクエスト本文（JSON / CBOR）を型付きのスキーマに変換できない場合
+     * 
+     * @param e 例外
+     * @return エラーレスポンス（HTTP 400）
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, Object>> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("error", "Malformed request body: " + e.getMostSpecificCause().getMessage());
+        response.put("type", "HttpMessageNotReadableException");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     /**
      * NullPointerExceptionをハンドリングする
      * 
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 建設シミュレーター訓練リポジトリ
@@ -12,5 +13,7 @@ import java.util.List;
 @Repository
 public interface ConstructionSimulatorTrainingRepository extends JpaRepository<ConstructionSimulatorTraining, Long> {
 
+    Optional<ConstructionSimulatorTraining> findByIdAndWorkerId(Long id, Long workerId);
+
     List<ConstructionSimulatorTraining> findByWorkerId(Long workerId);
 }
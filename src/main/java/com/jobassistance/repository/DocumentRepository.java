@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * ドキュメントリポジトリ
@@ -12,6 +13,8 @@ import java.util.List;
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, Long> {
 
+    Optional<Document> findByIdAndWorkerId(Long id, Long workerId);
+
     List<Document> findByWorkerId(Long workerId);
 
     List<Document> findByWorkerIdAndDocumentType(Long workerId, String documentType);
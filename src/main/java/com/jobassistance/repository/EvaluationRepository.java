@@ -5,12 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 評価リポジトリ
  */
 @Repository
 public interface EvaluationRepository extends JpaRepository<Evaluation, Long> {
+
+    Optional<Evaluation> findByIdAndWorkerId(Long id, Long workerId);
     
     List<Evaluation> findByWorkerId(Long workerId);
     
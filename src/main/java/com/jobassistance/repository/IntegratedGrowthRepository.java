@@ -5,12 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 統合成長リポジトリ
  */
 @Repository
 public interface IntegratedGrowthRepository extends JpaRepository<IntegratedGrowth, Long> {
+
+    Optional<IntegratedGrowth> findByIdAndWorkerId(Long id, Long workerId);
     
     List<IntegratedGrowth> findByWorkerId(Long workerId);
 }
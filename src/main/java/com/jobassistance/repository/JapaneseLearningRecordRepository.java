@@ -5,12 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 日本語学習記録リポジトリ
  */
 @Repository
 public interface JapaneseLearningRecordRepository extends JpaRepository<JapaneseLearningRecord, Long> {
+
+    Optional<JapaneseLearningRecord> findByIdAndWorkerId(Long id, Long workerId);
     
     List<JapaneseLearningRecord> findByWorkerId(Long workerId);
     
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 日本語能力リポジトリ
@@ -12,6 +13,8 @@ import java.util.List;
 @Repository
 public interface JapaneseProficiencyRepository extends JpaRepository<JapaneseProficiency, Long> {
 
+    Optional<JapaneseProficiency> findByIdAndWorkerId(Long id, Long workerId);
+
     List<JapaneseProficiency> findByWorkerId(Long workerId);
 
     List<JapaneseProficiency> findByWorkerIdAndTestType(Long workerId, String testType);
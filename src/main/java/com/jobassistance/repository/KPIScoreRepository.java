@@ -0,0 +1,27 @@
+package com.jobassistance.repository;
+
+import com.jobassistance.entity.KPIScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * KPIスコアリポジトリ
+ */
+@Repository
+public interface KPIScoreRepository extends JpaRepository<KPIScore, Long> {
+
+    List<KPIScore> findByTrainingSessionId(Long trainingSessionId);
+
+    /**
+     * 就労者のKPIスコア履歴を訓練セッションと合わせて取得する
+     *
+     * @param workerId 就労者ID
+     * @return KPIスコアのリスト（作成日時順）
+     */
+    @Query("SELECT k FROM KPIScore k JOIN FETCH k.trainingSession s WHERE s.worker.id = :workerId ORDER BY k.createdAt")
+    List<KPIScore> findHistoryByWorkerId(@Param("workerId") Long workerId);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * メッセージリポジトリ
@@ -12,6 +13,8 @@ import java.util.List;
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
+    Optional<Message> findByIdAndWorkerId(Long id, Long workerId);
+
     List<Message> findByWorkerId(Long workerId);
 
     List<Message> findByWorkerIdAndIsReadFalse(Long workerId);
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * マイルストーンリポジトリ
@@ -12,6 +13,15 @@ import java.util.List;
 @Repository
 public interface MilestoneRepository extends JpaRepository<Milestone, Long> {
 
+    /**
+     * IDと就労者IDで検索する（就労者の一致はSQLの条件で判定する）
+     * 
+     * @param id ID
+     * @param workerId 就労者ID
+     * @return 該当するレコード
+     */
+    Optional<Milestone> findByIdAndWorkerId(Long id, Long workerId);
+
     /**
      * 就労者IDでマイルストーンを検索する
      * 
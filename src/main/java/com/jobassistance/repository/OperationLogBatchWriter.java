@@ -0,0 +1,81 @@
+package com.jobassistance.repository;
+
+import com.jobassistance.entity.OperationLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 操作ログの一括登録
+ * Unityから大量に送信される操作ログを、エンティティの永続化を経由せずJDBCのバッチ更新で登録する
+ */
+@Repository
+public class OperationLogBatchWriter {
+
+    /** 1回のバッチで送信する行数 */
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO operation_logs (training_session_id, timestamp, operation_type, operation_value, "
+            + "equipment_state, position_x, position_y, position_z, velocity, error_event, error_description, "
+            + "achievement_event, achievement_description, event_type, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OperationLogBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 訓練セッションの操作ログを一括登録する
+     *
+     * @param trainingSessionId 訓練セッションID
+     * @param logs 操作ログ（trainingSessionは参照しない）
+     * @return 登録件数
+     */
+    public int write(Long trainingSessionId, List<OperationLog> logs) {
+        return write(Map.of(trainingSessionId, logs));
+    }
+
+    /**
+     * 複数の訓練セッションの操作ログをまとめて一括登録する
+     *
+     * @param logsBySession 訓練セッションIDごとの操作ログ（trainingSessionは参照しない）
+     * @return 登録件数
+     */
+    public int write(Map<Long, List<OperationLog>> logsBySession) {
+        List<Map.Entry<Long, OperationLog>> rows = new ArrayList<>();
+        logsBySession.forEach((trainingSessionId, logs) ->
+                logs.forEach(log -> rows.add(Map.entry(trainingSessionId, log))));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            OperationLog log = row.getValue();
+            ps.setLong(1, row.getKey());
+            ps.setTimestamp(2, Timestamp.valueOf(log.getTimestamp()));
+            ps.setString(3, log.getOperationType());
+            ps.setObject(4, log.getOperationValue(), Types.DOUBLE);
+            ps.setString(5, log.getEquipmentState());
+            ps.setObject(6, log.getPositionX(), Types.DOUBLE);
+            ps.setObject(7, log.getPositionY(), Types.DOUBLE);
+            ps.setObject(8, log.getPositionZ(), Types.DOUBLE);
+            ps.setObject(9, log.getVelocity(), Types.DOUBLE);
+            ps.setBoolean(10, Boolean.TRUE.equals(log.getErrorEvent()));
+            ps.setString(11, log.getErrorDescription());
+            ps.setBoolean(12, Boolean.TRUE.equals(log.getAchievementEvent()));
+            ps.setString(13, log.getAchievementDescription());
+            ps.setString(14, log.getEventType());
+            ps.setTimestamp(15, createdAt);
+        });
+        return rows.size();
+    }
+}
@@ -0,0 +1,42 @@
+package com.jobassistance.repository;
+
+import com.jobassistance.entity.OperationLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 操作ログリポジトリ
+ */
+@Repository
+public interface OperationLogRepository extends JpaRepository<OperationLog, Long> {
+
+    List<OperationLog> findByTrainingSessionIdOrderByTimestamp(Long trainingSessionId);
+
+    /**
+     * 訓練セッションの操作ログ件数・エラー件数・達成件数を1回の集計で取得する
+     *
+     * @param trainingSessionId 訓練セッションID
+     * @return 集計結果
+     */
+    @Query("SELECT COUNT(o) AS total, "
+            + "COALESCE(SUM(CASE WHEN o.errorEvent = true THEN 1 ELSE 0 END), 0) AS errors, "
+            + "COALESCE(SUM(CASE WHEN o.achievementEvent = true THEN 1 ELSE 0 END), 0) AS achievements "
+            + "FROM OperationLog o WHERE o.trainingSession.id = :trainingSessionId")
+    OperationLogSummary summarizeByTrainingSessionId(@Param("trainingSessionId") Long trainingSessionId);
+
+    /**
+     * 操作ログの集計結果
+     */
+    interface OperationLogSummary {
+
+        long getTotal();
+
+        long getErrors();
+
+        long getAchievements();
+    }
+}
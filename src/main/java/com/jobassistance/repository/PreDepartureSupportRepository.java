@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 来日前支援リポジトリ
@@ -12,6 +13,8 @@ import java.util.List;
 @Repository
 public interface PreDepartureSupportRepository extends JpaRepository<PreDepartureSupport, Long> {
 
+    Optional<PreDepartureSupport> findByIdAndWorkerId(Long id, Long workerId);
+
     List<PreDepartureSupport> findByWorkerId(Long workerId);
 
     List<PreDepartureSupport> findByWorkerIdAndStatus(Long workerId, String status);
@@ -0,0 +1,61 @@
+package com.jobassistance.repository;
+
+import com.jobassistance.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * リフレッシュトークンリポジトリ
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * トークンハッシュでリフレッシュトークンをユーザーとともに取得する
+     *
+     * @param tokenHash トークンのSHA-256ハッシュ
+     * @return リフレッシュトークン
+     */
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 未使用のリフレッシュトークンを使用済みにする
+     * 同じトークンで同時に更新された場合、1件の要求のみが更新できる
+     *
+     * @param id リフレッシュトークンID
+     * @param rotatedAt 使用日時
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.rotatedAt = :rotatedAt "
+            + "WHERE t.id = :id AND t.rotatedAt IS NULL AND t.revokedAt IS NULL")
+    int markRotated(@Param("id") Long id, @Param("rotatedAt") LocalDateTime rotatedAt);
+
+    /**
+     * ファミリー内のリフレッシュトークンをすべて無効化する
+     *
+     * @param familyId ファミリーID
+     * @param revokedAt 無効化日時
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :revokedAt WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * 期限切れのリフレッシュトークンを削除する
+     *
+     * @param expiresBefore この日時より前に期限切れとなったトークンを削除する
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :expiresBefore")
+    int deleteExpired(@Param("expiresBefore") LocalDateTime expiresBefore);
+}
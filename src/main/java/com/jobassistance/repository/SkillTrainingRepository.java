@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 技能訓練リポジトリ
@@ -12,6 +13,8 @@ import java.util.List;
 @Repository
 public interface SkillTrainingRepository extends JpaRepository<SkillTraining, Long> {
 
+    Optional<SkillTraining> findByIdAndWorkerId(Long id, Long workerId);
+
     List<SkillTraining> findByWorkerId(Long workerId);
 
     List<SkillTraining> findByWorkerIdAndSkillCategory(Long workerId, String skillCategory);
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 特定技能移行リポジトリ
@@ -12,5 +13,7 @@ import java.util.List;
 @Repository
 public interface SpecificSkillTransitionRepository extends JpaRepository<SpecificSkillTransition, Long> {
 
+    Optional<SpecificSkillTransition> findByIdAndWorkerId(Long id, Long workerId);
+
     List<SpecificSkillTransition> findByWorkerId(Long workerId);
 }
@@ -5,12 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 訓練メニュー割り当てリポジトリ
  */
 @Repository
 public interface TrainingMenuAssignmentRepository extends JpaRepository<TrainingMenuAssignment, Long> {
+
+    Optional<TrainingMenuAssignment> findByIdAndWorkerId(Long id, Long workerId);
     
     List<TrainingMenuAssignment> findByWorkerId(Long workerId);
     
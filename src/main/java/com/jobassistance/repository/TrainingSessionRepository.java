@@ -2,8 +2,12 @@ package com.jobassistance.repository;
 
 import com.jobassistance.entity.TrainingSession;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +26,24 @@ public interface TrainingSessionRepository extends JpaRepository<TrainingSession
      */
     Optional<TrainingSession> findBySessionId(String sessionId);
 
+    /**
+     * 就労者IDを条件に含めてIDで訓練セッションを検索する
+     *
+     * @param id 訓練セッションID
+     * @param workerId 就労者ID
+     * @return 該当する訓練セッション（就労者が一致しない場合は空）
+     */
+    Optional<TrainingSession> findByIdAndWorkerId(Long id, Long workerId);
+
+    /**
+     * 就労者IDを条件に含めてセッションIDで訓練セッションを検索する
+     *
+     * @param sessionId セッションID
+     * @param workerId 就労者ID
+     * @return 該当する訓練セッション（就労者が一致しない場合は空）
+     */
+    Optional<TrainingSession> findBySessionIdAndWorkerId(String sessionId, Long workerId);
+
     /**
      * 就労者IDで訓練セッションを検索する
      *
@@ -37,4 +59,55 @@ public interface TrainingSessionRepository extends JpaRepository<TrainingSession
      * @return 該当する訓練セッションのリスト
      */
     List<TrainingSession> findByTrainingMenuId(Long trainingMenuId);
+
+    /**
+     * 就労者と訓練メニューを合わせてセッションIDで訓練セッションを取得する
+     *
+     * @param sessionId セッションID
+     * @return 該当する訓練セッション
+     */
+    @Query("SELECT s FROM TrainingSession s LEFT JOIN FETCH s.worker LEFT JOIN FETCH s.trainingMenu "
+            + "WHERE s.sessionId = :sessionId")
+    Optional<TrainingSession> findWithWorkerAndMenuBySessionId(@Param("sessionId") String sessionId);
+
+    /**
+     * セッションIDから訓練セッションの主キーのみを取得する
+     *
+     * @param sessionId セッションID
+     * @return 訓練セッションの主キー
+     */
+    @Query("SELECT s.id FROM TrainingSession s WHERE s.sessionId = :sessionId")
+    Optional<Long> findIdBySessionId(@Param("sessionId") String sessionId);
+
+    /**
+     * 実行中の訓練セッションの最終ハートビート日時を更新する
+     *
+     * @param sessionId セッションID
+     * @param heartbeatAt ハートビート日時
+     * @return 更新件数（実行中のセッションがない場合は0）
+     */
+    @Modifying
+    @Query("UPDATE TrainingSession s SET s.lastHeartbeatAt = :heartbeatAt "
+            + "WHERE s.sessionId = :sessionId AND s.sessionEndTime IS NULL")
+    int touchHeartbeat(@Param("sessionId") String sessionId, @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    /**
+     * 実行中の訓練セッションを終了し、所要時間をデータベース側で計算する
+     * ネイティブクエリにはテナントの条件が自動で追加されないため、テナントIDを明示的に指定する
+     *
+     * @param sessionId セッションID
+     * @param tenantId テナントID
+     * @param endTime 終了日時
+     * @param status 終了後のステータス
+     * @return 更新件数（実行中のセッションがない場合は0）
+     */
+    @Modifying
+    @Query(value = "UPDATE training_sessions SET session_end_time = CAST(:endTime AS timestamp), "
+            + "last_heartbeat_at = CAST(:endTime AS timestamp), "
+            + "duration_seconds = CAST(EXTRACT(EPOCH FROM (CAST(:endTime AS timestamp) - session_start_time)) AS integer), "
+            + "status = :status "
+            + "WHERE session_id = :sessionId AND tenant_id = :tenantId AND session_end_time IS NULL",
+            nativeQuery = true)
+    int closeSession(@Param("sessionId") String sessionId, @Param("tenantId") String tenantId,
+            @Param("endTime") LocalDateTime endTime, @Param("status") String status);
 }
@@ -4,6 +4,7 @@ import com.jobassistance.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +20,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    /**
+     * テナントに所属するユーザーを取得する
+     *
+     * @param tenantId テナントID
+     * @return ユーザー一覧
+     */
+    List<User> findByTenantId(String tenantId);
+
+    /**
+     * テナントに所属するユーザーをIDで取得する
+     *
+     * @param id ユーザーID
+     * @param tenantId テナントID
+     * @return ユーザー（他のテナントのユーザーの場合は空）
+     */
+    Optional<User> findByIdAndTenantId(Long id, String tenantId);
 }
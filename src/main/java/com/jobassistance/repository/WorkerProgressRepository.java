@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 就労者進捗リポジトリ
@@ -12,6 +13,8 @@ import java.util.List;
 @Repository
 public interface WorkerProgressRepository extends JpaRepository<WorkerProgress, Long> {
 
+    Optional<WorkerProgress> findByIdAndWorkerId(Long id, Long workerId);
+
     List<WorkerProgress> findByWorkerId(Long workerId);
 
     List<WorkerProgress> findByWorkerIdAndProgressType(Long workerId, String progressType);
@@ -4,6 +4,7 @@ import com.jobassistance.entity.Worker;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,14 @@ public interface WorkerRepository extends JpaRepository<Worker, Long> {
      */
     Optional<Worker> findByEmail(String email);
 
+    /**
+     * 複数のメールアドレスで就労者を一括検索する
+     * 
+     * @param emails メールアドレスの集合
+     * @return 該当する就労者のリスト
+     */
+    List<Worker> findByEmailIn(Collection<String> emails);
+
     /**
      * 名前（部分一致、大文字小文字を区別しない）で就労者を検索する
      * 
@@ -0,0 +1,30 @@
+package com.jobassistance.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * アクセストークンに含まれる認証情報
+ * リクエストごとの認可はこの情報のみで行い、ユーザーテーブルを参照しない
+ */
+@Getter
+@AllArgsConstructor
+public class AccessTokenClaims {
+
+    public static final String ROLE_TRAINEE = "trainee";
+    public static final String ROLE_ADMINISTRATOR = "administrator";
+    public static final String ROLE_AUDITOR = "auditor";
+
+    private final Long userId;
+    private final String username;
+    private final String role;
+
+    /** 紐づく就労者ID（就労者と紐づかないユーザーはnull） */
+    private final Long workerId;
+
+    /** 所属テナント（派遣機関）ID */
+    private final String tenantId;
+
+    /** 有効期限（エポック秒） */
+    private final long expiresAt;
+}
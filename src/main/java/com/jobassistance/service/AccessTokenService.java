@@ -0,0 +1,189 @@
+package com.jobassistance.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jobassistance.config.TenantContext;
+import com.jobassistance.entity.User;
+import com.jobassistance.util.JsonUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * アクセストークン（HS256署名のJWT）の発行・検証サービス
+ *
+ * トークンにはユーザーID・ロール・就労者ID・テナントIDを含め、検証は署名と有効期限の確認のみで完結させる
+ * 署名鍵はキーIDごとにスレッド単位のMacとして保持し、検証のたびに鍵を初期化しない
+ * 鍵を入れ替える場合は新しい鍵を追加して署名に使用する鍵IDを切り替え、古い鍵は発行済みトークンの期限切れ後に削除する
+ */
+@Slf4j
+@Service
+public class AccessTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Value("${app.security.token.issuer:job-assistance}")
+    private String issuer;
+
+    @Value("${app.security.token.access-ttl-minutes:15}")
+    private long accessTtlMinutes;
+
+    @Value("${app.security.token.clock-skew-seconds:30}")
+    private long clockSkewSeconds;
+
+    /** 署名鍵（キーID:Base64の鍵 をカンマ区切りで指定） */
+    @Value("${app.security.token.keys:}")
+    private String keys;
+
+    @Value("${app.security.token.active-key-id:}")
+    private String activeKeyId;
+
+    private final Map<String, ThreadLocal<Mac>> macs = new HashMap<>();
+
+    /** 署名に使用する鍵のヘッダー部（Base64URLエンコード済み） */
+    private String encodedHeader;
+
+    @PostConstruct
+    void init() {
+        for (String entry : keys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("app.security.token.keys must be formatted as <kid>:<base64 secret>");
+            }
+            registerKey(entry.substring(0, separator).trim(),
+                    Base64.getDecoder().decode(entry.substring(separator + 1).trim()));
+        }
+        if (macs.isEmpty()) {
+            log.warn("No access token keys configured; using an ephemeral key (tokens will not survive a restart)");
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            activeKeyId = "ephemeral";
+            registerKey(activeKeyId, secret);
+        }
+        if (activeKeyId.isBlank()) {
+            activeKeyId = macs.keySet().iterator().next();
+        }
+        if (!macs.containsKey(activeKeyId)) {
+            throw new IllegalStateException("Unknown active access token key id: " + activeKeyId);
+        }
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "HS256");
+        header.put("typ", "JWT");
+        header.put("kid", activeKeyId);
+        encodedHeader = ENCODER.encodeToString(JsonUtil.toJson(header).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void registerKey(String keyId, byte[] secret) {
+        if (secret.length < 32) {
+            throw new IllegalStateException("Access token key " + keyId + " must be at least 256 bits");
+        }
+        SecretKeySpec keySpec = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        macs.put(keyId, ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC is not available", e);
+            }
+        }));
+    }
+
+    /**
+     * アクセストークンを発行する
+     *
+     * @param user ユーザー
+     * @return アクセストークン
+     */
+    public String issue(User user) {
+        long now = System.currentTimeMillis() / 1000;
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("iss", issuer);
+        payload.put("sub", String.valueOf(user.getId()));
+        payload.put("name", user.getUsername());
+        payload.put("role", user.getRole());
+        payload.put("tid", user.getTenantId());
+        if (user.getWorker() != null) {
+            payload.put("wid", user.getWorker().getId());
+        }
+        payload.put("iat", now);
+        payload.put("exp", now + accessTtlMinutes * 60);
+
+        String signingInput = encodedHeader + "."
+                + ENCODER.encodeToString(JsonUtil.toJson(payload).getBytes(StandardCharsets.UTF_8));
+        return signingInput + "." + ENCODER.encodeToString(sign(activeKeyId, signingInput));
+    }
+
+    /**
+     * アクセストークンを検証する
+     *
+     * @param token アクセストークン
+     * @return 認証情報（署名・発行者・有効期限のいずれかが不正な場合はnull）
+     */
+    public AccessTokenClaims verify(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot <= firstDot || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+        try {
+            JsonNode header = JsonUtil.getObjectMapper().readTree(DECODER.decode(token.substring(0, firstDot)));
+            if (!"HS256".equals(header.path("alg").asText()) || !macs.containsKey(header.path("kid").asText())) {
+                return null;
+            }
+            byte[] expected = sign(header.path("kid").asText(), token.substring(0, secondDot));
+            if (!MessageDigest.isEqual(expected, DECODER.decode(token.substring(secondDot + 1)))) {
+                return null;
+            }
+
+            JsonNode payload = JsonUtil.getObjectMapper().readTree(
+                    DECODER.decode(token.substring(firstDot + 1, secondDot)));
+            long now = System.currentTimeMillis() / 1000;
+            long expiresAt = payload.path("exp").asLong();
+            if (!issuer.equals(payload.path("iss").asText()) || expiresAt + clockSkewSeconds < now) {
+                return null;
+            }
+            JsonNode workerId = payload.get("wid");
+            return new AccessTokenClaims(
+                    Long.valueOf(payload.path("sub").asText()),
+                    payload.path("name").asText(),
+                    payload.path("role").asText(),
+                    workerId != null && !workerId.isNull() ? workerId.asLong() : null,
+                    payload.path("tid").asText(TenantContext.DEFAULT_TENANT),
+                    expiresAt);
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * アクセストークンの有効期間（秒）を取得する
+     *
+     * @return 有効期間（秒）
+     */
+    public long getAccessTtlSeconds() {
+        return accessTtlMinutes * 60;
+    }
+
+    private byte[] sign(String keyId, String signingInput) {
+        Mac mac = macs.get(keyId).get();
+        return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+}
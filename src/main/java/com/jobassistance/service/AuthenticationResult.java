@@ -0,0 +1,38 @@
+package com.jobassistance.service;
+
+import com.jobassistance.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ログイン認証の結果
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticationResult {
+
+    /** 認証結果の種別 */
+    public enum Outcome {
+        SUCCESS, INVALID_CREDENTIALS, INACTIVE, MFA_REQUIRED, INVALID_MFA_CODE, RATE_LIMITED, BUSY
+    }
+
+    private final Outcome outcome;
+
+    /** 認証に成功したユーザー（成功時のみ） */
+    private final User user;
+
+    /** 再試行までの待機秒数（RATE_LIMITED・BUSYの場合のみ） */
+    private final long retryAfterSeconds;
+
+    static AuthenticationResult of(Outcome outcome) {
+        return new AuthenticationResult(outcome, null, 0);
+    }
+
+    static AuthenticationResult retryAfter(Outcome outcome, long retryAfterSeconds) {
+        return new AuthenticationResult(outcome, null, retryAfterSeconds);
+    }
+
+    static AuthenticationResult success(User user) {
+        return new AuthenticationResult(Outcome.SUCCESS, user, 0);
+    }
+}
@@ -0,0 +1,245 @@
+package com.jobassistance.service;
+
+import com.jobassistance.entity.User;
+import com.jobassistance.repository.UserRepository;
+import com.jobassistance.util.SlidingWindowRateLimiter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * ログイン認証サービス
+ *
+ * パスワードの照合は専用の上限付きExecutorで実行し、シフト交代時にログインが集中してもCPUを使い切らないようにする
+ * 照合に成功した認証情報はプロセス内の鍵によるHMACとして短時間保持し、同じ認証情報の再ログインでは照合を省略する
+ * 照合前にユーザー単位・IPアドレス単位のレート制限を行い、超過した要求は照合せずに拒否する
+ */
+@Slf4j
+@Service
+public class AuthenticationService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MfaService mfaService;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    @Value("${app.security.password.verify-timeout-ms:5000}")
+    private long verifyTimeoutMs;
+
+    @Value("${app.security.password.cache-ttl-minutes:10}")
+    private long cacheTtlMinutes;
+
+    @Value("${app.security.password.cache-max-entries:10000}")
+    private int cacheMaxEntries;
+
+    @Value("${app.security.login.user-limit:10}")
+    private int userLimit;
+
+    @Value("${app.security.login.ip-limit:300}")
+    private int ipLimit;
+
+    @Value("${app.security.login.window-seconds:60}")
+    private long windowSeconds;
+
+    @Value("${app.security.login.stripes:64}")
+    private int stripes;
+
+    private SlidingWindowRateLimiter userRateLimiter;
+
+    private SlidingWindowRateLimiter ipRateLimiter;
+
+    private final ConcurrentHashMap<String, VerifiedCredential> verifiedCredentials = new ConcurrentHashMap<>();
+
+    private ThreadLocal<Mac> credentialMac;
+
+    /** 存在しないユーザーでも照合時間を揃えるためのダミーハッシュ */
+    private String dummyHash;
+
+    @PostConstruct
+    void init() {
+        Duration window = Duration.ofSeconds(windowSeconds);
+        userRateLimiter = new SlidingWindowRateLimiter(userLimit, window, stripes);
+        ipRateLimiter = new SlidingWindowRateLimiter(ipLimit, window, stripes);
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec keySpec = new SecretKeySpec(key, HMAC_ALGORITHM);
+        credentialMac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC is not available", e);
+            }
+        });
+        dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    /**
+     * ユーザー名とパスワードで認証する
+     * MFAが有効なユーザーはTOTPコードまたはバックアップコードも必要とする
+     * 成功時は最終ログイン日時を更新し、ハッシュ方式が古い場合は新しい方式で再ハッシュして保存する
+     *
+     * @param username ユーザー名
+     * @param password パスワード
+     * @param mfaCode TOTPコードまたはバックアップコード（MFAが無効なユーザーはnull可）
+     * @param clientAddress 接続元IPアドレス
+     * @return 認証結果
+     */
+    public AuthenticationResult authenticate(String username, String password, String mfaCode, String clientAddress) {
+        String userKey = username.toLowerCase(Locale.ROOT);
+        if (!ipRateLimiter.tryAcquire(clientAddress)) {
+            return AuthenticationResult.retryAfter(AuthenticationResult.Outcome.RATE_LIMITED,
+                    ipRateLimiter.getRetryAfterSeconds(clientAddress));
+        }
+        if (!userRateLimiter.tryAcquire(userKey)) {
+            return AuthenticationResult.retryAfter(AuthenticationResult.Outcome.RATE_LIMITED,
+                    userRateLimiter.getRetryAfterSeconds(userKey));
+        }
+
+        Optional<User> userOpt = userRepository.findByUsername(username);
+        String storedHash = userOpt.map(User::getPasswordHash).orElse(dummyHash);
+
+        byte[] digest = credentialDigest(username, password, storedHash);
+        String upgradedHash = null;
+        if (!isCached(username, digest)) {
+            Verification verification;
+            try {
+                verification = verify(password, storedHash);
+            } catch (TaskRejectedException | TimeoutException e) {
+                log.warn("Password verification is saturated; rejecting login for {}", username);
+                return AuthenticationResult.retryAfter(AuthenticationResult.Outcome.BUSY, 1);
+            }
+            if (!verification.matched() || userOpt.isEmpty()) {
+                return AuthenticationResult.of(AuthenticationResult.Outcome.INVALID_CREDENTIALS);
+            }
+            upgradedHash = verification.upgradedHash();
+        }
+
+        User user = userOpt.get();
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
+            return AuthenticationResult.of(AuthenticationResult.Outcome.INACTIVE);
+        }
+        if (Boolean.TRUE.equals(user.getMfaEnabled())) {
+            if (mfaCode == null || mfaCode.isBlank()) {
+                return AuthenticationResult.of(AuthenticationResult.Outcome.MFA_REQUIRED);
+            }
+            if (!mfaService.verify(user, mfaCode.trim())) {
+                return AuthenticationResult.of(AuthenticationResult.Outcome.INVALID_MFA_CODE);
+            }
+        }
+
+        if (upgradedHash != null) {
+            user.setPasswordHash(upgradedHash);
+            digest = credentialDigest(username, password, upgradedHash);
+        }
+        user.setLastLogin(LocalDateTime.now());
+        userRepository.save(user);
+
+        cache(username, digest);
+        userRateLimiter.reset(userKey);
+        return AuthenticationResult.success(user);
+    }
+
+    /**
+     * パスワードを照合用Executorで照合する
+     * 照合に成功し、ハッシュ方式の更新が必要な場合は新しいハッシュも同じタスク内で作成する
+     */
+    private Verification verify(String password, String storedHash) throws TimeoutException {
+        Future<Verification> future = passwordHashExecutor.submit(() -> {
+            boolean matched = passwordEncoder.matches(password, storedHash);
+            String upgraded = matched && passwordEncoder.upgradeEncoding(storedHash)
+                    ? passwordEncoder.encode(password) : null;
+            return new Verification(matched, upgraded);
+        });
+        try {
+            return future.get(verifyTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Password verification was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    private boolean isCached(String username, byte[] digest) {
+        VerifiedCredential cached = verifiedCredentials.get(username);
+        if (cached == null) {
+            return false;
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            verifiedCredentials.remove(username, cached);
+            return false;
+        }
+        return MessageDigest.isEqual(cached.digest(), digest);
+    }
+
+    private void cache(String username, byte[] digest) {
+        if (verifiedCredentials.size() >= cacheMaxEntries) {
+            long now = System.currentTimeMillis();
+            verifiedCredentials.values().removeIf(entry -> entry.expiresAt() < now);
+            if (verifiedCredentials.size() >= cacheMaxEntries) {
+                return;
+            }
+        }
+        verifiedCredentials.put(username, new VerifiedCredential(digest,
+                System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(cacheTtlMinutes)));
+    }
+
+    /**
+     * 認証情報のHMACを計算する
+     * 保存されているハッシュも入力に含めるため、パスワード変更後は以前のキャッシュと一致しない
+     */
+    private byte[] credentialDigest(String username, String password, String storedHash) {
+        Mac mac = credentialMac.get();
+        mac.update(username.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        mac.update(storedHash.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Verification(boolean matched, String upgradedHash) {
+    }
+
+    private record VerifiedCredential(byte[] digest, long expiresAt) {
+    }
+}
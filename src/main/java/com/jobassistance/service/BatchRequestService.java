@@ -0,0 +1,269 @@
+package com.jobassistance.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobassistance.config.BatchDispatcher;
+import com.jobassistance.dto.BatchOperation;
+import com.jobassistance.dto.BatchRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.AntPathMatcher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 一括実行サービス
+ *
+ * 複数のAPI操作を1回のリクエストで指定順に実行し、操作ごとの結果を完了した順に通知する。
+ * 各操作は既存のコントローラーで処理するため、入力チェック・就労者単位のアクセス制御は個別のAPIと同じになる。
+ * atomic=true の場合は全操作を1つのトランザクションで実行し、失敗（4xx・5xx）した操作があれば
+ * 後続の操作を実行せずにロールバックする。結果は確定前に通知するため、確定したかどうかは最後の集計行で判定する
+ */
+@Slf4j
+@Service
+public class BatchRequestService {
+
+    /** 結果行の種類（操作の結果） */
+    public static final String TYPE_RESULT = "result";
+
+    /** 結果行の種類（最後の集計） */
+    public static final String TYPE_SUMMARY = "summary";
+
+    private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    private BatchDispatcher batchDispatcher;
+
+    @Autowired
+    private WebInvocationPrivilegeEvaluator privilegeEvaluator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** 1回のリクエストで実行できる操作数 */
+    @Value("${app.batch.max-operations:100}")
+    private int maxOperations;
+
+    /** 一括実行の対象にできるパス（認証・一括実行API自身は対象外） */
+    @Value("${app.batch.allowed-paths:"
+            + "/api/workers/**,/api/notifications,/api/calendar,/api/training-menus/**,/api/trainings/**}")
+    private String[] allowedPaths;
+
+    /** atomic=true の場合のトランザクションタイムアウト（秒） */
+    @Value("${app.batch.transaction-timeout-seconds:30}")
+    private int transactionTimeoutSeconds;
+
+    /**
+     * 結果行の出力先
+     */
+    @FunctionalInterface
+    public interface ResultSink {
+
+        /**
+         * 結果行を出力する
+         *
+         * @param line 結果行
+         * @throws IOException 出力エラー（クライアントの切断など）
+         */
+        void accept(Map<String, Object> line) throws IOException;
+    }
+
+    /**
+     * 一括実行リクエストを検証する
+     *
+     * @param request 一括実行リクエスト
+     * @throws IllegalArgumentException 操作数・メソッド・パスが不正な場合
+     */
+    public void validate(BatchRequest request) {
+        List<BatchOperation> operations = request.getOperations();
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("operations is required");
+        }
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException(
+                    "Too many operations: " + operations.size() + " (max " + maxOperations + ")");
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            if (operation == null || operation.getMethod() == null
+                    || !METHODS.contains(operation.getMethod().toUpperCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Operation " + i + ": method must be one of " + METHODS);
+            }
+            String path = operation.getPath();
+            if (path == null || !path.startsWith("/api/") || path.contains("#")) {
+                throw new IllegalArgumentException("Operation " + i + ": path must start with /api/");
+            }
+            String pathOnly = stripQuery(path);
+            boolean allowed = false;
+            for (String allowedPath : allowedPaths) {
+                if (pathMatcher.match(allowedPath, pathOnly)) {
+                    allowed = true;
+                    break;
+                }
+            }
+            if (!allowed) {
+                throw new IllegalArgumentException("Operation " + i + ": path is not allowed in a batch: " + pathOnly);
+            }
+        }
+    }
+
+    /**
+     * 一括実行リクエストを実行する
+     * 操作ごとの結果を完了順に出力し、最後に集計行を出力する
+     *
+     * @param request 外側のリクエスト
+     * @param response 外側のレスポンス（操作の応答は書き込まない）
+     * @param batchRequest 検証済みの一括実行リクエスト
+     * @param sink 結果行の出力先
+     * @throws IOException 出力エラー（atomic=true の場合はロールバックする）
+     */
+    public void execute(HttpServletRequest request, HttpServletResponse response, BatchRequest batchRequest,
+            ResultSink sink) throws IOException {
+        List<BatchOperation> operations = batchRequest.getOperations();
+        int[] counts = new int[2];
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("type", TYPE_SUMMARY);
+        summary.put("atomic", batchRequest.isAtomic());
+        if (!batchRequest.isAtomic()) {
+            for (int i = 0; i < operations.size(); i++) {
+                counts[run(request, response, i, operations.get(i), sink) ? 0 : 1]++;
+            }
+            summary.put("succeeded", counts[0]);
+            summary.put("failed", counts[1]);
+            summary.put("skipped", 0);
+            sink.accept(summary);
+            return;
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setName(BatchRequestService.class.getName() + ".execute");
+        transaction.setTimeout(transactionTimeoutSeconds);
+        boolean committed;
+        try {
+            transaction.executeWithoutResult(status -> {
+                for (BatchOperation operation : operations) {
+                    boolean succeeded;
+                    try {
+                        succeeded = run(request, response, counts[0] + counts[1], operation, sink);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    counts[succeeded ? 0 : 1]++;
+                    if (!succeeded) {
+                        status.setRollbackOnly();
+                        return;
+                    }
+                }
+            });
+            committed = counts[1] == 0;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (TransactionException | DataAccessException e) {
+            // 確定時の制約違反・タイムアウトなど。通知済みの結果はすべて取り消される
+            log.warn("Batch transaction was rolled back: {}", e.getMessage());
+            committed = false;
+            summary.put("error", e.getMessage());
+        }
+        int executed = counts[0] + counts[1];
+        for (int i = executed; i < operations.size(); i++) {
+            sink.accept(resultLine(i, operations.get(i), HttpStatus.FAILED_DEPENDENCY.value(),
+                    error("Skipped because an earlier operation failed")));
+        }
+        summary.put("committed", committed);
+        summary.put("succeeded", counts[0]);
+        summary.put("failed", counts[1]);
+        summary.put("skipped", operations.size() - executed);
+        sink.accept(summary);
+    }
+
+    /**
+     * 1操作を実行し、結果行を出力する
+     *
+     * @return 操作が成功（2xx・3xx）した場合true
+     */
+    private boolean run(HttpServletRequest request, HttpServletResponse response, int index,
+            BatchOperation operation, ResultSink sink) throws IOException {
+        String method = operation.getMethod().toUpperCase(Locale.ROOT);
+        String path = operation.getPath();
+        // セキュリティフィルターは再実行しないため、パス単位の認可はここで判定する
+        String uri = request.getContextPath() + stripQuery(path);
+        if (!privilegeEvaluator.isAllowed(request.getContextPath(), uri, method,
+                SecurityContextHolder.getContext().getAuthentication())) {
+            sink.accept(resultLine(index, operation, HttpStatus.FORBIDDEN.value(), error("Access denied")));
+            return false;
+        }
+
+        int status;
+        Object body;
+        try {
+            byte[] requestBody = operation.getBody() != null && !operation.getBody().isNull()
+                    ? objectMapper.writeValueAsBytes(operation.getBody()) : null;
+            BatchDispatcher.Response result = batchDispatcher.dispatch(request, response, method, path, requestBody);
+            status = result.status();
+            body = readBody(result);
+        } catch (Exception e) {
+            log.warn("Batch operation {} {} failed: {}", method, path, e.getMessage());
+            status = HttpStatus.INTERNAL_SERVER_ERROR.value();
+            body = error(e.getMessage());
+        }
+        sink.accept(resultLine(index, operation, status, body));
+        return status < 400;
+    }
+
+    private Object readBody(BatchDispatcher.Response result) throws IOException {
+        if (result.body().length == 0) {
+            return result.status() >= 400 ? error(result.errorMessage() != null
+                    ? result.errorMessage() : HttpStatus.valueOf(result.status()).getReasonPhrase()) : null;
+        }
+        if (result.contentType() != null
+                && MediaType.parseMediaType(result.contentType()).isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return objectMapper.readTree(result.body());
+        }
+        return new String(result.body(), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Object> resultLine(int index, BatchOperation operation, int status, Object body) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", TYPE_RESULT);
+        line.put("index", index);
+        line.put("id", operation.getId());
+        line.put("status", status);
+        line.put("body", body);
+        return line;
+    }
+
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("success", false);
+        error.put("error", message);
+        return error;
+    }
+
+    private static String stripQuery(String path) {
+        int query = path.indexOf('?');
+        return query >= 0 ? path.substring(0, query) : path;
+    }
+}
@@ -0,0 +1,197 @@
+package com.jobassistance.service;
+
+import com.jobassistance.dto.ImportRowError;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 一括インポートジョブの進捗状態
+ * ワーカースレッドが更新し、ポーリング要求から参照される
+ */
+public class BulkImportJob {
+
+    /** ジョブステータス */
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String jobId;
+    private final String tenantId;
+    private final BulkImportType type;
+    private final String fileName;
+    private final long totalBytes;
+    private final int maxErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong skippedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<ImportRowError> errors = new ArrayList<>();
+    private long droppedErrors;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureMessage;
+
+    public BulkImportJob(String jobId, String tenantId, BulkImportType type, String fileName, long totalBytes,
+            int maxErrors) {
+        this.jobId = jobId;
+        this.tenantId = tenantId;
+        this.type = type;
+        this.fileName = fileName;
+        this.totalBytes = totalBytes;
+        this.maxErrors = maxErrors;
+    }
+
+    void markRunning() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void markCompleted() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void markFailed(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    void addBytesRead(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    void addProcessed(long rows) {
+        processedRows.addAndGet(rows);
+    }
+
+    void addImported(long rows) {
+        importedRows.addAndGet(rows);
+    }
+
+    /**
+     * スキップした行（重複など）を記録する
+     *
+     * @param error スキップ理由
+     */
+    void addSkipped(ImportRowError error) {
+        skippedRows.incrementAndGet();
+        addError(error);
+    }
+
+    /**
+     * 取り込めなかった行を記録する
+     *
+     * @param rowErrors 行のエラー一覧
+     */
+    void addFailed(List<ImportRowError> rowErrors) {
+        failedRows.incrementAndGet();
+        rowErrors.forEach(this::addError);
+    }
+
+    private synchronized void addError(ImportRowError error) {
+        if (errors.size() < maxErrors) {
+            errors.add(error);
+        } else {
+            droppedErrors++;
+        }
+    }
+
+    /**
+     * 行エラーレポートを取得する
+     *
+     * @return 行エラーのコピー
+     */
+    public synchronized List<ImportRowError> getErrors() {
+        return Collections.unmodifiableList(new ArrayList<>(errors));
+    }
+
+    /**
+     * 上限を超えたため記録しなかったエラー件数を取得する
+     *
+     * @return 記録しなかったエラー件数
+     */
+    public synchronized long getDroppedErrors() {
+        return droppedErrors;
+    }
+
+    /**
+     * ファイルの読み込み進捗率を取得する
+     *
+     * @return 進捗率（0-100）
+     */
+    public double getProgressPercentage() {
+        if (status == Status.COMPLETED) {
+            return 100.0;
+        }
+        if (totalBytes <= 0) {
+            return 0.0;
+        }
+        return Math.min(100.0, bytesRead.get() * 100.0 / totalBytes);
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public BulkImportType getType() {
+        return type;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public long getProcessedRows() {
+        return processedRows.get();
+    }
+
+    public long getImportedRows() {
+        return importedRows.get();
+    }
+
+    public long getSkippedRows() {
+        return skippedRows.get();
+    }
+
+    public long getFailedRows() {
+        return failedRows.get();
+    }
+}
@@ -0,0 +1,593 @@
+package com.jobassistance.service;
+
+import com.jobassistance.config.TenantContext;
+import com.jobassistance.dto.ImportRowError;
+import com.jobassistance.dto.WorkerDTO;
+import com.jobassistance.entity.JapaneseProficiency;
+import com.jobassistance.entity.SkillTraining;
+import com.jobassistance.entity.Worker;
+import com.jobassistance.repository.JapaneseProficiencyRepository;
+import com.jobassistance.repository.SkillTrainingRepository;
+import com.jobassistance.repository.WorkerRepository;
+import com.jobassistance.util.CsvReader;
+import com.jobassistance.util.DateUtil;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 一括インポートサービスクラス
+ * CSVファイルをストリーミングで読み込み、チャンク単位で並列検証・重複排除・一括登録を行う
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    /** 就労者リポジトリ */
+    @Autowired
+    private WorkerRepository workerRepository;
+
+    /** 日本語能力リポジトリ */
+    @Autowired
+    private JapaneseProficiencyRepository japaneseProficiencyRepository;
+
+    /** 技能訓練リポジトリ */
+    @Autowired
+    private SkillTrainingRepository skillTrainingRepository;
+
+    /** Bean Validationバリデーター */
+    @Autowired
+    private Validator validator;
+
+    /** トランザクションマネージャー */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** 一括インポート用Executor */
+    @Autowired
+    @Qualifier("bulkImportExecutor")
+    private ThreadPoolTaskExecutor bulkImportExecutor;
+
+    /** 1トランザクションで登録する行数 */
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+
+    /** 1ジョブで保持する行エラーの上限 */
+    @Value("${app.import.max-errors:1000}")
+    private int maxErrors;
+
+    /** 完了したジョブを保持する時間（分） */
+    @Value("${app.import.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    /** 実行中・完了済みのジョブ */
+    private final Map<String, BulkImportJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * インポートジョブを登録し、バックグラウンドで実行する
+     * アップロードファイルはリクエスト終了後に破棄されるため、一時ファイルに退避してから処理する
+     *
+     * @param type インポート種別
+     * @param file アップロードされたCSVファイル
+     * @return 登録されたジョブ
+     * @throws IOException 一時ファイルの作成に失敗した場合
+     * @throws IllegalStateException ジョブの待機列が満杯の場合
+     */
+    public BulkImportJob submit(BulkImportType type, MultipartFile file) throws IOException {
+        Path tempFile = Files.createTempFile("bulk-import-", ".csv");
+        file.transferTo(tempFile);
+
+        BulkImportJob job = new BulkImportJob(UUID.randomUUID().toString(), TenantContext.resolve(), type,
+                file.getOriginalFilename(), file.getSize(), maxErrors);
+        jobs.put(job.getJobId(), job);
+        try {
+            bulkImportExecutor.execute(() -> run(job, tempFile));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            Files.deleteIfExists(tempFile);
+            throw new IllegalStateException("Import queue is full. Please retry later.", e);
+        }
+        return job;
+    }
+
+    /**
+     * ジョブを取得する
+     * 登録したテナント以外からは存在しないものとして扱う
+     *
+     * @param jobId ジョブID
+     * @return ジョブ（存在しない場合・登録したテナントと異なる場合は空）
+     */
+    public Optional<BulkImportJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> job.getTenantId().equals(TenantContext.resolve()));
+    }
+
+    /**
+     * 保持期間を過ぎた完了済みジョブを破棄する
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    /**
+     * ジョブを実行する
+     *
+     * @param job ジョブ
+     * @param file 一時ファイル
+     */
+    private void run(BulkImportJob job, Path file) {
+        job.markRunning();
+        try (CsvReader reader = new CsvReader(new InputStreamReader(
+                new CountingInputStream(Files.newInputStream(file), job), StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                job.markFailed("File is empty");
+                return;
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+            List<String> missing = job.getType().getRequiredColumns().stream()
+                    .filter(column -> !columns.containsKey(column))
+                    .collect(Collectors.toList());
+            if (!missing.isEmpty()) {
+                job.markFailed("Missing required columns: " + String.join(", ", missing));
+                return;
+            }
+
+            Set<String> seenKeys = new HashSet<>();
+            List<CsvRow> chunk = new ArrayList<>(chunkSize);
+            long rowNumber = 1;
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                rowNumber++;
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                chunk.add(new CsvRow(rowNumber, record, columns));
+                if (chunk.size() >= chunkSize) {
+                    processChunk(job, chunk, seenKeys);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk, seenKeys);
+            }
+            job.markCompleted();
+        } catch (Exception e) {
+            log.warn("Bulk import job {} failed", job.getJobId(), e);
+            job.markFailed(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete temporary import file {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * 1チャンク分の行を検証・重複排除して登録する
+     *
+     * @param job ジョブ
+     * @param chunk チャンク
+     * @param seenKeys ファイル内で既に処理した重複判定キー
+     */
+    private void processChunk(BulkImportJob job, List<CsvRow> chunk, Set<String> seenKeys) {
+        // 行の変換と検証はDBに依存しないため並列に実行する
+        List<RowResult<?>> results = chunk.parallelStream()
+                .map(row -> mapRow(job.getType(), row))
+                .collect(Collectors.toList());
+
+        List<RowResult<?>> valid = new ArrayList<>();
+        for (RowResult<?> result : results) {
+            if (result.errors.isEmpty()) {
+                valid.add(result);
+            } else {
+                job.addFailed(result.errors);
+            }
+        }
+
+        // メールアドレスの照合はチャンクごとに1回のIN検索で行う
+        Set<String> emails = valid.stream().map(result -> result.email).collect(Collectors.toSet());
+        Map<String, Long> workerIdsByEmail = emails.isEmpty() ? Map.of() : findWorkerIdsByEmail(emails);
+
+        List<RowResult<?>> toInsert = new ArrayList<>();
+        for (RowResult<?> result : valid) {
+            if (job.getType() == BulkImportType.WORKERS) {
+                if (workerIdsByEmail.containsKey(result.email)) {
+                    job.addSkipped(new ImportRowError(result.rowNumber, "email", "Worker already exists: " + result.email));
+                } else if (!seenKeys.add(result.email)) {
+                    job.addSkipped(new ImportRowError(result.rowNumber, "email", "Duplicate email in file: " + result.email));
+                } else {
+                    toInsert.add(result);
+                }
+            } else {
+                Long workerId = workerIdsByEmail.get(result.email);
+                if (workerId == null) {
+                    job.addFailed(List.of(new ImportRowError(result.rowNumber, "workerEmail",
+                            "Worker not found: " + result.email)));
+                } else {
+                    result.workerId = workerId;
+                    toInsert.add(result);
+                }
+            }
+        }
+
+        writeChunk(job, toInsert);
+        job.addProcessed(chunk.size());
+    }
+
+    /**
+     * メールアドレスの集合から就労者IDを一括で取得する
+     *
+     * @param emails メールアドレスの集合
+     * @return メールアドレスと就労者IDの対応
+     */
+    private Map<String, Long> findWorkerIdsByEmail(Collection<String> emails) {
+        return workerRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(Worker::getEmail, Worker::getId, (first, second) -> first));
+    }
+
+    /**
+     * チャンクを1トランザクションで登録する
+     * 失敗した場合は原因の行を特定するため、1行ずつのトランザクションで再試行する
+     *
+     * @param job ジョブ
+     * @param rows 登録する行
+     */
+    private void writeChunk(BulkImportJob job, List<RowResult<?>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveRows(job.getType(), rows));
+            job.addImported(rows.size());
+        } catch (RuntimeException chunkFailure) {
+            log.debug("Chunk insert failed for job {}, retrying row by row", job.getJobId(), chunkFailure);
+            for (RowResult<?> row : rows) {
+                // ロールバックされたチャンクで採番されたIDとバージョンが残っていると、
+                // 再試行が新規登録ではなく存在しない行の更新（マージ）として扱われる
+                resetGeneratedState(row.entity);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> saveRows(job.getType(), List.of(row)));
+                    job.addImported(1);
+                } catch (RuntimeException rowFailure) {
+                    job.addFailed(List.of(new ImportRowError(row.rowNumber, null,
+                            rootCauseMessage(rowFailure))));
+                }
+            }
+        }
+    }
+
+    /**
+     * 行を種別ごとのリポジトリで保存する
+     *
+     * @param type インポート種別
+     * @param rows 保存する行
+     */
+    private void saveRows(BulkImportType type, List<RowResult<?>> rows) {
+        switch (type) {
+            case WORKERS -> workerRepository.saveAll(entities(rows, Worker.class));
+            case JAPANESE_PROFICIENCIES -> {
+                List<JapaneseProficiency> proficiencies = entities(rows, JapaneseProficiency.class);
+                for (int i = 0; i < rows.size(); i++) {
+                    proficiencies.get(i).setWorker(workerRepository.getReferenceById(rows.get(i).workerId));
+                }
+                japaneseProficiencyRepository.saveAll(proficiencies);
+            }
+            case SKILL_TRAININGS -> {
+                List<SkillTraining> trainings = entities(rows, SkillTraining.class);
+                for (int i = 0; i < rows.size(); i++) {
+                    trainings.get(i).setWorker(workerRepository.getReferenceById(rows.get(i).workerId));
+                }
+                skillTrainingRepository.saveAll(trainings);
+            }
+        }
+    }
+
+    /**
+     * 保存時に設定されたIDとバージョンを未保存の状態に戻す
+     *
+     * @param entity 行のエンティティ
+     */
+    private static void resetGeneratedState(Object entity) {
+        if (entity instanceof Worker worker) {
+            worker.setId(null);
+            worker.setVersion(null);
+        } else if (entity instanceof JapaneseProficiency proficiency) {
+            proficiency.setId(null);
+        } else if (entity instanceof SkillTraining training) {
+            training.setId(null);
+        }
+    }
+
+    private static <T> List<T> entities(List<RowResult<?>> rows, Class<T> entityClass) {
+        return rows.stream().map(row -> entityClass.cast(row.entity)).collect(Collectors.toList());
+    }
+
+    /**
+     * 行をエンティティに変換し、検証する
+     *
+     * @param type インポート種別
+     * @param row CSVの行
+     * @return 変換結果
+     */
+    private RowResult<?> mapRow(BulkImportType type, CsvRow row) {
+        return switch (type) {
+            case WORKERS -> mapWorker(row);
+            case JAPANESE_PROFICIENCIES -> mapJapaneseProficiency(row);
+            case SKILL_TRAININGS -> mapSkillTraining(row);
+        };
+    }
+
+    private RowResult<Worker> mapWorker(CsvRow row) {
+        List<ImportRowError> errors = new ArrayList<>();
+        WorkerDTO dto = new WorkerDTO();
+        dto.setName(row.get("name"));
+        dto.setNameKana(row.get("nameKana"));
+        dto.setEmail(row.get("email"));
+        dto.setPhone(row.get("phone"));
+        dto.setAddress(row.get("address"));
+        dto.setBirthDate(parse(row, "birthDate", DateUtil::parseDate, errors));
+        dto.setNationality(row.get("nationality"));
+        dto.setNativeLanguage(row.get("nativeLanguage"));
+        dto.setVisaStatus(row.get("visaStatus"));
+        dto.setVisaExpiryDate(parse(row, "visaExpiryDate", DateUtil::parseDate, errors));
+        dto.setJapaneseLevel(row.get("japaneseLevel"));
+        dto.setEnglishLevel(row.get("englishLevel"));
+        dto.setSkills(row.get("skills"));
+        Integer experienceYears = parse(row, "experienceYears", Integer::valueOf, errors);
+        if (experienceYears != null) {
+            dto.setExperienceYears(experienceYears);
+        }
+        dto.setEducation(row.get("education"));
+        if (row.get("currentStatus") != null) {
+            dto.setCurrentStatus(row.get("currentStatus"));
+        }
+        dto.setNotes(row.get("notes"));
+
+        for (ConstraintViolation<WorkerDTO> violation : validator.validate(dto)) {
+            errors.add(new ImportRowError(row.rowNumber, violation.getPropertyPath().toString(),
+                    violation.getMessage()));
+        }
+
+        Worker worker = new Worker();
+        worker.setName(dto.getName());
+        worker.setNameKana(dto.getNameKana());
+        worker.setEmail(dto.getEmail());
+        worker.setPhone(dto.getPhone());
+        worker.setAddress(dto.getAddress());
+        worker.setBirthDate(dto.getBirthDate());
+        worker.setNationality(dto.getNationality());
+        worker.setNativeLanguage(dto.getNativeLanguage());
+        worker.setVisaStatus(dto.getVisaStatus());
+        worker.setVisaExpiryDate(dto.getVisaExpiryDate());
+        worker.setJapaneseLevel(dto.getJapaneseLevel());
+        worker.setEnglishLevel(dto.getEnglishLevel());
+        worker.setSkills(dto.getSkills());
+        worker.setExperienceYears(dto.getExperienceYears());
+        worker.setEducation(dto.getEducation());
+        worker.setCurrentStatus(dto.getCurrentStatus());
+        worker.setNotes(dto.getNotes());
+        return new RowResult<>(row.rowNumber, worker, dto.getEmail(), errors);
+    }
+
+    private RowResult<JapaneseProficiency> mapJapaneseProficiency(CsvRow row) {
+        List<ImportRowError> errors = new ArrayList<>();
+        JapaneseProficiency proficiency = new JapaneseProficiency();
+        proficiency.setTestDate(parse(row, "testDate", DateUtil::parseDate, errors));
+        proficiency.setTestType(row.get("testType"));
+        proficiency.setLevel(row.get("level"));
+        proficiency.setReadingScore(parse(row, "readingScore", Integer::valueOf, errors));
+        proficiency.setListeningScore(parse(row, "listeningScore", Integer::valueOf, errors));
+        proficiency.setWritingScore(parse(row, "writingScore", Integer::valueOf, errors));
+        proficiency.setSpeakingScore(parse(row, "speakingScore", Integer::valueOf, errors));
+        proficiency.setTotalScore(parse(row, "totalScore", Integer::valueOf, errors));
+        Boolean passed = parse(row, "passed", BulkImportService::parseBoolean, errors);
+        if (passed != null) {
+            proficiency.setPassed(passed);
+        }
+        proficiency.setCertificateNumber(row.get("certificateNumber"));
+        proficiency.setCertificateIssuedDate(parse(row, "certificateIssuedDate", DateUtil::parseDate, errors));
+        proficiency.setNotes(row.get("notes"));
+
+        requireNonBlank(row, errors, "workerEmail", "testDate", "testType");
+        checkLength(row, errors, "testType", 50);
+        checkLength(row, errors, "level", 20);
+        checkLength(row, errors, "certificateNumber", 100);
+        return new RowResult<>(row.rowNumber, proficiency, row.get("workerEmail"), errors);
+    }
+
+    private RowResult<SkillTraining> mapSkillTraining(CsvRow row) {
+        List<ImportRowError> errors = new ArrayList<>();
+        SkillTraining training = new SkillTraining();
+        training.setSkillCategory(row.get("skillCategory"));
+        training.setSkillName(row.get("skillName"));
+        training.setTrainingStartDate(parse(row, "trainingStartDate", DateUtil::parseDate, errors));
+        training.setTrainingEndDate(parse(row, "trainingEndDate", DateUtil::parseDate, errors));
+        Integer trainingHours = parse(row, "trainingHours", Integer::valueOf, errors);
+        if (trainingHours != null) {
+            training.setTrainingHours(trainingHours);
+        }
+        training.setTrainingLocation(row.get("trainingLocation"));
+        training.setInstructor(row.get("instructor"));
+        training.setTrainingMethod(row.get("trainingMethod"));
+        if (row.get("status") != null) {
+            training.setStatus(row.get("status"));
+        }
+        training.setCompletionRate(parse(row, "completionRate", Double::valueOf, errors));
+        training.setEvaluationScore(parse(row, "evaluationScore", Double::valueOf, errors));
+        Boolean certificateIssued = parse(row, "certificateIssued", BulkImportService::parseBoolean, errors);
+        if (certificateIssued != null) {
+            training.setCertificateIssued(certificateIssued);
+        }
+        training.setCertificateNumber(row.get("certificateNumber"));
+        training.setNotes(row.get("notes"));
+
+        requireNonBlank(row, errors, "workerEmail", "skillCategory", "skillName", "trainingStartDate");
+        checkLength(row, errors, "skillCategory", 100);
+        checkLength(row, errors, "skillName", 200);
+        checkLength(row, errors, "trainingLocation", 200);
+        checkLength(row, errors, "instructor", 100);
+        checkLength(row, errors, "trainingMethod", 50);
+        checkLength(row, errors, "status", 50);
+        checkLength(row, errors, "certificateNumber", 100);
+        return new RowResult<>(row.rowNumber, training, row.get("workerEmail"), errors);
+    }
+
+    private static <T> T parse(CsvRow row, String column, Function<String, T> parser, List<ImportRowError> errors) {
+        String value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            errors.add(new ImportRowError(row.rowNumber, column, "Invalid value: " + value));
+            return null;
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return switch (value.toLowerCase()) {
+            case "true", "1", "yes", "はい" -> Boolean.TRUE;
+            case "false", "0", "no", "いいえ" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException("Invalid boolean: " + value);
+        };
+    }
+
+    private static void requireNonBlank(CsvRow row, List<ImportRowError> errors, String... columns) {
+        for (String column : columns) {
+            if (row.get(column) == null && errors.stream().noneMatch(error -> column.equals(error.getField()))) {
+                errors.add(new ImportRowError(row.rowNumber, column, column + " is required"));
+            }
+        }
+    }
+
+    private static void checkLength(CsvRow row, List<ImportRowError> errors, String column, int maxLength) {
+        String value = row.get(column);
+        if (value != null && value.length() > maxLength) {
+            errors.add(new ImportRowError(row.rowNumber, column,
+                    column + " must be at most " + maxLength + " characters"));
+        }
+    }
+
+    private static String rootCauseMessage(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    /**
+     * ヘッダー名で値を参照できるCSVの行
+     */
+    private static final class CsvRow {
+        private final long rowNumber;
+        private final List<String> values;
+        private final Map<String, Integer> columns;
+
+        private CsvRow(long rowNumber, List<String> values, Map<String, Integer> columns) {
+            this.rowNumber = rowNumber;
+            this.values = values;
+            this.columns = columns;
+        }
+
+        /**
+         * 列の値を取得する（空文字は未入力としてnullを返す）
+         */
+        private String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * 行の変換結果
+     */
+    private static final class RowResult<T> {
+        private final long rowNumber;
+        private final T entity;
+        private final String email;
+        private final List<ImportRowError> errors;
+        private Long workerId;
+
+        private RowResult(long rowNumber, T entity, String email, List<ImportRowError> errors) {
+            this.rowNumber = rowNumber;
+            this.entity = entity;
+            this.email = email;
+            this.errors = errors;
+        }
+    }
+
+    /**
+     * 読み込んだバイト数をジョブの進捗に反映する入力ストリーム
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final BulkImportJob job;
+
+        private CountingInputStream(InputStream in, BulkImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                job.addBytesRead(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                job.addBytesRead(n);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobassistance.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 一括インポート対象の種別
+ */
+public enum BulkImportType {
+
+    /** 就労者 */
+    WORKERS("workers", List.of("name", "email")),
+
+    /** 日本語能力 */
+    JAPANESE_PROFICIENCIES("japanese-proficiencies", List.of("workerEmail", "testDate", "testType")),
+
+    /** 技能訓練 */
+    SKILL_TRAININGS("skill-trainings", List.of("workerEmail", "skillCategory", "skillName", "trainingStartDate"));
+
+    /** URLパス上の名前 */
+    private final String pathName;
+
+    /** 必須列 */
+    private final List<String> requiredColumns;
+
+    BulkImportType(String pathName, List<String> requiredColumns) {
+        this.pathName = pathName;
+        this.requiredColumns = requiredColumns;
+    }
+
+    public String getPathName() {
+        return pathName;
+    }
+
+    public List<String> getRequiredColumns() {
+        return requiredColumns;
+    }
+
+    /**
+     * URLパス上の名前から種別を取得する
+     *
+     * @param pathName URLパス上の名前
+     * @return 該当する種別（存在しない場合は空）
+     */
+    public static Optional<BulkImportType> fromPathName(String pathName) {
+        return Arrays.stream(values())
+                .filter(type -> type.pathName.equals(pathName))
+                .findFirst();
+    }
+}
@@ -0,0 +1,151 @@
+package com.jobassistance.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jobassistance.entity.VersionedEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Transient;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * エンティティの部分更新サービス（JSON Merge Patch, RFC 7386）
+ *
+ * 管理状態のエンティティに、パッチに含まれる項目だけを上書きする。エンティティは @DynamicUpdate のため、
+ * 値が実際に変わった列だけがUPDATE文に含まれ、リレーションのコレクションには触れない。
+ * パッチに "version" を含めると、読み込んだ時点のバージョンと一致する場合のみ更新する。
+ * 読み込みからコミットまでの間に他の更新が割り込んだ場合も、コミット時のバージョン照合で競合として検出する
+ */
+@Slf4j
+@Service
+public class EntityPatchService {
+
+    /** JSON Merge Patchのメディアタイプ */
+    public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    /** クライアントから変更できない項目 */
+    private static final Set<String> PROTECTED_FIELDS = Set.of("id", "tenantId", "version", "createdAt", "updatedAt",
+            "deletedAt");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    /**
+     * エンティティを読み込み、パッチを適用する
+     *
+     * @param loader エンティティの読み込み処理
+     * @param patch JSON Merge Patch
+     * @param strict trueの場合、変更できない項目・存在しない項目を含むパッチを拒否する。
+     *               falseの場合はそれらの項目を無視する（取得したエンティティをそのまま送るPUT向け）
+     * @return 更新されたエンティティ（存在しない場合は空）
+     * @throws IllegalArgumentException パッチが不正な場合
+     * @throws ObjectOptimisticLockingFailureException バージョンが一致しない場合
+     */
+    @Transactional
+    public <T extends VersionedEntity> Optional<T> patch(Supplier<Optional<T>> loader, JsonNode patch, boolean strict) {
+        Optional<T> entity = loader.get();
+        entity.ifPresent(e -> apply(e, patch, strict));
+        return entity;
+    }
+
+    /**
+     * 管理状態のエンティティにパッチを適用する（呼び出し元のトランザクション内で使用する）
+     *
+     * @param entity 更新対象のエンティティ
+     * @param patch JSON Merge Patch
+     * @param strict 変更できない項目・存在しない項目を拒否する場合true
+     */
+    public <T extends VersionedEntity> void apply(T entity, JsonNode patch, boolean strict) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        ObjectNode changes = ((ObjectNode) patch).deepCopy();
+        checkVersion(entity, changes.remove("version"));
+
+        List<String> rejected = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        changes.fieldNames().forEachRemaining(names::add);
+        for (String name : names) {
+            Field field = ReflectionUtils.findField(entity.getClass(), name);
+            if (field == null || !isPatchable(field)) {
+                rejected.add(name);
+                changes.remove(name);
+            } else if (changes.get(name).isNull() && isRequired(field)) {
+                throw new IllegalArgumentException("Field must not be null: " + name);
+            }
+        }
+        if (strict && !rejected.isEmpty()) {
+            throw new IllegalArgumentException("Fields cannot be patched: " + String.join(", ", rejected));
+        }
+
+        try {
+            objectMapper.readerForUpdating(entity).readValue(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid merge patch: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid merge patch: " + e.getMessage());
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+        log.debug("Patched {} {} fields {}", entity.getClass().getSimpleName(), entity.getId(), names);
+    }
+
+    private void checkVersion(VersionedEntity entity, JsonNode expected) {
+        if (expected == null || expected.isNull()) {
+            return;
+        }
+        if (!expected.canConvertToLong()) {
+            throw new IllegalArgumentException("version must be a number");
+        }
+        if (expected.asLong() != (entity.getVersion() == null ? 0L : entity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(entity.getClass(), entity.getId());
+        }
+    }
+
+    private static boolean isPatchable(Field field) {
+        Column column = field.getAnnotation(Column.class);
+        return !PROTECTED_FIELDS.contains(field.getName())
+                && (column == null || column.updatable())
+                && !Modifier.isStatic(field.getModifiers())
+                && !field.isAnnotationPresent(Transient.class)
+                && !field.isAnnotationPresent(OneToMany.class)
+                && !field.isAnnotationPresent(ManyToOne.class)
+                && !field.isAnnotationPresent(OneToOne.class)
+                && !field.isAnnotationPresent(ManyToMany.class);
+    }
+
+    private static boolean isRequired(Field field) {
+        Column column = field.getAnnotation(Column.class);
+        return column != null && !column.nullable();
+    }
+}
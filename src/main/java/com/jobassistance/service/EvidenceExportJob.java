@@ -0,0 +1,181 @@
+package com.jobassistance.service;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 証拠ポートフォリオ出力ジョブの進捗状態
+ */
+public class EvidenceExportJob {
+
+    /** ジョブステータス */
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    private final String jobId;
+    private final String tenantId;
+    private final Long submittedBy;
+    private final List<Long> workerIds;
+    private final Path artifactPath;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicInteger exportedWorkers = new AtomicInteger();
+    private final AtomicInteger evidenceFiles = new AtomicInteger();
+    private final AtomicInteger missingEvidenceFiles = new AtomicInteger();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile Future<?> future;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureMessage;
+
+    public EvidenceExportJob(String jobId, String tenantId, Long submittedBy, List<Long> workerIds, Path artifactPath) {
+        this.jobId = jobId;
+        this.tenantId = tenantId;
+        this.submittedBy = submittedBy;
+        this.workerIds = List.copyOf(workerIds);
+        this.artifactPath = artifactPath;
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    void markRunning() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void markCompleted() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void markFailed(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    void markCancelled() {
+        finishedAt = LocalDateTime.now();
+        status = Status.CANCELLED;
+    }
+
+    /**
+     * ジョブの中止を要求する
+     * 実行中の場合はファイルのコピーを中断し、作成途中の成果物を削除する
+     *
+     * @return 中止を受け付けた場合はtrue（既に終了している場合はfalse）
+     */
+    public boolean cancel() {
+        if (isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        Future<?> running = future;
+        if (running != null && running.cancel(true) && status == Status.QUEUED) {
+            markCancelled();
+        }
+        return true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested || Thread.currentThread().isInterrupted();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    void incrementExportedWorkers() {
+        exportedWorkers.incrementAndGet();
+    }
+
+    void incrementEvidenceFiles() {
+        evidenceFiles.incrementAndGet();
+    }
+
+    void incrementMissingEvidenceFiles() {
+        missingEvidenceFiles.incrementAndGet();
+    }
+
+    void addBytesWritten(long bytes) {
+        bytesWritten.addAndGet(bytes);
+    }
+
+    /**
+     * 出力済み就労者数から進捗率を取得する
+     *
+     * @return 進捗率（0-100）
+     */
+    public double getProgressPercentage() {
+        if (status == Status.COMPLETED) {
+            return 100.0;
+        }
+        return workerIds.isEmpty() ? 0.0 : exportedWorkers.get() * 100.0 / workerIds.size();
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Long getSubmittedBy() {
+        return submittedBy;
+    }
+
+    public List<Long> getWorkerIds() {
+        return workerIds;
+    }
+
+    public Path getArtifactPath() {
+        return artifactPath;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public int getExportedWorkers() {
+        return exportedWorkers.get();
+    }
+
+    public int getEvidenceFiles() {
+        return evidenceFiles.get();
+    }
+
+    public int getMissingEvidenceFiles() {
+        return missingEvidenceFiles.get();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+}
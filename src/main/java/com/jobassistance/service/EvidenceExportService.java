@@ -0,0 +1,592 @@
+package com.jobassistance.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobassistance.config.TenantContext;
+import com.jobassistance.entity.ConstructionSimulatorTraining;
+import com.jobassistance.entity.DigitalEvidence;
+import com.jobassistance.entity.IntegratedGrowth;
+import com.jobassistance.entity.JapaneseProficiency;
+import com.jobassistance.entity.KPIScore;
+import com.jobassistance.entity.SkillTraining;
+import com.jobassistance.repository.ConstructionSimulatorTrainingRepository;
+import com.jobassistance.repository.DigitalEvidenceRepository;
+import com.jobassistance.repository.IntegratedGrowthRepository;
+import com.jobassistance.repository.JapaneseProficiencyRepository;
+import com.jobassistance.repository.KPIScoreRepository;
+import com.jobassistance.repository.SkillTrainingRepository;
+import com.jobassistance.repository.WorkerRepository;
+import com.jobassistance.util.CsvWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 証拠ポートフォリオ出力サービスクラス
+ * 就労者ごとの証拠ファイル・日本語能力証明・シミュレーターKPI履歴・統合成長推移をZIPにまとめる
+ */
+@Slf4j
+@Service
+public class EvidenceExportService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /** 就労者リポジトリ */
+    @Autowired
+    private WorkerRepository workerRepository;
+
+    /** デジタル証拠リポジトリ */
+    @Autowired
+    private DigitalEvidenceRepository evidenceRepository;
+
+    /** 日本語能力リポジトリ */
+    @Autowired
+    private JapaneseProficiencyRepository japaneseProficiencyRepository;
+
+    /** 技能訓練リポジトリ */
+    @Autowired
+    private SkillTrainingRepository skillTrainingRepository;
+
+    /** 建設シミュレーター訓練リポジトリ */
+    @Autowired
+    private ConstructionSimulatorTrainingRepository simulatorTrainingRepository;
+
+    /** KPIスコアリポジトリ */
+    @Autowired
+    private KPIScoreRepository kpiScoreRepository;
+
+    /** 統合成長リポジトリ */
+    @Autowired
+    private IntegratedGrowthRepository integratedGrowthRepository;
+
+    /** トランザクションマネージャー */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** JSON変換用ObjectMapper */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** 出力ジョブ実行用Executor */
+    @Autowired
+    @Qualifier("evidenceExportExecutor")
+    private ThreadPoolTaskExecutor evidenceExportExecutor;
+
+    /** セクション取得用Executor */
+    @Autowired
+    @Qualifier("exportSectionExecutor")
+    private ThreadPoolTaskExecutor exportSectionExecutor;
+
+    /** 成果物の出力先ディレクトリ */
+    @Value("${app.export.dir:${java.io.tmpdir}/job-assistance-exports}")
+    private String exportDir;
+
+    /** 証拠ファイルを読み込める基準ディレクトリ（未設定の場合はファイルを添付しない） */
+    @Value("${app.export.evidence-base-dir:}")
+    private String evidenceBaseDir;
+
+    /** 1ジョブで出力できる就労者数の上限 */
+    @Value("${app.export.max-workers:500}")
+    private int maxWorkers;
+
+    /** 完了したジョブと成果物を保持する時間（分） */
+    @Value("${app.export.job-retention-minutes:120}")
+    private long jobRetentionMinutes;
+
+    /** 実行中・完了済みのジョブ */
+    private final Map<String, EvidenceExportJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 出力ジョブを登録し、バックグラウンドで実行する
+     *
+     * @param workerIds 出力対象の就労者ID
+     * @return 登録されたジョブ
+     * @throws IOException 出力先ディレクトリを作成できない場合
+     * @throws IllegalArgumentException 就労者IDが指定されていない、または上限を超える場合
+     * @throws IllegalStateException ジョブの待機列が満杯の場合
+     */
+    public EvidenceExportJob submit(List<Long> workerIds) throws IOException {
+        List<Long> distinctIds = workerIds == null ? List.of() : workerIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            throw new IllegalArgumentException("workerIds is required");
+        }
+        if (distinctIds.size() > maxWorkers) {
+            throw new IllegalArgumentException("Too many workers in one export (max " + maxWorkers + ")");
+        }
+
+        Path directory = Paths.get(exportDir);
+        Files.createDirectories(directory);
+        String jobId = UUID.randomUUID().toString();
+        EvidenceExportJob job = new EvidenceExportJob(jobId, TenantContext.resolve(), currentUserId(), distinctIds,
+                directory.resolve(jobId + ".zip"));
+        jobs.put(jobId, job);
+        try {
+            job.attach(evidenceExportExecutor.submit(() -> run(job)));
+        } catch (TaskRejectedException e) {
+            jobs.remove(jobId);
+            throw new IllegalStateException("Export queue is full. Please retry later.", e);
+        }
+        return job;
+    }
+
+    /**
+     * ジョブを取得する
+     * 登録したテナント・ユーザー以外からは存在しないものとして扱う
+     *
+     * @param jobId ジョブID
+     * @return ジョブ（存在しない場合・登録したテナントまたはユーザーと異なる場合は空）
+     */
+    public Optional<EvidenceExportJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> job.getTenantId().equals(TenantContext.resolve())
+                        && Objects.equals(job.getSubmittedBy(), currentUserId()));
+    }
+
+    /**
+     * アクセストークンのユーザーIDを取得する
+     *
+     * @return ユーザーID（未認証の場合はnull）
+     */
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AccessTokenClaims claims) {
+            return claims.getUserId();
+        }
+        return null;
+    }
+
+    /**
+     * 保持期間を過ぎた完了済みジョブと成果物を削除する
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> {
+            if (job.isFinished() && job.getFinishedAt().isBefore(threshold)) {
+                deleteQuietly(job.getArtifactPath());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * ジョブを実行する
+     * 次の就労者のセクション取得を先行させ、ZIPへの書き込みと取得処理を重ねて実行する
+     *
+     * @param job ジョブ
+     */
+    private void run(EvidenceExportJob job) {
+        job.markRunning();
+        List<Long> workerIds = job.getWorkerIds();
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(job.getArtifactPath()), COPY_BUFFER_SIZE))) {
+            List<Map<String, Object>> manifestWorkers = new ArrayList<>();
+            WorkerSections next = fetchSections(workerIds.get(0));
+            for (int i = 0; i < workerIds.size(); i++) {
+                WorkerSections current = next;
+                next = i + 1 < workerIds.size() ? fetchSections(workerIds.get(i + 1)) : null;
+                checkCancelled(job);
+                manifestWorkers.add(writeWorker(job, zip, current));
+                job.incrementExportedWorkers();
+            }
+
+            Map<String, Object> manifest = new LinkedHashMap<>();
+            manifest.put("jobId", job.getJobId());
+            manifest.put("generatedAt", LocalDateTime.now());
+            manifest.put("workers", manifestWorkers);
+            zip.putNextEntry(new ZipEntry("manifest.json"));
+            zip.write(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(manifest));
+            zip.closeEntry();
+            zip.finish();
+            job.markCompleted();
+        } catch (CancellationException | InterruptedIOException e) {
+            deleteQuietly(job.getArtifactPath());
+            job.markCancelled();
+        } catch (Exception e) {
+            deleteQuietly(job.getArtifactPath());
+            if (job.isCancelRequested()) {
+                job.markCancelled();
+            } else {
+                log.warn("Evidence export job {} failed", job.getJobId(), e);
+                job.markFailed(rootCauseMessage(e));
+            }
+        }
+    }
+
+    /**
+     * 就労者の各セクションを並列に取得する
+     *
+     * @param workerId 就労者ID
+     * @return 取得中のセクション
+     */
+    private WorkerSections fetchSections(Long workerId) {
+        WorkerSections sections = new WorkerSections(workerId);
+        sections.worker = fetch(() -> workerRepository.findById(workerId)
+                .map(worker -> Arrays.<Object>asList(worker.getId(), worker.getName(), worker.getNameKana(),
+                        worker.getNationality(), worker.getVisaStatus(), worker.getVisaExpiryDate(),
+                        worker.getJapaneseLevel(), worker.getCurrentStatus()))
+                .orElse(null));
+        sections.evidences = fetch(() -> evidenceRepository.findByWorkerId(workerId).stream()
+                .map(EvidenceFile::of)
+                .toList());
+        sections.japaneseProficiencies = fetchRows(() -> japaneseProficiencyRepository.findByWorkerId(workerId),
+                EvidenceExportService::japaneseProficiencyRow);
+        sections.skillTrainings = fetchRows(() -> skillTrainingRepository.findByWorkerId(workerId),
+                EvidenceExportService::skillTrainingRow);
+        sections.simulatorTrainings = fetchRows(() -> simulatorTrainingRepository.findByWorkerId(workerId),
+                EvidenceExportService::simulatorTrainingRow);
+        sections.kpiScores = fetchRows(() -> kpiScoreRepository.findHistoryByWorkerId(workerId),
+                EvidenceExportService::kpiScoreRow);
+        sections.integratedGrowths = fetchRows(() -> integratedGrowthRepository.findByWorkerId(workerId),
+                EvidenceExportService::integratedGrowthRow);
+        return sections;
+    }
+
+    /**
+     * 読み取り専用トランザクションで値を取得する
+     * 読み取りレプリカが設定されている場合はレプリカで取得する
+     *
+     * @param query 取得処理（遅延ロードはこの中で完了させること）
+     * @return 取得結果
+     */
+    private <T> CompletableFuture<T> fetch(Supplier<T> query) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setName(EvidenceExportService.class.getName() + ".fetch");
+        return CompletableFuture.supplyAsync(() -> readOnly.execute(status -> query.get()), exportSectionExecutor);
+    }
+
+    private <E> CompletableFuture<List<List<Object>>> fetchRows(Supplier<List<E>> query,
+            Function<E, List<Object>> mapper) {
+        return fetch(() -> query.get().stream().map(mapper).toList());
+    }
+
+    /**
+     * 1人分のセクションをZIPに書き込む
+     *
+     * @param job ジョブ
+     * @param zip 出力先ZIP
+     * @param sections 取得中のセクション
+     * @return マニフェストに記録する情報
+     */
+    private Map<String, Object> writeWorker(EvidenceExportJob job, ZipOutputStream zip, WorkerSections sections)
+            throws IOException, InterruptedException, ExecutionException {
+        String prefix = "worker-" + sections.workerId + "/";
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("workerId", sections.workerId);
+
+        List<Object> worker = sections.worker.get();
+        if (worker == null) {
+            manifest.put("status", "not_found");
+            return manifest;
+        }
+        manifest.put("workerName", worker.get(1));
+        writeCsv(job, zip, prefix + "worker.csv",
+                List.of("id", "name", "nameKana", "nationality", "visaStatus", "visaExpiryDate",
+                        "japaneseLevel", "currentStatus"),
+                List.of(worker));
+
+        List<EvidenceFile> evidences = sections.evidences.get();
+        List<List<Object>> evidenceIndex = new ArrayList<>();
+        for (EvidenceFile evidence : evidences) {
+            checkCancelled(job);
+            evidenceIndex.add(writeEvidenceFile(job, zip, prefix + "evidence/", evidence));
+        }
+        writeCsv(job, zip, prefix + "evidence/index.csv",
+                List.of("id", "title", "evidenceType", "fileName", "mimeType", "isVerified", "verifiedBy",
+                        "verifiedAt", "createdAt", "archivedPath", "hashValue", "hashMatches", "fileStatus"),
+                evidenceIndex);
+
+        List<List<Object>> proficiencies = sections.japaneseProficiencies.get();
+        writeCsv(job, zip, prefix + "certificates/japanese-proficiency.csv",
+                List.of("id", "testDate", "testType", "level", "readingScore", "listeningScore", "writingScore",
+                        "speakingScore", "totalScore", "passed", "certificateNumber", "certificateIssuedDate"),
+                proficiencies);
+        List<List<Object>> skillTrainings = sections.skillTrainings.get();
+        writeCsv(job, zip, prefix + "certificates/skill-training.csv",
+                List.of("id", "skillCategory", "skillName", "trainingStartDate", "trainingEndDate", "trainingHours",
+                        "status", "completionRate", "evaluationScore", "certificateIssued", "certificateNumber"),
+                skillTrainings);
+        List<List<Object>> simulatorTrainings = sections.simulatorTrainings.get();
+        writeCsv(job, zip, prefix + "simulator/trainings.csv",
+                List.of("id", "trainingDate", "equipmentType", "difficultyLevel", "timeLimit", "actualTime",
+                        "safetyScore", "errorCount", "procedureCompliance", "achievementRate", "status"),
+                simulatorTrainings);
+        List<List<Object>> kpiScores = sections.kpiScores.get();
+        writeCsv(job, zip, prefix + "simulator/kpi-history.csv",
+                List.of("id", "sessionId", "sessionStartTime", "safetyScore", "errorCount",
+                        "procedureComplianceRate", "workTimeSeconds", "achievementRate", "accuracyScore",
+                        "efficiencyScore", "overallScore", "createdAt"),
+                kpiScores);
+        List<List<Object>> growths = sections.integratedGrowths.get();
+        writeCsv(job, zip, prefix + "integrated-growth.csv",
+                List.of("id", "recordDate", "japaneseProficiencyScore", "technicalSkillScore",
+                        "safetyAwarenessScore", "communicationScore", "overallScore"),
+                growths);
+
+        manifest.put("status", "exported");
+        manifest.put("evidenceCount", evidences.size());
+        manifest.put("japaneseProficiencyCount", proficiencies.size());
+        manifest.put("skillTrainingCount", skillTrainings.size());
+        manifest.put("simulatorTrainingCount", simulatorTrainings.size());
+        manifest.put("kpiScoreCount", kpiScores.size());
+        manifest.put("integratedGrowthCount", growths.size());
+        return manifest;
+    }
+
+    /**
+     * 証拠ファイルをZIPに直接ストリーミングし、ハッシュ値を検証する
+     *
+     * @return 証拠インデックスの1行
+     */
+    private List<Object> writeEvidenceFile(EvidenceExportJob job, ZipOutputStream zip, String prefix,
+            EvidenceFile evidence) throws IOException {
+        String archivedPath = null;
+        Boolean hashMatches = null;
+        String fileStatus;
+        Path source = resolveEvidencePath(evidence.filePath);
+        if (source == null) {
+            if (evidence.filePath == null || evidence.filePath.isBlank()) {
+                fileStatus = "no_file";
+            } else if (evidence.filePath.contains("://")) {
+                fileStatus = "external";
+            } else {
+                // 基準ディレクトリが未設定、または基準ディレクトリの外を指すパス
+                fileStatus = "not_allowed";
+            }
+        } else if (!Files.isRegularFile(source) || !Files.isReadable(source)) {
+            fileStatus = "missing";
+            job.incrementMissingEvidenceFiles();
+        } else {
+            archivedPath = prefix + "files/" + evidence.id + "_" + sanitize(
+                    evidence.fileName != null ? evidence.fileName : source.getFileName().toString());
+            zip.putNextEntry(new ZipEntry(archivedPath));
+            MessageDigest digest = sha256();
+            try (InputStream in = Files.newInputStream(source)) {
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    checkCancelled(job);
+                    zip.write(buffer, 0, n);
+                    digest.update(buffer, 0, n);
+                    job.addBytesWritten(n);
+                }
+            }
+            zip.closeEntry();
+            if (evidence.hashValue != null) {
+                hashMatches = HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(evidence.hashValue);
+            }
+            fileStatus = "archived";
+            job.incrementEvidenceFiles();
+        }
+        return Arrays.asList(evidence.id, evidence.title, evidence.evidenceType, evidence.fileName,
+                evidence.mimeType, evidence.isVerified, evidence.verifiedBy, evidence.verifiedAt, evidence.createdAt,
+                archivedPath, evidence.hashValue, hashMatches, fileStatus);
+    }
+
+    private void writeCsv(EvidenceExportJob job, ZipOutputStream zip, String name, List<String> header,
+            List<List<Object>> rows) throws IOException {
+        checkCancelled(job);
+        zip.putNextEntry(new ZipEntry(name));
+        // WriterをcloseするとZIP全体が閉じられるため、flushのみ行う
+        Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord(header);
+        for (List<Object> row : rows) {
+            csv.writeRecord(row);
+        }
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    /**
+     * 証拠ファイルのパスを基準ディレクトリに対して解決する
+     * 絶対パス・「..」・シンボリックリンクで基準ディレクトリの外を指す場合は読み込まない
+     *
+     * @param filePath DigitalEvidenceに登録されたパスまたはURL
+     * @return ローカルファイルのパス（URL・未登録・基準ディレクトリが未設定・基準ディレクトリの外の場合はnull）
+     */
+    private Path resolveEvidencePath(String filePath) {
+        if (filePath == null || filePath.isBlank() || filePath.contains("://") || evidenceBaseDir.isBlank()) {
+            return null;
+        }
+        try {
+            Path base = Paths.get(evidenceBaseDir).toAbsolutePath().normalize();
+            Path resolved = base.resolve(filePath).normalize();
+            if (!resolved.startsWith(base)) {
+                return null;
+            }
+            if (Files.exists(resolved) && !resolved.toRealPath().startsWith(base.toRealPath())) {
+                return null;
+            }
+            return resolved;
+        } catch (InvalidPathException | IOException e) {
+            return null;
+        }
+    }
+
+    private static void checkCancelled(EvidenceExportJob job) {
+        if (job.isCancelRequested()) {
+            throw new CancellationException();
+        }
+    }
+
+    private static String sanitize(String fileName) {
+        return fileName.replaceAll("[\\\\/:*?\"<>|]", "_").replace("..", "_");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete export artifact {}", path, e);
+        }
+    }
+
+    private static String rootCauseMessage(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private static List<Object> japaneseProficiencyRow(JapaneseProficiency p) {
+        return Arrays.asList(p.getId(), p.getTestDate(), p.getTestType(), p.getLevel(), p.getReadingScore(),
+                p.getListeningScore(), p.getWritingScore(), p.getSpeakingScore(), p.getTotalScore(), p.getPassed(),
+                p.getCertificateNumber(), p.getCertificateIssuedDate());
+    }
+
+    private static List<Object> skillTrainingRow(SkillTraining s) {
+        return Arrays.asList(s.getId(), s.getSkillCategory(), s.getSkillName(), s.getTrainingStartDate(),
+                s.getTrainingEndDate(), s.getTrainingHours(), s.getStatus(), s.getCompletionRate(),
+                s.getEvaluationScore(), s.getCertificateIssued(), s.getCertificateNumber());
+    }
+
+    private static List<Object> simulatorTrainingRow(ConstructionSimulatorTraining t) {
+        return Arrays.asList(t.getId(), t.getTrainingDate(), t.getEquipmentType(), t.getDifficultyLevel(),
+                t.getTimeLimit(), t.getActualTime(), t.getSafetyScore(), t.getErrorCount(),
+                t.getProcedureCompliance(), t.getAchievementRate(), t.getStatus());
+    }
+
+    private static List<Object> kpiScoreRow(KPIScore k) {
+        return Arrays.asList(k.getId(), k.getTrainingSession().getSessionId(),
+                k.getTrainingSession().getSessionStartTime(), k.getSafetyScore(), k.getErrorCount(),
+                k.getProcedureComplianceRate(), k.getWorkTimeSeconds(), k.getAchievementRate(), k.getAccuracyScore(),
+                k.getEfficiencyScore(), k.getOverallScore(), k.getCreatedAt());
+    }
+
+    private static List<Object> integratedGrowthRow(IntegratedGrowth g) {
+        return Arrays.asList(g.getId(), g.getRecordDate(), g.getJapaneseProficiencyScore(),
+                g.getTechnicalSkillScore(), g.getSafetyAwarenessScore(), g.getCommunicationScore(),
+                g.getOverallScore());
+    }
+
+    /**
+     * 就労者1人分の取得中セクション
+     */
+    private static final class WorkerSections {
+        private final Long workerId;
+        private CompletableFuture<List<Object>> worker;
+        private CompletableFuture<List<EvidenceFile>> evidences;
+        private CompletableFuture<List<List<Object>>> japaneseProficiencies;
+        private CompletableFuture<List<List<Object>>> skillTrainings;
+        private CompletableFuture<List<List<Object>>> simulatorTrainings;
+        private CompletableFuture<List<List<Object>>> kpiScores;
+        private CompletableFuture<List<List<Object>>> integratedGrowths;
+
+        private WorkerSections(Long workerId) {
+            this.workerId = workerId;
+        }
+    }
+
+    /**
+     * トランザクション外で参照する証拠ファイル情報
+     */
+    private static final class EvidenceFile {
+        private Long id;
+        private String title;
+        private String evidenceType;
+        private String filePath;
+        private String fileName;
+        private String mimeType;
+        private String hashValue;
+        private Boolean isVerified;
+        private String verifiedBy;
+        private LocalDateTime verifiedAt;
+        private LocalDateTime createdAt;
+
+        private static EvidenceFile of(DigitalEvidence evidence) {
+            EvidenceFile file = new EvidenceFile();
+            file.id = evidence.getId();
+            file.title = evidence.getTitle();
+            file.evidenceType = evidence.getEvidenceType();
+            file.filePath = evidence.getFilePath();
+            file.fileName = evidence.getFileName();
+            file.mimeType = evidence.getMimeType();
+            file.hashValue = evidence.getHashValue();
+            file.isVerified = evidence.getIsVerified();
+            file.verifiedBy = evidence.getVerifiedBy();
+            file.verifiedAt = evidence.getVerifiedAt();
+            file.createdAt = evidence.getCreatedAt();
+            return file;
+        }
+    }
+
+    /**
+     * ジョブの中止を表す例外
+     */
+    private static final class CancellationException extends RuntimeException {
+        private CancellationException() {
+            super("Export cancelled", null, false, false);
+        }
+    }
+}
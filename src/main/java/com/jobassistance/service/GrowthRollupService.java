@@ -0,0 +1,390 @@
+package com.jobassistance.service;
+
+import com.jobassistance.config.TenantContext;
+import com.jobassistance.dto.GrowthTrend;
+import com.jobassistance.entity.IntegratedGrowth;
+import com.jobassistance.entity.KPIScore;
+import com.jobassistance.entity.Worker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 成長指標の時系列集計サービス
+ * 統合成長記録・KPIスコアの登録時に日次・週次・月次の集計値をUPSERTで更新し、
+ * トレンド照会は集計テーブルのみから列形式の配列で返す
+ * 国籍・全体のコホートはテナントごとに集計し、照会も現在のテナントの集計行に限定する
+ */
+@Slf4j
+@Service
+public class GrowthRollupService {
+
+    /** 全就労者コホートのスコープキー */
+    public static final String ALL_SCOPE_KEY = "*";
+
+    /** 全体再構築の排他に使用するPostgreSQLのアドバイザリーロックのキー */
+    private static final long REBUILD_LOCK_KEY = 0x67726f7774685f72L;
+
+    /** 同じインスタンス内での全体再構築の排他（手動実行と夜間の定期実行） */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /** 集計スコープ */
+    public enum Scope {
+        WORKER, NATIONALITY, ALL
+    }
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO growth_rollups (tenant_id, scope_type, scope_key, metric, granularity, bucket_start, "
+            + "sample_count, sum_value, min_value, max_value, last_value, last_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 1, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (tenant_id, scope_type, scope_key, metric, granularity, bucket_start) DO UPDATE SET "
+            + "sample_count = growth_rollups.sample_count + 1, "
+            + "sum_value = growth_rollups.sum_value + EXCLUDED.sum_value, "
+            + "min_value = LEAST(growth_rollups.min_value, EXCLUDED.min_value), "
+            + "max_value = GREATEST(growth_rollups.max_value, EXCLUDED.max_value), "
+            + "last_value = CASE WHEN EXCLUDED.last_at >= growth_rollups.last_at "
+            + "THEN EXCLUDED.last_value ELSE growth_rollups.last_value END, "
+            + "last_at = GREATEST(growth_rollups.last_at, EXCLUDED.last_at)";
+
+    private static final String TREND_COLUMNS =
+            "SELECT scope_key, bucket_start, sample_count, sum_value, min_value, max_value, last_value "
+            + "FROM growth_rollups ";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 統合成長記録の各スコアを集計値に反映する
+     * 集計の失敗で記録の登録自体を失敗させないよう、エラーはログに記録して再集計に委ねる
+     *
+     * @param growth 保存済みの統合成長記録（就労者を設定済みであること）
+     */
+    public void recordGrowth(IntegratedGrowth growth) {
+        if (growth.getRecordDate() == null || growth.getWorker() == null) {
+            return;
+        }
+        Map<RollupMetric, Double> values = new LinkedHashMap<>();
+        values.put(RollupMetric.GROWTH_JAPANESE_PROFICIENCY, growth.getJapaneseProficiencyScore());
+        values.put(RollupMetric.GROWTH_TECHNICAL_SKILL, growth.getTechnicalSkillScore());
+        values.put(RollupMetric.GROWTH_SAFETY_AWARENESS, growth.getSafetyAwarenessScore());
+        values.put(RollupMetric.GROWTH_COMMUNICATION, growth.getCommunicationScore());
+        values.put(RollupMetric.GROWTH_OVERALL, growth.getOverallScore());
+        upsert(growth.getWorker(), growth.getRecordDate().atStartOfDay(), values);
+    }
+
+    /**
+     * KPIスコアの各指標を集計値に反映する
+     *
+     * @param score 保存済みのKPIスコア
+     * @param worker 訓練セッションの就労者
+     */
+    public void recordKpiScore(KPIScore score, Worker worker) {
+        if (worker == null) {
+            return;
+        }
+        Map<RollupMetric, Double> values = new LinkedHashMap<>();
+        values.put(RollupMetric.KPI_SAFETY, score.getSafetyScore());
+        values.put(RollupMetric.KPI_PROCEDURE_COMPLIANCE, score.getProcedureComplianceRate());
+        values.put(RollupMetric.KPI_ACHIEVEMENT_RATE, score.getAchievementRate());
+        values.put(RollupMetric.KPI_ACCURACY, score.getAccuracyScore());
+        values.put(RollupMetric.KPI_EFFICIENCY, score.getEfficiencyScore());
+        values.put(RollupMetric.KPI_OVERALL, score.getOverallScore());
+        LocalDateTime at = score.getCreatedAt() != null ? score.getCreatedAt() : LocalDateTime.now();
+        upsert(worker, at, values);
+    }
+
+    /**
+     * 就労者・国籍・全体の各スコープと各粒度の集計行を1回のバッチでUPSERTする
+     * 同じコホート行を更新する並行トランザクション同士がデッドロックしないよう、キー順に並べてから実行する
+     */
+    private void upsert(Worker worker, LocalDateTime at, Map<RollupMetric, Double> values) {
+        List<Object[]> rows = new ArrayList<>();
+        String tenantId = worker.getTenantId();
+        Timestamp lastAt = Timestamp.valueOf(at);
+        for (Map.Entry<RollupMetric, Double> entry : values.entrySet()) {
+            Double value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                Date bucket = Date.valueOf(granularity.bucketStart(at.toLocalDate()));
+                rows.add(row(tenantId, Scope.WORKER, String.valueOf(worker.getId()), entry.getKey(), granularity, bucket, value, lastAt));
+                if (worker.getNationality() != null && !worker.getNationality().isBlank()) {
+                    rows.add(row(tenantId, Scope.NATIONALITY, worker.getNationality(), entry.getKey(), granularity, bucket, value, lastAt));
+                }
+                rows.add(row(tenantId, Scope.ALL, ALL_SCOPE_KEY, entry.getKey(), granularity, bucket, value, lastAt));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        rows.sort(Comparator.comparing((Object[] r) -> (String) r[1])
+                .thenComparing(r -> (String) r[2])
+                .thenComparing(r -> (String) r[3])
+                .thenComparing(r -> (String) r[4])
+                .thenComparing(r -> (Date) r[5]));
+
+        try {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, rows));
+        } catch (DataAccessException e) {
+            log.warn("Failed to update growth rollups for worker {}: {}", worker.getId(), e.getMessage());
+        }
+    }
+
+    private static Object[] row(String tenantId, Scope scope, String scopeKey, RollupMetric metric,
+            RollupGranularity granularity, Date bucket, double value, Timestamp lastAt) {
+        return new Object[] { tenantId, scope.name(), scopeKey, metric.getKey(), granularity.name(), bucket,
+                value, value, value, value, lastAt };
+    }
+
+    /**
+     * 集計テーブル全体を元データから再構築する
+     * 記録の削除や集計の更新失敗で生じたずれを補正するため、夜間にも定期実行する
+     * 再構築は同時に1つだけ実行し、実行中の場合は待たずに空を返す
+     * （他のインスタンスとの排他はトランザクション単位のアドバイザリーロックで行う）
+     *
+     * @return 再構築した集計行数（他の再構築が実行中の場合は空）
+     */
+    @Scheduled(cron = "${app.rollup.rebuild-cron:0 30 3 * * *}")
+    public Optional<Integer> rebuildAll() {
+        if (!rebuildLock.tryLock()) {
+            log.info("Skipped growth rollup rebuild: another rebuild is running");
+            return Optional.empty();
+        }
+        try {
+            return rebuildAllLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Optional<Integer> rebuildAllLocked() {
+        Integer inserted = new TransactionTemplate(transactionManager).execute(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)",
+                    Boolean.class, REBUILD_LOCK_KEY))) {
+                return null;
+            }
+            jdbcTemplate.update("DELETE FROM growth_rollups");
+            int total = 0;
+            for (RollupMetric.Source source : RollupMetric.Source.values()) {
+                for (Scope scope : Scope.values()) {
+                    for (RollupGranularity granularity : RollupGranularity.values()) {
+                        total += jdbcTemplate.update(rebuildSql(source, scope, granularity, false));
+                    }
+                }
+            }
+            return total;
+        });
+        if (inserted == null) {
+            log.info("Skipped growth rollup rebuild: another instance is rebuilding");
+            return Optional.empty();
+        }
+        log.info("Rebuilt growth rollups: {} rows", inserted);
+        return Optional.of(inserted);
+    }
+
+    /**
+     * 1人の就労者の集計行のみを元データから再構築する
+     * コホートの集計値は次回の全体再構築で補正される
+     *
+     * @param workerId 就労者ID
+     */
+    public void rebuildWorker(Long workerId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM growth_rollups WHERE scope_type = ? AND scope_key = ?",
+                    Scope.WORKER.name(), String.valueOf(workerId));
+            for (RollupMetric.Source source : RollupMetric.Source.values()) {
+                for (RollupGranularity granularity : RollupGranularity.values()) {
+                    jdbcTemplate.update(rebuildSql(source, Scope.WORKER, granularity, true), workerId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 元テーブルから集計行を作成するINSERT ... SELECT文を組み立てる
+     * 指標列はLATERAL VALUESで縦持ちに変換し、1回の走査ですべての指標を集計する
+     */
+    private static String rebuildSql(RollupMetric.Source source, Scope scope, RollupGranularity granularity,
+            boolean singleWorker) {
+        String alias;
+        String from;
+        String timestamp;
+        if (source == RollupMetric.Source.GROWTH) {
+            alias = "g";
+            from = "integrated_growths g JOIN workers w ON w.id = g.worker_id";
+            timestamp = "CAST(g.record_date AS timestamp)";
+        } else {
+            alias = "k";
+            from = "kpi_scores k JOIN training_sessions s ON s.id = k.training_session_id "
+                    + "JOIN workers w ON w.id = s.worker_id";
+            timestamp = "k.created_at";
+        }
+
+        String scopeKey;
+        String scopeFilter = "";
+        switch (scope) {
+            case WORKER:
+                scopeKey = "CAST(w.id AS varchar)";
+                break;
+            case NATIONALITY:
+                scopeKey = "w.nationality";
+                scopeFilter = " AND w.nationality IS NOT NULL AND w.nationality <> ''";
+                break;
+            default:
+                scopeKey = "'" + ALL_SCOPE_KEY + "'";
+                break;
+        }
+        if (singleWorker) {
+            scopeFilter += " AND w.id = ?";
+        }
+
+        String metricValues = RollupMetric.of(source).stream()
+                .map(m -> "('" + m.getKey() + "', " + alias + "." + m.getColumn() + ")")
+                .collect(Collectors.joining(", "));
+
+        return "INSERT INTO growth_rollups (tenant_id, scope_type, scope_key, metric, granularity, bucket_start, "
+                + "sample_count, sum_value, min_value, max_value, last_value, last_at) "
+                + "SELECT w.tenant_id, '" + scope.name() + "', " + scopeKey + ", m.metric, '" + granularity.name() + "', "
+                + "CAST(date_trunc('" + granularity.getTruncUnit() + "', " + timestamp + ") AS date), "
+                + "COUNT(*), SUM(m.v), MIN(m.v), MAX(m.v), "
+                + "(array_agg(m.v ORDER BY " + timestamp + " DESC, " + alias + ".id DESC))[1], MAX(" + timestamp + ") "
+                + "FROM " + from + " CROSS JOIN LATERAL (VALUES " + metricValues + ") AS m(metric, v) "
+                + "WHERE m.v IS NOT NULL AND w.deleted_at IS NULL" + scopeFilter + " "
+                + "GROUP BY 1, 3, 4, 6 "
+                + "ON CONFLICT (tenant_id, scope_type, scope_key, metric, granularity, bucket_start) DO UPDATE SET "
+                + "sample_count = EXCLUDED.sample_count, sum_value = EXCLUDED.sum_value, "
+                + "min_value = EXCLUDED.min_value, max_value = EXCLUDED.max_value, "
+                + "last_value = EXCLUDED.last_value, last_at = EXCLUDED.last_at";
+    }
+
+    /**
+     * 1つのスコープのトレンドを取得する
+     *
+     * @param scope スコープ
+     * @param scopeKey スコープキー（就労者ID、国籍、または「*」）
+     * @param metric 指標
+     * @param granularity 粒度
+     * @param from 開始日（この日を含む区間から）
+     * @param to 終了日
+     * @return トレンド
+     */
+    public GrowthTrend getTrend(Scope scope, String scopeKey, RollupMetric metric, RollupGranularity granularity,
+            LocalDate from, LocalDate to) {
+        TrendBuilder builder = new TrendBuilder(scope, scopeKey, metric, granularity);
+        jdbcTemplate.query(TREND_COLUMNS
+                + "WHERE tenant_id = ? AND scope_type = ? AND scope_key = ? AND metric = ? AND granularity = ? "
+                + "AND bucket_start BETWEEN ? AND ? ORDER BY bucket_start",
+                rs -> {
+                    builder.add(rs);
+                },
+                TenantContext.resolve(), scope.name(), scopeKey, metric.getKey(), granularity.name(),
+                Date.valueOf(granularity.bucketStart(from)), Date.valueOf(to));
+        return builder.build();
+    }
+
+    /**
+     * すべての国籍コホートのトレンドを1回の照会で取得する
+     *
+     * @param metric 指標
+     * @param granularity 粒度
+     * @param from 開始日
+     * @param to 終了日
+     * @return 国籍ごとのトレンド（国籍順）
+     */
+    public Map<String, GrowthTrend> getNationalityTrends(RollupMetric metric, RollupGranularity granularity,
+            LocalDate from, LocalDate to) {
+        Map<String, TrendBuilder> builders = new LinkedHashMap<>();
+        jdbcTemplate.query(TREND_COLUMNS
+                + "WHERE tenant_id = ? AND scope_type = ? AND metric = ? AND granularity = ? "
+                + "AND bucket_start BETWEEN ? AND ? ORDER BY scope_key, bucket_start",
+                rs -> {
+                    builders.computeIfAbsent(rs.getString("scope_key"),
+                            key -> new TrendBuilder(Scope.NATIONALITY, key, metric, granularity)).add(rs);
+                },
+                TenantContext.resolve(), Scope.NATIONALITY.name(), metric.getKey(), granularity.name(),
+                Date.valueOf(granularity.bucketStart(from)), Date.valueOf(to));
+
+        Map<String, GrowthTrend> trends = new LinkedHashMap<>();
+        builders.forEach((key, builder) -> trends.put(key, builder.build()));
+        return trends;
+    }
+
+    /**
+     * 集計行を列形式の配列に詰めるビルダー
+     */
+    private static class TrendBuilder {
+
+        private final Scope scope;
+        private final String scopeKey;
+        private final RollupMetric metric;
+        private final RollupGranularity granularity;
+
+        private String[] bucketStarts = new String[32];
+        private long[] counts = new long[32];
+        private double[] min = new double[32];
+        private double[] max = new double[32];
+        private double[] avg = new double[32];
+        private double[] last = new double[32];
+        private int size;
+
+        TrendBuilder(Scope scope, String scopeKey, RollupMetric metric, RollupGranularity granularity) {
+            this.scope = scope;
+            this.scopeKey = scopeKey;
+            this.metric = metric;
+            this.granularity = granularity;
+        }
+
+        void add(ResultSet rs) throws SQLException {
+            if (size == counts.length) {
+                int capacity = size * 2;
+                bucketStarts = Arrays.copyOf(bucketStarts, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+                min = Arrays.copyOf(min, capacity);
+                max = Arrays.copyOf(max, capacity);
+                avg = Arrays.copyOf(avg, capacity);
+                last = Arrays.copyOf(last, capacity);
+            }
+            long count = rs.getLong("sample_count");
+            bucketStarts[size] = rs.getDate("bucket_start").toLocalDate().toString();
+            counts[size] = count;
+            min[size] = rs.getDouble("min_value");
+            max[size] = rs.getDouble("max_value");
+            avg[size] = count > 0 ? rs.getDouble("sum_value") / count : 0.0;
+            last[size] = rs.getDouble("last_value");
+            size++;
+        }
+
+        GrowthTrend build() {
+            return new GrowthTrend(scope.name(), scopeKey, metric.getKey(), granularity.getPathName(),
+                    Arrays.copyOf(bucketStarts, size), Arrays.copyOf(counts, size),
+                    Arrays.copyOf(min, size), Arrays.copyOf(max, size),
+                    Arrays.copyOf(avg, size), Arrays.copyOf(last, size));
+        }
+    }
+}
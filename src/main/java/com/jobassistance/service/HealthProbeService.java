@@ -0,0 +1,284 @@
+package com.jobassistance.service;
+
+import com.jobassistance.config.ReadReplicaRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 死活監視・受付可否判定サービス
+ *
+ * 受付可否（readiness）はDBの往復時間、コネクションプールの待ち数、スケジューラーの遅延、
+ * バックグラウンドExecutorのキュー使用率を確認し、いずれかが閾値を超えたら受付不可とする
+ * プローブ自体が負荷にならないよう、判定結果は短時間キャッシュする
+ * DB往復はテナントごとのコネクション上限を経由せずプライマリのコネクションプールから直接計測し、
+ * コネクションの取得待ちを含めて app.health.db-timeout-seconds 以内に終わらなければ受付不可とする
+ */
+@Slf4j
+@Service
+public class HealthProbeService {
+
+    public static final String STATUS_UP = "UP";
+    public static final String STATUS_DOWN = "DOWN";
+
+    /** スケジューラー遅延計測用のハートビート間隔（ミリ秒） */
+    private static final long SCHEDULER_TICK_MS = 1000;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private Map<String, ThreadPoolTaskExecutor> executors;
+
+    @Autowired
+    private ReadReplicaRouter readReplicaRouter;
+
+    @Value("${app.health.cache-ttl-ms:2000}")
+    private long cacheTtlMs;
+
+    @Value("${app.health.db-timeout-seconds:2}")
+    private int dbTimeoutSeconds;
+
+    @Value("${app.health.readiness.max-db-latency-ms:500}")
+    private long maxDbLatencyMs;
+
+    @Value("${app.health.readiness.max-pending-connections:5}")
+    private int maxPendingConnections;
+
+    @Value("${app.health.readiness.max-scheduler-lag-ms:60000}")
+    private long maxSchedulerLagMs;
+
+    @Value("${app.health.readiness.max-queue-utilization:0.9}")
+    private double maxQueueUtilization;
+
+    private final long startedAt = System.currentTimeMillis();
+
+    private volatile long lastSchedulerTick = startedAt;
+
+    private volatile Map<String, Object> cachedReadiness;
+
+    private volatile long cachedAtNanos;
+
+    /** DB往復の計測中かどうか（タイムアウトした計測が終わるまで次の計測を始めない） */
+    private final AtomicBoolean databaseProbeRunning = new AtomicBoolean();
+
+    /**
+     * スケジューラーのハートビートを記録する
+     * 他の定期処理がスケジューラーを占有すると実行が遅れ、遅延として検知される
+     */
+    @Scheduled(fixedRate = SCHEDULER_TICK_MS)
+    void schedulerTick() {
+        lastSchedulerTick = System.currentTimeMillis();
+    }
+
+    /**
+     * 生存確認の結果を取得する
+     * 依存先には接続せず、プロセスが応答できることのみを示す
+     *
+     * @return 生存確認の結果
+     */
+    public Map<String, Object> checkLiveness() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", STATUS_UP);
+        result.put("timestamp", LocalDateTime.now());
+        result.put("uptimeSeconds", (System.currentTimeMillis() - startedAt) / 1000);
+        return result;
+    }
+
+    /**
+     * 受付可否の判定結果を取得する
+     * キャッシュの有効期間内であれば前回の結果を返し、同時に複数の判定を実行しない
+     *
+     * @return 判定結果（status が UP または DOWN）
+     */
+    public Map<String, Object> checkReadiness() {
+        Map<String, Object> cached = cachedReadiness;
+        if (cached != null && System.nanoTime() - cachedAtNanos < TimeUnit.MILLISECONDS.toNanos(cacheTtlMs)) {
+            return cached;
+        }
+        synchronized (this) {
+            if (cachedReadiness != null
+                    && System.nanoTime() - cachedAtNanos < TimeUnit.MILLISECONDS.toNanos(cacheTtlMs)) {
+                return cachedReadiness;
+            }
+            Map<String, Object> result = probe();
+            cachedAtNanos = System.nanoTime();
+            cachedReadiness = result;
+            return result;
+        }
+    }
+
+    /**
+     * 判定結果が受付可能を示すかどうかを返す
+     *
+     * @param result 判定結果
+     * @return 受付可能な場合true
+     */
+    public static boolean isUp(Map<String, Object> result) {
+        return STATUS_UP.equals(result.get("status"));
+    }
+
+    private Map<String, Object> probe() {
+        Map<String, Object> checks = new LinkedHashMap<>();
+        Map<String, Object> pool = checkConnectionPool();
+        checks.put("connectionPool", pool);
+        // 待ちが多い状態でDB往復を計測すると、プローブ自体が接続待ちに加わるため省略する
+        if (isUp(pool)) {
+            checks.put("database", checkDatabase());
+        } else {
+            checks.put("database", Map.of("status", STATUS_DOWN, "skipped", true));
+        }
+        checks.put("scheduler", checkScheduler());
+        checks.put("executors", checkExecutors());
+        if (readReplicaRouter.hasReplicas()) {
+            checks.put("replicas", checkReplicas());
+        }
+
+        boolean up = checks.values().stream().allMatch(check -> isUp(castMap(check)));
+        if (!up) {
+            log.warn("Readiness check failed: {}", checks);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", up ? STATUS_UP : STATUS_DOWN);
+        result.put("timestamp", LocalDateTime.now());
+        result.put("checks", checks);
+        return result;
+    }
+
+    /**
+     * 読み取りレプリカの状態を返す
+     * レプリカが利用できない間はプライマリで処理するため、受付可否には影響させない
+     */
+    private Map<String, Object> checkReplicas() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", STATUS_UP);
+        result.putAll(readReplicaRouter.getStatus());
+        return result;
+    }
+
+    /**
+     * DB往復を計測する
+     * テナントの枠の待ちを受けないようプライマリのコネクションプールを直接使い、
+     * コネクションの取得待ちを含めて db-timeout-seconds で打ち切る（判定中のロックを長時間保持しない）
+     */
+    private Map<String, Object> checkDatabase() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (!databaseProbeRunning.compareAndSet(false, true)) {
+            result.put("status", STATUS_DOWN);
+            result.put("error", "Previous database probe has not finished");
+            return result;
+        }
+        long start = System.nanoTime();
+        CompletableFuture<Boolean> probe = new CompletableFuture<>();
+        Thread.ofVirtual().name("health-db-probe").start(() -> {
+            try {
+                probe.complete(new JdbcTemplate(primaryDataSource).execute((StatementCallback<Boolean>) statement -> {
+                    statement.setQueryTimeout(dbTimeoutSeconds);
+                    return statement.execute("SELECT 1");
+                }));
+            } catch (RuntimeException e) {
+                probe.completeExceptionally(e);
+            } finally {
+                databaseProbeRunning.set(false);
+            }
+        });
+        try {
+            probe.get(dbTimeoutSeconds, TimeUnit.SECONDS);
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            result.put("status", latencyMs <= maxDbLatencyMs ? STATUS_UP : STATUS_DOWN);
+            result.put("latencyMs", latencyMs);
+        } catch (TimeoutException e) {
+            result.put("status", STATUS_DOWN);
+            result.put("latencyMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            result.put("error", "Timed out after " + dbTimeoutSeconds + " s");
+        } catch (ExecutionException e) {
+            result.put("status", STATUS_DOWN);
+            result.put("latencyMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            result.put("error", e.getCause() instanceof DataAccessException dae
+                    ? dae.getMostSpecificCause().getMessage() : e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.put("status", STATUS_DOWN);
+            result.put("error", "Interrupted");
+        }
+        return result;
+    }
+
+    private Map<String, Object> checkConnectionPool() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        HikariPoolMXBean poolBean = getHikariPool();
+        if (poolBean == null) {
+            result.put("status", STATUS_UP);
+            result.put("available", false);
+            return result;
+        }
+        int pending = poolBean.getThreadsAwaitingConnection();
+        result.put("status", pending <= maxPendingConnections ? STATUS_UP : STATUS_DOWN);
+        result.put("active", poolBean.getActiveConnections());
+        result.put("idle", poolBean.getIdleConnections());
+        result.put("total", poolBean.getTotalConnections());
+        result.put("pending", pending);
+        return result;
+    }
+
+    private Map<String, Object> checkScheduler() {
+        long lagMs = Math.max(0, System.currentTimeMillis() - lastSchedulerTick - SCHEDULER_TICK_MS);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", lagMs <= maxSchedulerLagMs ? STATUS_UP : STATUS_DOWN);
+        result.put("lagMs", lagMs);
+        return result;
+    }
+
+    private Map<String, Object> checkExecutors() {
+        boolean up = true;
+        Map<String, Object> details = new TreeMap<>();
+        for (Map.Entry<String, ThreadPoolTaskExecutor> entry : executors.entrySet()) {
+            ThreadPoolTaskExecutor executor = entry.getValue();
+            int queueSize = executor.getQueueSize();
+            int queueCapacity = executor.getQueueCapacity();
+            double utilization = queueCapacity > 0 && queueCapacity < Integer.MAX_VALUE
+                    ? (double) queueSize / queueCapacity : 0.0;
+            boolean executorUp = utilization < maxQueueUtilization;
+            up &= executorUp;
+
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("status", executorUp ? STATUS_UP : STATUS_DOWN);
+            detail.put("active", executor.getActiveCount());
+            detail.put("queueSize", queueSize);
+            detail.put("queueCapacity", queueCapacity);
+            details.put(entry.getKey(), detail);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", up ? STATUS_UP : STATUS_DOWN);
+        result.putAll(details);
+        return result;
+    }
+
+    private HikariPoolMXBean getHikariPool() {
+        return primaryDataSource.getHikariPoolMXBean();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+}
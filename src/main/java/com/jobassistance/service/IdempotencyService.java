@@ -0,0 +1,279 @@
+package com.jobassistance.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 冪等キー（Idempotency-Key）による重複要求の排除サービス
+ *
+ * 判定はメモリ上の期限付きキャッシュだけで行い、通常の要求ではデータベースにアクセスしない。
+ * 応答はキューに積み、バックグラウンドでidempotency_keysテーブルに一括登録する。
+ * 起動時に有効期限内のキーをテーブルから読み込むため、再起動後の再送も排除できる。
+ * 複数インスタンスで運用する場合は check-store-on-miss を有効にし、メモリにないキーをテーブルで確認する
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO idempotency_keys (key_hash, request_hash, status_code, content_type, response_body, expires_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (key_hash) DO NOTHING";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT key_hash, request_hash, status_code, content_type, response_body, expires_at FROM idempotency_keys ";
+
+    /** 1回のバッチで登録する行数 */
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** キーの有効期間（分） */
+    @Value("${app.idempotency.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    /** メモリに保持する最大キー数（超えた場合はテーブルで確認する） */
+    @Value("${app.idempotency.max-entries:200000}")
+    private int maxEntries;
+
+    /** メモリにないキーをテーブルで確認する場合true（複数インスタンス構成向け） */
+    @Value("${app.idempotency.check-store-on-miss:false}")
+    private boolean checkStoreOnMiss;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Queue<Object[]> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 冪等キーを予約する
+     * 同じキーの応答が保存済みであれば再送として扱い、処理中であれば重複として扱う
+     *
+     * @param tenantId テナントID
+     * @param key クライアントが指定した冪等キー
+     * @param requestHash 要求のハッシュ（同じキーを別の要求に使用していないかの確認用）
+     * @return 予約結果
+     */
+    public Reservation reserve(String tenantId, String key, int requestHash) {
+        String keyHash = hash(tenantId, key);
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+        }
+        boolean full = entries.size() >= maxEntries;
+        if (full || checkStoreOnMiss && !entries.containsKey(keyHash)) {
+            Entry stored = findStored(keyHash, now);
+            if (stored != null) {
+                if (!full) {
+                    entries.putIfAbsent(keyHash, stored);
+                }
+                return toReservation(keyHash, stored, requestHash);
+            }
+        }
+        if (full) {
+            // メモリに空きがない場合は、処理中の重複を検知できないがテーブルへの保存は行う
+            return new Reservation(State.NEW, keyHash, requestHash, null);
+        }
+
+        Entry reserved = new Entry(requestHash, now + ttlMinutes * 60_000);
+        Entry current = entries.compute(keyHash,
+                (k, existing) -> existing != null && existing.expiresAt > now ? existing : reserved);
+        if (current == reserved) {
+            return new Reservation(State.NEW, keyHash, requestHash, null);
+        }
+        return toReservation(keyHash, current, requestHash);
+    }
+
+    /**
+     * 処理が完了した要求の応答を保存する
+     *
+     * @param reservation 予約結果
+     * @param status HTTPステータス
+     * @param contentType Content-Type
+     * @param body 応答本文
+     */
+    public void complete(Reservation reservation, int status, String contentType, byte[] body) {
+        StoredResponse response = new StoredResponse(status, contentType, body);
+        long expiresAt = System.currentTimeMillis() + ttlMinutes * 60_000;
+        Entry entry = entries.get(reservation.keyHash());
+        if (entry != null && entry.response == null) {
+            entry.expiresAt = expiresAt;
+            entry.response = response;
+        }
+        pending.add(new Object[] { reservation.keyHash(), reservation.requestHash(), (short) status, contentType, body,
+                new Timestamp(expiresAt) });
+    }
+
+    /**
+     * 応答を保存せずに予約を取り消す（サーバーエラーなど、クライアントが再送してよい場合）
+     *
+     * @param reservation 予約結果
+     */
+    public void release(Reservation reservation) {
+        entries.computeIfPresent(reservation.keyHash(), (k, entry) -> entry.response == null ? null : entry);
+    }
+
+    /**
+     * 保存待ちの応答をテーブルに一括登録する
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.flush-interval-ms:200}")
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        Object[] row;
+        while ((row = pending.poll()) != null) {
+            rows.add(row);
+        }
+        try {
+            for (int i = 0; i < rows.size(); i += BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows.subList(i, Math.min(i + BATCH_SIZE, rows.size())));
+            }
+        } catch (DataAccessException e) {
+            // メモリ上のキーは有効なため、このインスタンスでの重複排除は継続できる
+            log.warn("Failed to persist {} idempotency keys: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 有効期限が過ぎたキーをメモリとテーブルから削除する
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:300000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int evicted = evictExpired(now);
+        int deleted = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", new Timestamp(now));
+        log.debug("Purged idempotency keys: {} from memory, {} from store", evicted, deleted);
+    }
+
+    /**
+     * 有効期限内のキーをテーブルからメモリに読み込む
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long now = System.currentTimeMillis();
+        try {
+            jdbcTemplate.query(SELECT_COLUMNS + "WHERE expires_at > ? ORDER BY expires_at DESC LIMIT ?", (RowCallbackHandler) rs -> {
+                entries.putIfAbsent(rs.getString(1), toEntry(rs));
+            }, new Timestamp(now), maxEntries);
+            log.info("Loaded {} idempotency keys", entries.size());
+        } catch (DataAccessException e) {
+            log.warn("Failed to load idempotency keys: {}", e.getMessage());
+        }
+    }
+
+    private Entry findStored(String keyHash, long now) {
+        try {
+            List<Entry> found = jdbcTemplate.query(SELECT_COLUMNS + "WHERE key_hash = ? AND expires_at > ?",
+                    (rs, rowNum) -> toEntry(rs), keyHash, new Timestamp(now));
+            return found.isEmpty() ? null : found.get(0);
+        } catch (DataAccessException e) {
+            log.warn("Failed to look up idempotency key: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private int evictExpired(long now) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.response != null && entry.expiresAt <= now);
+        return before - entries.size();
+    }
+
+    private static Reservation toReservation(String keyHash, Entry entry, int requestHash) {
+        if (entry.requestHash != requestHash) {
+            return new Reservation(State.MISMATCH, keyHash, requestHash, null);
+        }
+        StoredResponse response = entry.response;
+        return response == null
+                ? new Reservation(State.IN_PROGRESS, keyHash, requestHash, null)
+                : new Reservation(State.REPLAY, keyHash, requestHash, response);
+    }
+
+    private static Entry toEntry(ResultSet rs) throws SQLException {
+        Entry entry = new Entry(rs.getInt(2), rs.getTimestamp(6).getTime());
+        entry.response = new StoredResponse(rs.getShort(3), rs.getString(4), rs.getBytes(5));
+        return entry;
+    }
+
+    private static String hash(String tenantId, String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(tenantId.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 予約の状態
+     */
+    public enum State {
+        /** 初めての要求（処理を続行する） */
+        NEW,
+        /** 処理済みの要求の再送（保存した応答を返す） */
+        REPLAY,
+        /** 同じキーの要求が処理中 */
+        IN_PROGRESS,
+        /** 同じキーが別の要求に使用されている */
+        MISMATCH
+    }
+
+    /**
+     * 予約結果
+     *
+     * @param state 予約の状態
+     * @param keyHash テナントIDと冪等キーのハッシュ
+     * @param requestHash 要求のハッシュ
+     * @param response 保存済みの応答（REPLAYの場合のみ）
+     */
+    public record Reservation(State state, String keyHash, int requestHash, StoredResponse response) {
+    }
+
+    /**
+     * 保存した応答
+     *
+     * @param status HTTPステータス
+     * @param contentType Content-Type
+     * @param body 応答本文
+     */
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    private static final class Entry {
+        private final int requestHash;
+        private volatile long expiresAt;
+        private volatile StoredResponse response;
+
+        private Entry(int requestHash, long expiresAt) {
+            this.requestHash = requestHash;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.jobassistance.service;
+
+import com.jobassistance.entity.User;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 多要素認証（MFA）サービス
+ *
+ * TOTP（RFC 6238、HMAC-SHA1）の照合は、スレッド単位で再利用するMacとバッファで行い、1回の照合でほぼ割り当てを行わない
+ * 使用済みのコードはタイムステップごとのバケットに記録し、同じステップのコードの再利用をDBへの書き込みなしで拒否する
+ * （バケットはプロセス内のため、複数インスタンス構成ではインスタンスごとの判定となる）
+ * バックアップコードはソルト付きSHA-256ハッシュとして保存し、定数時間で比較する
+ */
+@Service
+public class MfaService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA1";
+    private static final String BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+    private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000 };
+
+    /** ハッシュ化したバックアップコードの保存形式の接頭辞 */
+    private static final String BACKUP_CODES_PREFIX = "v1$";
+
+    private static final int SECRET_BYTES = 20;
+    private static final int BACKUP_CODE_LENGTH = 10;
+    private static final int KEY_CACHE_MAX_ENTRIES = 10000;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    @Value("${app.security.mfa.issuer:JobAssistance}")
+    private String issuer;
+
+    @Value("${app.security.mfa.step-seconds:30}")
+    private long stepSeconds;
+
+    @Value("${app.security.mfa.digits:6}")
+    private int digits;
+
+    /** 前後に許容するタイムステップ数（端末の時計のずれ） */
+    @Value("${app.security.mfa.drift-steps:1}")
+    private int driftSteps;
+
+    @Value("${app.security.mfa.backup-code-count:10}")
+    private int backupCodeCount;
+
+    private final ConcurrentHashMap<String, SecretKeySpec> keyCache = new ConcurrentHashMap<>();
+
+    private ReplayBucket[] replayBuckets;
+
+    /** 現在時刻の取得元（テストでは固定した時計に差し替える） */
+    Clock clock = Clock.systemUTC();
+
+    @PostConstruct
+    void init() {
+        if (digits < 6 || digits > 8) {
+            throw new IllegalStateException("app.security.mfa.digits must be between 6 and 8");
+        }
+        // 許容範囲内のステップが同じバケットを共有しないよう、範囲より1つ多く用意する
+        replayBuckets = new ReplayBucket[2 * driftSteps + 2];
+        for (int i = 0; i < replayBuckets.length; i++) {
+            replayBuckets[i] = new ReplayBucket();
+        }
+    }
+
+    /**
+     * TOTPのシークレットを生成する
+     *
+     * @return Base32エンコードしたシークレット（32文字）
+     */
+    public String generateSecret() {
+        byte[] secret = new byte[SECRET_BYTES];
+        RANDOM.nextBytes(secret);
+        return encodeBase32(secret);
+    }
+
+    /**
+     * 認証アプリ登録用のotpauth URIを作成する
+     *
+     * @param username ユーザー名
+     * @param secret Base32エンコードしたシークレット
+     * @return otpauth URI
+     */
+    public String buildOtpAuthUri(String username, String secret) {
+        String label = URLEncoder.encode(issuer + ":" + username, StandardCharsets.UTF_8).replace("+", "%20");
+        return "otpauth://totp/" + label + "?secret=" + secret
+                + "&issuer=" + URLEncoder.encode(issuer, StandardCharsets.UTF_8).replace("+", "%20")
+                + "&algorithm=SHA1&digits=" + digits + "&period=" + stepSeconds;
+    }
+
+    /**
+     * TOTPコードを照合する
+     * 許容範囲内のすべてのステップを計算してから判定し、一致したステップで処理時間が変わらないようにする
+     *
+     * @param userId ユーザーID（再利用の判定に使用）
+     * @param secret Base32エンコードしたシークレット
+     * @param code 入力されたコード
+     * @return 一致し、かつ未使用の場合true
+     */
+    public boolean verifyTotp(Long userId, String secret, String code) {
+        int submitted = parseCode(code);
+        if (submitted < 0 || secret == null) {
+            return false;
+        }
+        SecretKeySpec key = keyFor(secret);
+        if (key == null) {
+            return false;
+        }
+
+        long currentStep = Math.floorDiv(clock.millis() / 1000, stepSeconds);
+        Scratch scratch = SCRATCH.get();
+        try {
+            scratch.mac.init(key);
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+        long matchedStep = Long.MIN_VALUE;
+        for (long step = currentStep - driftSteps; step <= currentStep + driftSteps; step++) {
+            int candidate = generateCode(scratch, step);
+            matchedStep = candidate == submitted ? step : matchedStep;
+        }
+        return matchedStep != Long.MIN_VALUE && markUsed(userId, matchedStep);
+    }
+
+    /**
+     * バックアップコードを生成し、ハッシュ化してユーザーに設定する（保存は呼び出し元で行う）
+     *
+     * @param user ユーザー
+     * @return 平文のバックアップコード（表示用、この時にしか取得できない）
+     */
+    public List<String> generateBackupCodes(User user) {
+        byte[] salt = new byte[16];
+        RANDOM.nextBytes(salt);
+        List<String> codes = new ArrayList<>();
+        List<String> hashes = new ArrayList<>();
+        byte[] random = new byte[BACKUP_CODE_LENGTH];
+        for (int i = 0; i < backupCodeCount; i++) {
+            RANDOM.nextBytes(random);
+            StringBuilder code = new StringBuilder(BACKUP_CODE_LENGTH);
+            for (byte b : random) {
+                code.append(BASE32_ALPHABET.charAt((b & 0xff) % BASE32_ALPHABET.length()));
+            }
+            codes.add(code.substring(0, BACKUP_CODE_LENGTH / 2) + "-" + code.substring(BACKUP_CODE_LENGTH / 2));
+            hashes.add(Base64.getEncoder().encodeToString(hashBackupCode(salt, code.toString())));
+        }
+        user.setBackupCodes(BACKUP_CODES_PREFIX + Base64.getEncoder().encodeToString(salt) + "$"
+                + String.join(",", hashes));
+        return codes;
+    }
+
+    /**
+     * バックアップコードを照合し、一致したコードを使用済みとして削除する（保存は呼び出し元で行う）
+     * すべての保存済みコードと比較してから判定し、一致した位置で処理時間が変わらないようにする
+     *
+     * @param user ユーザー
+     * @param code 入力されたバックアップコード
+     * @return 一致した場合true
+     */
+    public boolean consumeBackupCode(User user, String code) {
+        String stored = user.getBackupCodes();
+        if (stored == null || code == null || !stored.startsWith(BACKUP_CODES_PREFIX)) {
+            return false;
+        }
+        int saltEnd = stored.indexOf('$', BACKUP_CODES_PREFIX.length());
+        if (saltEnd < 0) {
+            return false;
+        }
+        byte[] salt = Base64.getDecoder().decode(stored.substring(BACKUP_CODES_PREFIX.length(), saltEnd));
+        byte[] submitted = hashBackupCode(salt, normalizeBackupCode(code));
+
+        List<String> remaining = new ArrayList<>();
+        boolean matched = false;
+        for (String entry : stored.substring(saltEnd + 1).split(",")) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            boolean equal = MessageDigest.isEqual(Base64.getDecoder().decode(entry), submitted);
+            if (equal && !matched) {
+                matched = true;
+            } else {
+                remaining.add(entry);
+            }
+        }
+        if (matched) {
+            user.setBackupCodes(BACKUP_CODES_PREFIX + stored.substring(BACKUP_CODES_PREFIX.length(), saltEnd) + "$"
+                    + String.join(",", remaining));
+        }
+        return matched;
+    }
+
+    /**
+     * TOTPコードまたはバックアップコードで2段階目の認証を行う
+     *
+     * @param user ユーザー（バックアップコードを使用した場合は残りのコードが更新される）
+     * @param code 入力されたコード
+     * @return 認証に成功した場合true
+     */
+    public boolean verify(User user, String code) {
+        if (code == null) {
+            return false;
+        }
+        if (parseCode(code) >= 0) {
+            return verifyTotp(user.getId(), user.getMfaSecret(), code);
+        }
+        return consumeBackupCode(user, code);
+    }
+
+    /**
+     * 入力されたコードを数値に変換する（桁数が異なる・数字以外を含む場合は-1）
+     */
+    private int parseCode(String code) {
+        if (code == null || code.length() != digits) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 指定ステップのTOTPコードを計算する（RFC 4226の動的切り詰め）
+     */
+    private int generateCode(Scratch scratch, long step) {
+        long value = step;
+        for (int i = 7; i >= 0; i--) {
+            scratch.counter[i] = (byte) value;
+            value >>>= 8;
+        }
+        try {
+            scratch.mac.update(scratch.counter);
+            scratch.mac.doFinal(scratch.hash, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to compute TOTP", e);
+        }
+        byte[] hash = scratch.hash;
+        int offset = hash[hash.length - 1] & 0x0f;
+        int binary = ((hash[offset] & 0x7f) << 24)
+                | ((hash[offset + 1] & 0xff) << 16)
+                | ((hash[offset + 2] & 0xff) << 8)
+                | (hash[offset + 3] & 0xff);
+        return binary % POWERS_OF_TEN[digits];
+    }
+
+    /**
+     * ユーザーのステップを使用済みとして記録する
+     *
+     * @return 未使用だった場合true
+     */
+    private boolean markUsed(Long userId, long step) {
+        ReplayBucket bucket = replayBuckets[(int) Math.floorMod(step, (long) replayBuckets.length)];
+        synchronized (bucket) {
+            if (bucket.step != step) {
+                bucket.step = step;
+                bucket.userIds.clear();
+            }
+            return bucket.userIds.add(userId);
+        }
+    }
+
+    private SecretKeySpec keyFor(String secret) {
+        SecretKeySpec key = keyCache.get(secret);
+        if (key != null) {
+            return key;
+        }
+        byte[] decoded = decodeBase32(secret);
+        if (decoded == null || decoded.length == 0) {
+            return null;
+        }
+        if (keyCache.size() >= KEY_CACHE_MAX_ENTRIES) {
+            keyCache.clear();
+        }
+        key = new SecretKeySpec(decoded, HMAC_ALGORITHM);
+        keyCache.put(secret, key);
+        return key;
+    }
+
+    private static byte[] hashBackupCode(byte[] salt, String code) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            return digest.digest(code.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String normalizeBackupCode(String code) {
+        return code.replace("-", "").replace(" ", "").toUpperCase(Locale.ROOT);
+    }
+
+    static String encodeBase32(byte[] data) {
+        StringBuilder result = new StringBuilder((data.length * 8 + 4) / 5);
+        int buffer = 0;
+        int bits = 0;
+        for (byte b : data) {
+            buffer = (buffer << 8) | (b & 0xff);
+            bits += 8;
+            while (bits >= 5) {
+                result.append(BASE32_ALPHABET.charAt((buffer >> (bits - 5)) & 0x1f));
+                bits -= 5;
+            }
+            buffer &= (1 << bits) - 1;
+        }
+        if (bits > 0) {
+            result.append(BASE32_ALPHABET.charAt((buffer << (5 - bits)) & 0x1f));
+        }
+        return result.toString();
+    }
+
+    static byte[] decodeBase32(String value) {
+        String normalized = value.replace("=", "").replace(" ", "").toUpperCase(Locale.ROOT);
+        byte[] result = new byte[normalized.length() * 5 / 8];
+        int buffer = 0;
+        int bits = 0;
+        int index = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            int digit = BASE32_ALPHABET.indexOf(normalized.charAt(i));
+            if (digit < 0) {
+                return null;
+            }
+            buffer = (buffer << 5) | digit;
+            bits += 5;
+            if (bits >= 8) {
+                result[index++] = (byte) (buffer >> (bits - 8));
+                bits -= 8;
+                buffer &= (1 << bits) - 1;
+            }
+        }
+        return result;
+    }
+
+    /** スレッド単位で再利用する計算用のバッファ */
+    private static final class Scratch {
+        private final Mac mac;
+        private final byte[] counter = new byte[8];
+        private final byte[] hash = new byte[20];
+
+        private Scratch() {
+            try {
+                mac = Mac.getInstance(HMAC_ALGORITHM);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC is not available", e);
+            }
+        }
+    }
+
+    /** 1つのタイムステップで使用済みのユーザーID */
+    private static final class ReplayBucket {
+        private long step = Long.MIN_VALUE;
+        private final Set<Long> userIds = new HashSet<>();
+    }
+}
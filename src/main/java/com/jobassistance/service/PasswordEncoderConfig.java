@@ -1,10 +1,16 @@
 package com.jobassistance.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * パスワードエンコーダー設定クラス
  * パスワードのハッシュ化に使用するエンコーダーを提供
@@ -14,13 +20,22 @@ public class PasswordEncoderConfig {
 
     /**
      * パスワードエンコーダーのBeanを定義する
-     * BCryptアルゴリズムを使用したパスワードエンコーダーを返す
+     * 新しいハッシュは設定された方式（既定はArgon2id）で作成し、{bcrypt}等の接頭辞で方式を判別して照合する
+     * 接頭辞のない既存のハッシュはBCryptとして照合し、ログイン成功時に新しい方式へ再ハッシュされる
      *
-     * @return BCryptPasswordEncoderインスタンス
+     * @param encodingId 新しいハッシュの方式（argon2 または bcrypt）
+     * @param bcryptStrength BCryptのコスト
+     * @return DelegatingPasswordEncoderインスタンス
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.password.encoder:argon2}") String encodingId,
+            @Value("${app.security.password.bcrypt-strength:10}") int bcryptStrength) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt"));
+        return encoder;
     }
 }
-
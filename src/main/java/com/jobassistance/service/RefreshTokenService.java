@@ -0,0 +1,147 @@
+package com.jobassistance.service;
+
+import com.jobassistance.entity.RefreshToken;
+import com.jobassistance.entity.User;
+import com.jobassistance.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * リフレッシュトークンの発行・ローテーションサービス
+ *
+ * リフレッシュトークンは1回限り有効で、使用するたびに同じファミリーの新しいトークンに置き換える
+ * 使用済みのトークンが再度提示された場合は漏洩とみなし、ファミリー全体を無効化する
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.security.token.refresh-ttl-days:14}")
+    private long refreshTtlDays;
+
+    /**
+     * 新しいファミリーのリフレッシュトークンを発行する（ログイン時）
+     *
+     * @param user ユーザー
+     * @return リフレッシュトークン
+     */
+    public String issue(User user) {
+        return save(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * リフレッシュトークンを使用し、同じファミリーの新しいトークンに置き換える
+     *
+     * @param token 提示されたリフレッシュトークン
+     * @return 新しいトークンとユーザー（無効なトークンの場合は空）
+     */
+    public Optional<Rotation> rotate(String token) {
+        String tokenHash = hash(token);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Optional<RefreshToken> found = refreshTokenRepository.findWithUserByTokenHash(tokenHash);
+            if (found.isEmpty()) {
+                return Optional.<Rotation>empty();
+            }
+            RefreshToken current = found.get();
+            LocalDateTime now = LocalDateTime.now();
+            if (current.getRevokedAt() != null || current.getExpiresAt().isBefore(now)) {
+                return Optional.<Rotation>empty();
+            }
+            if (refreshTokenRepository.markRotated(current.getId(), now) == 0) {
+                // 使用済みトークンの再利用: 正規の利用者と攻撃者のどちらが先に使ったか判別できないため、ファミリーごと無効化する
+                refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+                log.warn("Refresh token reuse detected for user {}; revoked family {}",
+                        current.getUser().getId(), current.getFamilyId());
+                return Optional.<Rotation>empty();
+            }
+            User user = current.getUser();
+            if (!Boolean.TRUE.equals(user.getIsActive())) {
+                refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+                return Optional.<Rotation>empty();
+            }
+            return Optional.of(new Rotation(user, save(user, current.getFamilyId())));
+        });
+    }
+
+    /**
+     * リフレッシュトークンのファミリーを無効化する（ログアウト時）
+     *
+     * @param token リフレッシュトークン
+     * @return 無効化した場合true
+     */
+    public boolean revoke(String token) {
+        String tokenHash = hash(token);
+        Boolean revoked = new TransactionTemplate(transactionManager).execute(status ->
+                refreshTokenRepository.findWithUserByTokenHash(tokenHash)
+                        .map(t -> refreshTokenRepository.revokeFamily(t.getFamilyId(), LocalDateTime.now()) > 0)
+                        .orElse(false));
+        return Boolean.TRUE.equals(revoked);
+    }
+
+    /**
+     * 期限切れのリフレッシュトークンを削除する
+     */
+    @Scheduled(fixedDelay = 3600000)
+    public void purgeExpired() {
+        Integer deleted = new TransactionTemplate(transactionManager).execute(status ->
+                refreshTokenRepository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String save(User user, String familyId) {
+        byte[] random = new byte[32];
+        RANDOM.nextBytes(random);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUser(user);
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setExpiresAt(LocalDateTime.now().plusDays(refreshTtlDays));
+        refreshTokenRepository.save(refreshToken);
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * ローテーションの結果
+     *
+     * @param user ユーザー
+     * @param refreshToken 新しいリフレッシュトークン
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.jobassistance.service;
+
+import com.jobassistance.entity.DigitalEvidence;
+import com.jobassistance.entity.Report;
+import com.jobassistance.entity.Worker;
+import com.jobassistance.repository.CareerGoalRepository;
+import com.jobassistance.repository.ConstructionSimulatorTrainingRepository;
+import com.jobassistance.repository.DigitalEvidenceRepository;
+import com.jobassistance.repository.IntegratedGrowthRepository;
+import com.jobassistance.repository.JapaneseProficiencyRepository;
+import com.jobassistance.repository.MilestoneRepository;
+import com.jobassistance.repository.ReportRepository;
+import com.jobassistance.repository.SkillTrainingRepository;
+import com.jobassistance.repository.TrainingMenuRepository;
+import com.jobassistance.repository.TrainingSessionRepository;
+import com.jobassistance.repository.WorkerProgressRepository;
+import com.jobassistance.repository.WorkerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * レポート・ダッシュボード用の参照サービス
+ * すべてのメソッドを読み取り専用トランザクションで実行し、読み取りレプリカが設定されている場合はレプリカで処理する
+ * （訓練セッションの書き込みとプライマリのコネクションを取り合わないようにする）
+ */
+@Service
+@Transactional(readOnly = true)
+public class ReportingQueryService {
+
+    @Autowired
+    private WorkerRepository workerRepository;
+
+    @Autowired
+    private WorkerProgressRepository progressRepository;
+
+    @Autowired
+    private DigitalEvidenceRepository evidenceRepository;
+
+    @Autowired
+    private JapaneseProficiencyRepository japaneseProficiencyRepository;
+
+    @Autowired
+    private SkillTrainingRepository skillTrainingRepository;
+
+    @Autowired
+    private ConstructionSimulatorTrainingRepository simulatorTrainingRepository;
+
+    @Autowired
+    private IntegratedGrowthRepository integratedGrowthRepository;
+
+    @Autowired
+    private MilestoneRepository milestoneRepository;
+
+    @Autowired
+    private CareerGoalRepository careerGoalRepository;
+
+    @Autowired
+    private TrainingSessionRepository trainingSessionRepository;
+
+    @Autowired
+    private TrainingMenuRepository trainingMenuRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    /**
+     * 就労者の証拠レポートを作成する
+     *
+     * @param workerId 就労者ID
+     * @return 証拠レポート（就労者が存在しない場合は空）
+     */
+    public Optional<Map<String, Object>> getEvidenceReport(Long workerId) {
+        Optional<Worker> worker = workerRepository.findById(workerId);
+        if (worker.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, Object> report = new HashMap<>();
+
+        // 基本情報
+        report.put("workerId", workerId);
+        report.put("workerName", worker.get().getName());
+
+        // デジタル証拠
+        List<DigitalEvidence> evidences = evidenceRepository.findByWorkerId(workerId);
+        report.put("digitalEvidences", evidences);
+
+        // 日本語能力証明
+        report.put("japaneseProficiencyCount", (long) japaneseProficiencyRepository.findByWorkerId(workerId).size());
+
+        // 技能訓練証明
+        report.put("skillTrainingCount", (long) skillTrainingRepository.findByWorkerId(workerId).size());
+
+        // シミュレーター訓練証明
+        report.put("simulatorTrainingCount", (long) simulatorTrainingRepository.findByWorkerId(workerId).size());
+        return Optional.of(report);
+    }
+
+    /**
+     * 就労者の統合ダッシュボード情報を作成する
+     *
+     * @param workerId 就労者ID
+     * @return 統合ダッシュボード情報（就労者が存在しない場合は空）
+     */
+    public Optional<Map<String, Object>> getIntegratedDashboard(Long workerId) {
+        Optional<Worker> worker = workerRepository.findById(workerId);
+        if (worker.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, Object> dashboard = new HashMap<>();
+
+        // 基本情報
+        dashboard.put("workerId", workerId);
+        dashboard.put("workerName", worker.get().getName());
+
+        dashboard.put("japaneseProficiencyCount", (long) japaneseProficiencyRepository.findByWorkerId(workerId).size());
+        dashboard.put("skillTrainingCount", (long) skillTrainingRepository.findByWorkerId(workerId).size());
+        dashboard.put("simulatorTrainingCount", (long) simulatorTrainingRepository.findByWorkerId(workerId).size());
+        dashboard.put("integratedGrowthCount", (long) integratedGrowthRepository.findByWorkerId(workerId).size());
+        dashboard.put("milestoneCount", (long) milestoneRepository.findByWorkerId(workerId).size());
+        dashboard.put("careerGoalCount", (long) careerGoalRepository.findByWorkerId(workerId).size());
+        dashboard.put("progressCount", (long) progressRepository.findByWorkerId(workerId).size());
+        return Optional.of(dashboard);
+    }
+
+    /**
+     * 管理者用サマリー情報を作成する
+     *
+     * @return サマリー情報
+     */
+    public Map<String, Object> getAdminSummary() {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("totalWorkers", workerRepository.count());
+        summary.put("totalTrainingSessions", trainingSessionRepository.count());
+        summary.put("totalTrainingMenus", trainingMenuRepository.count());
+        summary.put("activeTrainingMenus", (long) trainingMenuRepository.findByIsActiveTrue().size());
+        return summary;
+    }
+
+    /**
+     * 全体レポート一覧を取得する
+     *
+     * @return 全体レポート一覧
+     */
+    public List<Report> getGeneralReports() {
+        return reportRepository.findByWorkerIdIsNull();
+    }
+
+    /**
+     * 就労者向けレポート一覧を取得する
+     *
+     * @param workerId 就労者ID
+     * @return レポート一覧（就労者が存在しない場合は空）
+     */
+    public Optional<List<Report>> getWorkerReports(Long workerId) {
+        if (!workerRepository.existsById(workerId)) {
+            return Optional.empty();
+        }
+        return Optional.of(reportRepository.findByWorkerId(workerId));
+    }
+}
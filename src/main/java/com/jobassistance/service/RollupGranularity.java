@@ -0,0 +1,68 @@
+package com.jobassistance.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 時系列集計の粒度
+ * 区間の開始日はPostgreSQLのdate_truncと同じ規則（週は月曜始まり）で計算する
+ */
+public enum RollupGranularity {
+
+    DAILY("daily", "day"),
+    WEEKLY("weekly", "week"),
+    MONTHLY("monthly", "month");
+
+    private final String pathName;
+    private final String truncUnit;
+
+    RollupGranularity(String pathName, String truncUnit) {
+        this.pathName = pathName;
+        this.truncUnit = truncUnit;
+    }
+
+    public String getPathName() {
+        return pathName;
+    }
+
+    /**
+     * date_truncに渡す単位を取得する
+     *
+     * @return 単位（day, week, month）
+     */
+    public String getTruncUnit() {
+        return truncUnit;
+    }
+
+    /**
+     * 指定日が属する集計区間の開始日を取得する
+     *
+     * @param date 日付
+     * @return 区間の開始日
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        switch (this) {
+            case WEEKLY:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY:
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+        }
+    }
+
+    /**
+     * パス名（またはenum名）から粒度を取得する
+     *
+     * @param name パス名
+     * @return 粒度（該当しない場合は空）
+     */
+    public static Optional<RollupGranularity> fromPathName(String name) {
+        return Arrays.stream(values())
+                .filter(g -> g.pathName.equalsIgnoreCase(name) || g.name().equalsIgnoreCase(name))
+                .findFirst();
+    }
+}
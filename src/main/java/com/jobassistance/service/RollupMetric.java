@@ -0,0 +1,77 @@
+package com.jobassistance.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 時系列集計の対象指標
+ * 統合成長記録とKPIスコアの各スコア列に対応する
+ */
+public enum RollupMetric {
+
+    GROWTH_JAPANESE_PROFICIENCY("growth.japaneseProficiency", Source.GROWTH, "japanese_proficiency_score"),
+    GROWTH_TECHNICAL_SKILL("growth.technicalSkill", Source.GROWTH, "technical_skill_score"),
+    GROWTH_SAFETY_AWARENESS("growth.safetyAwareness", Source.GROWTH, "safety_awareness_score"),
+    GROWTH_COMMUNICATION("growth.communication", Source.GROWTH, "communication_score"),
+    GROWTH_OVERALL("growth.overall", Source.GROWTH, "overall_score"),
+    KPI_SAFETY("kpi.safety", Source.KPI, "safety_score"),
+    KPI_PROCEDURE_COMPLIANCE("kpi.procedureCompliance", Source.KPI, "procedure_compliance_rate"),
+    KPI_ACHIEVEMENT_RATE("kpi.achievementRate", Source.KPI, "achievement_rate"),
+    KPI_ACCURACY("kpi.accuracy", Source.KPI, "accuracy_score"),
+    KPI_EFFICIENCY("kpi.efficiency", Source.KPI, "efficiency_score"),
+    KPI_OVERALL("kpi.overall", Source.KPI, "overall_score");
+
+    /** 指標の集計元 */
+    public enum Source {
+        GROWTH, KPI
+    }
+
+    private final String key;
+    private final Source source;
+    private final String column;
+
+    RollupMetric(String key, Source source, String column) {
+        this.key = key;
+        this.source = source;
+        this.column = column;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    /**
+     * 集計元テーブルの列名を取得する
+     *
+     * @return 列名
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * 指定した集計元の指標を取得する
+     *
+     * @param source 集計元
+     * @return 指標のリスト
+     */
+    public static List<RollupMetric> of(Source source) {
+        return Arrays.stream(values()).filter(m -> m.source == source).collect(Collectors.toList());
+    }
+
+    /**
+     * キーから指標を取得する
+     *
+     * @param key 指標キー（例: growth.overall）
+     * @return 指標（該当しない場合は空）
+     */
+    public static Optional<RollupMetric> fromKey(String key) {
+        return Arrays.stream(values()).filter(m -> m.key.equals(key)).findFirst();
+    }
+}
@@ -0,0 +1,264 @@
+package com.jobassistance.service;
+
+import com.jobassistance.config.TenantContext;
+import com.jobassistance.dto.OperationLogEvent;
+import com.jobassistance.dto.UnitySessionEndRequest;
+import com.jobassistance.entity.OperationLog;
+import com.jobassistance.entity.TrainingSession;
+import com.jobassistance.repository.OperationLogBatchWriter;
+import com.jobassistance.repository.TrainingMenuRepository;
+import com.jobassistance.repository.TrainingSessionRepository;
+import com.jobassistance.repository.WorkerRepository;
+import com.jobassistance.util.TimeOrderedUuid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unity訓練セッションのライフサイクル（開始・ハートビート・終了）サービス
+ *
+ * 開始は就労者・訓練メニューを参照プロキシで設定し、INSERT 1回のみで登録する
+ * シフト開始時にシミュレーターが一斉に起動してもコネクションプールの待ち行列が伸びないよう、
+ * 同時に登録処理を行う数をセマフォで制限し、枠が空かない場合は即座に再試行を促す
+ */
+@Slf4j
+@Service
+public class SessionLifecycleService {
+
+    /** 開始直後のステータス */
+    public static final String STATUS_STARTED = "開始";
+
+    /** 終了後のステータス */
+    public static final String STATUS_COMPLETED = "完了";
+
+    /** 操作種別の最大長（operation_logs.operation_type の列長） */
+    public static final int OPERATION_TYPE_MAX_LENGTH = 100;
+
+    /** イベント種別の最大長（operation_logs.event_type の列長） */
+    public static final int EVENT_TYPE_MAX_LENGTH = 50;
+
+    @Autowired
+    private TrainingSessionRepository trainingSessionRepository;
+
+    @Autowired
+    private WorkerRepository workerRepository;
+
+    @Autowired
+    private TrainingMenuRepository trainingMenuRepository;
+
+    @Autowired
+    private OperationLogBatchWriter operationLogBatchWriter;
+
+    @Autowired
+    private SessionScoringService sessionScoringService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.unity.session-start.max-concurrent:6}")
+    private int maxConcurrentStarts;
+
+    @Value("${app.unity.session-start.acquire-timeout-ms:200}")
+    private long acquireTimeoutMs;
+
+    @Value("${app.unity.session-start.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    private Semaphore startPermits;
+
+    private Counter telemetryEventsIngested;
+
+    @PostConstruct
+    void init() {
+        startPermits = new Semaphore(maxConcurrentStarts);
+        telemetryEventsIngested = Counter.builder("telemetry.events.ingested")
+                .description("Unityから登録された操作ログの件数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 訓練セッションを開始する
+     * 就労者は現在のテナントに存在すること（削除済みを除く）を件数の問い合わせで確認し、エンティティは読み込まない。
+     * 訓練メニューは読み込まずに外部キーのみ設定し、存在しない場合は外部キー制約違反として検出する
+     *
+     * @param workerId 就労者ID
+     * @param menuId 訓練メニューID（null可）
+     * @return 登録された訓練セッション（現在のテナントに就労者が存在しない場合は空）
+     * @throws IllegalStateException 同時開始数の上限に達している場合
+     * @throws org.springframework.dao.DataIntegrityViolationException 訓練メニューが存在しない場合
+     */
+    public Optional<TrainingSession> start(Long workerId, Long menuId) {
+        boolean acquired;
+        try {
+            acquired = startPermits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new IllegalStateException("Too many training sessions are starting. Please retry later");
+        }
+
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                // getReferenceByIdはテナントを確認しないため、他テナントの就労者IDでも外部キーが設定できてしまう
+                if (!workerRepository.existsById(workerId)) {
+                    return Optional.<TrainingSession>empty();
+                }
+                LocalDateTime now = LocalDateTime.now();
+                TrainingSession session = new TrainingSession();
+                session.setSessionId(TimeOrderedUuid.generateString());
+                session.setWorker(workerRepository.getReferenceById(workerId));
+                if (menuId != null && menuId > 0) {
+                    session.setTrainingMenu(trainingMenuRepository.getReferenceById(menuId));
+                }
+                session.setSessionStartTime(now);
+                session.setLastHeartbeatAt(now);
+                session.setStatus(STATUS_STARTED);
+                return Optional.of(trainingSessionRepository.save(session));
+            });
+        } finally {
+            startPermits.release();
+        }
+    }
+
+    /**
+     * 実行中の訓練セッションのハートビートを記録する
+     *
+     * @param sessionId セッションID
+     * @return 記録した日時（実行中のセッションがない場合はnull）
+     */
+    public LocalDateTime heartbeat(String sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = new TransactionTemplate(transactionManager)
+                .execute(status -> trainingSessionRepository.touchHeartbeat(sessionId, now));
+        return updated != null && updated > 0 ? now : null;
+    }
+
+    /**
+     * 訓練セッションを終了し、KPIスコアの算出をバックグラウンドで開始する
+     * 所要時間は終了時のUPDATE文の中で計算するため、セッションを読み込む必要はない
+     *
+     * @param sessionId セッションID
+     * @param reportedMetrics Unityから送信された指標（null可）
+     * @return 終了した場合はtrue（実行中のセッションがない場合はfalse）
+     */
+    public boolean end(String sessionId, UnitySessionEndRequest reportedMetrics) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = new TransactionTemplate(transactionManager)
+                .execute(status -> trainingSessionRepository.closeSession(sessionId,
+                        TenantContext.resolve(), now, STATUS_COMPLETED));
+        if (updated == null || updated == 0) {
+            return false;
+        }
+
+        // スコア算出はコミット後に開始し、終了済みのセッションを読み込めるようにする
+        try {
+            sessionScoringService.scoreSession(sessionId,
+                    reportedMetrics != null ? reportedMetrics : new UnitySessionEndRequest());
+        } catch (TaskRejectedException e) {
+            log.warn("Scoring queue is full; training session {} was closed without a KPI score", sessionId);
+        }
+        return true;
+    }
+
+    /**
+     * 訓練セッションの操作ログを一括登録する
+     *
+     * @param sessionId セッションID
+     * @param events Unityから送信された操作ログ
+     * @return 登録件数（セッションが存在しない場合は空）
+     * @throws IllegalArgumentException 操作種別のない操作ログが含まれる場合
+     */
+    public Optional<Integer> recordOperationLogs(String sessionId, List<OperationLogEvent> events) {
+        List<OperationLog> logs = toOperationLogs(events, LocalDateTime.now());
+        Optional<Integer> written = new TransactionTemplate(transactionManager).execute(status ->
+                trainingSessionRepository.findIdBySessionId(sessionId)
+                        .map(id -> operationLogBatchWriter.write(id, logs)));
+        written.ifPresent(telemetryEventsIngested::increment);
+        return written;
+    }
+
+    /**
+     * Unityから送信された操作ログを検証する
+     * 列の長さを超える値は登録時にバッチ全体を失敗させるため、受け付ける前に拒否する
+     *
+     * @param events Unityから送信された操作ログ
+     * @throws IllegalArgumentException 操作種別がない、または操作種別・イベント種別が長すぎる操作ログが含まれる場合
+     */
+    public static void validateOperationLogs(List<OperationLogEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            OperationLogEvent data = events.get(i);
+            if (data == null || data.getOperationType() == null) {
+                throw new IllegalArgumentException("operationType is required (index " + i + ")");
+            }
+            if (data.getOperationType().length() > OPERATION_TYPE_MAX_LENGTH) {
+                throw new IllegalArgumentException("operationType must be at most " + OPERATION_TYPE_MAX_LENGTH
+                        + " characters (index " + i + ")");
+            }
+            if (data.getEventType() != null && data.getEventType().length() > EVENT_TYPE_MAX_LENGTH) {
+                throw new IllegalArgumentException("eventType must be at most " + EVENT_TYPE_MAX_LENGTH
+                        + " characters (index " + i + ")");
+            }
+        }
+    }
+
+    /**
+     * Unityから送信された操作ログを検証し、登録用のエンティティに変換する
+     *
+     * @param events Unityから送信された操作ログ
+     * @param receivedAt 受信日時（発生日時が省略された操作ログに使用する）
+     * @return 操作ログ（trainingSessionは設定しない）
+     * @throws IllegalArgumentException 検証に失敗した操作ログが含まれる場合
+     */
+    public static List<OperationLog> toOperationLogs(List<OperationLogEvent> events, LocalDateTime receivedAt) {
+        validateOperationLogs(events);
+        List<OperationLog> logs = new ArrayList<>(events.size());
+        for (OperationLogEvent data : events) {
+            OperationLog operationLog = new OperationLog();
+            operationLog.setTimestamp(data.getTimestamp() != null ? data.getTimestamp() : receivedAt);
+            operationLog.setOperationType(data.getOperationType());
+            operationLog.setOperationValue(data.getOperationValue());
+            operationLog.setEquipmentState(data.getEquipmentState());
+            operationLog.setPositionX(data.getPositionX());
+            operationLog.setPositionY(data.getPositionY());
+            operationLog.setPositionZ(data.getPositionZ());
+            operationLog.setVelocity(data.getVelocity());
+            operationLog.setErrorEvent(data.isErrorEvent());
+            operationLog.setErrorDescription(data.getErrorDescription());
+            operationLog.setAchievementEvent(data.isAchievementEvent());
+            operationLog.setAchievementDescription(data.getAchievementDescription());
+            operationLog.setEventType(data.getEventType());
+            logs.add(operationLog);
+        }
+        return logs;
+    }
+
+    /**
+     * 再試行までの待機秒数を取得する
+     * 一斉に再試行されないよう、基準秒数に乱数を加える
+     *
+     * @return 待機秒数
+     */
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds + ThreadLocalRandom.current().nextInt(retryAfterSeconds + 1);
+    }
+}
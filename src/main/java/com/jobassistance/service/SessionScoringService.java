@@ -0,0 +1,127 @@
+package com.jobassistance.service;
+
+import com.jobassistance.dto.UnitySessionEndRequest;
+import com.jobassistance.entity.KPIScore;
+import com.jobassistance.entity.TrainingMenu;
+import com.jobassistance.entity.TrainingSession;
+import com.jobassistance.repository.KPIScoreRepository;
+import com.jobassistance.repository.OperationLogRepository;
+import com.jobassistance.repository.TrainingSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+
+/**
+ * 訓練セッションのKPIスコア算出サービス
+ * セッション終了後にバックグラウンドで実行し、終了APIの応答時間に影響させない
+ */
+@Slf4j
+@Service
+public class SessionScoringService {
+
+    @Autowired
+    private TrainingSessionRepository trainingSessionRepository;
+
+    @Autowired
+    private OperationLogRepository operationLogRepository;
+
+    @Autowired
+    private KPIScoreRepository kpiScoreRepository;
+
+    @Autowired
+    private GrowthRollupService growthRollupService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter kpiScoresComputed;
+
+    @PostConstruct
+    void init() {
+        kpiScoresComputed = Counter.builder("kpi.scores.computed")
+                .description("訓練セッション終了後に算出したKPIスコアの件数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 終了した訓練セッションのKPIスコアを算出して保存する
+     *
+     * @param sessionId セッションID
+     * @param reportedMetrics Unityから送信された指標
+     */
+    @Async("sessionScoringExecutor")
+    public void scoreSession(String sessionId, UnitySessionEndRequest reportedMetrics) {
+        try {
+            KPIScore score = new TransactionTemplate(transactionManager).execute(status -> {
+                Optional<TrainingSession> session = trainingSessionRepository.findWithWorkerAndMenuBySessionId(sessionId);
+                return session.map(s -> kpiScoreRepository.save(buildScore(s, reportedMetrics))).orElse(null);
+            });
+            if (score == null) {
+                log.warn("Training session {} not found for scoring", sessionId);
+                return;
+            }
+            kpiScoresComputed.increment();
+            // 就労者はセッション取得時にフェッチ済みのため、トランザクション外でも参照できる
+            growthRollupService.recordKpiScore(score, score.getTrainingSession().getWorker());
+        } catch (Exception e) {
+            log.error("Failed to score training session {}", sessionId, e);
+        }
+    }
+
+    /**
+     * KPIスコアを組み立てる
+     * 送信されなかったエラー件数は操作ログから、効率スコアは目標作業時間と所要時間から補完する
+     */
+    private KPIScore buildScore(TrainingSession session, UnitySessionEndRequest reported) {
+        OperationLogRepository.OperationLogSummary logs =
+                operationLogRepository.summarizeByTrainingSessionId(session.getId());
+
+        KPIScore score = new KPIScore();
+        score.setTrainingSession(session);
+        score.setSafetyScore(reported.getSafetyScore());
+        score.setProcedureComplianceRate(reported.getProcedureComplianceRate());
+        score.setAchievementRate(reported.getAchievementRate());
+        score.setAccuracyScore(reported.getAccuracyScore());
+        score.setWorkTimeSeconds(session.getDurationSeconds());
+
+        Integer errorCount = reported.getErrorCount();
+        score.setErrorCount(errorCount != null ? errorCount : (int) logs.getErrors());
+
+        Double efficiency = reported.getEfficiencyScore();
+        TrainingMenu menu = session.getTrainingMenu();
+        if (efficiency == null && menu != null && menu.getTargetWorkTime() != null
+                && session.getDurationSeconds() != null && session.getDurationSeconds() > 0) {
+            efficiency = Math.min(100.0, menu.getTargetWorkTime() * 100.0 / session.getDurationSeconds());
+        }
+        score.setEfficiencyScore(efficiency);
+
+        OptionalDouble overall = DoubleStream.of(
+                        nanIfNull(score.getSafetyScore()),
+                        nanIfNull(score.getProcedureComplianceRate()),
+                        nanIfNull(score.getAchievementRate()),
+                        nanIfNull(score.getAccuracyScore()),
+                        nanIfNull(score.getEfficiencyScore()))
+                .filter(v -> !Double.isNaN(v))
+                .average();
+        score.setOverallScore(overall.isPresent() ? overall.getAsDouble() : null);
+        score.setNotes(reported.getNotes());
+        return score;
+    }
+
+    private static double nanIfNull(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+}
@@ -0,0 +1,176 @@
+package com.jobassistance.service;
+
+import com.jobassistance.dto.MetricSummary;
+import com.jobassistance.dto.SimulatorCohortStats;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * シミュレーター訓練結果のコホート集計エンジン
+ * 列指向スナップショットを対象に、集計軸の組み合わせごとのパーセンタイル・平均・合格率を算出する
+ *
+ * 各行のグループ番号を集計軸コードの混合基数で並列に求め、計数ソートで行をグループ順に並べた後、
+ * グループ単位で並列に指標値を取り出してソートし、要約統計を計算する
+ */
+public final class SimulatorAnalyticsEngine {
+
+    /** 集計軸の組み合わせ数の上限（密な配列で計数するため） */
+    static final int MAX_GROUPS = 1 << 22;
+
+    private SimulatorAnalyticsEngine() {
+    }
+
+    /**
+     * コホート別の集計を行う
+     *
+     * @param columns スナップショット
+     * @param groupBy 集計軸（空の場合は全体で1グループ）
+     * @param filters 集計軸ごとの絞り込み値
+     * @param from 開始年月（null可）
+     * @param to 終了年月（null可）
+     * @return グループごとの集計結果（各集計軸の値の昇順）
+     */
+    public static List<SimulatorCohortStats> analyze(SimulatorColumns columns, List<SimulatorDimension> groupBy,
+            Map<SimulatorDimension, String> filters, YearMonth from, YearMonth to) {
+        int size = columns.size();
+        SimulatorDimension[] dimensions = groupBy.toArray(new SimulatorDimension[0]);
+
+        long groupCount = 1;
+        for (SimulatorDimension dimension : dimensions) {
+            groupCount *= Math.max(columns.cardinality(dimension), 1);
+            if (groupCount > MAX_GROUPS) {
+                throw new IllegalArgumentException("Too many groups for the requested dimensions");
+            }
+        }
+        int groups = (int) groupCount;
+
+        Map<SimulatorDimension, Integer> filterCodes = new EnumMap<>(SimulatorDimension.class);
+        for (Map.Entry<SimulatorDimension, String> filter : filters.entrySet()) {
+            int code = columns.codeOf(filter.getKey(), filter.getValue());
+            if (code < 0) {
+                return Collections.emptyList();
+            }
+            filterCodes.put(filter.getKey(), code);
+        }
+        SimulatorDimension[] filterDimensions = filterCodes.keySet().toArray(new SimulatorDimension[0]);
+        int[] filterValues = filterCodes.values().stream().mapToInt(Integer::intValue).toArray();
+        int fromMonth = from != null ? SimulatorColumns.monthIndex(from) : Integer.MIN_VALUE;
+        int toMonth = to != null ? SimulatorColumns.monthIndex(to) : Integer.MAX_VALUE;
+
+        // 1. 各行のグループ番号（対象外の行は-1）
+        int[] groupIds = new int[size];
+        IntStream.range(0, size).parallel().forEach(row -> {
+            int month = columns.month(row);
+            if (month < fromMonth || month > toMonth) {
+                groupIds[row] = -1;
+                return;
+            }
+            for (int f = 0; f < filterDimensions.length; f++) {
+                if (columns.code(filterDimensions[f], row) != filterValues[f]) {
+                    groupIds[row] = -1;
+                    return;
+                }
+            }
+            int id = 0;
+            for (SimulatorDimension dimension : dimensions) {
+                id = id * columns.cardinality(dimension) + columns.code(dimension, row);
+            }
+            groupIds[row] = id;
+        });
+
+        // 2. 計数ソートで行番号をグループ順に並べる
+        int[] offsets = new int[groups + 1];
+        for (int id : groupIds) {
+            if (id >= 0) {
+                offsets[id + 1]++;
+            }
+        }
+        for (int g = 0; g < groups; g++) {
+            offsets[g + 1] += offsets[g];
+        }
+        int[] rows = new int[offsets[groups]];
+        int[] cursor = Arrays.copyOf(offsets, groups);
+        for (int row = 0; row < size; row++) {
+            int id = groupIds[row];
+            if (id >= 0) {
+                rows[cursor[id]++] = row;
+            }
+        }
+
+        // 3. グループ単位で要約統計を並列計算する
+        return IntStream.range(0, groups)
+                .filter(g -> offsets[g + 1] > offsets[g])
+                .parallel()
+                .mapToObj(g -> summarize(columns, dimensions, g, rows, offsets[g], offsets[g + 1]))
+                .collect(Collectors.toList());
+    }
+
+    private static SimulatorCohortStats summarize(SimulatorColumns columns, SimulatorDimension[] dimensions,
+            int groupId, int[] rows, int start, int end) {
+        Map<String, String> group = new LinkedHashMap<>();
+        int remainder = groupId;
+        String[] labels = new String[dimensions.length];
+        for (int d = dimensions.length - 1; d >= 0; d--) {
+            int cardinality = columns.cardinality(dimensions[d]);
+            labels[d] = columns.label(dimensions[d], remainder % cardinality);
+            remainder /= cardinality;
+        }
+        for (int d = 0; d < dimensions.length; d++) {
+            group.put(dimensions[d].getPathName(), labels[d]);
+        }
+
+        long passed = 0;
+        long evaluated = 0;
+        for (int i = start; i < end; i++) {
+            byte flag = columns.passFlag(rows[i]);
+            if (flag != SimulatorColumns.UNKNOWN) {
+                evaluated++;
+                if (flag == SimulatorColumns.PASS) {
+                    passed++;
+                }
+            }
+        }
+
+        Map<String, MetricSummary> metrics = new LinkedHashMap<>();
+        double[] scratch = new double[end - start];
+        for (SimulatorMetric metric : SimulatorMetric.values()) {
+            int n = 0;
+            double sum = 0;
+            for (int i = start; i < end; i++) {
+                double value = columns.value(metric, rows[i]);
+                if (!Double.isNaN(value)) {
+                    scratch[n++] = value;
+                    sum += value;
+                }
+            }
+            if (n == 0) {
+                continue;
+            }
+            Arrays.sort(scratch, 0, n);
+            metrics.put(metric.getKey(), new MetricSummary(n, sum / n, scratch[0],
+                    percentile(scratch, n, 0.25), percentile(scratch, n, 0.50),
+                    percentile(scratch, n, 0.75), percentile(scratch, n, 0.90), scratch[n - 1]));
+        }
+
+        Double passRate = evaluated > 0 ? passed * 100.0 / evaluated : null;
+        return new SimulatorCohortStats(group, end - start, evaluated, passRate, metrics);
+    }
+
+    /**
+     * ソート済み配列の先頭n件からパーセンタイルを線形補間で求める（PostgreSQLのpercentile_contと同じ定義）
+     */
+    static double percentile(double[] sorted, int n, double fraction) {
+        double position = fraction * (n - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, n - 1);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (position - lower);
+    }
+}
@@ -0,0 +1,213 @@
+package com.jobassistance.service;
+
+import com.jobassistance.config.TenantContext;
+import com.jobassistance.dto.SimulatorCohortStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * シミュレーター訓練結果の分析サービス
+ * テナントごとの全訓練結果を列指向スナップショットとしてメモリに保持し、一定時間ごとに読み直す
+ */
+@Slf4j
+@Service
+public class SimulatorAnalyticsService {
+
+    private static final String LOAD_SQL =
+            "SELECT w.nationality, c.equipment_type, c.difficulty_level, c.training_date, "
+            + "c.safety_score, c.error_count, c.procedure_compliance, c.achievement_rate, "
+            + "m.target_safety_score, m.target_error_count, m.target_procedure_compliance, m.target_achievement_rate "
+            + "FROM construction_simulator_trainings c "
+            + "JOIN workers w ON w.id = c.worker_id "
+            + "LEFT JOIN training_menus m ON m.id = c.training_menu_id "
+            + "WHERE c.tenant_id = ? AND w.deleted_at IS NULL";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.analytics.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    @Value("${app.analytics.fetch-size:10000}")
+    private int fetchSize;
+
+    /** 訓練メニューに目標値がない場合の合格基準 */
+    @Value("${app.analytics.pass.safety-score:80}")
+    private double defaultSafetyScore;
+
+    @Value("${app.analytics.pass.error-count:3}")
+    private int defaultErrorCount;
+
+    @Value("${app.analytics.pass.procedure-compliance:80}")
+    private double defaultProcedureCompliance;
+
+    @Value("${app.analytics.pass.achievement-rate:70}")
+    private double defaultAchievementRate;
+
+    /** テナントIDごとのスナップショット */
+    private final ConcurrentHashMap<String, SimulatorColumns> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * テナントIDごとの読み込みロック
+     * 同じテナントの読み込みのみを直列化し、他のテナントの読み込み・照会を待たせない
+     */
+    private final ConcurrentHashMap<String, ReentrantLock> loadLocks = new ConcurrentHashMap<>();
+
+    /**
+     * コホート別の集計を行う
+     *
+     * @param columns 集計対象のスナップショット
+     * @param groupBy 集計軸
+     * @param filters 集計軸ごとの絞り込み値
+     * @param from 開始年月（null可）
+     * @param to 終了年月（null可）
+     * @return グループごとの集計結果
+     */
+    public List<SimulatorCohortStats> analyze(SimulatorColumns columns, List<SimulatorDimension> groupBy,
+            Map<SimulatorDimension, String> filters, YearMonth from, YearMonth to) {
+        return SimulatorAnalyticsEngine.analyze(columns, groupBy, filters, from, to);
+    }
+
+    /**
+     * 現在のテナントのスナップショットを取得する（有効期限切れの場合は読み直す）
+     *
+     * @return スナップショット
+     */
+    public SimulatorColumns getSnapshot() {
+        String tenantId = TenantContext.resolve();
+        SimulatorColumns current = snapshots.get(tenantId);
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+        ReentrantLock lock = loadLock(tenantId);
+        lock.lock();
+        try {
+            current = snapshots.get(tenantId);
+            if (current == null || isExpired(current)) {
+                current = load(tenantId);
+                snapshots.put(tenantId, current);
+            }
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 現在のテナントのスナップショットを直ちに読み直す
+     *
+     * @return 新しいスナップショット
+     */
+    public SimulatorColumns refresh() {
+        String tenantId = TenantContext.resolve();
+        ReentrantLock lock = loadLock(tenantId);
+        lock.lock();
+        try {
+            SimulatorColumns current = load(tenantId);
+            snapshots.put(tenantId, current);
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock loadLock(String tenantId) {
+        return loadLocks.computeIfAbsent(tenantId, key -> new ReentrantLock());
+    }
+
+    private boolean isExpired(SimulatorColumns columns) {
+        return columns.getLoadedAt().plus(Duration.ofSeconds(cacheTtlSeconds)).isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 訓練結果をカーソルで順に読み込み、エンティティを経由せずに列配列へ格納する
+     */
+    private SimulatorColumns load(String tenantId) {
+        long started = System.nanoTime();
+        SimulatorColumns previous = snapshots.get(tenantId);
+        SimulatorColumns.Builder builder = new SimulatorColumns.Builder(previous != null ? previous.size() : 1024);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        // 読み取りレプリカが設定されている場合はレプリカから読み込む
+        transactionTemplate.setName(SimulatorAnalyticsService.class.getName() + ".load");
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOAD_SQL);
+            ps.setFetchSize(fetchSize);
+            ps.setString(1, tenantId);
+            return ps;
+        }, (RowCallbackHandler) rs -> addRow(builder, rs)));
+
+        SimulatorColumns columns = builder.build();
+        log.info("Loaded simulator analytics snapshot for tenant {}: {} rows in {} ms", tenantId, columns.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return columns;
+    }
+
+    private void addRow(SimulatorColumns.Builder builder, ResultSet rs) throws SQLException {
+        Double safetyScore = getDouble(rs, "safety_score");
+        Integer errorCount = getInteger(rs, "error_count");
+        Double procedureCompliance = getDouble(rs, "procedure_compliance");
+        Double achievementRate = getDouble(rs, "achievement_rate");
+
+        Double targetSafety = getDouble(rs, "target_safety_score");
+        Integer targetErrors = getInteger(rs, "target_error_count");
+        Double targetProcedure = getDouble(rs, "target_procedure_compliance");
+        Double targetAchievement = getDouble(rs, "target_achievement_rate");
+
+        byte passFlag = evaluatePass(safetyScore, errorCount, procedureCompliance, achievementRate,
+                targetSafety != null ? targetSafety : defaultSafetyScore,
+                targetErrors != null ? targetErrors : defaultErrorCount,
+                targetProcedure != null ? targetProcedure : defaultProcedureCompliance,
+                targetAchievement != null ? targetAchievement : defaultAchievementRate);
+
+        builder.add(rs.getString("nationality"), rs.getString("equipment_type"), rs.getString("difficulty_level"),
+                rs.getDate("training_date").toLocalDate(), safetyScore, errorCount, procedureCompliance,
+                achievementRate, passFlag);
+    }
+
+    /**
+     * 記録された指標がすべて目標値を満たす場合を合格とする（指標が1つもない場合は判定不能）
+     */
+    static byte evaluatePass(Double safetyScore, Integer errorCount, Double procedureCompliance,
+            Double achievementRate, double targetSafety, int targetErrors, double targetProcedure,
+            double targetAchievement) {
+        if (safetyScore == null && errorCount == null && procedureCompliance == null && achievementRate == null) {
+            return SimulatorColumns.UNKNOWN;
+        }
+        boolean passed = (safetyScore == null || safetyScore >= targetSafety)
+                && (errorCount == null || errorCount <= targetErrors)
+                && (procedureCompliance == null || procedureCompliance >= targetProcedure)
+                && (achievementRate == null || achievementRate >= targetAchievement);
+        return passed ? SimulatorColumns.PASS : SimulatorColumns.FAIL;
+    }
+
+    private static Double getDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,253 @@
+package com.jobassistance.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * シミュレーター訓練結果の列指向スナップショット
+ * 集計軸は辞書エンコードしたint配列、指標はdouble配列（欠損値はNaN）で保持する
+ */
+public final class SimulatorColumns {
+
+    /** 合否判定の値（合格・不合格・判定不能） */
+    public static final byte PASS = 1;
+    public static final byte FAIL = 0;
+    public static final byte UNKNOWN = -1;
+
+    private final int size;
+    private final int[][] codes;
+    private final String[][] dictionaries;
+    private final int[] months;
+    private final int minMonth;
+    private final double[][] values;
+    private final byte[] passFlags;
+    private final LocalDateTime loadedAt;
+
+    private SimulatorColumns(int size, int[][] codes, String[][] dictionaries, int[] months, int minMonth,
+            double[][] values, byte[] passFlags, LocalDateTime loadedAt) {
+        this.size = size;
+        this.codes = codes;
+        this.dictionaries = dictionaries;
+        this.months = months;
+        this.minMonth = minMonth;
+        this.values = values;
+        this.passFlags = passFlags;
+        this.loadedAt = loadedAt;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * 集計軸の値の種類数を取得する（月は最古から最新までの月数）
+     *
+     * @param dimension 集計軸
+     * @return 種類数
+     */
+    public int cardinality(SimulatorDimension dimension) {
+        return dictionaries[dimension.ordinal()].length;
+    }
+
+    /**
+     * 指定行の集計軸コードを取得する（コードは辞書の昇順）
+     */
+    int code(SimulatorDimension dimension, int row) {
+        return codes[dimension.ordinal()][row];
+    }
+
+    /**
+     * 集計軸コードに対応する値を取得する
+     *
+     * @param dimension 集計軸
+     * @param code コード
+     * @return 値（月の場合は yyyy-MM）
+     */
+    public String label(SimulatorDimension dimension, int code) {
+        return dictionaries[dimension.ordinal()][code];
+    }
+
+    /**
+     * 値に対応する集計軸コードを取得する
+     *
+     * @param dimension 集計軸
+     * @param label 値
+     * @return コード（存在しない場合は-1）
+     */
+    public int codeOf(SimulatorDimension dimension, String label) {
+        int code = Arrays.binarySearch(dictionaries[dimension.ordinal()], label);
+        return code >= 0 ? code : -1;
+    }
+
+    /**
+     * 指定行の年月を通し番号（年 * 12 + 月 - 1）で取得する
+     */
+    int month(int row) {
+        return months[row];
+    }
+
+    int minMonth() {
+        return minMonth;
+    }
+
+    double value(SimulatorMetric metric, int row) {
+        return values[metric.ordinal()][row];
+    }
+
+    byte passFlag(int row) {
+        return passFlags[row];
+    }
+
+    static int monthIndex(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    /**
+     * 1行ずつ追加してスナップショットを組み立てるビルダー
+     */
+    public static final class Builder {
+
+        private static final int DICTIONARY_DIMENSIONS = 3;
+
+        private int size;
+        private int[][] codes = new int[DICTIONARY_DIMENSIONS][];
+        private final Map<String, Integer>[] dictionaryIndex;
+        private int[] months;
+        private double[][] values = new double[SimulatorMetric.values().length][];
+        private byte[] passFlags;
+
+        @SuppressWarnings("unchecked")
+        public Builder(int initialCapacity) {
+            int capacity = Math.max(initialCapacity, 16);
+            dictionaryIndex = new Map[DICTIONARY_DIMENSIONS];
+            for (int d = 0; d < DICTIONARY_DIMENSIONS; d++) {
+                codes[d] = new int[capacity];
+                dictionaryIndex[d] = new HashMap<>();
+            }
+            months = new int[capacity];
+            for (int m = 0; m < values.length; m++) {
+                values[m] = new double[capacity];
+            }
+            passFlags = new byte[capacity];
+        }
+
+        /**
+         * 1件の訓練結果を追加する
+         *
+         * @param nationality 国籍
+         * @param equipmentType 機材種別
+         * @param difficultyLevel 難易度
+         * @param trainingDate 訓練日
+         * @param safetyScore 安全動作率（null可）
+         * @param errorCount エラー件数（null可）
+         * @param procedureCompliance 手順遵守率（null可）
+         * @param achievementRate 達成度（null可）
+         * @param passFlag 合否判定（PASS, FAIL, UNKNOWN）
+         */
+        public void add(String nationality, String equipmentType, String difficultyLevel, LocalDate trainingDate,
+                Double safetyScore, Integer errorCount, Double procedureCompliance, Double achievementRate,
+                byte passFlag) {
+            if (size == months.length) {
+                grow();
+            }
+            codes[SimulatorDimension.NATIONALITY.ordinal()][size] = encode(SimulatorDimension.NATIONALITY, nationality);
+            codes[SimulatorDimension.EQUIPMENT_TYPE.ordinal()][size] = encode(SimulatorDimension.EQUIPMENT_TYPE, equipmentType);
+            codes[SimulatorDimension.DIFFICULTY_LEVEL.ordinal()][size] = encode(SimulatorDimension.DIFFICULTY_LEVEL, difficultyLevel);
+            months[size] = monthIndex(YearMonth.from(trainingDate));
+            values[SimulatorMetric.SAFETY_SCORE.ordinal()][size] = safetyScore != null ? safetyScore : Double.NaN;
+            values[SimulatorMetric.ERROR_COUNT.ordinal()][size] = errorCount != null ? errorCount : Double.NaN;
+            values[SimulatorMetric.PROCEDURE_COMPLIANCE.ordinal()][size] = procedureCompliance != null ? procedureCompliance : Double.NaN;
+            values[SimulatorMetric.ACHIEVEMENT_RATE.ordinal()][size] = achievementRate != null ? achievementRate : Double.NaN;
+            passFlags[size] = passFlag;
+            size++;
+        }
+
+        private int encode(SimulatorDimension dimension, String label) {
+            String key = label != null && !label.isBlank() ? label : "(未設定)";
+            Map<String, Integer> index = dictionaryIndex[dimension.ordinal()];
+            Integer code = index.get(key);
+            if (code == null) {
+                code = index.size();
+                index.put(key, code);
+            }
+            return code;
+        }
+
+        private void grow() {
+            int capacity = months.length * 2;
+            for (int d = 0; d < DICTIONARY_DIMENSIONS; d++) {
+                codes[d] = Arrays.copyOf(codes[d], capacity);
+            }
+            months = Arrays.copyOf(months, capacity);
+            for (int m = 0; m < values.length; m++) {
+                values[m] = Arrays.copyOf(values[m], capacity);
+            }
+            passFlags = Arrays.copyOf(passFlags, capacity);
+        }
+
+        /**
+         * スナップショットを作成する
+         * 辞書を昇順に並べ替えてコードを振り直すため、集計結果は各軸の値の昇順になる
+         *
+         * @return スナップショット
+         */
+        public SimulatorColumns build() {
+            int[][] finalCodes = new int[SimulatorDimension.values().length][];
+            String[][] dictionaries = new String[SimulatorDimension.values().length][];
+
+            for (int d = 0; d < DICTIONARY_DIMENSIONS; d++) {
+                Map<String, Integer> index = dictionaryIndex[d];
+                String[] sorted = index.keySet().toArray(new String[0]);
+                Arrays.sort(sorted);
+                int[] remap = new int[sorted.length];
+                for (int code = 0; code < sorted.length; code++) {
+                    remap[index.get(sorted[code])] = code;
+                }
+                int[] column = Arrays.copyOf(codes[d], size);
+                for (int row = 0; row < size; row++) {
+                    column[row] = remap[column[row]];
+                }
+                finalCodes[d] = column;
+                dictionaries[d] = sorted;
+            }
+
+            int[] finalMonths = Arrays.copyOf(months, size);
+            int minMonth = Integer.MAX_VALUE;
+            int maxMonth = Integer.MIN_VALUE;
+            for (int month : finalMonths) {
+                minMonth = Math.min(minMonth, month);
+                maxMonth = Math.max(maxMonth, month);
+            }
+            if (size == 0) {
+                minMonth = 0;
+                maxMonth = -1;
+            }
+            int[] monthCodes = new int[size];
+            for (int row = 0; row < size; row++) {
+                monthCodes[row] = finalMonths[row] - minMonth;
+            }
+            String[] monthLabels = new String[maxMonth - minMonth + 1];
+            for (int code = 0; code < monthLabels.length; code++) {
+                int month = minMonth + code;
+                monthLabels[code] = YearMonth.of(month / 12, month % 12 + 1).toString();
+            }
+            finalCodes[SimulatorDimension.MONTH.ordinal()] = monthCodes;
+            dictionaries[SimulatorDimension.MONTH.ordinal()] = monthLabels;
+
+            double[][] finalValues = new double[values.length][];
+            for (int m = 0; m < values.length; m++) {
+                finalValues[m] = Arrays.copyOf(values[m], size);
+            }
+            return new SimulatorColumns(size, finalCodes, dictionaries, finalMonths, minMonth, finalValues,
+                    Arrays.copyOf(passFlags, size), LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobassistance.service;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * シミュレーター訓練分析の集計軸
+ */
+public enum SimulatorDimension {
+
+    NATIONALITY("nationality"),
+    EQUIPMENT_TYPE("equipmentType"),
+    DIFFICULTY_LEVEL("difficultyLevel"),
+    MONTH("month");
+
+    private final String pathName;
+
+    SimulatorDimension(String pathName) {
+        this.pathName = pathName;
+    }
+
+    public String getPathName() {
+        return pathName;
+    }
+
+    /**
+     * パラメータ名から集計軸を取得する
+     *
+     * @param name パラメータ名（例: equipmentType）
+     * @return 集計軸（該当しない場合は空）
+     */
+    public static Optional<SimulatorDimension> fromPathName(String name) {
+        return Arrays.stream(values()).filter(d -> d.pathName.equalsIgnoreCase(name)).findFirst();
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobassistance.service;
+
+/**
+ * シミュレーター訓練分析の集計対象指標
+ */
+public enum SimulatorMetric {
+
+    SAFETY_SCORE("safetyScore"),
+    ERROR_COUNT("errorCount"),
+    PROCEDURE_COMPLIANCE("procedureCompliance"),
+    ACHIEVEMENT_RATE("achievementRate");
+
+    private final String key;
+
+    SimulatorMetric(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,455 @@
+package com.jobassistance.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobassistance.config.TenantContext;
+import com.jobassistance.dto.OperationLogEvent;
+import com.jobassistance.dto.TelemetryJournalRecord;
+import com.jobassistance.dto.UnitySessionEndRequest;
+import com.jobassistance.entity.OperationLog;
+import com.jobassistance.repository.OperationLogBatchWriter;
+import com.jobassistance.util.MappedSegmentLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * テレメトリージャーナル（ローカルの先行書き込みログ）サービス
+ *
+ * Unityからの操作ログとセッション終了を、データベースではなくローカルディスクのメモリマップトファイルに追記して応答する。
+ * 追記した記録はバックグラウンドで順に読み出し、操作ログは複数の要求分をまとめて一括登録する。
+ * 反映済みの位置は操作ログの登録と同じトランザクションでデータベースに記録するため、異常終了後の再起動では
+ * 未反映の記録だけが重複なく反映される。データベースが停止している間は記録がディスクに蓄積され、
+ * 上限（max-bytes）に達した場合は追記を拒否する。
+ * 反映は専用のスレッドで行い、@Scheduledの共有スレッドプールを占有しない。
+ * 特定の記録が原因で反映に失敗した場合は1件ずつ反映し直し、同じ記録が規定回数失敗したら
+ * デッドレターテーブル（telemetry_journal_dead_letters）に移して後続の反映を続ける
+ */
+@Slf4j
+@Service
+public class TelemetryJournalService {
+
+    private static final String JOURNAL_ID_FILE = "journal.id";
+
+    private static final String UPSERT_CHECKPOINT_SQL =
+            "INSERT INTO telemetry_journal_checkpoints (journal_id, position, updated_at) VALUES (?, ?, ?) "
+            + "ON CONFLICT (journal_id) DO UPDATE SET position = EXCLUDED.position, updated_at = EXCLUDED.updated_at";
+
+    private static final String INSERT_DEAD_LETTER_SQL =
+            "INSERT INTO telemetry_journal_dead_letters (journal_id, position, record_type, tenant_id, session_id, "
+            + "payload, error, attempts, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** telemetry_journal_dead_letters.session_id の列長 */
+    private static final int DEAD_LETTER_SESSION_ID_MAX_LENGTH = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OperationLogBatchWriter operationLogBatchWriter;
+
+    @Autowired
+    private SessionLifecycleService sessionLifecycleService;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** falseの場合はジャーナルを使用せず、要求の処理中にデータベースへ登録する */
+    @Value("${app.telemetry.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.telemetry.journal.directory:./data/telemetry-journal}")
+    private String directory;
+
+    /** セグメントファイル1つのバイト数 */
+    @Value("${app.telemetry.journal.segment-bytes:16777216}")
+    private int segmentBytes;
+
+    /** ジャーナル全体の最大バイト数 */
+    @Value("${app.telemetry.journal.max-bytes:1073741824}")
+    private long maxBytes;
+
+    /** 追記のたびにディスクへ書き出す場合true（電源断に備える。追記の遅延が大きくなる） */
+    @Value("${app.telemetry.journal.force-on-append:false}")
+    private boolean forceOnAppend;
+
+    /** 1回の反映で読み出す最大記録数 */
+    @Value("${app.telemetry.journal.drain-batch-records:1000}")
+    private int drainBatchRecords;
+
+    /** 1回の反映で読み出す記録の合計バイト数の目安 */
+    @Value("${app.telemetry.journal.drain-batch-bytes:8388608}")
+    private int drainBatchBytes;
+
+    /** 前回の反映が終わってから次の反映を始めるまでの間隔（ミリ秒） */
+    @Value("${app.telemetry.journal.drain-interval-ms:100}")
+    private long drainIntervalMs;
+
+    /** 同じ記録の反映に失敗した場合に、デッドレターテーブルへ移すまでの試行回数 */
+    @Value("${app.telemetry.journal.max-record-attempts:5}")
+    private int maxRecordAttempts;
+
+    private MappedSegmentLog journal;
+
+    private ObjectMapper cborMapper;
+
+    private String journalId;
+
+    /** データベースに反映済みの位置（-1の場合は未読み込み） */
+    private volatile long checkpoint = -1;
+
+    private Counter telemetryEventsIngested;
+
+    private Counter recordsDropped;
+
+    private Counter recordsDeadLettered;
+
+    /** 反映専用のスレッド */
+    private ScheduledExecutorService drainExecutor;
+
+    /** 反映に失敗している記録の位置（-1の場合はなし。反映スレッドからのみ参照する） */
+    private long failedPosition = -1;
+
+    /** failedPosition の記録の反映に失敗した回数 */
+    private int failedAttempts;
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path path = Path.of(directory);
+        journal = new MappedSegmentLog(path, segmentBytes, maxBytes, forceOnAppend);
+        journalId = loadJournalId(path);
+        cborMapper = cborHttpMessageConverter.getObjectMapper();
+        telemetryEventsIngested = Counter.builder("telemetry.events.ingested")
+                .description("Unityから登録された操作ログの件数")
+                .register(meterRegistry);
+        recordsDropped = Counter.builder("telemetry.journal.records.dropped")
+                .description("反映できずに破棄したテレメトリージャーナルの記録数")
+                .register(meterRegistry);
+        recordsDeadLettered = Counter.builder("telemetry.journal.records.dead-lettered")
+                .description("反映に繰り返し失敗してデッドレターテーブルに移したテレメトリージャーナルの記録数")
+                .register(meterRegistry);
+        Gauge.builder("telemetry.journal.backlog.bytes", this, TelemetryJournalService::getBacklogBytes)
+                .description("データベースに未反映のテレメトリージャーナルのバイト数")
+                .register(meterRegistry);
+        log.info("Telemetry journal {} opened at {} (end position {})", journalId, path.toAbsolutePath(),
+                journal.endPosition());
+        drainExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "telemetry-journal-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainExecutor.scheduleWithFixedDelay(this::drain, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void close() throws InterruptedException {
+        if (drainExecutor != null) {
+            drainExecutor.shutdown();
+            // 反映中の記録を確定させてからジャーナルを閉じる
+            if (!drainExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Telemetry journal drain did not stop within 30 seconds");
+                drainExecutor.shutdownNow();
+            }
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * @return ジャーナルを使用する場合true
+     */
+    public boolean isEnabled() {
+        return journal != null;
+    }
+
+    /**
+     * 操作ログをジャーナルに追記する
+     *
+     * @param sessionId セッションID
+     * @param events Unityから送信された操作ログ
+     * @throws IllegalArgumentException 操作種別がない、または列の長さを超える値を含む操作ログがある場合
+     * @throws IllegalStateException ジャーナルが上限に達している場合
+     * @throws IOException ジャーナルに追記できない場合
+     */
+    public void appendOperationLogs(String sessionId, List<OperationLogEvent> events) throws IOException {
+        // 反映時に一括登録を失敗させる値は、ジャーナルに追記する前に拒否する
+        SessionLifecycleService.validateOperationLogs(events);
+        TelemetryJournalRecord record = newRecord(TelemetryJournalRecord.TYPE_OPERATION_LOGS, sessionId);
+        record.setEvents(events);
+        journal.append(cborMapper.writeValueAsBytes(record));
+    }
+
+    /**
+     * 訓練セッションの終了をジャーナルに追記する
+     * 先に追記された同じセッションの操作ログを反映してから終了する
+     *
+     * @param sessionId セッションID
+     * @param metrics Unityで計測した指標（null可）
+     * @throws IllegalStateException ジャーナルが上限に達している場合
+     * @throws IOException ジャーナルに追記できない場合
+     */
+    public void appendSessionEnd(String sessionId, UnitySessionEndRequest metrics) throws IOException {
+        TelemetryJournalRecord record = newRecord(TelemetryJournalRecord.TYPE_SESSION_END, sessionId);
+        record.setMetrics(metrics);
+        journal.append(cborMapper.writeValueAsBytes(record));
+    }
+
+    /**
+     * ジャーナルの記録をデータベースに反映する（反映専用のスレッドで実行する）
+     * データベースに接続できない場合は、次回の実行で同じ位置から再開する
+     */
+    void drain() {
+        try {
+            if (checkpoint < 0) {
+                checkpoint = loadCheckpoint();
+            }
+            List<MappedSegmentLog.Entry> entries;
+            while (!drainExecutor.isShutdown()
+                    && !(entries = journal.read(checkpoint, drainBatchRecords, drainBatchBytes)).isEmpty()) {
+                drainBatch(entries);
+                journal.truncateBefore(checkpoint);
+            }
+        } catch (IOException e) {
+            log.error("Failed to delete drained telemetry journal segments", e);
+        } catch (RuntimeException e) {
+            log.warn("Telemetry journal drain paused with {} bytes pending: {}", getBacklogBytes(), e.getMessage());
+        }
+    }
+
+    /**
+     * @return データベースに未反映のバイト数
+     */
+    public long getBacklogBytes() {
+        return journal == null || checkpoint < 0 ? 0 : journal.endPosition() - checkpoint;
+    }
+
+    /**
+     * 読み出した記録を反映する
+     * 記録が原因の失敗の場合は1件ずつ反映し直し、失敗した記録より前を確定させる
+     */
+    private void drainBatch(List<MappedSegmentLog.Entry> entries) {
+        try {
+            apply(entries);
+            return;
+        } catch (RuntimeException e) {
+            if (!isRecordFailure(e) || entries.size() == 1) {
+                handleFailure(entries.get(0), e);
+                return;
+            }
+            log.warn("Telemetry journal batch failed, retrying record by record: {}", e.getMessage());
+        }
+        for (MappedSegmentLog.Entry entry : entries) {
+            // 一括反映の途中（セッション終了の前）までは確定している場合がある
+            if (entry.position() <= checkpoint) {
+                continue;
+            }
+            try {
+                apply(List.of(entry));
+            } catch (RuntimeException e) {
+                handleFailure(entry, e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 反映の失敗を処理する
+     * 同じ記録が規定回数失敗した場合はデッドレターテーブルに移して反映済みとし、それ以外は反映を中断する
+     *
+     * @param entry 失敗した記録（一括反映の場合は先頭の記録）
+     * @param e 失敗の原因
+     * @throws RuntimeException 反映を中断する場合
+     */
+    private void handleFailure(MappedSegmentLog.Entry entry, RuntimeException e) {
+        if (!isRecordFailure(e)) {
+            // データベースの停止など、記録によらない失敗は次回の実行で再試行する
+            throw e;
+        }
+        if (entry.position() != failedPosition) {
+            failedPosition = entry.position();
+            failedAttempts = 0;
+        }
+        failedAttempts++;
+        if (failedAttempts < maxRecordAttempts) {
+            throw e;
+        }
+        deadLetter(entry, e);
+        failedPosition = -1;
+        failedAttempts = 0;
+    }
+
+    /**
+     * 記録をデッドレターテーブルに移し、反映済みの位置を記録の後に進める
+     */
+    private void deadLetter(MappedSegmentLog.Entry entry, RuntimeException e) {
+        TelemetryJournalRecord record = decode(entry.payload());
+        String sessionId = record != null ? record.getSessionId() : null;
+        if (sessionId != null && sessionId.length() > DEAD_LETTER_SESSION_ID_MAX_LENGTH) {
+            sessionId = sessionId.substring(0, DEAD_LETTER_SESSION_ID_MAX_LENGTH);
+        }
+        String storedSessionId = sessionId;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_DEAD_LETTER_SQL, journalId, entry.position(),
+                    record != null ? record.getType() : null, record != null ? record.getTenantId() : null,
+                    storedSessionId, entry.payload(), String.valueOf(e), failedAttempts, now);
+            jdbcTemplate.update(UPSERT_CHECKPOINT_SQL, journalId, entry.position(), now);
+        });
+        checkpoint = entry.position();
+        recordsDeadLettered.increment();
+        log.error("Moved telemetry journal record at {} (session {}) to dead letters after {} attempts: {}",
+                entry.position(), storedSessionId, failedAttempts, e.getMessage());
+    }
+
+    /**
+     * @return 記録の内容が原因の失敗の場合true（データベースの停止・タイムアウトなどはfalse）
+     */
+    private static boolean isRecordFailure(RuntimeException e) {
+        return !(e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof NonTransientDataAccessResourceException
+                || e instanceof TransactionException);
+    }
+
+    private void apply(List<MappedSegmentLog.Entry> entries) {
+        Map<Long, List<OperationLog>> pendingLogs = new LinkedHashMap<>();
+        Map<String, Optional<Long>> sessionIds = new HashMap<>();
+        long position = checkpoint;
+        for (MappedSegmentLog.Entry entry : entries) {
+            TelemetryJournalRecord record = decode(entry.payload());
+            if (record == null) {
+                recordsDropped.increment();
+            } else if (TelemetryJournalRecord.TYPE_SESSION_END.equals(record.getType())) {
+                // 終了より前の操作ログを反映してから終了し、スコア算出の対象に含める
+                commit(pendingLogs, position);
+                pendingLogs.clear();
+                endSession(record);
+                commit(Map.of(), entry.position());
+            } else {
+                Optional<Long> trainingSessionId = sessionIds.computeIfAbsent(
+                        record.getTenantId() + ":" + record.getSessionId(), key -> findTrainingSessionId(record));
+                if (trainingSessionId.isPresent()) {
+                    pendingLogs.computeIfAbsent(trainingSessionId.get(), id -> new ArrayList<>())
+                            .addAll(SessionLifecycleService.toOperationLogs(record.getEvents(), record.getReceivedAt()));
+                } else {
+                    log.warn("Dropped {} operation logs for unknown training session {}",
+                            record.getEvents().size(), record.getSessionId());
+                    recordsDropped.increment();
+                }
+            }
+            position = entry.position();
+        }
+        commit(pendingLogs, position);
+    }
+
+    private void commit(Map<Long, List<OperationLog>> logs, long position) {
+        if (position <= checkpoint) {
+            return;
+        }
+        Integer written = new TransactionTemplate(transactionManager).execute(status -> {
+            int count = operationLogBatchWriter.write(logs);
+            jdbcTemplate.update(UPSERT_CHECKPOINT_SQL, journalId, position, Timestamp.valueOf(LocalDateTime.now()));
+            return count;
+        });
+        checkpoint = position;
+        if (written != null && written > 0) {
+            telemetryEventsIngested.increment(written);
+        }
+    }
+
+    private void endSession(TelemetryJournalRecord record) {
+        TenantContext.set(record.getTenantId());
+        try {
+            if (!sessionLifecycleService.end(record.getSessionId(), record.getMetrics())) {
+                log.debug("Training session {} was not active when its end was drained", record.getSessionId());
+            }
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private Optional<Long> findTrainingSessionId(TelemetryJournalRecord record) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM training_sessions WHERE session_id = ? AND tenant_id = ?",
+                Long.class, record.getSessionId(), record.getTenantId());
+        return ids.isEmpty() ? Optional.empty() : Optional.of(ids.get(0));
+    }
+
+    private TelemetryJournalRecord decode(byte[] payload) {
+        try {
+            return cborMapper.readValue(payload, TelemetryJournalRecord.class);
+        } catch (IOException e) {
+            log.error("Skipping unreadable telemetry journal record: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private long loadCheckpoint() {
+        List<Long> positions = jdbcTemplate.queryForList(
+                "SELECT position FROM telemetry_journal_checkpoints WHERE journal_id = ?", Long.class, journalId);
+        long start = journal.startPosition();
+        return positions.isEmpty() ? start : Math.max(positions.get(0), start);
+    }
+
+    private static TelemetryJournalRecord newRecord(String type, String sessionId) {
+        TelemetryJournalRecord record = new TelemetryJournalRecord();
+        record.setType(type);
+        record.setTenantId(TenantContext.resolve());
+        record.setSessionId(sessionId);
+        record.setReceivedAt(LocalDateTime.now());
+        return record;
+    }
+
+    /**
+     * ジャーナルのIDを読み込む（初回はランダムに作成する）
+     * ディレクトリを作り直した場合は別のジャーナルとして扱い、以前の反映済み位置を引き継がない
+     */
+    private static String loadJournalId(Path path) throws IOException {
+        Path file = path.resolve(JOURNAL_ID_FILE);
+        if (Files.exists(file)) {
+            return Files.readString(file).trim();
+        }
+        String id = UUID.randomUUID().toString();
+        Files.writeString(file, id);
+        return id;
+    }
+}
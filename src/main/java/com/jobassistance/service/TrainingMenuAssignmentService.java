@@ -0,0 +1,139 @@
+package com.jobassistance.service;
+
+import com.jobassistance.config.TenantContext;
+import com.jobassistance.dto.BulkAssignmentRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 訓練メニュー割り当てサービス
+ * 入職者のコホート全体など多数の就労者への割り当てを、就労者・訓練メニューを読み込まずに1文のINSERT ... SELECTで登録する
+ */
+@Slf4j
+@Service
+public class TrainingMenuAssignmentService {
+
+    /** 割り当て時のステータス（エンティティの初期値と同じ） */
+    private static final String INITIAL_STATUS = "未開始";
+
+    /**
+     * 選択した就労者のうち未割り当ての就労者に割り当てを登録し、選択件数と登録件数を返す
+     * 既存の割り当てはNOT EXISTSで、同時実行による重複は一意制約（tenant_id, worker_id, training_menu_id）で読み飛ばす
+     * （一意制約を作成できない既存データがあっても動作するよう、ON CONFLICTの対象は指定しない）
+     */
+    private static final String INSERT_SQL =
+            "WITH selected AS (%s), "
+            + "inserted AS (INSERT INTO training_menu_assignments (tenant_id, worker_id, training_menu_id, "
+            + "assigned_date, deadline, status, notes, created_at, updated_at) "
+            + "SELECT CAST(? AS varchar), s.id, CAST(? AS bigint), CAST(? AS date), CAST(? AS date), "
+            + "CAST(? AS varchar), CAST(? AS text), CAST(? AS timestamp), CAST(? AS timestamp) FROM selected s "
+            + "WHERE NOT EXISTS (SELECT 1 FROM training_menu_assignments a "
+            + "WHERE a.tenant_id = ? AND a.worker_id = s.id AND a.training_menu_id = ?) "
+            + "ON CONFLICT DO NOTHING RETURNING worker_id) "
+            + "SELECT (SELECT COUNT(*) FROM selected), (SELECT COUNT(*) FROM inserted)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** 就労者IDで指定できる就労者数 */
+    @Value("${app.training-menu-assignment.max-worker-ids:5000}")
+    private int maxWorkerIds;
+
+    /**
+     * 訓練メニューを条件に一致する就労者に一括で割り当てる
+     * 既に同じ訓練メニューが割り当てられている就労者は読み飛ばす
+     *
+     * @param trainingMenuId 訓練メニューID
+     * @param request 就労者の条件と割り当て内容
+     * @return 訓練メニューID・条件に一致した就労者数（matched）・登録件数（assigned）・読み飛ばした件数（skipped）。
+     *         訓練メニューが存在しない場合は空
+     * @throws IllegalArgumentException 就労者の条件がない場合、訓練メニューが無効な場合
+     */
+    public Optional<Map<String, Object>> assignToWorkers(Long trainingMenuId, BulkAssignmentRequest request) {
+        List<Object> args = new ArrayList<>();
+        String tenantId = TenantContext.resolve();
+        String selector = buildSelector(request, tenantId, args);
+
+        List<Boolean> active = jdbcTemplate.queryForList(
+                "SELECT is_active FROM training_menus WHERE id = ?", Boolean.class, trainingMenuId);
+        if (active.isEmpty()) {
+            return Optional.empty();
+        }
+        if (Boolean.FALSE.equals(active.get(0))) {
+            throw new IllegalArgumentException("Training menu is inactive");
+        }
+
+        LocalDate assignedDate = request.getAssignedDate() != null ? request.getAssignedDate() : LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Collections.addAll(args, tenantId, trainingMenuId, Date.valueOf(assignedDate),
+                request.getDeadline() != null ? Date.valueOf(request.getDeadline()) : null,
+                INITIAL_STATUS, request.getNotes(), now, now, tenantId, trainingMenuId);
+        long[] counts = jdbcTemplate.queryForObject(String.format(INSERT_SQL, selector),
+                (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) }, args.toArray());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("trainingMenuId", trainingMenuId);
+        summary.put("assignedDate", assignedDate);
+        summary.put("matched", counts[0]);
+        summary.put("assigned", counts[1]);
+        summary.put("skipped", counts[0] - counts[1]);
+        log.info("Assigned training menu {} to {} of {} workers (tenant {})", trainingMenuId, counts[1], counts[0],
+                tenantId);
+        return Optional.of(summary);
+    }
+
+    /**
+     * 就労者を選択するSELECT文を組み立てる
+     *
+     * @param request 就労者の条件
+     * @param tenantId テナントID
+     * @param args パラメーター（条件の値を追加する）
+     * @return SELECT文
+     */
+    private String buildSelector(BulkAssignmentRequest request, String tenantId, List<Object> args) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT w.id FROM workers w WHERE w.tenant_id = ? AND w.deleted_at IS NULL");
+        args.add(tenantId);
+        boolean filtered = false;
+        if (request.getWorkerIds() != null && !request.getWorkerIds().isEmpty()) {
+            List<Long> workerIds = request.getWorkerIds().stream().filter(Objects::nonNull).distinct().toList();
+            if (workerIds.isEmpty() || workerIds.size() > maxWorkerIds) {
+                throw new IllegalArgumentException("workerIds must contain 1 to " + maxWorkerIds + " ids");
+            }
+            sql.append(" AND w.id IN (").append(String.join(", ", Collections.nCopies(workerIds.size(), "?")))
+                    .append(')');
+            args.addAll(workerIds);
+            filtered = true;
+        }
+        if (request.getNationality() != null && !request.getNationality().isBlank()) {
+            sql.append(" AND w.nationality = ?");
+            args.add(request.getNationality());
+            filtered = true;
+        }
+        if (request.getCurrentStatus() != null && !request.getCurrentStatus().isBlank()) {
+            sql.append(" AND w.current_status = ?");
+            args.add(request.getCurrentStatus());
+            filtered = true;
+        }
+        if (!filtered) {
+            // 条件の指定漏れでテナントの全就労者に割り当てないよう、条件を必須とする
+            throw new IllegalArgumentException("Specify workerIds, nationality or currentStatus");
+        }
+        return sql.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.jobassistance.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jobassistance.entity.TrainingMenu;
 import com.jobassistance.repository.TrainingMenuRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +21,10 @@ public class TrainingMenuService {
     @Autowired
     private TrainingMenuRepository trainingMenuRepository;
 
+    /** 部分更新サービス */
+    @Autowired
+    private EntityPatchService entityPatchService;
+
     /**
      * すべての訓練メニュー一覧を取得する
      * 
@@ -70,14 +75,15 @@ public class TrainingMenuService {
 
     /**
      * 訓練メニュー情報を更新する
+     * JSON Merge Patchに含まれる項目のみを更新し、訓練セッション・割り当てには触れない
      * 
      * @param id 訓練メニューID
-     * @param menu 更新する訓練メニュー情報
-     * @return 更新された訓練メニュー
+     * @param patch JSON Merge Patch
+     * @param strict 変更できない項目・存在しない項目を含むパッチを拒否する場合true
+     * @return 更新された訓練メニュー（存在しない場合は空）
      */
-    public TrainingMenu updateTrainingMenu(Long id, TrainingMenu menu) {
-        menu.setId(id);
-        return trainingMenuRepository.save(menu);
+    public Optional<TrainingMenu> updateTrainingMenu(Long id, JsonNode patch, boolean strict) {
+        return entityPatchService.patch(() -> trainingMenuRepository.findById(id), patch, strict);
     }
 
     /**
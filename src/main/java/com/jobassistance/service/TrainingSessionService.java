@@ -1,5 +1,6 @@
 package com.jobassistance.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jobassistance.entity.TrainingSession;
 import com.jobassistance.repository.TrainingSessionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +21,10 @@ public class TrainingSessionService {
     @Autowired
     private TrainingSessionRepository trainingSessionRepository;
 
+    /** 部分更新サービス */
+    @Autowired
+    private EntityPatchService entityPatchService;
+
     /**
      * すべての訓練セッション一覧を取得する
      * 
@@ -81,14 +86,18 @@ public class TrainingSessionService {
 
     /**
      * 訓練セッション情報を更新する
+     * JSON Merge Patchに含まれる項目のみを更新し、KPIスコア・操作ログには触れない
      * 
      * @param id 訓練セッションID
-     * @param session 更新する訓練セッション情報
-     * @return 更新された訓練セッション
+     * @param workerId 対象を絞り込む就労者ID（nullの場合は絞り込まない）
+     * @param patch JSON Merge Patch
+     * @param strict 変更できない項目・存在しない項目を含むパッチを拒否する場合true
+     * @return 更新された訓練セッション（存在しない場合・就労者が一致しない場合は空）
      */
-    public TrainingSession updateTrainingSession(Long id, TrainingSession session) {
-        session.setId(id);
-        return trainingSessionRepository.save(session);
+    public Optional<TrainingSession> updateTrainingSession(Long id, Long workerId, JsonNode patch, boolean strict) {
+        return entityPatchService.patch(() -> workerId == null
+                ? trainingSessionRepository.findById(id)
+                : trainingSessionRepository.findByIdAndWorkerId(id, workerId), patch, strict);
     }
 
     /**
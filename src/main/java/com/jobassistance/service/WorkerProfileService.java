@@ -0,0 +1,289 @@
+package com.jobassistance.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobassistance.repository.CalendarEventRepository;
+import com.jobassistance.repository.CareerGoalRepository;
+import com.jobassistance.repository.CareerPathRepository;
+import com.jobassistance.repository.ConstructionSimulatorTrainingRepository;
+import com.jobassistance.repository.DigitalEvidenceRepository;
+import com.jobassistance.repository.DocumentRepository;
+import com.jobassistance.repository.EvaluationRepository;
+import com.jobassistance.repository.IntegratedGrowthRepository;
+import com.jobassistance.repository.JapaneseLearningRecordRepository;
+import com.jobassistance.repository.JapaneseProficiencyRepository;
+import com.jobassistance.repository.MilestoneRepository;
+import com.jobassistance.repository.PreDepartureSupportRepository;
+import com.jobassistance.repository.SkillTrainingRepository;
+import com.jobassistance.repository.SpecificSkillTransitionRepository;
+import com.jobassistance.repository.TrainingMenuAssignmentRepository;
+import com.jobassistance.repository.TrainingSessionRepository;
+import com.jobassistance.repository.WorkerProgressRepository;
+import com.jobassistance.repository.WorkerRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 就労者プロフィールの一括取得サービス
+ *
+ * 指定されたセクション（書類・評価・日本語能力など）を、セクションごとの仮想スレッドと読み取り専用トランザクションで
+ * 並列に取得する。就労者の存在確認もセクションと並行して行うため、応答時間は最も遅いセクションの取得時間となる。
+ * セクションごとにタイムアウトを設け、時間内に取得できなかったセクションはエラーとして返し、他のセクションは返す。
+ * 同時に取得するセクション数はインスタンス全体で制限し、コネクションプールを使い切らないようにする。
+ * 存在確認はセクションの同時取得数の制限を受けず、失敗・タイムアウトした場合はIllegalStateExceptionとする
+ */
+@Slf4j
+@Service
+public class WorkerProfileService {
+
+    /** 取得できなかったセクションの理由（タイムアウト） */
+    public static final String ERROR_TIMEOUT = "TIMEOUT";
+
+    /** 取得できなかったセクションの理由（取得処理の失敗） */
+    public static final String ERROR_FAILED = "FAILED";
+
+    @Autowired
+    private WorkerRepository workerRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private EvaluationRepository evaluationRepository;
+
+    @Autowired
+    private JapaneseProficiencyRepository japaneseProficiencyRepository;
+
+    @Autowired
+    private JapaneseLearningRecordRepository japaneseLearningRecordRepository;
+
+    @Autowired
+    private SkillTrainingRepository skillTrainingRepository;
+
+    @Autowired
+    private ConstructionSimulatorTrainingRepository simulatorTrainingRepository;
+
+    @Autowired
+    private TrainingSessionRepository trainingSessionRepository;
+
+    @Autowired
+    private TrainingMenuAssignmentRepository trainingMenuAssignmentRepository;
+
+    @Autowired
+    private MilestoneRepository milestoneRepository;
+
+    @Autowired
+    private CareerGoalRepository careerGoalRepository;
+
+    @Autowired
+    private CareerPathRepository careerPathRepository;
+
+    @Autowired
+    private WorkerProgressRepository progressRepository;
+
+    @Autowired
+    private PreDepartureSupportRepository preDepartureSupportRepository;
+
+    @Autowired
+    private SpecificSkillTransitionRepository specificSkillTransitionRepository;
+
+    @Autowired
+    private IntegratedGrowthRepository integratedGrowthRepository;
+
+    @Autowired
+    private DigitalEvidenceRepository evidenceRepository;
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("profileSectionExecutor")
+    private Executor profileSectionExecutor;
+
+    /** セクションごとのタイムアウト（ミリ秒） */
+    @Value("${app.worker-profile.section-timeout-ms:2000}")
+    private long sectionTimeoutMs;
+
+    /**
+     * インスタンス全体で同時に取得するセクション数
+     * 要求スレッドと存在確認もコネクションを使うため、テナントごとのコネクション上限より2以上小さくすること
+     */
+    @Value("${app.worker-profile.max-concurrent-sections:4}")
+    private int maxConcurrentSections;
+
+    /** セクション名と取得処理（名前は就労者ごとの各APIのパスに合わせる） */
+    private final Map<String, Function<Long, List<?>>> sections = new LinkedHashMap<>();
+
+    private Semaphore sectionPermits;
+
+    private ObjectMapper profileMapper;
+
+    @PostConstruct
+    void init() {
+        sections.put("documents", documentRepository::findByWorkerId);
+        sections.put("evaluations", evaluationRepository::findByWorkerId);
+        sections.put("japanese-proficiency", japaneseProficiencyRepository::findByWorkerId);
+        sections.put("japanese-learning", japaneseLearningRecordRepository::findByWorkerId);
+        sections.put("skill-training", skillTrainingRepository::findByWorkerId);
+        sections.put("simulator-training", simulatorTrainingRepository::findByWorkerId);
+        sections.put("training-sessions", trainingSessionRepository::findByWorkerId);
+        sections.put("training-menu-assignments", trainingMenuAssignmentRepository::findByWorkerId);
+        sections.put("milestones", milestoneRepository::findByWorkerId);
+        sections.put("career-goals", careerGoalRepository::findByWorkerId);
+        sections.put("career-paths", careerPathRepository::findByWorkerId);
+        sections.put("progress", progressRepository::findByWorkerId);
+        sections.put("pre-departure-support", preDepartureSupportRepository::findByWorkerId);
+        sections.put("specific-skill-transition", specificSkillTransitionRepository::findByWorkerId);
+        sections.put("integrated-growth", integratedGrowthRepository::findByWorkerId);
+        sections.put("digital-evidences", evidenceRepository::findByWorkerId);
+        sections.put("calendar", calendarEventRepository::findByWorkerId);
+        sectionPermits = new Semaphore(maxConcurrentSections);
+        profileMapper = objectMapper.copy().addMixIn(Object.class, SectionRowMixIn.class);
+    }
+
+    /**
+     * 取得できるセクション名を取得する
+     *
+     * @return セクション名
+     */
+    public Set<String> getSectionNames() {
+        return sections.keySet();
+    }
+
+    /**
+     * 就労者プロフィールを取得する
+     *
+     * @param workerId 就労者ID
+     * @param requested 取得するセクション名（空の場合はすべて）
+     * @return セクション名ごとの行（sections）、取得できなかったセクションと理由（errors）、
+     *         一部のセクションが欠けているかどうか（partial）。就労者が存在しない場合は空
+     * @throws IllegalArgumentException 不明なセクション名が含まれる場合
+     * @throws IllegalStateException 就労者の存在確認が失敗・タイムアウトした場合
+     */
+    public Optional<Map<String, Object>> getProfile(Long workerId, List<String> requested) {
+        List<String> names = requested == null || requested.isEmpty()
+                ? List.copyOf(sections.keySet())
+                : requested.stream().map(String::trim).distinct().toList();
+        List<String> unknown = names.stream().filter(name -> !sections.containsKey(name)).toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown profile sections: " + String.join(", ", unknown)
+                    + " (available: " + String.join(", ", sections.keySet()) + ")");
+        }
+
+        // 存在確認もセクションと並行して行い、待ち時間を加算しない（セクションの枠が空くのを待たない）
+        CompletableFuture<Boolean> exists = fetch(() -> workerRepository.existsById(workerId), false);
+        Map<String, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+        for (String name : names) {
+            Function<Long, List<?>> query = sections.get(name);
+            // 遅延ロードの関連を出力しないよう、トランザクション内でJSONのツリーに変換する
+            futures.put(name, fetch(() -> profileMapper.valueToTree(query.apply(workerId)), true));
+        }
+
+        boolean found;
+        try {
+            found = exists.join();
+        } catch (CompletionException e) {
+            futures.values().forEach(future -> future.cancel(false));
+            boolean timedOut = e.getCause() instanceof TimeoutException;
+            log.warn("Profile lookup for worker {} failed: {}", workerId,
+                    timedOut ? "timed out after " + sectionTimeoutMs + " ms" : e.getCause().getMessage());
+            throw new IllegalStateException("Worker lookup " + (timedOut ? "timed out" : "failed")
+                    + "; retry later", e.getCause());
+        }
+        if (!found) {
+            futures.values().forEach(future -> future.cancel(false));
+            return Optional.empty();
+        }
+        Map<String, Object> rows = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        futures.forEach((name, future) -> {
+            try {
+                rows.put(name, future.join());
+            } catch (CompletionException e) {
+                boolean timedOut = e.getCause() instanceof TimeoutException;
+                errors.put(name, timedOut ? ERROR_TIMEOUT : ERROR_FAILED);
+                log.warn("Profile section {} for worker {} failed: {}", name, workerId,
+                        timedOut ? "timed out after " + sectionTimeoutMs + " ms" : e.getCause().getMessage());
+            }
+        });
+
+        Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("workerId", workerId);
+        profile.put("sections", rows);
+        profile.put("errors", errors);
+        profile.put("partial", !errors.isEmpty());
+        return Optional.of(profile);
+    }
+
+    /**
+     * 仮想スレッドの読み取り専用トランザクションで値を取得する
+     * 読み取りレプリカが設定されている場合はレプリカで取得する
+     *
+     * @param query 取得処理（遅延ロードはこの中で完了させること）
+     * @param limited セクションの同時取得数の枠を使う場合true
+     * @return 取得結果（タイムアウトの場合はTimeoutExceptionで完了する）
+     */
+    private <T> CompletableFuture<T> fetch(Supplier<T> query, boolean limited) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setName(WorkerProfileService.class.getName() + ".fetch");
+        // タイムアウト後も実行中のSQLが残らないよう、クエリタイムアウトも設定する
+        readOnly.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+        return CompletableFuture.supplyAsync(() -> {
+            if (!limited) {
+                return readOnly.execute(status -> query.get());
+            }
+            boolean acquired;
+            try {
+                acquired = sectionPermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                throw new CompletionException(new TimeoutException("No section slot available"));
+            }
+            try {
+                return readOnly.execute(status -> query.get());
+            } finally {
+                sectionPermits.release();
+            }
+        }, profileSectionExecutor).orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * プロフィールの出力で関連エンティティを除外するためのMix-in
+     * 就労者・訓練メニュー・操作ログなどの関連は出力せず、セクションの行の値だけを出力する
+     */
+    @JsonIgnoreProperties({ "worker", "trainingMenu", "kpiScores", "operationLogs",
+            "hibernateLazyInitializer", "handler" })
+    private abstract static class SectionRowMixIn {
+    }
+}
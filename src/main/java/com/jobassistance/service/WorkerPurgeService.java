@@ -0,0 +1,132 @@
+package com.jobassistance.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 論理削除された就労者の物理削除サービス
+ *
+ * 就労者の関連データを、外部キーの依存順に「DELETE ... WHERE worker_id = ?」の集合操作で削除する。
+ * 1回のDELETEはチャンクサイズの行数までとし、チャンクごとにトランザクションを分けてロックの保持時間を短くする。
+ * 途中で失敗しても、就労者の行は最後に削除するため次回の実行で続きから削除される
+ */
+@Slf4j
+@Service
+public class WorkerPurgeService {
+
+    private static final String SESSIONS_OF_WORKER =
+            "training_session_id IN (SELECT id FROM training_sessions WHERE worker_id = ?)";
+
+    /** 削除するテーブルと就労者を絞り込む条件（子の子から順に並べる） */
+    private static final List<String[]> CHILD_TABLES = List.of(
+            new String[] { "kpi_scores", SESSIONS_OF_WORKER },
+            new String[] { "operation_logs", SESSIONS_OF_WORKER },
+            new String[] { "training_sessions", "worker_id = ?" },
+            new String[] { "construction_simulator_trainings", "worker_id = ?" },
+            new String[] { "training_menu_assignments", "worker_id = ?" },
+            new String[] { "training_enrollments", "worker_id = ?" },
+            new String[] { "worker_progress", "worker_id = ?" },
+            new String[] { "documents", "worker_id = ?" },
+            new String[] { "notifications", "worker_id = ?" },
+            new String[] { "evaluations", "worker_id = ?" },
+            new String[] { "messages", "worker_id = ?" },
+            new String[] { "calendar_events", "worker_id = ?" },
+            new String[] { "reports", "worker_id = ?" },
+            new String[] { "japanese_proficiencies", "worker_id = ?" },
+            new String[] { "skill_trainings", "worker_id = ?" },
+            new String[] { "japanese_learning_records", "worker_id = ?" },
+            new String[] { "pre_departure_supports", "worker_id = ?" },
+            new String[] { "career_goals", "worker_id = ?" },
+            new String[] { "career_paths", "worker_id = ?" },
+            new String[] { "milestones", "worker_id = ?" },
+            new String[] { "integrated_growths", "worker_id = ?" },
+            new String[] { "digital_evidences", "worker_id = ?" },
+            new String[] { "specific_skill_transitions", "worker_id = ?" });
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** 1回のDELETEで削除する最大行数 */
+    @Value("${app.worker-purge.chunk-size:1000}")
+    private int chunkSize;
+
+    /** 論理削除から物理削除までの猶予（分） */
+    @Value("${app.worker-purge.grace-period-minutes:0}")
+    private long gracePeriodMinutes;
+
+    /** 1回の実行で物理削除する最大就労者数 */
+    @Value("${app.worker-purge.max-workers-per-run:50}")
+    private int maxWorkersPerRun;
+
+    /**
+     * 猶予期間を過ぎた論理削除済みの就労者を物理削除する
+     * 全テナントの就労者が対象となる
+     */
+    @Scheduled(fixedDelayString = "${app.worker-purge.interval-ms:60000}")
+    public void purgeDeletedWorkers() {
+        List<Long> workerIds = jdbcTemplate.queryForList(
+                "SELECT id FROM workers WHERE deleted_at IS NOT NULL AND deleted_at <= ? ORDER BY deleted_at LIMIT ?",
+                Long.class, Timestamp.valueOf(LocalDateTime.now().minusMinutes(gracePeriodMinutes)), maxWorkersPerRun);
+        for (Long workerId : workerIds) {
+            try {
+                purgeWorker(workerId);
+            } catch (RuntimeException e) {
+                log.error("Failed to purge deleted worker {}; will retry on the next run", workerId, e);
+            }
+        }
+    }
+
+    /**
+     * 論理削除済みの就労者1人の関連データと就労者自体を物理削除する
+     *
+     * @param workerId 就労者ID
+     * @return 削除した行数（就労者の行を含む）
+     */
+    public long purgeWorker(Long workerId) {
+        long start = System.currentTimeMillis();
+        long total = 0;
+        for (String[] table : CHILD_TABLES) {
+            total += deleteInChunks(table[0], table[1], workerId);
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Integer deleted = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("UPDATE users SET worker_id = NULL WHERE worker_id = ?", workerId);
+            jdbcTemplate.update("DELETE FROM growth_rollups WHERE scope_type = ? AND scope_key = ?",
+                    GrowthRollupService.Scope.WORKER.name(), String.valueOf(workerId));
+            return jdbcTemplate.update("DELETE FROM workers WHERE id = ? AND deleted_at IS NOT NULL", workerId);
+        });
+        total += deleted != null ? deleted : 0;
+        log.info("Purged deleted worker {}: {} rows in {} ms", workerId, total, System.currentTimeMillis() - start);
+        return total;
+    }
+
+    private long deleteInChunks(String table, String condition, Long workerId) {
+        String sql = "DELETE FROM " + table + " WHERE id IN (SELECT id FROM " + table + " WHERE " + condition
+                + " LIMIT ?)";
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> jdbcTemplate.update(sql, workerId, chunkSize));
+            if (deleted == null || deleted == 0) {
+                return total;
+            }
+            total += deleted;
+            if (deleted < chunkSize) {
+                return total;
+            }
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.jobassistance.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jobassistance.entity.Worker;
 import com.jobassistance.repository.WorkerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,9 @@ public class WorkerService {
     @Autowired
     private WorkerRepository workerRepository;
 
+    @Autowired
+    private EntityPatchService entityPatchService;
+
     /**
      * 就労者一覧取得
      */
@@ -41,18 +46,27 @@ public class WorkerService {
     }
 
     /**
-     * 就労者更新
+     * 就労者更新（JSON Merge Patchに含まれる項目のみを更新し、関連するコレクションは変更しない）
+     *
+     * @param strict 変更できない項目・存在しない項目を含むパッチを拒否する場合true
      */
-    public Worker updateWorker(Long id, Worker worker) {
-        worker.setId(id);
-        return workerRepository.save(worker);
+    public Optional<Worker> updateWorker(Long id, JsonNode patch, boolean strict) {
+        return entityPatchService.patch(() -> workerRepository.findById(id), patch, strict);
     }
 
     /**
-     * 就労者削除
+     * 就労者削除（論理削除）
+     * 削除日時のみを更新し、関連データはWorkerPurgeServiceがバックグラウンドで物理削除する
+     *
+     * @return 削除した場合true（存在しない場合false）
      */
-    public void deleteWorker(Long id) {
-        workerRepository.deleteById(id);
+    public boolean deleteWorker(Long id) {
+        return workerRepository.findById(id)
+                .map(worker -> {
+                    worker.setDeletedAt(LocalDateTime.now());
+                    return true;
+                })
+                .orElse(false);
     }
 
     /**
@@ -0,0 +1,127 @@
+package com.jobassistance.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ストリーミングCSVリーダー
+ * RFC 4180形式（ダブルクォート、クォート内の改行・カンマ）に対応し、1レコードずつ読み込む
+ * Excelから出力されたUTF-8 BOM付きCSVも読み込める
+ */
+public class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean firstRead = true;
+    private long lineNumber = 1;
+
+    /**
+     * CSVリーダーを作成する
+     *
+     * @param reader 読み込み元（呼び出し側でバッファリングする必要はない）
+     */
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 次のレコードを読み込む
+     *
+     * @return フィールドのリスト（入力の終端に達した場合はnull）
+     * @throws IOException 読み込みに失敗した場合
+     * @throws IllegalArgumentException クォートが閉じられていない場合
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field at line " + lineNumber);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n' && next != -1) {
+                        position--;
+                    }
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 現在の行番号を取得する（クォート内の改行も数える）
+     *
+     * @return 次に読み込む行の行番号
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (position >= limit) {
+            limit = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+            if (firstRead) {
+                firstRead = false;
+                if (buffer[0] == '\uFEFF') {
+                    position = 1;
+                    if (limit == 1) {
+                        return read();
+                    }
+                }
+            }
+        }
+        return buffer[position++];
+    }
+}
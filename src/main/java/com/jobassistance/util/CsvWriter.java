@@ -0,0 +1,63 @@
+package com.jobassistance.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * CSVライター
+ * RFC 4180形式で値をエスケープして1行ずつ書き出す
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+
+    /**
+     * CSVライターを作成する
+     *
+     * @param writer 書き込み先（クローズは呼び出し側で行う）
+     */
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * 1行を書き出す
+     *
+     * @param values 列の値（nullは空文字として出力）
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void writeRecord(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escape(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 値をCSV用にエスケープする
+     *
+     * @param value 値
+     * @return カンマ・ダブルクォート・改行を含む場合はクォートした値
+     */
+    public static String escape(String value) {
+        boolean needsQuote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                needsQuote = true;
+                break;
+            }
+        }
+        if (!needsQuote) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
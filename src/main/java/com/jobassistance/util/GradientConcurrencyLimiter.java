@@ -0,0 +1,170 @@
+package com.jobassistance.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 応答時間の勾配に基づいて同時実行数の上限を自動調整するリミッター
+ *
+ * 一定時間（窓）ごとに平均応答時間（短期RTT）を求め、長期RTT（短期RTTの指数移動平均）との比を勾配とする。
+ * 応答時間が基準どおりであれば勾配は1となり、上限を√上限ずつ増やして探索する。
+ * 応答時間が伸びると勾配が下がり、上限を「現在の上限 × 勾配」に向けて縮める（TCP Vegas / Gradient2 方式）。
+ * 保護対象のリミッターを指定した場合は、保護対象の勾配が下がった時点で自身の上限も縮め、優先度の高い処理に資源を譲る
+ */
+public class GradientConcurrencyLimiter {
+
+    /** 短期RTTが長期RTTのこの倍率以内であれば、応答時間は伸びていないとみなす */
+    private static final double RTT_TOLERANCE = 1.5;
+
+    /** 上限の変化の平滑化係数 */
+    private static final double SMOOTHING = 0.2;
+
+    /** 長期RTTの平滑化に用いる窓の数 */
+    private static final int LONG_WINDOW = 600;
+
+    /** 勾配が下がる下限（1回の更新で上限を半分より小さくしない） */
+    private static final double MIN_GRADIENT = 0.5;
+
+    /** 窓あたりの最小サンプル数（少なすぎる場合は窓を延長する） */
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    /** 保護対象の勾配を参照する有効期間（窓の数） */
+    private static final int GUARDED_STALE_WINDOWS = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final GradientConcurrencyLimiter guarded;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private volatile double gradient = 1.0;
+    private volatile long gradientUpdatedAt;
+
+    private long windowStart;
+    private long windowSamples;
+    private long windowRttSum;
+    private int windowMaxInFlight;
+    private double longRtt;
+
+    /**
+     * @param initialLimit 初期の上限
+     * @param minLimit 上限の最小値
+     * @param maxLimit 上限の最大値
+     * @param windowMillis 上限を更新する間隔（ミリ秒）
+     * @param guarded 保護対象のリミッター（null可）
+     */
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long windowMillis,
+            GradientConcurrencyLimiter guarded) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = windowMillis * 1_000_000;
+        this.guarded = guarded;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 実行枠を1つ取得する
+     *
+     * @return 上限未満で取得できた場合true
+     */
+    public boolean tryAcquire() {
+        int allowed = getEffectiveLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 実行枠を返却し、応答時間を記録する
+     *
+     * @param rttNanos 処理時間（ナノ秒）
+     */
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        sample(rttNanos, current, System.nanoTime());
+    }
+
+    /**
+     * @return 現在の上限
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 保護対象の応答時間が伸びている間は、保護対象の勾配を掛けた上限を返す
+     * 自身の処理が長く、窓が閉じるまで上限が更新されない場合も、保護対象の変化に即座に追従させる
+     *
+     * @return 現在適用している上限
+     */
+    public int getEffectiveLimit() {
+        double current = limit;
+        if (guarded != null && isFresh(guarded, System.nanoTime())) {
+            current *= guarded.gradient;
+        }
+        return (int) Math.max(minLimit, current);
+    }
+
+    /**
+     * @return 実行中の数
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    synchronized void sample(long rttNanos, int inFlightAtCompletion, long now) {
+        if (windowSamples == 0) {
+            windowStart = now;
+        }
+        windowSamples++;
+        windowRttSum += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+        if (now - windowStart < windowNanos || windowSamples < MIN_WINDOW_SAMPLES) {
+            return;
+        }
+        update((double) windowRttSum / windowSamples, windowMaxInFlight, now);
+        windowSamples = 0;
+        windowRttSum = 0;
+        windowMaxInFlight = 0;
+    }
+
+    private void update(double shortRtt, int maxInFlight, long now) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+        }
+        // 負荷が下がって応答時間が基準を大きく下回った場合は、基準を早めに追従させる
+        if (longRtt > shortRtt * 2) {
+            longRtt *= 0.95;
+        }
+        double own = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        gradient = own;
+        gradientUpdatedAt = now;
+
+        double effective = own;
+        if (guarded != null && isFresh(guarded, now)) {
+            effective = Math.min(effective, guarded.gradient);
+        }
+        double current = limit;
+        // 上限の半分も使われていない窓では、増やした効果を確認できないため増やさない
+        if (effective >= 1.0 && maxInFlight < current / 2) {
+            return;
+        }
+        // 応答時間が伸びていない間だけ √上限 の余裕を加えて探索し、伸びている間は勾配に従って縮める
+        double headroom = effective >= 1.0 ? Math.sqrt(current) : 0;
+        double target = current * effective + headroom;
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    private boolean isFresh(GradientConcurrencyLimiter limiter, long now) {
+        return limiter.gradientUpdatedAt != 0 && now - limiter.gradientUpdatedAt < windowNanos * GUARDED_STALE_WINDOWS;
+    }
+}
@@ -0,0 +1,252 @@
+package com.jobassistance.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * メモリマップトファイルによる追記専用のセグメントログ
+ *
+ * 固定長のセグメントファイルに「長さ・CRC32・本文」の形式で記録を追記する。位置はログ全体の通し番号（バイト）で表し、
+ * セグメントのファイル名はその先頭位置とする。記録は1つのセグメントに収め、入りきらない場合は次のセグメントに切り替える。
+ * 長さは本文とCRCの後に書き込むため、読み手が書き込み途中の記録を読むことはない。
+ * 書き込んだ内容はプロセスが異常終了してもOSのページキャッシュに残る。電源断にも備える場合は forceOnAppend を指定する。
+ * 起動時は各セグメントを先頭から検証し、最初の不正な記録（長さ0・CRC不一致）を末尾とみなして以降を消去する
+ */
+public class MappedSegmentLog implements Closeable {
+
+    /** 記録のヘッダー（長さ + CRC32）のバイト数 */
+    public static final int HEADER_BYTES = 8;
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final boolean forceOnAppend;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    private Segment active;
+    private volatile long endPosition;
+
+    /**
+     * @param directory セグメントファイルを置くディレクトリ
+     * @param segmentBytes セグメント1つのバイト数
+     * @param maxBytes ログ全体の最大バイト数（セグメント数の上限に換算する）
+     * @param forceOnAppend 追記のたびにディスクへ書き出す場合true
+     * @throws IOException ディレクトリ・セグメントを開けない場合
+     */
+    public MappedSegmentLog(Path directory, int segmentBytes, long maxBytes, boolean forceOnAppend) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = (int) Math.max(2, maxBytes / segmentBytes);
+        this.forceOnAppend = forceOnAppend;
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    /**
+     * 記録を追記する
+     *
+     * @param payload 本文
+     * @return 追記した記録の直後の位置
+     * @throws IllegalStateException ログが上限に達している場合
+     * @throws IOException セグメントを作成できない場合
+     */
+    public synchronized long append(byte[] payload) throws IOException {
+        int size = HEADER_BYTES + payload.length;
+        if (size > segmentBytes) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit in a segment");
+        }
+        if (active.limit + size > segmentBytes) {
+            roll();
+        }
+        MappedByteBuffer buffer = active.buffer;
+        int offset = active.limit;
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.put(offset + HEADER_BYTES, payload);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.putInt(offset, payload.length);
+        if (forceOnAppend) {
+            buffer.force(offset, size);
+        }
+        active.limit = offset + size;
+        endPosition = active.base + active.limit;
+        return endPosition;
+    }
+
+    /**
+     * 指定位置から記録を読み込む
+     *
+     * @param from 読み込みを開始する位置（削除済みのセグメント内の場合は残っている先頭から読む）
+     * @param maxRecords 読み込む最大件数
+     * @param maxBytes 読み込む本文の合計の目安（超えた時点で打ち切る）
+     * @return 記録の一覧
+     */
+    public List<Entry> read(long from, int maxRecords, int maxBytes) {
+        long end = endPosition;
+        List<Entry> entries = new ArrayList<>();
+        long position = from;
+        int bytes = 0;
+        while (position < end && entries.size() < maxRecords && bytes < maxBytes) {
+            Map.Entry<Long, Segment> floor = segments.floorEntry(position);
+            if (floor == null) {
+                position = segments.firstKey();
+                continue;
+            }
+            Segment segment = floor.getValue();
+            int offset = (int) (position - segment.base);
+            if (offset >= segment.limit) {
+                Long next = segments.higherKey(segment.base);
+                if (next == null) {
+                    break;
+                }
+                position = next;
+                continue;
+            }
+            int length = segment.buffer.getInt(offset);
+            byte[] payload = new byte[length];
+            segment.buffer.get(offset + HEADER_BYTES, payload);
+            position += HEADER_BYTES + length;
+            bytes += length;
+            entries.add(new Entry(position, payload));
+        }
+        return entries;
+    }
+
+    /**
+     * 指定位置より前の記録だけを含むセグメントを削除する
+     *
+     * @param position 処理済みの位置
+     * @throws IOException ファイルを削除できない場合
+     */
+    public synchronized void truncateBefore(long position) throws IOException {
+        for (Segment segment : new ArrayList<>(segments.values())) {
+            if (segment == active || segment.base + segment.limit > position) {
+                break;
+            }
+            segments.remove(segment.base);
+            Files.deleteIfExists(segment.path);
+        }
+    }
+
+    /**
+     * @return 残っている最初の記録の位置
+     */
+    public long startPosition() {
+        return segments.firstKey();
+    }
+
+    /**
+     * @return 最後に追記した記録の直後の位置
+     */
+    public long endPosition() {
+        return endPosition;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.buffer.force();
+        }
+    }
+
+    private void roll() throws IOException {
+        if (segments.size() >= maxSegments) {
+            throw new IllegalStateException("Write-ahead log is full");
+        }
+        if (forceOnAppend) {
+            active.buffer.force();
+        }
+        Segment next = open(active.base + active.limit);
+        segments.put(next.base, next);
+        active = next;
+    }
+
+    private void recover() throws IOException {
+        List<Long> bases = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .forEach(bases::add);
+        }
+        bases.sort(null);
+        for (Long base : bases) {
+            Segment segment = open(base);
+            segment.limit = scan(segment.buffer);
+            segments.put(base, segment);
+        }
+        if (segments.isEmpty()) {
+            segments.put(0L, open(0L));
+        }
+        active = segments.lastEntry().getValue();
+        // 書き込み途中で終了した記録の残骸を消去し、再起動後の追記と混ざらないようにする
+        for (int offset = active.limit; offset < segmentBytes; offset++) {
+            if (active.buffer.get(offset) != 0) {
+                active.buffer.put(offset, (byte) 0);
+            }
+        }
+        endPosition = active.base + active.limit;
+    }
+
+    private int scan(MappedByteBuffer buffer) {
+        int offset = 0;
+        while (offset + HEADER_BYTES <= segmentBytes) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length > segmentBytes) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if (buffer.getInt(offset + 4) != (int) crc.getValue()) {
+                break;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    private Segment open(long base) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return new Segment(base, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes));
+        }
+    }
+
+    /**
+     * 読み込んだ記録
+     *
+     * @param position 記録の直後の位置（処理済みとして記録する位置）
+     * @param payload 本文
+     */
+    public record Entry(long position, byte[] payload) {
+    }
+
+    private static final class Segment {
+        private final long base;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private volatile int limit;
+
+        private Segment(long base, Path path, MappedByteBuffer buffer) {
+            this.base = base;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.jobassistance.util;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * キー単位のスライディングウィンドウ方式のレート制限
+ *
+ * 直前のウィンドウの件数を経過割合で按分して現在の件数に加えることで、キーごとに2つの整数だけで
+ * スライディングウィンドウを近似する。キーはハッシュでストライプに振り分け、ストライプごとにロックするため、
+ * 異なるキーへの同時アクセスは競合しにくい
+ */
+public class SlidingWindowRateLimiter {
+
+    /** ストライプあたりの保持キー数がこれを超えたら期限切れのキーを削除する */
+    private static final int EVICTION_THRESHOLD = 4096;
+
+    private final int limit;
+    private final long windowMillis;
+    private final Stripe[] stripes;
+
+    /**
+     * @param limit ウィンドウあたりの許容回数
+     * @param window ウィンドウの長さ
+     * @param stripeCount ストライプ数
+     */
+    public SlidingWindowRateLimiter(int limit, Duration window, int stripeCount) {
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 1回分の枠を取得する
+     *
+     * @param key 制限対象のキー
+     * @return 許容回数内であればtrue
+     */
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.currentTimeMillis());
+    }
+
+    boolean tryAcquire(String key, long now) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Window window = stripe.windows.get(key);
+            if (window == null) {
+                if (stripe.windows.size() >= EVICTION_THRESHOLD) {
+                    stripe.evictExpired(now, windowMillis);
+                }
+                window = new Window();
+                stripe.windows.put(key, window);
+            }
+            window.roll(now, windowMillis);
+            if (window.estimate(now, windowMillis) >= limit) {
+                return false;
+            }
+            window.current++;
+            return true;
+        }
+    }
+
+    /**
+     * 次に枠を取得できるまでのおおよその秒数を取得する
+     *
+     * @param key 制限対象のキー
+     * @return 待機秒数（1以上）
+     */
+    public long getRetryAfterSeconds(String key) {
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Window window = stripe.windows.get(key);
+            if (window == null) {
+                return 1;
+            }
+            window.roll(now, windowMillis);
+            return Math.max(1, (window.start + windowMillis - now + 999) / 1000);
+        }
+    }
+
+    /**
+     * キーの記録を削除する
+     *
+     * @param key 制限対象のキー
+     */
+    public void reset(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.windows.remove(key);
+        }
+    }
+
+    private Stripe stripeFor(String key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % stripes.length];
+    }
+
+    private static final class Stripe {
+        private final Map<String, Window> windows = new HashMap<>();
+
+        private void evictExpired(long now, long windowMillis) {
+            windows.values().removeIf(window -> window.start + 2 * windowMillis <= now);
+        }
+    }
+
+    private static final class Window {
+        private long start;
+        private int current;
+        private int previous;
+
+        private void roll(long now, long windowMillis) {
+            long windowStart = now - now % windowMillis;
+            if (windowStart == start) {
+                return;
+            }
+            previous = windowStart - start == windowMillis ? current : 0;
+            current = 0;
+            start = windowStart;
+        }
+
+        private double estimate(long now, long windowMillis) {
+            double previousWeight = 1.0 - (double) (now - start) / windowMillis;
+            return previous * previousWeight + current;
+        }
+    }
+}
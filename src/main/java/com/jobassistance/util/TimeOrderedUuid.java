@@ -0,0 +1,51 @@
+package com.jobassistance.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * 時刻順UUID（UUIDv7, RFC 9562）生成ユーティリティクラス
+ * 先頭48ビットがミリ秒単位のUNIX時刻のため、インデックスへの挿入位置が末尾に集まりページ分割を抑えられる
+ * セッションIDなど推測されてはならない識別子に使用するため、乱数部はSecureRandomから取得する
+ * （UUID.randomUUID()のような1つのSecureRandomの共有による競合を避けるため、スレッドごとに保持する）
+ */
+public class TimeOrderedUuid {
+
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+    private TimeOrderedUuid() {
+    }
+
+    /**
+     * 現在時刻からUUIDv7を生成する
+     *
+     * @return UUID
+     */
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    /**
+     * 指定したUNIX時刻（ミリ秒）からUUIDv7を生成する
+     *
+     * @param epochMillis UNIX時刻（ミリ秒）
+     * @return UUID
+     */
+    public static UUID generate(long epochMillis) {
+        SecureRandom random = RANDOM.get();
+        long mostSigBits = (epochMillis & 0xFFFF_FFFF_FFFFL) << 16
+                | 0x7000L
+                | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 時刻順UUIDを文字列で生成する
+     *
+     * @return UUID文字列
+     */
+    public static String generateString() {
+        return generate().toString();
+    }
+}
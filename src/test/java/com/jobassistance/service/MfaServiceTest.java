@@ -0,0 +1,127 @@
+package com.jobassistance.service;
+
+import com.jobassistance.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MfaServiceのテスト
+ * TOTPはRFC 6238 Appendix BのSHA-1のテストベクター（シークレット "12345678901234567890"、8桁、30秒）で検証する
+ */
+class MfaServiceTest {
+
+    /** RFC 6238 Appendix B のシークレット（ASCII "12345678901234567890"）のBase32表現 */
+    private static final String RFC_SECRET =
+            MfaService.encodeBase32("12345678901234567890".getBytes(StandardCharsets.US_ASCII));
+
+    private static MfaService service(int digits, int driftSteps, long epochSeconds) {
+        MfaService service = new MfaService();
+        ReflectionTestUtils.setField(service, "issuer", "JobAssistance");
+        ReflectionTestUtils.setField(service, "stepSeconds", 30L);
+        ReflectionTestUtils.setField(service, "digits", digits);
+        ReflectionTestUtils.setField(service, "driftSteps", driftSteps);
+        ReflectionTestUtils.setField(service, "backupCodeCount", 10);
+        service.init();
+        at(service, epochSeconds);
+        return service;
+    }
+
+    private static void at(MfaService service, long epochSeconds) {
+        service.clock = Clock.fixed(Instant.ofEpochSecond(epochSeconds), ZoneOffset.UTC);
+    }
+
+    @Test
+    void secretMatchesRfcBase32Encoding() {
+        assertEquals("GEZDGNBVGY3TQOJQGEZDGNBVGY3TQOJQ", RFC_SECRET);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "59, 94287082",
+            "1111111109, 07081804",
+            "1111111111, 14050471",
+            "1234567890, 89005924",
+            "2000000000, 69279037",
+            "20000000000, 65353130"
+    })
+    void acceptsRfc6238Vectors(long epochSeconds, String code) {
+        MfaService service = service(8, 0, epochSeconds);
+        assertTrue(service.verifyTotp(1L, RFC_SECRET, code));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "59, 94287082",
+            "1111111109, 07081804",
+            "20000000000, 65353130"
+    })
+    void rejectsRfc6238VectorsOutsideTheirStep(long epochSeconds, String code) {
+        MfaService service = service(8, 0, epochSeconds + 30);
+        assertFalse(service.verifyTotp(1L, RFC_SECRET, code));
+    }
+
+    @Test
+    void acceptsCodeFromAdjacentStepWithinDrift() {
+        // 59秒のコードは1ステップ後（89秒）でも許容範囲内、2ステップ後（119秒）は範囲外
+        MfaService service = service(8, 1, 89);
+        assertTrue(service.verifyTotp(1L, RFC_SECRET, "94287082"));
+        at(service, 119);
+        assertFalse(service.verifyTotp(2L, RFC_SECRET, "94287082"));
+    }
+
+    @Test
+    void rejectsReplayOfSameCodeBySameUser() {
+        MfaService service = service(8, 1, 59);
+        assertTrue(service.verifyTotp(1L, RFC_SECRET, "94287082"));
+        assertFalse(service.verifyTotp(1L, RFC_SECRET, "94287082"));
+    }
+
+    @Test
+    void rejectsReplayWithinDriftWindowAfterClockAdvances() {
+        MfaService service = service(8, 1, 59);
+        assertTrue(service.verifyTotp(1L, RFC_SECRET, "94287082"));
+        at(service, 89);
+        assertFalse(service.verifyTotp(1L, RFC_SECRET, "94287082"));
+    }
+
+    @Test
+    void tracksReplayPerUser() {
+        MfaService service = service(8, 1, 59);
+        assertTrue(service.verifyTotp(1L, RFC_SECRET, "94287082"));
+        assertTrue(service.verifyTotp(2L, RFC_SECRET, "94287082"));
+    }
+
+    @Test
+    void rejectsMalformedCodes() {
+        MfaService service = service(8, 1, 59);
+        assertFalse(service.verifyTotp(1L, RFC_SECRET, "94287083"));
+        assertFalse(service.verifyTotp(1L, RFC_SECRET, "9428708"));
+        assertFalse(service.verifyTotp(1L, RFC_SECRET, "9428708a"));
+        assertFalse(service.verifyTotp(1L, RFC_SECRET, null));
+        assertFalse(service.verifyTotp(1L, null, "94287082"));
+        assertFalse(service.verifyTotp(1L, "not-base32!", "94287082"));
+    }
+
+    @Test
+    void backupCodeCanBeUsedOnlyOnce() {
+        MfaService service = service(6, 1, 59);
+        User user = new User();
+        List<String> codes = service.generateBackupCodes(user);
+        assertEquals(10, codes.size());
+        assertTrue(service.consumeBackupCode(user, codes.get(0)));
+        assertFalse(service.consumeBackupCode(user, codes.get(0)));
+        assertTrue(service.consumeBackupCode(user, codes.get(1).toLowerCase().replace("-", "")));
+    }
+}